@@ -0,0 +1,21 @@
+package com.slam.concertreservation.application.event.listener;
+
+import com.slam.concertreservation.domain.concert.event.ConcertScheduleRegisteredEvent;
+import com.slam.concertreservation.domain.concert.service.ConcertService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class ConcertScheduleRegisteredEventListener {
+
+    private final ConcertService concertService;
+
+    // 공연 일정 등록이 커밋된 이후 좌석 예약 가능 여부 초기화. 롤백된 공연 일정의 값이 Redis 에 남지 않도록 트랜잭션 밖에서 수행한다.
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleConcertScheduleRegisteredEvent(ConcertScheduleRegisteredEvent event) {
+        concertService.initializeSeatAvailability(event.concertScheduleId(), event.seatCount());
+    }
+}
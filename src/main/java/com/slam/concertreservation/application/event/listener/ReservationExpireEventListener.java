@@ -1,10 +1,17 @@
 package com.slam.concertreservation.application.event.listener;
 
 import com.slam.concertreservation.domain.concert.service.ConcertService;
+import com.slam.concertreservation.domain.reservation.event.ReservationBatchExpirationEvent;
 import com.slam.concertreservation.domain.reservation.event.ReservationExpirationEvent;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
@@ -27,4 +34,28 @@ public class ReservationExpireEventListener {
                 reservationExpirationEvent.seatId());
     }
 
+    /**
+     * 가예약 일괄 만료 트랜잭션 정상 처리 시, 만료된 가예약들이 선점하던 좌석을 공연 일정별로 한 번에 해제합니다.
+     * <br>
+     * </br>
+     * 커밋 이후 단계에서 실행되므로, 좌석 해제가 반영되도록 새 트랜잭션에서 처리합니다.
+     *
+     * @param reservationBatchExpirationEvent
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleReservationBatchExpirationEvent(
+            ReservationBatchExpirationEvent reservationBatchExpirationEvent) {
+        Map<Long, List<Long>> seatIdsByConcertScheduleId = new LinkedHashMap<>();
+        for (ReservationExpirationEvent expiration : reservationBatchExpirationEvent.expirations()) {
+            seatIdsByConcertScheduleId.computeIfAbsent(expiration.concertScheduleId(), id -> new ArrayList<>())
+                    .add(expiration.seatId());
+        }
+
+        seatIdsByConcertScheduleId.forEach(concertService::unassignSeatsOfConcertSchedule);
+
+        log.warn("가예약 일괄 만료로 인한 좌석 선점 해제 완료: 만료 {}건, 공연 일정 {}개",
+                reservationBatchExpirationEvent.expirations().size(), seatIdsByConcertScheduleId.size());
+    }
+
 }
@@ -0,0 +1,41 @@
+package com.slam.concertreservation.application.event.listener;
+
+import com.slam.concertreservation.domain.reservation.event.ReservationCreationEvent;
+import com.slam.concertreservation.domain.reservation.repository.ReservationExpiryQueueRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.reservation.expiry", name = "delay-queue-enabled", havingValue = "true", matchIfMissing = true)
+public class ReservationExpiryScheduleEventListener {
+
+    private final ReservationExpiryQueueRepository reservationExpiryQueueRepository;
+
+    /**
+     * 가예약 생성 트랜잭션 정상 처리 시 -> 만료 시각에 만료되도록 가예약 만료 지연 큐에 적재
+     * <br>
+     * </br>
+     * 적재에 실패하더라도 가예약 생성은 유지되며, 해당 가예약은 주기적 DB 조회로 만료됩니다.
+     *
+     * @param reservationCreationEvent
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleReservationCreatedEvent(ReservationCreationEvent reservationCreationEvent) {
+        if (reservationCreationEvent.expiredAt() == null) {
+            return;
+        }
+
+        try {
+            reservationExpiryQueueRepository.schedule(reservationCreationEvent.reservationId(),
+                    reservationCreationEvent.expiredAt());
+        } catch (RuntimeException e) {
+            log.warn("가예약 만료 지연 큐 적재 실패 - reservationId: {}", reservationCreationEvent.reservationId(), e);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.slam.concertreservation.application.event.listener;
+
+import com.slam.concertreservation.domain.concert.event.SeatStatusChangedEvent;
+import com.slam.concertreservation.domain.concert.model.ConcertSchedule;
+import com.slam.concertreservation.domain.concert.model.SeatStatus;
+import com.slam.concertreservation.domain.concert.service.ConcertService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatStatusChangedEventListener {
+
+    private final ConcertService concertService;
+
+    // 좌석 상태 변경이 커밋된 이후 좌석 예약 가능 여부에 반영. 트랜잭션 밖에서 발행된 경우 즉시 반영.
+    // 남은 좌석 수가 0 이 되거나 0 에서 벗어난 경우에만 공연 일정의 매진 여부를 변경한다.
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleSeatStatusChangedEvent(SeatStatusChangedEvent seatStatusChangedEvent) {
+        concertService.applySeatStatusChange(
+                seatStatusChangedEvent.concertScheduleId(),
+                seatStatusChangedEvent.number(),
+                seatStatusChangedEvent.status())
+                .ifPresent(remainingSeatsCount -> {
+                    if (crossesSoldOutThreshold(seatStatusChangedEvent.status(), remainingSeatsCount)) {
+                        concertService.syncConcertScheduleAvailability(
+                                seatStatusChangedEvent.concertScheduleId(), remainingSeatsCount);
+                    }
+                });
+
+        log.debug("좌석 예약 가능 여부 반영 완료: concertScheduleId: {}, number: {}, status: {}",
+                seatStatusChangedEvent.concertScheduleId(),
+                seatStatusChangedEvent.number(),
+                seatStatusChangedEvent.status());
+    }
+
+    private boolean crossesSoldOutThreshold(SeatStatus status, int remainingSeatsCount) {
+        return status == SeatStatus.UNAVAILABLE
+                ? remainingSeatsCount == ConcertSchedule.MIN_AVAILABLE_SEATS
+                : remainingSeatsCount == ConcertSchedule.MIN_AVAILABLE_SEATS + 1;
+    }
+}
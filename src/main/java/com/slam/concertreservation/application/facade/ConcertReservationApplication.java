@@ -1,19 +1,31 @@
 package com.slam.concertreservation.application.facade;
 
+import com.slam.concertreservation.common.error.ErrorCode;
+import com.slam.concertreservation.common.exceptions.BusinessRuleViolationException;
+import com.slam.concertreservation.common.exceptions.ConcurrencyException;
+import com.slam.concertreservation.common.exceptions.UnavailableRequestException;
+import com.slam.concertreservation.component.cache.ConcertCatalogCache;
+import com.slam.concertreservation.component.cache.SeatMapNearCache;
 import com.slam.concertreservation.domain.concert.model.Concert;
 import com.slam.concertreservation.domain.concert.model.ConcertSchedule;
 import com.slam.concertreservation.domain.concert.model.ConcertScheduleWithConcert;
 import com.slam.concertreservation.domain.concert.model.Seat;
+import com.slam.concertreservation.domain.concert.model.SeatMap;
+import com.slam.concertreservation.domain.concert.model.SeatStatus;
 import com.slam.concertreservation.domain.concert.service.ConcertService;
 import com.slam.concertreservation.domain.point.model.PointHistory;
 import com.slam.concertreservation.domain.point.model.UserPointBalance;
 import com.slam.concertreservation.domain.point.service.PointService;
 import com.slam.concertreservation.domain.queue.model.Token;
 import com.slam.concertreservation.domain.queue.service.QueueService;
+import com.slam.concertreservation.domain.queue.service.QueueWaitTimeEstimator;
 import com.slam.concertreservation.domain.reservation.model.Reservation;
 import com.slam.concertreservation.domain.reservation.service.ReservationService;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Propagation;
@@ -23,10 +35,16 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class ConcertReservationApplication {
 
+    // 좌석 자동 배정 시 경합으로 인한 최대 선점 시도 횟수
+    private static final int MAX_AUTO_ASSIGN_ATTEMPTS = 3;
+
     private final ConcertService concertService;
     private final PointService pointService;
     private final QueueService queueService;
+    private final QueueWaitTimeEstimator queueWaitTimeEstimator;
     private final ReservationService reservationService;
+    private final SeatMapNearCache seatMapNearCache;
+    private final ConcertCatalogCache concertCatalogCache;
 
     /**
      * 사용자의 포인트 잔액을 조회합니다.
@@ -83,7 +101,7 @@ public class ConcertReservationApplication {
 
     // 공연 조회
     public Concert getConcert(Long concertId) {
-        return concertService.getConcert(concertId);
+        return concertCatalogCache.getConcert(concertId);
     }
 
     /**
@@ -102,6 +120,24 @@ public class ConcertReservationApplication {
                 ConcertSchedule.create(concertId, concertDateTime, reservationStartAt, reservationEndAt), price);
     }
 
+    /**
+     * 좌석 수를 지정한 공연 일정 등록
+     * 
+     * @param concertId
+     * @param concertDateTime
+     * @param reservationStartAt
+     * @param reservationEndAt
+     * @param price
+     * @param numOfSeats
+     * @return
+     */
+    public ConcertSchedule registerConcertSchedule(Long concertId, LocalDateTime concertDateTime,
+            LocalDateTime reservationStartAt, LocalDateTime reservationEndAt, int price, int numOfSeats) {
+        return concertService.registerConcertSchedule(
+                ConcertSchedule.create(concertId, concertDateTime, reservationStartAt, reservationEndAt), price,
+                numOfSeats);
+    }
+
     /**
      * 전체 공연 일정 조회
      * 
@@ -118,17 +154,25 @@ public class ConcertReservationApplication {
      * @return
      */
     public List<ConcertScheduleWithConcert> getAvailableConcertSchedulesWithConcert() {
-        return concertService.getAvailableConcertScheduleWithConcert(LocalDateTime.now());
+        return concertCatalogCache.getAvailableConcertSchedules(LocalDateTime.now());
     }
 
     /**
      * 예약하고자 하는 공연의 예약 가능 좌석 전체 목록 조회.
+     * <br>
+     * </br>
+     * 좌석 배치도 캐시에서 조회하며, 예약 가능 좌석이 없는 것으로 보이는 경우에만 DB 에서 다시 확인합니다. 매진된 공연 일정이라면 남은 좌석
+     * 수 카운터만 확인하고 바로 응답합니다.
      * 
      * @param concertScheduleId
      * @return
      */
     public List<Seat> getAvailableSeats(Long concertScheduleId) {
-        return concertService.getAvailableSeatsOfConcertSchedule(concertScheduleId);
+        if (concertService.isSoldOut(concertScheduleId)) {
+            throw new UnavailableRequestException(ErrorCode.NO_AVAILABLE_SEATS, "예약 가능한 좌석이 존재하지 않습니다.");
+        }
+        return seatMapNearCache.findAvailableSeats(concertScheduleId)
+                .orElseGet(() -> concertService.getAvailableSeatsOfConcertSchedule(concertScheduleId));
     }
 
     /**
@@ -158,6 +202,84 @@ public class ConcertReservationApplication {
         return concertService.assignSeatOfConcertSchedule(concertScheduleId, seatId, userId);
     }
 
+    /**
+     * 특정 공연 일정에서 예약 가능한 좌석 count 개를 서버가 골라 선점합니다.
+     * <br>
+     * </br>
+     * 좌석 배치도에서 번호가 연속한 좌석을 우선하여 고르고, 고른 좌석을 보류한 상태로 일괄 선점합니다. 같은 노드의 동시 요청은 보류된 좌석을
+     * 고르지 않으므로, 인기 좌석에 선점 시도가 몰리지 않습니다. 다른 노드와의 경합으로 선점에 실패하면 실패한 좌석을 보류한 채로 다른 좌석을
+     * 골라 최대 {@link #MAX_AUTO_ASSIGN_ATTEMPTS} 회 재시도합니다.
+     *
+     * @param concertScheduleId
+     * @param userId
+     * @param count
+     * @return 선점된 좌석 목록
+     */
+    public List<Seat> assignBestAvailableSeats(Long concertScheduleId, Long userId, int count) {
+        if (count < 1 || count > Seat.MAX_SEATS_PER_ASSIGNMENT) {
+            throw new BusinessRuleViolationException(ErrorCode.INVALID_INPUT_VALUE,
+                    "한 번에 배정할 수 있는 좌석 수는 1개 이상 " + Seat.MAX_SEATS_PER_ASSIGNMENT + "개 이하입니다.");
+        }
+        concertService.ensureNotSoldOut(concertScheduleId);
+
+        SeatMap seatMap = seatMapNearCache.findSeatMap(concertScheduleId)
+                .orElseGet(() -> SeatMap.of(concertScheduleId,
+                        concertService.getSeatsOfConcertSchedule(concertScheduleId)));
+
+        List<Seat> heldSeats = new ArrayList<>();
+        try {
+            for (int attempt = 1; ; attempt++) {
+                List<Seat> candidates = seatMap.holdBestAvailableSeats(count);
+                if (candidates.isEmpty()) {
+                    throw new UnavailableRequestException(ErrorCode.NO_AVAILABLE_SEATS,
+                            "요청한 수만큼의 예약 가능 좌석이 존재하지 않습니다.");
+                }
+                heldSeats.addAll(candidates);
+
+                try {
+                    List<Seat> assignedSeats = concertService.assignSeatsOfConcertSchedule(concertScheduleId,
+                            candidates.stream().map(Seat::getId).toList(), userId);
+                    // 선점 완료 알림 수신 전에 다른 요청이 같은 좌석을 고르지 않도록 즉시 반영.
+                    assignedSeats.forEach(seat -> seatMap.apply(seat.getNumber(), SeatStatus.UNAVAILABLE));
+                    return assignedSeats;
+                } catch (BusinessRuleViolationException e) {
+                    if (e.getErrorCode() != ErrorCode.SEAT_ALREADY_OCCUPIED || attempt == MAX_AUTO_ASSIGN_ATTEMPTS) {
+                        throw e;
+                    }
+                } catch (ConcurrencyException e) {
+                    // 다른 요청이 같은 좌석의 락을 보유 중인 경우 역시 경합으로 보고 다른 좌석으로 재시도.
+                    if (attempt == MAX_AUTO_ASSIGN_ATTEMPTS) {
+                        throw e;
+                    }
+                }
+            }
+        } finally {
+            seatMap.releaseHolds(heldSeats);
+        }
+    }
+
+    /**
+     * 특정 공연 일정의 여러 좌석을 한 번에 선점하고, 좌석별 가예약을 생성합니다. (단체 예매)
+     * <br>
+     * </br>
+     * 좌석 선점은 모든 좌석에 대해 원자적으로 이루어지며, 가예약은 하나의 트랜잭션으로 생성됩니다. 가예약 생성 트랜잭션이 롤백되면 예약 생성
+     * 이벤트에 의해 선점된 좌석이 해제됩니다. 가예약의 가격은 좌석 가격을 따릅니다.
+     *
+     * @param concertScheduleId
+     * @param userId
+     * @param seatIds
+     * @return 생성된 가예약 목록
+     */
+    public List<Reservation> holdSeats(Long concertScheduleId, Long userId, List<Long> seatIds) {
+        List<Seat> assignedSeats = concertService.assignSeatsOfConcertSchedule(concertScheduleId, seatIds, userId);
+
+        Map<Long, Integer> pricesBySeatId = new LinkedHashMap<>();
+        for (Seat seat : assignedSeats) {
+            pricesBySeatId.put(seat.getId(), seat.getPrice());
+        }
+        return reservationService.createReservations(userId, concertScheduleId, pricesBySeatId);
+    }
+
     /**
      * 좌석 선점으로부터 200 OK 받았을 경우 다음 단계에서 예약자 정보 세부 사항을 입력 받아 가예약 생성
      * 
@@ -247,12 +369,16 @@ public class ConcertReservationApplication {
 
     /**
      * 대기열 진입 사용자에 대해 토큰 발급.
+     * <br>
+     * </br>
+     * 매진된 공연 일정이라면 대기열에 진입시키지 않습니다.
      * 
      * @param userId
      * @param concertScheduleId
      * @return
      */
     public Token issueToken(Long userId, Long concertScheduleId) {
+        concertService.ensureNotSoldOut(concertScheduleId);
         return queueService.issueToken(userId, concertScheduleId);
     }
 
@@ -267,4 +393,37 @@ public class ConcertReservationApplication {
     public int getRemaining(Long concertScheduleId, String tokenId) {
         return queueService.getRemainingTokenCount(concertScheduleId, tokenId);
     }
+
+    /**
+     * 대기 순번에 따른 예상 대기 시간(초) 반환. 로컬에 보관된 처리량으로 산출하므로 Redis 를 조회하지 않습니다.
+     * 
+     * @param concertScheduleId
+     * @param position
+     * @return 처리량이 집계되지 않았다면 null
+     */
+    public Long estimateWaitSeconds(Long concertScheduleId, int position) {
+        return queueWaitTimeEstimator.estimateWaitSeconds(concertScheduleId, position);
+    }
+
+    /**
+     * 주어진 토큰들의 대기 순번 반환. 대기열 상태 Push 시 공연 일정당 한 번, 이 노드의 구독자 토큰만 조회합니다.
+     * 
+     * @param concertScheduleId
+     * @param tokenIds
+     * @return 토큰 ID 별 대기 순번. 대기열에 없는 토큰은 제외.
+     */
+    public Map<String, Integer> getWaitingPositions(Long concertScheduleId, List<String> tokenIds) {
+        return queueService.getWaitingPositions(concertScheduleId, tokenIds);
+    }
+
+    /**
+     * 토큰 단건 조회
+     * 
+     * @param concertScheduleId
+     * @param tokenId
+     * @return
+     */
+    public Token getToken(Long concertScheduleId, String tokenId) {
+        return queueService.getToken(concertScheduleId, tokenId);
+    }
 }
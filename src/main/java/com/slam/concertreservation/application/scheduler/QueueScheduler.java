@@ -3,42 +3,112 @@ package com.slam.concertreservation.application.scheduler;
 import com.slam.concertreservation.domain.concert.model.ConcertSchedule;
 import com.slam.concertreservation.domain.concert.service.ConcertService;
 import com.slam.concertreservation.domain.queue.model.Token;
+import com.slam.concertreservation.domain.queue.service.QueueAdmissionController;
 import com.slam.concertreservation.domain.queue.service.QueueService;
+import com.slam.concertreservation.domain.queue.service.QueueWaitTimeEstimator;
+import com.slam.concertreservation.domain.queue.service.QueueWaitingTokenSweeper;
+import com.slam.concertreservation.infrastructure.persistence.redis.locking.QueueScheduleLeaseManager;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+/**
+ * 대기열 스케줄러.
+ * <br>
+ * </br>
+ * 공연 일정 간의 대기열은 서로 독립적이므로, 공연 일정별 만료/활성화 작업을 제한된 크기의 스레드 풀에 분배하여 병렬로 수행합니다.
+ * 또한 여러 노드가 동시에 기동된 경우 {@link QueueScheduleLeaseManager} 를 통해 공연 일정별 담당 노드를 나누고, 담당 노드만 해당 일정을 처리합니다.
+ */
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class QueueScheduler {
 
-    private final RedisTemplate<String, Object> redisTemplate;
     private final QueueService queueService;
+    private final QueueAdmissionController queueAdmissionController;
+    private final QueueWaitTimeEstimator queueWaitTimeEstimator;
+    private final QueueWaitingTokenSweeper queueWaitingTokenSweeper;
     private final ConcertService concertService;
+    private final QueueScheduleLeaseManager queueScheduleLeaseManager;
+    private final QueueSchedulerProperties queueSchedulerProperties;
 
-    private static final int ACTIVATION_BATCH_SIZE = 10;
+    private ExecutorService queueSchedulerExecutor;
 
-    // QueuePolicy 내에 저장된 Token을 만료시키고 만료시킨 토큰 수만큼 활성화 시켜준다.
-    @Scheduled(fixedDelay = 5000) // 5초 간격 순회하며 작업.
+    @PostConstruct
+    public void initExecutor() {
+        AtomicInteger threadNumber = new AtomicInteger(1);
+        this.queueSchedulerExecutor = Executors.newFixedThreadPool(queueSchedulerProperties.getParallelism(), runnable -> {
+            Thread thread = new Thread(runnable, "queue-scheduler-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdownExecutor() throws InterruptedException {
+        queueSchedulerExecutor.shutdown();
+        if (!queueSchedulerExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
+            queueSchedulerExecutor.shutdownNow();
+        }
+    }
+
+    // 만료 시간이 지난 활성 토큰을 만료시키고, 빈 자리와 진입 허용 속도 내에서 대기 토큰을 활성화 시켜준다.
+    // 이전 주기의 모든 일정 처리가 끝난 뒤 다음 주기가 시작된다.
+    @Scheduled(fixedDelayString = "${app.queue.scheduler.tick-millis:1000}")
     public void expireAndActivateToken() {
+        queueScheduleLeaseManager.heartbeat(queueSchedulerProperties.getNodeTtlMillis());
+
+        // 예상 대기 시간 산출용 공연 일정별 진입 처리량 스냅샷 갱신. 담당 여부와 무관하게 모든 노드에서 수행.
+        queueWaitTimeEstimator.refreshAdmissionRates();
 
         // 현재 예약 진행 중인 공연 전체 조회 : 캐싱 적용하여 해당 데이터 캐시에 존재할 경우, Redis 캐시로부터 가져옵니다!
-        List<ConcertSchedule> onGoingConcertSchedules = concertService.getOngoingConcertSchedules(LocalDateTime.now());
-
-        for(ConcertSchedule concertSchedule : onGoingConcertSchedules){
-            // 만료 대상 활성화 토큰 조회 -> 서비스로부터 쫓겨나야하는 사람들 추리기!
-            List<Token> activeTokensToBeExpired = queueService.getActivatedTokensToBeExpired(concertSchedule.getId());
-
-            // 만료 대상 토큰이 존재할 경우 -> 만료 시키기.
-            if(!activeTokensToBeExpired.isEmpty()){
-                // 만료 대상 토큰 만료 처리.
-                queueService.expireToken(concertSchedule.getId(), activeTokensToBeExpired);
-                // 정책 상 설정된 활성화 갯수만큼 토큰 활성화.
-                queueService.activateTokens(concertSchedule.getId(), ACTIVATION_BATCH_SIZE);
-            }
+        List<Long> onGoingConcertScheduleIds = concertService.getOngoingConcertSchedules(LocalDateTime.now())
+                .stream()
+                .map(ConcertSchedule::getId)
+                .toList();
+
+        // 현재 노드가 담당하는 공연 일정만 처리.
+        List<Long> ownedConcertScheduleIds = queueScheduleLeaseManager.filterOwnedConcertScheduleIds(onGoingConcertScheduleIds);
+
+        CompletableFuture<?>[] tasks = ownedConcertScheduleIds.stream()
+                .map(concertScheduleId -> CompletableFuture.runAsync(() -> queueScheduleLeaseManager.runWithLease(
+                                concertScheduleId,
+                                queueSchedulerProperties.getLeaseMillis(),
+                                () -> expireAndActivateToken(concertScheduleId)), queueSchedulerExecutor)
+                        // 하나의 공연 일정 처리 실패가 다른 공연 일정 처리를 중단시키지 않도록 개별적으로 기록.
+                        .exceptionally(e -> {
+                            log.error("공연 일정 대기열 처리 실패 - concertScheduleId: {}", concertScheduleId, e);
+                            return null;
+                        }))
+                .toArray(CompletableFuture[]::new);
+
+        CompletableFuture.allOf(tasks).join();
+    }
+
+    // 공연 일정 단위 만료 및 활성화 처리.
+    private void expireAndActivateToken(Long concertScheduleId) {
+        // 만료 대상 활성화 토큰 조회 -> 서비스로부터 쫓겨나야하는 사람들 추리기!
+        List<Token> activeTokensToBeExpired = queueService.getActivatedTokensToBeExpired(concertScheduleId);
+
+        // 만료 대상 토큰이 존재할 경우 -> 만료 시키기.
+        if (!activeTokensToBeExpired.isEmpty()) {
+            queueService.expireToken(concertScheduleId, activeTokensToBeExpired);
         }
+
+        // 대기 유효 시간이 지난 대기 토큰 만료 -> 이탈한 사용자가 대기열 길이와 순번을 부풀리지 않도록 주기마다 한 묶음씩 정리.
+        queueWaitingTokenSweeper.sweep(concertScheduleId);
+
+        // 만료 여부와 무관하게 매 주기 빈 자리만큼 진입 시도.
+        queueAdmissionController.admit(concertScheduleId);
     }
 }
@@ -0,0 +1,15 @@
+package com.slam.concertreservation.application.scheduler;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.queue.scheduler")
+@Data
+public class QueueSchedulerProperties {
+    private long tickMillis = 1000; // 스케줄러 주기 (밀리초). 진입 허용 속도와 무관하게 주기가 짧을수록 진입이 고르게 분산된다.
+    private int parallelism = 4; // 공연 일정별 대기열 처리를 동시에 수행할 최대 스레드 수
+    private long leaseMillis = 10000; // 공연 일정별 처리 임대 유지 시간 (밀리초). 한 주기의 처리 시간보다 길어야 한다.
+    private long nodeTtlMillis = 15000; // 생존 신고가 없는 노드를 노드 목록에서 제외하기까지의 시간 (밀리초)
+}
@@ -0,0 +1,14 @@
+package com.slam.concertreservation.application.scheduler;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.reservation.archive")
+@Data
+public class ReservationArchiveProperties {
+    private long pollMillis = 3600000; // 예약 보관 주기 (밀리초)
+    private int retentionDays = 7; // 공연 종료 후 예약 테이블에 예약을 유지하는 기간 (일)
+    private int schedulesPerRun = 10; // 한 주기에 보관하는 최대 공연 일정 수
+}
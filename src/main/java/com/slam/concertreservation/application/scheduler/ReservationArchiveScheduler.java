@@ -0,0 +1,61 @@
+package com.slam.concertreservation.application.scheduler;
+
+import com.slam.concertreservation.domain.reservation.repository.ReservationArchiveRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 예약 보관 스케줄러. ({@code app.reservation.archive.enabled: true})
+ * <br>
+ * </br>
+ * 주기마다 공연 후 {@code retentionDays} 일이 지난 공연 일정의 결제/취소/만료 예약을 예약 테이블에서 보관 테이블로 옮깁니다. 예약 테이블에는
+ * 진행 중이거나 최근 종료된 공연 일정의 예약만 남으므로, 예약 진행 중인 공연 일정의 조회와 만료 처리가 읽는 인덱스가 누적된 과거 예약만큼 커지지
+ * 않습니다.
+ * <br>
+ * </br>
+ * 공연 일정 하나를 하나의 트랜잭션으로 옮기므로, 보관 도중 실패하더라도 한 공연 일정의 예약이 두 테이블에 나뉘어 남지 않습니다. 여러 노드가 같은
+ * 공연 일정을 동시에 옮기더라도, 나중에 수행된 노드는 옮길 예약이 남아있지 않아 아무것도 옮기지 않습니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.reservation.archive", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ReservationArchiveScheduler {
+
+    private final ReservationArchiveRepository reservationArchiveRepository;
+    private final ReservationArchiveProperties reservationArchiveProperties;
+
+    private final Counter archivedCounter;
+
+    public ReservationArchiveScheduler(ReservationArchiveRepository reservationArchiveRepository,
+            ReservationArchiveProperties reservationArchiveProperties, MeterRegistry meterRegistry) {
+        this.reservationArchiveRepository = reservationArchiveRepository;
+        this.reservationArchiveProperties = reservationArchiveProperties;
+        this.archivedCounter = Counter.builder("reservation.archived")
+                .description("보관 테이블로 옮겨진 예약 수")
+                .register(meterRegistry);
+    }
+
+    // 종료된 공연 일정의 예약 보관
+    @Scheduled(fixedDelayString = "${app.reservation.archive.poll-millis:3600000}")
+    public void archiveFinishedConcertSchedules() {
+        LocalDateTime finishedBefore = LocalDateTime.now().minusDays(reservationArchiveProperties.getRetentionDays());
+        List<Long> concertScheduleIds = reservationArchiveRepository.findArchivableConcertScheduleIds(finishedBefore,
+                reservationArchiveProperties.getSchedulesPerRun());
+
+        for (Long concertScheduleId : concertScheduleIds) {
+            try {
+                int archived = reservationArchiveRepository.archive(concertScheduleId);
+                archivedCounter.increment(archived);
+                log.info("예약 보관 완료 - concertScheduleId: {}, 보관: {}건", concertScheduleId, archived);
+            } catch (RuntimeException e) {
+                log.warn("예약 보관 실패. 다음 주기에 재시도 - concertScheduleId: {}", concertScheduleId, e);
+            }
+        }
+    }
+}
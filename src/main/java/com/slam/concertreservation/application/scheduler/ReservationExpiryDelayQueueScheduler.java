@@ -0,0 +1,95 @@
+package com.slam.concertreservation.application.scheduler;
+
+import com.slam.concertreservation.domain.reservation.model.Reservation;
+import com.slam.concertreservation.domain.reservation.repository.ReservationExpiryQueueRepository;
+import com.slam.concertreservation.domain.reservation.service.ReservationService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 가예약 만료 지연 큐 스케줄러. ({@code app.reservation.expiry.delay-queue-enabled: true})
+ * <br>
+ * </br>
+ * 짧은 주기마다 지연 큐에서 만료 시각이 지난 가예약을 꺼내어 일괄 만료 처리하므로, 가예약은 만료 시각으로부터 약 한 주기 이내에 만료되고 선점 좌석이
+ * 해제됩니다. 만료 대상을 찾기 위해 DB 를 조회하지 않으며, 꺼낸 가예약이 없다면 Redis 호출 1회로 끝납니다.
+ * <br>
+ * </br>
+ * 꺼낸 가예약이 이미 결제, 취소되었다면 만료 처리에서 제외됩니다. 만료 처리에 실패한 가예약은 다음 주기에 다시 꺼내지도록 지연 큐에 재적재하며,
+ * 재적재마저 실패한 경우엔 {@link ReservationScheduler} 의 주기적 DB 조회로 만료됩니다.
+ * <br>
+ * </br>
+ * 지연 큐의 점수는 밀리초 단위이고 다른 노드의 시계로 적재되었을 수 있으므로, 꺼낸 가예약이 DB 의 만료 시각 기준으로는 아직 만료 대상이 아닐 수
+ * 있습니다. 만료 판정은 꺼낼 때와 같은 기준 시각으로 수행하고, 그럼에도 만료되지 않은 가예약은 자신의 만료 시각으로 다시 적재하여 다음 주기에
+ * 만료합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.reservation.expiry", name = "delay-queue-enabled", havingValue = "true", matchIfMissing = true)
+public class ReservationExpiryDelayQueueScheduler {
+
+    private final ReservationExpiryQueueRepository reservationExpiryQueueRepository;
+    private final ReservationService reservationService;
+    private final ReservationExpiryProperties reservationExpiryProperties;
+
+    private final Counter expiredCounter;
+
+    public ReservationExpiryDelayQueueScheduler(ReservationExpiryQueueRepository reservationExpiryQueueRepository,
+            ReservationService reservationService, ReservationExpiryProperties reservationExpiryProperties,
+            MeterRegistry meterRegistry) {
+        this.reservationExpiryQueueRepository = reservationExpiryQueueRepository;
+        this.reservationService = reservationService;
+        this.reservationExpiryProperties = reservationExpiryProperties;
+        this.expiredCounter = Counter.builder("reservation.expired")
+                .description("만료 처리된 가예약 수")
+                .tag("trigger", "delay-queue")
+                .register(meterRegistry);
+    }
+
+    // 만료 시각이 지난 가예약 만료 처리
+    @Scheduled(fixedDelayString = "${app.reservation.expiry.delay-queue-poll-millis:100}")
+    public void expireDueReservations() {
+        int chunkSize = reservationExpiryProperties.getChunkSize();
+        List<Long> due;
+        do {
+            LocalDateTime now = LocalDateTime.now();
+            due = reservationExpiryQueueRepository.pollDue(now, chunkSize);
+            if (due.isEmpty()) {
+                return;
+            }
+
+            List<Reservation> expired;
+            try {
+                expired = reservationService.expireReservations(due, now);
+            } catch (RuntimeException e) {
+                log.warn("가예약 만료 처리 실패. 지연 큐 재적재 - reservationIds: {}", due, e);
+                due.forEach(reservationId -> reservationExpiryQueueRepository.schedule(reservationId, now));
+                return;
+            }
+            expiredCounter.increment(expired.size());
+            if (expired.size() < due.size()) {
+                rescheduleNotYetExpired(due, expired);
+            }
+        } while (due.size() >= chunkSize);
+    }
+
+    // 꺼냈으나 만료되지 않은 가예약 중 아직 가예약 상태인 예약만 자신의 만료 시각으로 다시 적재. 결제, 취소된 예약은 적재하지 않는다.
+    private void rescheduleNotYetExpired(List<Long> due, List<Reservation> expired) {
+        Set<Long> expiredIds = expired.stream().map(Reservation::getId).collect(Collectors.toSet());
+        List<Long> skipped = due.stream().filter(reservationId -> !expiredIds.contains(reservationId)).toList();
+        try {
+            for (Reservation reservation : reservationService.getPreemptedReservations(skipped)) {
+                reservationExpiryQueueRepository.schedule(reservation.getId(), reservation.getExpiredAt());
+            }
+        } catch (RuntimeException e) {
+            log.warn("만료 전 가예약 지연 큐 재적재 실패 - reservationIds: {}", skipped, e);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.slam.concertreservation.application.scheduler;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.reservation.expiry")
+@Data
+public class ReservationExpiryProperties {
+    private long pollMillis = 60000; // 만료 대상 DB 조회 주기 (밀리초). 지연 큐 유실에 대비한 안전망.
+    private int chunkSize = 500; // 한 트랜잭션에서 만료 처리하는 최대 가예약 수
+    private boolean delayQueueEnabled = true; // 가예약 만료 지연 큐 사용 여부
+    private long delayQueuePollMillis = 100; // 지연 큐에서 만료 시각이 지난 가예약을 꺼내는 주기 (밀리초). 만료 처리 최대 지연.
+}
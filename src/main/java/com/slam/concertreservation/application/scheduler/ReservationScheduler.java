@@ -1,27 +1,60 @@
 package com.slam.concertreservation.application.scheduler;
 
 import com.slam.concertreservation.domain.reservation.model.Reservation;
+import com.slam.concertreservation.domain.reservation.model.ReservationExpiryCursor;
 import com.slam.concertreservation.domain.reservation.service.ReservationService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Isolation;
-import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * 가예약 만료 스케줄러.
+ * <br>
+ * </br>
+ * 가예약은 생성 시 만료 지연 큐에 적재되어 만료 시각 직후 {@link ReservationExpiryDelayQueueScheduler} 에 의해 만료되므로, 이 스케줄러는
+ * 지연 큐 적재 실패나 유실로 남겨진 가예약을 처리하는 안전망 역할을 합니다.
+ * <br>
+ * </br>
+ * 주기마다 만료 시각이 지난 가예약을 {@code chunkSize} 건씩 나누어 일괄 만료 처리합니다. 청크마다 별도 트랜잭션으로 처리되므로, 만료 대상이
+ * 많더라도 한 트랜잭션이 잡는 락의 범위와 시간이 제한됩니다. 청크가 가득 찼다면 남은 대상이 있는 것으로 보고 같은 주기 안에서 이어서 처리합니다.
+ * <br>
+ * </br>
+ * 다음 청크는 직전 청크의 마지막 {@code (expiredAt, reservationId)} 다음부터 조회하고, 만료 기준 시각은 순회 시작 시점으로 고정합니다. 따라서
+ * 한 번의 순회는 시작 시점의 만료 대상만큼만 인덱스를 읽고 끝나며, 순회 도중 만료 시각이 도래한 가예약은 다음 순회 혹은 지연 큐가 처리합니다.
+ */
 @Component
-@RequiredArgsConstructor
-@Transactional(isolation = Isolation.REPEATABLE_READ)
 public class ReservationScheduler {
     private final ReservationService reservationService;
+    private final ReservationExpiryProperties reservationExpiryProperties;
+
+    private final Counter expiredCounter;
+
+    public ReservationScheduler(ReservationService reservationService,
+            ReservationExpiryProperties reservationExpiryProperties, MeterRegistry meterRegistry) {
+        this.reservationService = reservationService;
+        this.reservationExpiryProperties = reservationExpiryProperties;
+        this.expiredCounter = Counter.builder("reservation.expired")
+                .description("만료 처리된 가예약 수")
+                .tag("trigger", "poll")
+                .register(meterRegistry);
+    }
 
     // 가예약 만료 처리
-    @Scheduled(fixedDelay = 10000) // 약 10초 간격 순회하며 작업.
+    @Scheduled(fixedDelayString = "${app.reservation.expiry.poll-millis:60000}")
     public void expireTemporaryReservations() {
-        List<Reservation> toBeExpired = reservationService.getReservationsToBeExpired();
-        toBeExpired
-                .forEach(reservation -> {
-            reservationService.expireReservation(reservation.getId()); // 예약 상태 변경
-        });
+        int chunkSize = reservationExpiryProperties.getChunkSize();
+        LocalDateTime now = LocalDateTime.now();
+        ReservationExpiryCursor cursor = null;
+        List<Reservation> expired;
+        do {
+            expired = reservationService.expireReservations(now, cursor, chunkSize);
+            expiredCounter.increment(expired.size());
+            if (!expired.isEmpty()) {
+                cursor = ReservationExpiryCursor.of(expired.get(expired.size() - 1));
+            }
+        } while (expired.size() >= chunkSize);
     }
 }
@@ -0,0 +1,14 @@
+package com.slam.concertreservation.application.scheduler;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.seat.inventory")
+@Data
+public class SeatInventoryProperties {
+    private long flushMillis = 200; // 좌석 재고 변경 사항 DB 반영 주기 (밀리초). 선점 직후 DB 조회 경로가 관측하는 최대 지연.
+    private int flushBatchSize = 500; // 한 번에 DB 에 반영하는 최대 좌석 수
+    private long reconcileMillis = 60000; // 좌석 재고와 DB 간 불일치 보정 주기 (밀리초)
+}
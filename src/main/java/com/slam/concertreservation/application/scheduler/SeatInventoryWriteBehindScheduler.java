@@ -0,0 +1,134 @@
+package com.slam.concertreservation.application.scheduler;
+
+import com.slam.concertreservation.domain.concert.model.ConcertSchedule;
+import com.slam.concertreservation.domain.concert.model.Seat;
+import com.slam.concertreservation.domain.concert.model.SeatStatus;
+import com.slam.concertreservation.domain.concert.repository.SeatInventoryRepository;
+import com.slam.concertreservation.domain.concert.repository.SeatRepository;
+import com.slam.concertreservation.domain.concert.service.ConcertService;
+import com.slam.concertreservation.infrastructure.persistence.redis.locking.QueueScheduleLeaseManager;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 좌석 재고 DB 반영 스케줄러. ({@code app.seat.assignment-mode: REDIS_INVENTORY})
+ * <br>
+ * </br>
+ * 주기마다 DB 반영 대기열에서 변경된 좌석을 꺼내 상태별로 한 번의 UPDATE 로 일괄 반영합니다. 반영에 실패한 좌석은 대기열에 다시
+ * 적재되어 다음 주기에 재시도됩니다. 대기열의 꺼내기는 원자적이므로 여러 노드가 동시에 수행하더라도 같은 항목을 중복 처리하지 않습니다.
+ * <br>
+ * </br>
+ * 또한 반영 도중 노드가 종료되어 유실된 항목에 대비하여, 현재 노드가 담당하는 예약 진행 중 공연 일정의 재고와 DB 를 주기적으로 비교하고
+ * 불일치한 좌석을 대기열에 다시 적재하여 재고 상태를 기준으로 DB 를 보정합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.seat", name = "assignment-mode", havingValue = "REDIS_INVENTORY")
+public class SeatInventoryWriteBehindScheduler {
+
+    private final SeatInventoryRepository seatInventoryRepository;
+    private final SeatRepository seatRepository;
+    private final ConcertService concertService;
+    private final QueueScheduleLeaseManager queueScheduleLeaseManager;
+    private final SeatInventoryProperties seatInventoryProperties;
+
+    private final Counter flushedCounter;
+    private final Counter reconciledCounter;
+
+    public SeatInventoryWriteBehindScheduler(SeatInventoryRepository seatInventoryRepository,
+            SeatRepository seatRepository, ConcertService concertService,
+            QueueScheduleLeaseManager queueScheduleLeaseManager, SeatInventoryProperties seatInventoryProperties,
+            MeterRegistry meterRegistry) {
+        this.seatInventoryRepository = seatInventoryRepository;
+        this.seatRepository = seatRepository;
+        this.concertService = concertService;
+        this.queueScheduleLeaseManager = queueScheduleLeaseManager;
+        this.seatInventoryProperties = seatInventoryProperties;
+        this.flushedCounter = Counter.builder("seat.inventory.write.behind.flushed")
+                .description("좌석 재고에서 DB 로 반영된 좌석 수")
+                .register(meterRegistry);
+        this.reconciledCounter = Counter.builder("seat.inventory.reconciled")
+                .description("재고와 불일치하여 DB 반영 대기열에 다시 적재된 좌석 수")
+                .register(meterRegistry);
+    }
+
+    // 대기열이 비거나 한 묶음보다 적게 꺼내질 때까지 반복하여 반영.
+    @Scheduled(fixedDelayString = "${app.seat.inventory.flush-millis:200}")
+    public void flush() {
+        int batchSize = seatInventoryProperties.getFlushBatchSize();
+        List<Seat> pending;
+        do {
+            pending = seatInventoryRepository.pollPendingChanges(batchSize);
+            if (pending.isEmpty()) {
+                return;
+            }
+            try {
+                applyToDatabase(pending);
+                flushedCounter.increment(pending.size());
+            } catch (Exception e) {
+                seatInventoryRepository.requeuePendingChanges(pending);
+                log.warn("좌석 재고 DB 반영 실패. 다음 주기에 재시도합니다. - count: {}, cause: {}", pending.size(), e.getMessage());
+                return;
+            }
+        } while (pending.size() >= batchSize);
+    }
+
+    @Scheduled(fixedDelayString = "${app.seat.inventory.reconcile-millis:60000}")
+    public void reconcile() {
+        List<Long> onGoingConcertScheduleIds = concertService.getOngoingConcertSchedules(LocalDateTime.now())
+                .stream()
+                .map(ConcertSchedule::getId)
+                .toList();
+
+        for (Long concertScheduleId : queueScheduleLeaseManager.filterOwnedConcertScheduleIds(onGoingConcertScheduleIds)) {
+            try {
+                reconcile(concertScheduleId);
+            } catch (Exception e) {
+                log.warn("좌석 재고 보정 실패 - concertScheduleId: {}, cause: {}", concertScheduleId, e.getMessage());
+            }
+        }
+    }
+
+    private void reconcile(Long concertScheduleId) {
+        List<Seat> inventory = seatInventoryRepository.findAll(concertScheduleId);
+        if (inventory.isEmpty()) {
+            return; // 재고 미적재 : DB 가 기준이므로 보정 대상 없음.
+        }
+
+        Map<Long, SeatStatus> persistedStatuses = seatRepository.findAllByConcertScheduleId(concertScheduleId)
+                .stream()
+                .collect(Collectors.toMap(Seat::getId, Seat::getStatus));
+
+        List<Seat> mismatched = inventory.stream()
+                .filter(seat -> persistedStatuses.get(seat.getId()) != null
+                        && persistedStatuses.get(seat.getId()) != seat.getStatus())
+                .toList();
+        if (mismatched.isEmpty()) {
+            return;
+        }
+
+        // 직접 UPDATE 하지 않고 DB 반영 대기열에 적재. 조회 이후 재고가 다시 변경되었더라도 반영 시점의 최신 상태가 반영된다.
+        seatInventoryRepository.requeuePendingChanges(mismatched);
+        reconciledCounter.increment(mismatched.size());
+        log.warn("좌석 재고 불일치 감지 - concertScheduleId: {}, mismatchedCount: {}", concertScheduleId, mismatched.size());
+    }
+
+    // 상태별로 묶어 상태당 한 번의 UPDATE 수행.
+    private void applyToDatabase(List<Seat> seats) {
+        Map<SeatStatus, List<Long>> seatIdsByStatus = new EnumMap<>(SeatStatus.class);
+        for (Seat seat : seats) {
+            seatIdsByStatus.computeIfAbsent(seat.getStatus(), status -> new ArrayList<>()).add(seat.getId());
+        }
+        seatIdsByStatus.forEach((status, seatIds) -> seatRepository.updateStatusAll(seatIds, status));
+    }
+}
@@ -61,6 +61,9 @@ public enum ErrorCode {
     // 공연 일정 조회 실패 (404)
     CONCERT_SCHEDULE_NOT_FOUND("C404", "해당 공연 일정이 존재하지 않습니다", 404, LogLevel.INFO),
 
+    // 매진된 공연 일정 (409)
+    CONCERT_SCHEDULE_SOLD_OUT("C409", "매진된 공연 일정입니다", 409, LogLevel.INFO),
+
     // 공연 일정 정책 위반 (400)
     INVALID_RESERVATION_PERIOD("C400", "예약 시작 일자는 예약 종료 일자보다 늦을 수 없습니다", 400, LogLevel.INFO),
     INVALID_CONCERT_DATE_BEFORE_RESERVATION("C401", "공연 일자가 예약 가능 시작 일자에 선행합니다", 400, LogLevel.INFO),
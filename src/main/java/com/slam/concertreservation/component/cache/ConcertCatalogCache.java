@@ -0,0 +1,255 @@
+package com.slam.concertreservation.component.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.slam.concertreservation.domain.concert.event.ConcertScheduleChangedEvent;
+import com.slam.concertreservation.domain.concert.model.Concert;
+import com.slam.concertreservation.domain.concert.model.ConcertScheduleWithConcert;
+import com.slam.concertreservation.domain.concert.service.ConcertService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 예약 가능 공연 일정 목록과 공연 정보를 보관하는 2단계 캐시. 노드 로컬 캐시(Caffeine)를 먼저 확인하고, 없다면 Redis, 그마저 없다면 DB 에서
+ * 조회하여 두 단계 모두에 보관합니다.
+ * <br>
+ * </br>
+ * 예약 가능 공연 일정 목록은 조회 시점이 속한 시간 구간({@code bucket-seconds}) 단위로 보관합니다.
+ * i.e. {@code concertCatalog:{구간 시작 epoch second}}. 같은 구간의 요청은 모든 노드에서 구간 시작 시점 기준의 같은 목록을 공유하므로,
+ * 예약 기간의 시작/종료는 최대 한 구간만큼 늦게 반영됩니다.
+ * <br>
+ * </br>
+ * 공연 일정이 등록되거나 매진/매진 해제되면 커밋 이후 Redis 의 목록을 제거하고 {@link #CONCERT_CATALOG_CHANNEL} 로 알려, 모든 노드가
+ * 로컬 캐시의 목록을 제거합니다. 제거 직전에 조회를 시작한 요청이 이전 목록을 다시 보관하는 경우는 구간 종료 시점까지로 한정됩니다.
+ * <br>
+ * </br>
+ * 공연 정보는 변경되지 않으므로 {@code concertCache:{공연 ID}} 에 {@code concert-ttl-seconds} 동안 보관합니다.
+ * <br>
+ * </br>
+ * 적중/실패 횟수는 단계별로 {@code cache.gets{cache="concert.catalog.local|concert.catalog.remote|concert.local|concert.remote"}}
+ * 로 기록됩니다.
+ */
+@Slf4j
+@Component
+public class ConcertCatalogCache implements MessageListener {
+
+    // 예약 가능 공연 일정 목록 변경 알림 채널.
+    public static final String CONCERT_CATALOG_CHANNEL = "concertCatalogChangedChannel";
+
+    private static final String CATALOG_CACHE_NAME = "concert.catalog";
+    private static final String CONCERT_CACHE_NAME = "concert";
+    private static final String LOCAL_TIER = ".local";
+    private static final String REMOTE_TIER = ".remote";
+
+    private static final String CATALOG_KEY_NAME = "concertCatalog";
+    private static final String CONCERT_KEY_NAME = "concertCache";
+
+    private static final TypeReference<List<ConcertScheduleWithConcert>> CATALOG_TYPE = new TypeReference<>() {
+    };
+    private static final TypeReference<Concert> CONCERT_TYPE = new TypeReference<>() {
+    };
+
+    private final ConcertService concertService;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    private final Cache<Long, List<ConcertScheduleWithConcert>> catalogs; // key : 구간 시작 epoch second
+    private final Cache<Long, Concert> concerts; // key : 공연 ID
+    private final boolean enabled;
+    private final long bucketSeconds;
+    private final Duration concertTtl;
+
+    private final Counter remoteCatalogHits;
+    private final Counter remoteCatalogMisses;
+    private final Counter remoteConcertHits;
+    private final Counter remoteConcertMisses;
+
+    public ConcertCatalogCache(
+            ConcertService concertService,
+            StringRedisTemplate stringRedisTemplate,
+            RedisMessageListenerContainer redisMessageListenerContainer,
+            MeterRegistry meterRegistry,
+            @Value("${app.concert.catalog-cache.enabled:true}") boolean enabled,
+            @Value("${app.concert.catalog-cache.bucket-seconds:60}") long bucketSeconds,
+            @Value("${app.concert.catalog-cache.concert-ttl-seconds:3600}") long concertTtlSeconds,
+            @Value("${app.concert.catalog-cache.max-size:10000}") long maxSize) {
+        this.concertService = concertService;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.enabled = enabled;
+        this.bucketSeconds = bucketSeconds;
+        this.concertTtl = Duration.ofSeconds(concertTtlSeconds);
+
+        this.objectMapper = new ObjectMapper();
+        this.objectMapper.registerModule(new JavaTimeModule());
+        this.objectMapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        this.objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        // 구간이 바뀌면 키도 바뀌므로, 지난 구간의 목록은 한 구간 뒤 제거된다.
+        this.catalogs = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(bucketSeconds))
+                .maximumSize(2)
+                .recordStats()
+                .build();
+        this.concerts = Caffeine.newBuilder()
+                .expireAfterWrite(concertTtl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, catalogs, CATALOG_CACHE_NAME + LOCAL_TIER);
+        CaffeineCacheMetrics.monitor(meterRegistry, concerts, CONCERT_CACHE_NAME + LOCAL_TIER);
+        this.remoteCatalogHits = remoteCounter(meterRegistry, CATALOG_CACHE_NAME, "hit");
+        this.remoteCatalogMisses = remoteCounter(meterRegistry, CATALOG_CACHE_NAME, "miss");
+        this.remoteConcertHits = remoteCounter(meterRegistry, CONCERT_CACHE_NAME, "hit");
+        this.remoteConcertMisses = remoteCounter(meterRegistry, CONCERT_CACHE_NAME, "miss");
+
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CONCERT_CATALOG_CHANNEL));
+    }
+
+    private static Counter remoteCounter(MeterRegistry meterRegistry, String cacheName, String result) {
+        return Counter.builder("cache.gets")
+                .tag("cache", cacheName + REMOTE_TIER)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 예약 가능 공연 일정 목록. 조회 시점이 속한 구간의 목록을 반환합니다.
+     *
+     * @param presentDateTime
+     * @return
+     */
+    public List<ConcertScheduleWithConcert> getAvailableConcertSchedules(LocalDateTime presentDateTime) {
+        if (!enabled) {
+            return concertService.getAvailableConcertScheduleWithConcert(presentDateTime);
+        }
+        return catalogs.get(toBucket(presentDateTime), this::loadCatalog);
+    }
+
+    /**
+     * 공연 조회. 존재하지 않는 공연은 보관하지 않습니다.
+     *
+     * @param concertId
+     * @return
+     */
+    public Concert getConcert(Long concertId) {
+        if (!enabled) {
+            return concertService.getConcert(concertId);
+        }
+        return concerts.get(concertId, this::loadConcert);
+    }
+
+    // 로컬 캐시 미적중 : Redis 조회 후, 없다면 구간 시작 시점 기준으로 DB 에서 조회하여 구간 종료 시점까지 보관.
+    private List<ConcertScheduleWithConcert> loadCatalog(Long bucket) {
+        String key = getCatalogKey(bucket);
+        List<ConcertScheduleWithConcert> cached = read(stringRedisTemplate.opsForValue().get(key), CATALOG_TYPE);
+        if (cached != null) {
+            remoteCatalogHits.increment();
+            return cached;
+        }
+        remoteCatalogMisses.increment();
+
+        List<ConcertScheduleWithConcert> catalog = concertService.getAvailableConcertScheduleWithConcert(
+                LocalDateTime.ofInstant(Instant.ofEpochSecond(bucket), ZoneId.systemDefault()));
+        long secondsUntilBucketEnd = bucket + bucketSeconds - Instant.now().getEpochSecond();
+        write(key, catalog, Duration.ofSeconds(Math.max(1L, secondsUntilBucketEnd)));
+        return catalog;
+    }
+
+    private Concert loadConcert(Long concertId) {
+        String key = getConcertKey(concertId);
+        Concert cached = read(stringRedisTemplate.opsForValue().get(key), CONCERT_TYPE);
+        if (cached != null) {
+            remoteConcertHits.increment();
+            return cached;
+        }
+        remoteConcertMisses.increment();
+
+        Concert concert = concertService.getConcert(concertId);
+        write(key, concert, concertTtl);
+        return concert;
+    }
+
+    // 공연 일정 변경이 커밋된 이후 현재 및 인접 구간의 목록을 제거하고 모든 노드에 알림. 트랜잭션 밖에서 발행된 경우 즉시 처리.
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleConcertScheduleChangedEvent(ConcertScheduleChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        long bucket = toBucket(LocalDateTime.now());
+        stringRedisTemplate.delete(List.of(
+                getCatalogKey(bucket - bucketSeconds),
+                getCatalogKey(bucket),
+                getCatalogKey(bucket + bucketSeconds)));
+
+        // 현재 노드는 알림 수신을 기다리지 않고 즉시 제거.
+        catalogs.invalidateAll();
+        stringRedisTemplate.convertAndSend(CONCERT_CATALOG_CHANNEL, String.valueOf(event.concertScheduleId()));
+    }
+
+    // 예약 가능 공연 일정 목록 변경 알림 수신 : 보관 중인 목록 제거.
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        catalogs.invalidateAll();
+        log.debug("예약 가능 공연 일정 목록 변경 알림 수신, 로컬 캐시 제거 - concertScheduleId: {}",
+                new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    private long toBucket(LocalDateTime dateTime) {
+        long epochSecond = dateTime.atZone(ZoneId.systemDefault()).toEpochSecond();
+        return epochSecond - Math.floorMod(epochSecond, bucketSeconds);
+    }
+
+    private String getCatalogKey(long bucket) {
+        return CATALOG_KEY_NAME + ":" + bucket;
+    }
+
+    private String getConcertKey(Long concertId) {
+        return CONCERT_KEY_NAME + ":" + concertId;
+    }
+
+    // 역직렬화 실패(저장 형식 변경 등)는 미적중으로 처리하여 DB 조회 결과로 덮어쓴다.
+    private <T> T read(String value, TypeReference<T> type) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(value, type);
+        } catch (JsonProcessingException e) {
+            log.warn("캐시 역직렬화 실패, DB 에서 다시 조회합니다. - type: {}", type.getType(), e);
+            return null;
+        }
+    }
+
+    // 직렬화 실패 시 Redis 보관만 생략한다.
+    private void write(String key, Object value, Duration ttl) {
+        try {
+            stringRedisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(value), ttl);
+        } catch (JsonProcessingException e) {
+            log.warn("캐시 직렬화 실패, Redis 보관을 생략합니다. - key: {}", key, e);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.slam.concertreservation.component.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.slam.concertreservation.domain.concert.event.SeatStatusChangedEvent;
+import com.slam.concertreservation.domain.concert.model.Seat;
+import com.slam.concertreservation.domain.concert.model.SeatMap;
+import com.slam.concertreservation.domain.concert.model.SeatStatus;
+import com.slam.concertreservation.domain.concert.service.ConcertService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 공연 일정별 좌석 배치도({@link SeatMap})를 보관하는 노드 로컬 캐시.
+ * <br>
+ * </br>
+ * 예약 가능 좌석 목록 조회 시 매번 DB 를 조회하고 모든 좌석 엔티티를 도메인 모델로 변환하지 않도록, 공연 일정의 좌석 배치도를 최초 조회 시 한 번
+ * 적재하여 보관합니다.
+ * <br>
+ * </br>
+ * 좌석이 선점/해제되면 커밋 이후 {@link #SEAT_STATUS_CHANNEL} 로 {@code "{공연 일정 ID}:{좌석 번호}:{상태}"} 를 발행하고, 이를 구독한 모든
+ * 노드가 보관 중인 배치도의 해당 좌석만 갱신합니다. 알림 유실 또는 순서 역전에 의한 불일치는 보관 기간(TTL) 경과 후 재적재로 보정됩니다.
+ * <br>
+ * </br>
+ * 적중/실패 횟수는 {@code cache.gets{cache="seat.map"}} 로 기록됩니다.
+ */
+@Slf4j
+@Component
+public class SeatMapNearCache implements MessageListener {
+
+    // 좌석 상태 변경 알림 채널.
+    public static final String SEAT_STATUS_CHANNEL = "seatStatusChangedChannel";
+
+    private static final String CACHE_NAME = "seat.map";
+    private static final String MESSAGE_SEPARATOR = ":";
+
+    private final ConcertService concertService;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final Cache<Long, SeatMap> seatMaps; // key : 공연 일정 ID
+    private final boolean enabled;
+
+    public SeatMapNearCache(
+            ConcertService concertService,
+            StringRedisTemplate stringRedisTemplate,
+            RedisMessageListenerContainer redisMessageListenerContainer,
+            MeterRegistry meterRegistry,
+            @Value("${app.seat.map-cache.enabled:true}") boolean enabled,
+            @Value("${app.seat.map-cache.ttl-millis:30000}") long ttlMillis,
+            @Value("${app.seat.map-cache.max-size:1000}") long maxSize) {
+        this.concertService = concertService;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.enabled = enabled;
+        this.seatMaps = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, seatMaps, CACHE_NAME);
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(SEAT_STATUS_CHANNEL));
+    }
+
+    /**
+     * 공연 일정의 예약 가능 좌석 목록. 배치도가 보관되어 있지 않다면 DB 로부터 적재합니다.
+     *
+     * @param concertScheduleId
+     * @return 예약 가능 좌석 목록. 캐시를 사용하지 않거나 예약 가능 좌석이 없다면 빈 값.
+     */
+    public Optional<List<Seat>> findAvailableSeats(Long concertScheduleId) {
+        return findSeatMap(concertScheduleId)
+                .map(SeatMap::getAvailableSeats)
+                .filter(availableSeats -> !availableSeats.isEmpty());
+    }
+
+    /**
+     * 공연 일정의 좌석 배치도. 배치도가 보관되어 있지 않다면 DB 로부터 적재합니다.
+     * <br>
+     * </br>
+     * 같은 노드의 요청은 같은 배치도 인스턴스를 공유하므로, 좌석 자동 배정 시의 좌석 보류가 노드 내 동시 요청 간에 공유됩니다.
+     *
+     * @param concertScheduleId
+     * @return 캐시를 사용하지 않는다면 빈 값.
+     */
+    public Optional<SeatMap> findSeatMap(Long concertScheduleId) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        return Optional.of(seatMaps.get(concertScheduleId,
+                id -> SeatMap.of(id, concertService.getSeatsOfConcertSchedule(id))));
+    }
+
+    public void invalidate(Long concertScheduleId) {
+        seatMaps.invalidate(concertScheduleId);
+    }
+
+    // 좌석 상태 변경이 커밋된 이후 모든 노드에 알림. 트랜잭션 밖에서 발행된 경우 즉시 알림.
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleSeatStatusChangedEvent(SeatStatusChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        stringRedisTemplate.convertAndSend(SEAT_STATUS_CHANNEL,
+                event.concertScheduleId() + MESSAGE_SEPARATOR + event.number() + MESSAGE_SEPARATOR
+                        + event.status().name());
+    }
+
+    // 좌석 상태 변경 알림 수신 : 보관 중인 배치도만 갱신. 적재 중이라면 적재 완료 후 갱신된다.
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] fields = new String(message.getBody(), StandardCharsets.UTF_8).split(MESSAGE_SEPARATOR);
+        Long concertScheduleId = Long.valueOf(fields[0]);
+        int number = Integer.parseInt(fields[1]);
+        SeatStatus status = SeatStatus.valueOf(fields[2]);
+
+        seatMaps.asMap().computeIfPresent(concertScheduleId, (id, seatMap) -> {
+            seatMap.apply(number, status);
+            return seatMap;
+        });
+        log.debug("좌석 상태 변경 알림 수신 - concertScheduleId: {}, number: {}, status: {}",
+                concertScheduleId, number, status);
+    }
+}
@@ -0,0 +1,111 @@
+package com.slam.concertreservation.component.validator.token;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.slam.concertreservation.domain.queue.model.Token;
+import com.slam.concertreservation.infrastructure.persistence.redis.impl.TokenRepositoryRedisImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 활성 토큰 검증 결과를 보관하는 노드 로컬 캐시.
+ * <br>
+ * </br>
+ * 토큰 검증이 필요한 요청마다 Redis 조회(HGET)와 역직렬화가 발생하지 않도록, 검증을 통과한 활성 토큰의 만료 시점을 짧은 기간 동안 보관합니다.
+ * 보관 기간은 설정된 TTL 과 토큰의 만료 시점 중 이른 시점을 넘지 않습니다.
+ * <br>
+ * </br>
+ * 토큰이 만료 처리되면 저장소가 발행하는 만료 알림({@link TokenRepositoryRedisImpl#TOKEN_EXPIRED_CHANNEL})을 구독하여 즉시 제거하므로,
+ * 만료된 토큰이 캐시에 의해 통과되는 일은 알림 전달 지연 동안으로 한정됩니다.
+ * <br>
+ * </br>
+ * 적중/실패 횟수는 {@code cache.gets{cache="token.validation"}} 로 기록됩니다.
+ */
+@Slf4j
+@Component
+public class ActiveTokenNearCache implements MessageListener {
+
+    private static final String CACHE_NAME = "token.validation";
+
+    private final Cache<String, LocalDateTime> activeTokens; // key : "{공연 일정 ID}:{토큰 ID}", value : 토큰 만료 시점
+    private final boolean enabled;
+
+    public ActiveTokenNearCache(
+            RedisMessageListenerContainer redisMessageListenerContainer,
+            MeterRegistry meterRegistry,
+            @Value("${app.queue.validation-cache.enabled:true}") boolean enabled,
+            @Value("${app.queue.validation-cache.ttl-millis:2000}") long ttlMillis,
+            @Value("${app.queue.validation-cache.max-size:100000}") long maxSize) {
+        this.enabled = enabled;
+        this.activeTokens = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, activeTokens, CACHE_NAME);
+        redisMessageListenerContainer.addMessageListener(this,
+                new ChannelTopic(TokenRepositoryRedisImpl.TOKEN_EXPIRED_CHANNEL));
+    }
+
+    /**
+     * 캐시에 보관된 활성 토큰인지 확인합니다. 보관 중이더라도 토큰 만료 시점이 지났다면 제거 후 false 를 반환합니다.
+     *
+     * @param concertScheduleId
+     * @param tokenId
+     * @return
+     */
+    public boolean isActive(Long concertScheduleId, String tokenId) {
+        if (!enabled || tokenId == null) {
+            return false;
+        }
+        String key = toKey(concertScheduleId, tokenId);
+        LocalDateTime expiredAt = activeTokens.getIfPresent(key);
+        if (expiredAt == null) {
+            return false;
+        }
+        if (!expiredAt.isAfter(LocalDateTime.now())) {
+            activeTokens.invalidate(key);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 검증을 통과한 활성 토큰 보관.
+     *
+     * @param token
+     */
+    public void put(Token token) {
+        if (!enabled || !token.isActive() || token.getExpiredAt() == null) {
+            return;
+        }
+        activeTokens.put(toKey(token.getConcertScheduleId(), token.getId()), token.getExpiredAt());
+    }
+
+    public void invalidate(Long concertScheduleId, String tokenId) {
+        activeTokens.invalidate(toKey(concertScheduleId, tokenId));
+    }
+
+    // 토큰 만료 알림 수신 : 메시지 자체가 캐시 키와 동일한 형태.
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String key = new String(message.getBody(), StandardCharsets.UTF_8);
+        activeTokens.invalidate(key);
+        log.debug("토큰 만료 알림 수신, 로컬 캐시 제거 - key: {}", key);
+    }
+
+    private String toKey(Long concertScheduleId, String tokenId) {
+        return concertScheduleId + ":" + tokenId;
+    }
+}
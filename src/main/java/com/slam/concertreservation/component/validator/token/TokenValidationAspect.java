@@ -1,6 +1,7 @@
 package com.slam.concertreservation.component.validator.token;
 
 import com.slam.concertreservation.common.error.ErrorCode;
+import com.slam.concertreservation.domain.queue.model.Token;
 import com.slam.concertreservation.domain.queue.service.QueueService;
 import com.slam.concertreservation.common.exceptions.UnavailableRequestException;
 import lombok.RequiredArgsConstructor;
@@ -14,6 +15,7 @@ import org.springframework.stereotype.Component;
 public class TokenValidationAspect {
 
     private final QueueService queueService;
+    private final ActiveTokenNearCache activeTokenNearCache;
 
     @Pointcut("@annotation(com.slam.concertreservation.component.validator.token.RequiresTokenValidation)")
     public void tokenValidationPointcut() {
@@ -22,9 +24,15 @@ public class TokenValidationAspect {
     @Before("tokenValidationPointcut() && args(concertScheduleId, tokenId,..)")
     public void validateToken(JoinPoint joinPoint, Long concertScheduleId, String tokenId) {
 
-        boolean isValid = queueService.validateToken(concertScheduleId, tokenId);
-        if (!isValid) {
+        // 최근 검증된 활성 토큰이라면 Redis 조회 없이 통과.
+        if (activeTokenNearCache.isActive(concertScheduleId, tokenId)) {
+            return;
+        }
+
+        Token token = queueService.getValidatedToken(concertScheduleId, tokenId);
+        if (!token.isActive()) {
             throw new UnavailableRequestException(ErrorCode.INVALID_REQUEST, "해당 토큰은 유효하지 않습니다.");
         }
+        activeTokenNearCache.put(token);
     }
 }
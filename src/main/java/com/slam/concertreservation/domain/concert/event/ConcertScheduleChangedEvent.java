@@ -0,0 +1,21 @@
+package com.slam.concertreservation.domain.concert.event;
+
+import com.slam.concertreservation.domain.concert.model.ConcertSchedule;
+import com.slam.concertreservation.domain.concert.model.ConcertScheduleAvailability;
+
+/**
+ * 공연 일정 변경 이벤트. 공연 일정 등록 및 예약 가능 여부(AVAILABLE/SOLDOUT) 변경 시 발행됩니다.
+ *
+ * @param concertScheduleId
+ * @param availability 변경 이후 예약 가능 여부
+ */
+public record ConcertScheduleChangedEvent(
+        Long concertScheduleId,
+        ConcertScheduleAvailability availability) {
+
+    public static ConcertScheduleChangedEvent fromDomain(ConcertSchedule concertSchedule) {
+        return new ConcertScheduleChangedEvent(
+                concertSchedule.getId(),
+                concertSchedule.getAvailability());
+    }
+}
@@ -0,0 +1,12 @@
+package com.slam.concertreservation.domain.concert.event;
+
+/**
+ * 공연 일정 등록 이벤트. 공연 일정과 좌석이 저장된 이후 발행됩니다.
+ *
+ * @param concertScheduleId
+ * @param seatCount 등록된 좌석 수
+ */
+public record ConcertScheduleRegisteredEvent(
+        Long concertScheduleId,
+        int seatCount) {
+}
@@ -0,0 +1,27 @@
+package com.slam.concertreservation.domain.concert.event;
+
+import com.slam.concertreservation.domain.concert.model.Seat;
+import com.slam.concertreservation.domain.concert.model.SeatStatus;
+
+/**
+ * 좌석 상태 변경 이벤트. 좌석 선점/해제 시 발행됩니다.
+ *
+ * @param concertScheduleId
+ * @param seatId
+ * @param number
+ * @param status 변경 이후 상태
+ */
+public record SeatStatusChangedEvent(
+        Long concertScheduleId,
+        Long seatId,
+        int number,
+        SeatStatus status) {
+
+    public static SeatStatusChangedEvent fromDomain(Seat seat) {
+        return new SeatStatusChangedEvent(
+                seat.getConcertScheduleId(),
+                seat.getId(),
+                seat.getNumber(),
+                seat.getStatus());
+    }
+}
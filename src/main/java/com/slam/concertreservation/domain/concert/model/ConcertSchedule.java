@@ -22,8 +22,8 @@ public class ConcertSchedule {
      * 공연 일정에 대한 도메인 규칙.
      * 이를 public으로 함으로써 코드 작성 시 도메인 규칙을 확인하기 용이하게 한다.
      * 이러한 변경은 현재 코드가 Testable 하도록 만들어준다.
+     * 공연 일정별 좌석 수는 등록 시 지정되며, 상한은 Seat.MAX_SEAT_NUMBER 를 따른다.
      */
-    public static final int MAX_AVAILABLE_SEATS = 50;
     public static final int MIN_AVAILABLE_SEATS = 0;
 
     private ConcertSchedule() {
@@ -11,12 +11,14 @@ import lombok.Getter;
 public class Seat {
     private Long id;
     private Long concertScheduleId;
-    private int number; // 50번까지만 존재하도록 제약 필요.
+    private int number; // MAX_SEAT_NUMBER 번까지만 존재하도록 제약.
     private int price;
     private SeatStatus status;
 
-    public static final int MAX_SEAT_NUMBER = 50;
+    public static final int MAX_SEAT_NUMBER = 100_000;
     public static final int MIN_SEAT_NUMBER = 1;
+    public static final int DEFAULT_SEAT_COUNT = 50; // 좌석 수를 지정하지 않은 공연 일정의 좌석 수
+    public static final int MAX_SEATS_PER_ASSIGNMENT = 8; // 한 번에 배정할 수 있는 최대 좌석 수
 
     private Seat() {
     }
@@ -75,7 +77,10 @@ public class Seat {
      * @return
      */
     public static List<Seat> createSeatsForNewConcertSchedule(Long concertScheduleId, int price, int numOfSeats) {
-        List<Seat> seats = new ArrayList<>();
+        if (numOfSeats < MIN_SEAT_NUMBER || numOfSeats > MAX_SEAT_NUMBER) {
+            throw new BusinessRuleViolationException(ErrorCode.INVALID_SEAT_NUMBER, "공연 일정에 배정할 수 없는 좌석 수입니다.");
+        }
+        List<Seat> seats = new ArrayList<>(numOfSeats);
         for (int i = MIN_SEAT_NUMBER; i < numOfSeats + 1; i++) {
             seats.add(create(concertScheduleId, i, price, SeatStatus.AVAILABLE));
         }
@@ -0,0 +1,322 @@
+package com.slam.concertreservation.domain.concert.model;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.OptionalInt;
+
+/**
+ * 공연 일정의 좌석별 예약 가능 여부를 나타내는 비트 배열.
+ * <br>
+ * </br>
+ * 좌석 번호 {@code n} 의 예약 가능 여부를 {@code n - MIN_SEAT_NUMBER} 번째 비트로 표현합니다. 좌석 5만 개도 782 개의 long 으로
+ * 표현되며, 남은 좌석 수, 첫 번째 예약 가능 좌석, 구간 내 예약 가능 좌석 조회는 좌석 단위가 아닌 워드(64 좌석) 단위로 처리됩니다.
+ * <br>
+ * </br>
+ * Redis Bitmap 과 동일한 비트 순서(바이트 내 최상위 비트부터)의 바이트 배열로 변환할 수 있으므로, {@code SETBIT} / {@code BITCOUNT} 로
+ * 갱신 및 집계한 결과를 그대로 복원할 수 있습니다.
+ * <br>
+ * </br>
+ * 스레드 안전하지 않습니다. 공유가 필요한 경우 외부에서 동기화해야 합니다.
+ */
+public class SeatAvailability {
+
+    private static final int ADDRESS_BITS_PER_WORD = 6;
+    private static final int BITS_PER_WORD = 1 << ADDRESS_BITS_PER_WORD;
+    private static final long WORD_MASK = -1L;
+
+    private final long[] words;
+    private final int seatCount;
+
+    private SeatAvailability(int seatCount) {
+        if (seatCount < 0 || seatCount > Seat.MAX_SEAT_NUMBER) {
+            throw new IllegalArgumentException("좌석 수는 0 이상 " + Seat.MAX_SEAT_NUMBER + " 이하여야 합니다.");
+        }
+        this.seatCount = seatCount;
+        this.words = new long[wordIndex(seatCount - 1) + 1];
+    }
+
+    /**
+     * 모든 좌석이 예약 불가한 상태로 생성.
+     *
+     * @param seatCount
+     * @return
+     */
+    public static SeatAvailability allUnavailable(int seatCount) {
+        return new SeatAvailability(seatCount);
+    }
+
+    /**
+     * 모든 좌석이 예약 가능한 상태로 생성.
+     *
+     * @param seatCount
+     * @return
+     */
+    public static SeatAvailability allAvailable(int seatCount) {
+        SeatAvailability availability = new SeatAvailability(seatCount);
+        Arrays.fill(availability.words, WORD_MASK);
+        availability.clearPadding();
+        return availability;
+    }
+
+    /**
+     * 좌석 목록으로부터 생성. 좌석 수는 가장 큰 좌석 번호를 기준으로 합니다.
+     *
+     * @param seats
+     * @return
+     */
+    public static SeatAvailability of(List<Seat> seats) {
+        int maxNumber = seats.stream().mapToInt(Seat::getNumber).max().orElse(Seat.MIN_SEAT_NUMBER - 1);
+
+        SeatAvailability availability = new SeatAvailability(maxNumber - Seat.MIN_SEAT_NUMBER + 1);
+        for (Seat seat : seats) {
+            availability.set(seat.getNumber(), seat.isAvailable());
+        }
+        return availability;
+    }
+
+    /**
+     * Redis Bitmap 형식의 바이트 배열로부터 생성. 좌석 수를 넘는 비트는 무시합니다.
+     *
+     * @param bitmap
+     * @param seatCount
+     * @return
+     */
+    public static SeatAvailability fromBitmap(byte[] bitmap, int seatCount) {
+        SeatAvailability availability = new SeatAvailability(seatCount);
+        int bytes = Math.min(bitmap.length, (seatCount + Byte.SIZE - 1) / Byte.SIZE);
+        for (int i = 0; i < bytes; i++) {
+            int value = bitmap[i] & 0xFF;
+            while (value != 0) {
+                int bit = Integer.numberOfLeadingZeros(value) - (Integer.SIZE - Byte.SIZE);
+                availability.words[wordIndex(i * Byte.SIZE + bit)] |= 1L << (i * Byte.SIZE + bit);
+                value &= ~(0x80 >>> bit);
+            }
+        }
+        availability.clearPadding();
+        return availability;
+    }
+
+    /**
+     * Redis Bitmap 형식의 바이트 배열로 변환. 좌석 번호 {@code n} 은 {@code SETBIT key (n - MIN_SEAT_NUMBER)} 와 같은 위치입니다.
+     *
+     * @return
+     */
+    public byte[] toBitmap() {
+        byte[] bitmap = new byte[(seatCount + Byte.SIZE - 1) / Byte.SIZE];
+        for (int w = 0; w < words.length; w++) {
+            long word = words[w];
+            while (word != 0) {
+                int index = w * BITS_PER_WORD + Long.numberOfTrailingZeros(word);
+                bitmap[index / Byte.SIZE] |= (byte) (0x80 >>> (index % Byte.SIZE));
+                word &= word - 1;
+            }
+        }
+        return bitmap;
+    }
+
+    /**
+     * 좌석 하나의 예약 가능 여부 변경.
+     *
+     * @param number
+     * @param available
+     */
+    public void set(int number, boolean available) {
+        int index = toIndex(number);
+        if (available) {
+            words[wordIndex(index)] |= 1L << index;
+        } else {
+            words[wordIndex(index)] &= ~(1L << index);
+        }
+    }
+
+    public boolean isAvailable(int number) {
+        if (!contains(number)) {
+            return false;
+        }
+        int index = number - Seat.MIN_SEAT_NUMBER;
+        return (words[wordIndex(index)] & (1L << index)) != 0;
+    }
+
+    public boolean contains(int number) {
+        return number >= Seat.MIN_SEAT_NUMBER && number - Seat.MIN_SEAT_NUMBER < seatCount;
+    }
+
+    /**
+     * 남은 좌석 수.
+     *
+     * @return
+     */
+    public int countAvailable() {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * 좌석 번호 구간 [fromNumber, toNumber] 내 남은 좌석 수.
+     *
+     * @param fromNumber
+     * @param toNumber
+     * @return
+     */
+    public int countAvailable(int fromNumber, int toNumber) {
+        int from = Math.max(fromNumber - Seat.MIN_SEAT_NUMBER, 0);
+        int to = Math.min(toNumber - Seat.MIN_SEAT_NUMBER, seatCount - 1);
+        if (from > to) {
+            return 0;
+        }
+
+        int fromWord = wordIndex(from);
+        int toWord = wordIndex(to);
+        long firstMask = WORD_MASK << from;
+        long lastMask = WORD_MASK >>> -(to + 1);
+
+        if (fromWord == toWord) {
+            return Long.bitCount(words[fromWord] & firstMask & lastMask);
+        }
+        int count = Long.bitCount(words[fromWord] & firstMask);
+        for (int w = fromWord + 1; w < toWord; w++) {
+            count += Long.bitCount(words[w]);
+        }
+        return count + Long.bitCount(words[toWord] & lastMask);
+    }
+
+    /**
+     * 첫 번째 예약 가능 좌석 번호.
+     *
+     * @return
+     */
+    public OptionalInt findFirstAvailable() {
+        return findFirstAvailable(Seat.MIN_SEAT_NUMBER);
+    }
+
+    /**
+     * fromNumber 이상인 첫 번째 예약 가능 좌석 번호.
+     *
+     * @param fromNumber
+     * @return
+     */
+    public OptionalInt findFirstAvailable(int fromNumber) {
+        int index = nextAvailableIndex(Math.max(fromNumber - Seat.MIN_SEAT_NUMBER, 0));
+        return index < 0 ? OptionalInt.empty() : OptionalInt.of(index + Seat.MIN_SEAT_NUMBER);
+    }
+
+    /**
+     * 연속한 length 개의 좌석이 모두 예약 가능한 첫 번째 구간의 시작 좌석 번호.
+     * <br>
+     * </br>
+     * 예약 가능 구간의 시작과 끝을 워드 단위로 건너뛰며 찾으므로, 좌석 단위로 검사하지 않습니다.
+     *
+     * @param length
+     * @return
+     */
+    public OptionalInt findFirstAvailableRun(int length) {
+        if (length <= 0) {
+            return OptionalInt.empty();
+        }
+        int start = nextAvailableIndex(0);
+        while (start >= 0 && seatCount - start >= length) {
+            int end = nextUnavailableIndex(start);
+            if (end - start >= length) {
+                return OptionalInt.of(start + Seat.MIN_SEAT_NUMBER);
+            }
+            start = nextAvailableIndex(end);
+        }
+        return OptionalInt.empty();
+    }
+
+    /**
+     * 좌석 번호 구간 [fromNumber, toNumber] 내 예약 가능 좌석 번호 목록. 오름차순.
+     *
+     * @param fromNumber
+     * @param toNumber
+     * @return
+     */
+    public int[] findAvailable(int fromNumber, int toNumber) {
+        int[] numbers = new int[countAvailable(fromNumber, toNumber)];
+        int to = toNumber - Seat.MIN_SEAT_NUMBER;
+        int index = nextAvailableIndex(Math.max(fromNumber - Seat.MIN_SEAT_NUMBER, 0));
+        for (int i = 0; i < numbers.length && index >= 0 && index <= to; i++) {
+            numbers[i] = index + Seat.MIN_SEAT_NUMBER;
+            index = nextAvailableIndex(index + 1);
+        }
+        return numbers;
+    }
+
+    /**
+     * other 에서 예약 가능한 좌석을 모두 예약 불가로 변경.
+     *
+     * @param other
+     */
+    public void removeAll(SeatAvailability other) {
+        for (int w = 0; w < Math.min(words.length, other.words.length); w++) {
+            words[w] &= ~other.words[w];
+        }
+    }
+
+    public int getSeatCount() {
+        return seatCount;
+    }
+
+    public SeatAvailability copy() {
+        SeatAvailability copied = new SeatAvailability(seatCount);
+        System.arraycopy(words, 0, copied.words, 0, words.length);
+        return copied;
+    }
+
+    // fromIndex 이상인 첫 번째 예약 가능 비트의 인덱스. 없다면 -1.
+    private int nextAvailableIndex(int fromIndex) {
+        if (fromIndex >= seatCount) {
+            return -1;
+        }
+        int w = wordIndex(fromIndex);
+        long word = words[w] & (WORD_MASK << fromIndex);
+        while (true) {
+            if (word != 0) {
+                return w * BITS_PER_WORD + Long.numberOfTrailingZeros(word);
+            }
+            if (++w == words.length) {
+                return -1;
+            }
+            word = words[w];
+        }
+    }
+
+    // fromIndex 이상인 첫 번째 예약 불가 비트의 인덱스. 없다면 seatCount.
+    private int nextUnavailableIndex(int fromIndex) {
+        if (fromIndex >= seatCount) {
+            return seatCount;
+        }
+        int w = wordIndex(fromIndex);
+        long word = ~words[w] & (WORD_MASK << fromIndex);
+        while (true) {
+            if (word != 0) {
+                return Math.min(w * BITS_PER_WORD + Long.numberOfTrailingZeros(word), seatCount);
+            }
+            if (++w == words.length) {
+                return seatCount;
+            }
+            word = ~words[w];
+        }
+    }
+
+    private int toIndex(int number) {
+        if (!contains(number)) {
+            throw new IllegalArgumentException("좌석 배치에 존재하지 않는 좌석 번호입니다. number: " + number);
+        }
+        return number - Seat.MIN_SEAT_NUMBER;
+    }
+
+    // 좌석 수를 넘는 마지막 워드의 비트는 항상 0 으로 유지하여 집계에 포함되지 않도록 한다.
+    private void clearPadding() {
+        if (words.length > 0 && seatCount % BITS_PER_WORD != 0) {
+            words[words.length - 1] &= WORD_MASK >>> -seatCount;
+        }
+    }
+
+    private static int wordIndex(int index) {
+        return index >> ADDRESS_BITS_PER_WORD;
+    }
+}
@@ -0,0 +1,175 @@
+package com.slam.concertreservation.domain.concert.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+/**
+ * 공연 일정별 좌석 배치도.
+ * <br>
+ * </br>
+ * 좌석 번호를 인덱스로 하는 좌석 ID, 가격 배열과 예약 가능 여부 비트 배열({@link SeatAvailability})로 구성됩니다. 좌석 하나의 상태 변경은
+ * 비트 하나의 변경이므로, 좌석 선점/해제 시 배치도 전체를 다시 조회하지 않고 해당 좌석만 갱신할 수 있습니다.
+ * <br>
+ * </br>
+ * 좌석 자동 배정 시에는 선택한 좌석을 선점 완료 전까지 보류({@link #holdBestAvailableSeats(int)})하여, 같은 배치도를 사용하는 동시 요청이
+ * 같은 좌석을 고르지 않도록 합니다.
+ */
+public class SeatMap {
+
+    private final Long concertScheduleId;
+    private final long[] seatIds; // index : 좌석 번호 - MIN_SEAT_NUMBER
+    private final int[] prices;
+    private final SeatAvailability availability;
+    private final SeatAvailability holds; // 비트 : 자동 배정 진행 중(보류) 여부
+
+    private SeatMap(Long concertScheduleId, SeatAvailability availability) {
+        this.concertScheduleId = concertScheduleId;
+        this.seatIds = new long[availability.getSeatCount()];
+        this.prices = new int[availability.getSeatCount()];
+        this.availability = availability;
+        this.holds = SeatAvailability.allUnavailable(availability.getSeatCount());
+    }
+
+    /**
+     * 공연 일정의 전체 좌석으로부터 배치도 생성.
+     *
+     * @param concertScheduleId
+     * @param seats
+     * @return
+     */
+    public static SeatMap of(Long concertScheduleId, List<Seat> seats) {
+        SeatMap seatMap = new SeatMap(concertScheduleId, SeatAvailability.of(seats));
+        for (Seat seat : seats) {
+            int index = seat.getNumber() - Seat.MIN_SEAT_NUMBER;
+            seatMap.seatIds[index] = seat.getId();
+            seatMap.prices[index] = seat.getPrice();
+        }
+        return seatMap;
+    }
+
+    /**
+     * 좌석 하나의 상태 반영. 배치도에 없는 좌석 번호라면 반영하지 않습니다.
+     *
+     * @param number
+     * @param status
+     * @return 반영 여부
+     */
+    public synchronized boolean apply(int number, SeatStatus status) {
+        if (!availability.contains(number) || seatIds[number - Seat.MIN_SEAT_NUMBER] == 0L) {
+            return false;
+        }
+        availability.set(number, status == SeatStatus.AVAILABLE);
+        return true;
+    }
+
+    /**
+     * 예약 가능 좌석 목록. 좌석 번호 오름차순.
+     *
+     * @return
+     */
+    public synchronized List<Seat> getAvailableSeats() {
+        return getAvailableSeats(Seat.MIN_SEAT_NUMBER, Seat.MIN_SEAT_NUMBER + availability.getSeatCount() - 1);
+    }
+
+    /**
+     * 좌석 번호 구간 [fromNumber, toNumber] 내 예약 가능 좌석 목록. 좌석 번호 오름차순.
+     *
+     * @param fromNumber
+     * @param toNumber
+     * @return
+     */
+    public synchronized List<Seat> getAvailableSeats(int fromNumber, int toNumber) {
+        int[] numbers = availability.findAvailable(fromNumber, toNumber);
+        List<Seat> seats = new ArrayList<>(numbers.length);
+        for (int number : numbers) {
+            seats.add(toSeat(number));
+        }
+        return seats;
+    }
+
+    /**
+     * 좌석 번호가 가장 작은 예약 가능 좌석.
+     *
+     * @return
+     */
+    public synchronized Optional<Seat> findFirstAvailableSeat() {
+        OptionalInt number = availability.findFirstAvailable();
+        return number.isPresent() ? Optional.of(toSeat(number.getAsInt())) : Optional.empty();
+    }
+
+    /**
+     * 보류되지 않은 예약 가능 좌석 중 count 개를 골라 보류합니다.
+     * <br>
+     * </br>
+     * 번호가 연속한 count 개의 좌석 중 번호가 가장 작은 구간을 우선하며, 연속한 구간이 없다면 번호가 작은 순서로 고릅니다. 보류한 좌석은 선점
+     * 시도 이후 {@link #releaseHolds(List)} 로 해제해야 합니다.
+     *
+     * @param count
+     * @return 보류한 좌석 목록. 좌석 번호 오름차순. 예약 가능 좌석이 count 개 미만이라면 빈 목록.
+     */
+    public synchronized List<Seat> holdBestAvailableSeats(int count) {
+        SeatAvailability candidates = availability.copy();
+        candidates.removeAll(holds);
+        if (count <= 0 || candidates.countAvailable() < count) {
+            return List.of();
+        }
+
+        int[] numbers = new int[count];
+        OptionalInt run = candidates.findFirstAvailableRun(count);
+        if (run.isPresent()) {
+            for (int i = 0; i < count; i++) {
+                numbers[i] = run.getAsInt() + i;
+            }
+        } else {
+            int number = Seat.MIN_SEAT_NUMBER - 1;
+            for (int i = 0; i < count; i++) {
+                number = candidates.findFirstAvailable(number + 1).getAsInt();
+                numbers[i] = number;
+            }
+        }
+
+        List<Seat> seats = new ArrayList<>(count);
+        for (int number : numbers) {
+            holds.set(number, true);
+            seats.add(toSeat(number));
+        }
+        return seats;
+    }
+
+    /**
+     * 좌석 보류 해제. 좌석의 예약 가능 여부는 변경하지 않습니다.
+     *
+     * @param seats
+     */
+    public synchronized void releaseHolds(List<Seat> seats) {
+        for (Seat seat : seats) {
+            if (holds.contains(seat.getNumber())) {
+                holds.set(seat.getNumber(), false);
+            }
+        }
+    }
+
+    public synchronized int getRemainingSeatsCount() {
+        return availability.countAvailable();
+    }
+
+    public int getTotalSeatsCount() {
+        return availability.getSeatCount();
+    }
+
+    // 예약 가능 여부 사본. 배치도의 이후 변경에 영향받지 않는다.
+    public synchronized SeatAvailability getAvailability() {
+        return availability.copy();
+    }
+
+    public Long getConcertScheduleId() {
+        return concertScheduleId;
+    }
+
+    private Seat toSeat(int number) {
+        int index = number - Seat.MIN_SEAT_NUMBER;
+        return Seat.create(seatIds[index], concertScheduleId, number, prices[index], SeatStatus.AVAILABLE);
+    }
+}
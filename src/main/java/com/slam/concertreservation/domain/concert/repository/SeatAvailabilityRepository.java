@@ -0,0 +1,19 @@
+package com.slam.concertreservation.domain.concert.repository;
+
+import com.slam.concertreservation.domain.concert.model.SeatAvailability;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+public interface SeatAvailabilityRepository {
+    // 공연 일정의 좌석 예약 가능 여부가 저장되지 않은 경우에만 저장. 저장 여부 반환.
+    boolean saveIfAbsent(Long concertScheduleId, SeatAvailability seatAvailability);
+
+    // 공연 일정의 좌석 예약 가능 여부 조회.
+    Optional<SeatAvailability> findByConcertScheduleId(Long concertScheduleId);
+
+    // 공연 일정의 남은 좌석 수 조회. 저장되지 않았다면 빈 값 반환.
+    OptionalInt countAvailable(Long concertScheduleId);
+
+    // 좌석 하나의 예약 가능 여부 변경 후 남은 좌석 수 반환. 저장되지 않은 공연 일정이라면 변경하지 않고 빈 값 반환.
+    OptionalInt updateAvailability(Long concertScheduleId, int seatNumber, boolean available);
+}
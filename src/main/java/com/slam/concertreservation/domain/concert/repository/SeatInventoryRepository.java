@@ -0,0 +1,27 @@
+package com.slam.concertreservation.domain.concert.repository;
+
+import com.slam.concertreservation.domain.concert.model.Seat;
+import com.slam.concertreservation.domain.concert.model.SeatStatus;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+public interface SeatInventoryRepository {
+    // 공연 일정의 좌석 재고가 적재되지 않은 경우에만 적재. 적재 여부 반환.
+    boolean loadIfAbsent(Long concertScheduleId, List<Seat> seats);
+
+    // 좌석 상태를 원자적으로 전이하고 DB 반영 대기열에 적재. 재고가 적재되지 않았다면 빈 값 반환.
+    Optional<Seat> transition(Long concertScheduleId, Long seatId, SeatStatus from, SeatStatus to);
+
+    // 공연 일정의 선점 좌석 수 조회. 재고가 적재되지 않았다면 빈 값 반환.
+    OptionalInt countOccupied(Long concertScheduleId);
+
+    // 공연 일정의 좌석 재고 전체 조회.
+    List<Seat> findAll(Long concertScheduleId);
+
+    // DB 반영 대기 중인 좌석을 최대 limit 개 꺼내어 현재 상태로 조회.
+    List<Seat> pollPendingChanges(int limit);
+
+    // DB 반영에 실패한 좌석을 다시 대기열에 적재.
+    void requeuePendingChanges(List<Seat> seats);
+}
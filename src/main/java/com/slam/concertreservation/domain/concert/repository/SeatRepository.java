@@ -1,6 +1,7 @@
 package com.slam.concertreservation.domain.concert.repository;
 
 import com.slam.concertreservation.domain.concert.model.Seat;
+import com.slam.concertreservation.domain.concert.model.SeatStatus;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,6 +15,12 @@ public interface SeatRepository {
     // 좌석 조회
     Optional<Seat> findById(Long seatId);
 
+    // 좌석 ID 목록으로 좌석 조회
+    List<Seat> findAllById(List<Long> seatIds);
+
+    // 좌석 ID 목록 중 선점 중인 좌석을 조회하며, 조회한 좌석에 쓰기 락을 건다.
+    List<Seat> findAllOccupiedByIdsForUpdate(List<Long> seatIds);
+
     // 특정 공연 일정의 전체 좌석 목록 조회
     List<Seat> findAllByConcertScheduleId(Long concertScheduleId);
 
@@ -22,4 +29,16 @@ public interface SeatRepository {
 
     // 특정 공연 일정의 선점 좌석 수 집계
     int findOccupiedSeatsCount(Long concertScheduleId);
+
+    // 신규 좌석 대량 저장. 저장 요청한 좌석 수 반환.
+    int insertAll(List<Seat> seats);
+
+    // 좌석 상태 일괄 변경
+    int updateStatusAll(List<Long> seatIds, SeatStatus status);
+
+    // 좌석의 현재 상태가 기대 상태와 같을 때만 상태 변경. 변경 여부 반환.
+    boolean updateStatusIfMatches(Long seatId, SeatStatus expected, SeatStatus status);
+
+    // 좌석 목록 중 현재 상태가 기대 상태와 같은 좌석만 상태 일괄 변경. 변경된 좌석 수 반환.
+    int updateStatusAllIfMatches(List<Long> seatIds, SeatStatus expected, SeatStatus status);
 }
@@ -1,22 +1,31 @@
 package com.slam.concertreservation.domain.concert.service;
 
 import com.slam.concertreservation.common.error.ErrorCode;
+import com.slam.concertreservation.domain.concert.event.ConcertScheduleChangedEvent;
+import com.slam.concertreservation.domain.concert.event.ConcertScheduleRegisteredEvent;
+import com.slam.concertreservation.domain.concert.event.SeatStatusChangedEvent;
 import com.slam.concertreservation.domain.concert.model.Concert;
 import com.slam.concertreservation.domain.concert.model.ConcertSchedule;
+import com.slam.concertreservation.domain.concert.model.ConcertScheduleAvailability;
 import com.slam.concertreservation.domain.concert.model.ConcertScheduleWithConcert;
 import com.slam.concertreservation.domain.concert.model.Seat;
+import com.slam.concertreservation.domain.concert.model.SeatAvailability;
+import com.slam.concertreservation.domain.concert.model.SeatStatus;
 import com.slam.concertreservation.domain.concert.repository.ConcertRepository;
 import com.slam.concertreservation.domain.concert.repository.ConcertScheduleRepository;
+import com.slam.concertreservation.domain.concert.repository.SeatAvailabilityRepository;
 import com.slam.concertreservation.domain.concert.repository.SeatRepository;
+import com.slam.concertreservation.common.exceptions.BusinessRuleViolationException;
 import com.slam.concertreservation.common.exceptions.UnavailableRequestException;
-import com.slam.concertreservation.infrastructure.persistence.redis.locking.RedissonDistributedLock;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.OptionalInt;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
@@ -27,6 +36,8 @@ public class ConcertService {
     private final ConcertRepository concertRepository;
     private final ConcertScheduleRepository concertScheduleRepository;
     private final SeatRepository seatRepository;
+    private final SeatAvailabilityRepository seatAvailabilityRepository;
+    private final SeatAssigner seatAssigner;
     private final ApplicationEventPublisher applicationEventPublisher;
 
     /**
@@ -53,7 +64,7 @@ public class ConcertService {
     }
 
     /**
-     * ConcertSchedule 등록 + Seat.MAX_SEAT_NUMBER 개 초기화
+     * ConcertSchedule 등록 + Seat.DEFAULT_SEAT_COUNT 개 초기화
      * 
      * @param concertSchedule
      * @param price
@@ -61,18 +72,7 @@ public class ConcertService {
      */
     @Transactional
     public ConcertSchedule registerConcertSchedule(ConcertSchedule concertSchedule, int price) {
-        // 저장된 ConcertSchedule 도메인 모델 인스턴스
-        ConcertSchedule registeredConcertSchedule = concertScheduleRepository.save(concertSchedule);
-
-        // 새롭게 등록된 공연 일정에 배정된 Seat.MAX_SEAT_NUMBER 개의 좌석 생성.
-        List<Seat> initialSeats = Seat.createSeatsForNewConcertSchedule(
-                registeredConcertSchedule.getId(), price,
-                Seat.MAX_SEAT_NUMBER);
-
-        // Seat.MAX_SEAT_NUMBER 개 한 번에 저장.
-        seatRepository.saveAll(initialSeats);
-
-        return registeredConcertSchedule;
+        return registerConcertSchedule(concertSchedule, price, Seat.DEFAULT_SEAT_COUNT);
     }
 
     /**
@@ -106,12 +106,32 @@ public class ConcertService {
                 registeredConcertSchedule.getId(), price,
                 numOfSeats);
 
-        // 생성된 좌석 한 번에 저장.
-        seatRepository.saveAll(initialSeats);
+        // 생성된 좌석 배치 INSERT 로 한 번에 저장.
+        seatRepository.insertAll(initialSeats);
+
+        // 좌석 예약 가능 여부는 커밋 이후 초기화. 이후 좌석 선점/해제 시 해당 좌석만 갱신된다.
+        applicationEventPublisher.publishEvent(
+                new ConcertScheduleRegisteredEvent(registeredConcertSchedule.getId(), numOfSeats));
+
+        // 예약 가능 공연 일정 목록 캐시 무효화.
+        applicationEventPublisher.publishEvent(ConcertScheduleChangedEvent.fromDomain(registeredConcertSchedule));
 
         return registeredConcertSchedule;
     }
 
+    /**
+     * 새로 등록된 ConcertSchedule 의 좌석 예약 가능 여부를 모든 좌석이 예약 가능한 상태로 초기화합니다.
+     * <br>
+     * </br>
+     * 공연 일정 등록 커밋 이후에 호출됩니다. 그 사이 조회 요청이 DB 로부터 먼저 적재했다면 해당 값이 유지됩니다.
+     *
+     * @param concertScheduleId
+     * @param seatCount
+     */
+    public void initializeSeatAvailability(Long concertScheduleId, int seatCount) {
+        seatAvailabilityRepository.saveIfAbsent(concertScheduleId, SeatAvailability.allAvailable(seatCount));
+    }
+
     /**
      * 특정 ConcertSchedule의 선점된 좌석 수 조회
      * 
@@ -119,39 +139,134 @@ public class ConcertService {
      * @return
      */
     public int getOccupiedSeatsCount(Long concertScheduleId) {
-        return seatRepository.findOccupiedSeatsCount(concertScheduleId);
+        return seatAssigner.countOccupiedSeats(concertScheduleId);
     }
 
     /**
      * 특정 ConcertSchedule의 남은 좌석 수 조회
+     * <br>
+     * </br>
+     * 좌석 선점/해제 시 함께 증감되는 남은 좌석 수 카운터로 조회하며, 저장되어 있지 않다면 DB 로부터 적재합니다.
      * 
      * @param concertScheduleId
      * @return
      */
     public int getRemainingSeatsCount(Long concertScheduleId) {
-        return ConcertSchedule.MAX_AVAILABLE_SEATS - getOccupiedSeatsCount(concertScheduleId);
+        return seatAvailabilityRepository.countAvailable(concertScheduleId)
+                .orElseGet(() -> loadSeatAvailability(concertScheduleId).countAvailable());
+    }
+
+    /**
+     * 특정 ConcertSchedule의 좌석 예약 가능 여부 조회
+     * <br>
+     * </br>
+     * 첫 번째 예약 가능 좌석, 좌석 번호 구간 내 예약 가능 좌석 등을 좌석 목록 조회 없이 확인할 수 있습니다.
+     * 
+     * @param concertScheduleId
+     * @return
+     */
+    public SeatAvailability getSeatAvailability(Long concertScheduleId) {
+        return seatAvailabilityRepository.findByConcertScheduleId(concertScheduleId)
+                .orElseGet(() -> loadSeatAvailability(concertScheduleId));
+    }
+
+    /**
+     * 특정 ConcertSchedule의 매진 여부 조회
+     * <br>
+     * </br>
+     * 남은 좌석 수 카운터 하나만 확인하므로 DB 를 조회하지 않습니다. 카운터가 적재되지 않은 경우 매진이 아닌 것으로 보고, 실제 선점 단계에서
+     * 판단하도록 합니다.
+     *
+     * @param concertScheduleId
+     * @return
+     */
+    public boolean isSoldOut(Long concertScheduleId) {
+        OptionalInt remainingSeatsCount = seatAvailabilityRepository.countAvailable(concertScheduleId);
+        return remainingSeatsCount.isPresent() && remainingSeatsCount.getAsInt() == ConcertSchedule.MIN_AVAILABLE_SEATS;
+    }
+
+    /**
+     * 매진된 ConcertSchedule 에 대한 요청을 DB 접근 전에 거절합니다.
+     *
+     * @param concertScheduleId
+     */
+    public void ensureNotSoldOut(Long concertScheduleId) {
+        if (isSoldOut(concertScheduleId)) {
+            throw new BusinessRuleViolationException(ErrorCode.CONCERT_SCHEDULE_SOLD_OUT, "매진된 공연 일정입니다.");
+        }
+    }
+
+    /**
+     * 좌석 상태 변경을 좌석 예약 가능 여부에 반영
+     * 
+     * @param concertScheduleId
+     * @param seatNumber
+     * @param status
+     * @return 변경 후 남은 좌석 수. 좌석 예약 가능 여부가 적재되지 않았다면 빈 값.
+     */
+    public OptionalInt applySeatStatusChange(Long concertScheduleId, int seatNumber, SeatStatus status) {
+        return seatAvailabilityRepository.updateAvailability(concertScheduleId, seatNumber,
+                status == SeatStatus.AVAILABLE);
+    }
+
+    /**
+     * 남은 좌석 수에 맞추어 ConcertSchedule 의 예약 가능 여부(AVAILABLE/SOLDOUT)를 변경합니다. 이미 맞는 상태라면 저장하지 않습니다.
+     * <br>
+     * </br>
+     * 좌석 상태 변경 커밋 이후(AFTER_COMMIT)에 호출되므로, 이미 커밋된 트랜잭션에 참여하지 않도록 새 트랜잭션에서 수행합니다.
+     *
+     * @param concertScheduleId
+     * @param remainingSeatsCount
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void syncConcertScheduleAvailability(Long concertScheduleId, int remainingSeatsCount) {
+        ConcertSchedule concertSchedule = getConcertSchedule(concertScheduleId);
+        boolean soldOut = remainingSeatsCount == ConcertSchedule.MIN_AVAILABLE_SEATS;
+
+        if (soldOut && concertSchedule.getAvailability() != ConcertScheduleAvailability.SOLDOUT) {
+            concertSchedule.makeSoldOut();
+            concertScheduleRepository.save(concertSchedule);
+            applicationEventPublisher.publishEvent(ConcertScheduleChangedEvent.fromDomain(concertSchedule));
+            log.warn("공연 매진 처리 - concertScheduleId: {}", concertScheduleId);
+        } else if (!soldOut && concertSchedule.getAvailability() == ConcertScheduleAvailability.SOLDOUT) {
+            concertSchedule.makeAvailable();
+            concertScheduleRepository.save(concertSchedule);
+            applicationEventPublisher.publishEvent(ConcertScheduleChangedEvent.fromDomain(concertSchedule));
+            log.info("공연 매진 해제 - concertScheduleId: {}, remainingSeatsCount: {}",
+                    concertScheduleId, remainingSeatsCount);
+        }
+    }
+
+    // 좌석 예약 가능 여부 미적재 : 선점 판정 기준 저장소(없다면 DB)로부터 적재. 다른 노드가 먼저 적재했다면 해당 값이 유지된다.
+    private SeatAvailability loadSeatAvailability(Long concertScheduleId) {
+        SeatAvailability seatAvailability = SeatAvailability.of(getSeatsOfConcertSchedule(concertScheduleId));
+        if (seatAvailabilityRepository.saveIfAbsent(concertScheduleId, seatAvailability)) {
+            log.info("좌석 예약 가능 여부 적재 완료 - concertScheduleId: {}, seatCount: {}",
+                    concertScheduleId, seatAvailability.getSeatCount());
+        }
+        return seatAvailability;
     }
 
     /**
      * 특정 ConcertSchedule의 특정 좌석 배정
+     * <br>
+     * </br>
+     * 동시 선점 제어는 {@link SeatAssigner} 구현체에 위임합니다. 분산 락 방식의 경우 락이 트랜잭션 바깥에서 해제되어야 하므로, 해당 메서드는
+     * 트랜잭션을 시작하지 않습니다.
+     * <br>
+     * </br>
+     * 선점된 좌석은 {@link SeatStatusChangedEvent} 로 발행되어 좌석 배치도 캐시에 반영됩니다. 매진된 공연 일정이라면 선점을 시도하지
+     * 않습니다.
      * 
      * @param concertScheduleId
      * @param seatId
      * @return
      */
-    @Transactional
-    @RedissonDistributedLock(key = "seatId")
     public Seat assignSeatOfConcertSchedule(Long concertScheduleId, Long seatId, Long userId) {
+        ensureNotSoldOut(concertScheduleId);
 
-        // 배정될 좌석 조회
-        Seat targetSeat = seatRepository.findById(seatId)
-                .orElseThrow(() -> new UnavailableRequestException(ErrorCode.SEAT_NOT_FOUND, "해당 좌석이 존재하지 않습니다."));
-
-        // 배정될 좌석의 상태 변경
-        targetSeat.makeUnavailable();
-
-        // 수정된 사항을 명시적으로 저장 및 반환
-        Seat assignedSeat = seatRepository.save(targetSeat);
+        Seat assignedSeat = seatAssigner.assign(concertScheduleId, seatId);
+        applicationEventPublisher.publishEvent(SeatStatusChangedEvent.fromDomain(assignedSeat));
 
         log.info("좌석 선점 완료 - seatId: {}, userId: {}, concertScheduleId: {}, price: {}",
                 seatId, userId, concertScheduleId, assignedSeat.getPrice());
@@ -159,6 +274,44 @@ public class ConcertService {
         return assignedSeat;
     }
 
+    /**
+     * 특정 ConcertSchedule의 여러 좌석을 모두 배정하거나, 하나도 배정하지 않습니다.
+     * <br>
+     * </br>
+     * 동시 요청 간 교착을 피하기 위해 좌석 ID 오름차순으로 배정하며, 원자성은 배정 방식({@link SeatAssigner#assignAll})에 따라 단일 트랜잭션
+     * 또는 실패 시 보상 해제로 보장됩니다. 좌석 상태 변경 이벤트는 모든 좌석의 배정이 끝난 뒤에 발행합니다.
+     *
+     * @param concertScheduleId
+     * @param seatIds
+     * @param userId
+     * @return 배정된 좌석 목록. 좌석 ID 오름차순.
+     */
+    public List<Seat> assignSeatsOfConcertSchedule(Long concertScheduleId, List<Long> seatIds, Long userId) {
+        List<Long> orderedSeatIds = seatIds.stream().distinct().sorted().toList();
+        if (orderedSeatIds.isEmpty() || orderedSeatIds.size() > Seat.MAX_SEATS_PER_ASSIGNMENT) {
+            throw new BusinessRuleViolationException(ErrorCode.INVALID_INPUT_VALUE,
+                    "한 번에 배정할 수 있는 좌석 수는 1개 이상 " + Seat.MAX_SEATS_PER_ASSIGNMENT + "개 이하입니다.");
+        }
+        ensureNotSoldOut(concertScheduleId);
+
+        List<Seat> assignedSeats;
+        try {
+            assignedSeats = seatAssigner.assignAll(concertScheduleId, orderedSeatIds);
+        } catch (RuntimeException e) {
+            log.info("좌석 일괄 선점 실패 - concertScheduleId: {}, seatIds: {}, userId: {}",
+                    concertScheduleId, orderedSeatIds, userId);
+            throw e;
+        }
+
+        for (Seat assignedSeat : assignedSeats) {
+            applicationEventPublisher.publishEvent(SeatStatusChangedEvent.fromDomain(assignedSeat));
+        }
+        log.info("좌석 일괄 선점 완료 - seatIds: {}, userId: {}, concertScheduleId: {}",
+                orderedSeatIds, userId, concertScheduleId);
+
+        return assignedSeats;
+    }
+
     /**
      * 특정 ConcertSchedule의 특정 좌석 배정 해제
      * 
@@ -166,19 +319,10 @@ public class ConcertService {
      * @param seatId
      * @return
      */
-    @Transactional
-    @RedissonDistributedLock(key = "seatId")
     public Seat unassignSeatOfConcertSchedule(Long concertScheduleId, Long seatId) {
 
-        // 배정될 좌석 조회
-        Seat targetSeat = seatRepository.findById(seatId)
-                .orElseThrow(() -> new UnavailableRequestException(ErrorCode.SEAT_NOT_FOUND, "해당 좌석이 존재하지 않습니다."));
-
-        // 배정될 좌석의 상태 변경
-        targetSeat.makeAvailable();
-
-        // 수정된 사항을 명시적으로 저장
-        Seat unasignedSeat = seatRepository.save(targetSeat);
+        Seat unasignedSeat = seatAssigner.unassign(concertScheduleId, seatId);
+        applicationEventPublisher.publishEvent(SeatStatusChangedEvent.fromDomain(unasignedSeat));
 
         log.warn("좌석 선점 해제 - seatId: {}, concertScheduleId: {}",
                 seatId, concertScheduleId);
@@ -186,6 +330,29 @@ public class ConcertService {
         return unasignedSeat;
     }
 
+    /**
+     * 특정 ConcertSchedule의 여러 좌석 배정을 한 번에 해제합니다. 이미 해제된 좌석은 건너뛰며, 실제로 해제된 좌석마다 좌석 상태 변경 이벤트를
+     * 발행합니다.
+     * <br>
+     * </br>
+     * 가예약 일괄 만료 시 활용되며, 좌석 수와 무관하게 조회 1회와 UPDATE 1회로 처리됩니다. (좌석 선점 방식에 따라 상이)
+     *
+     * @param concertScheduleId
+     * @param seatIds
+     * @return 선점 해제된 좌석 목록
+     */
+    public List<Seat> unassignSeatsOfConcertSchedule(Long concertScheduleId, List<Long> seatIds) {
+        List<Seat> releasedSeats = seatAssigner.unassignAll(concertScheduleId, seatIds);
+        for (Seat releasedSeat : releasedSeats) {
+            applicationEventPublisher.publishEvent(SeatStatusChangedEvent.fromDomain(releasedSeat));
+        }
+
+        log.warn("좌석 일괄 선점 해제 - seatIds: {}, concertScheduleId: {}",
+                releasedSeats.stream().map(Seat::getId).toList(), concertScheduleId);
+
+        return releasedSeats;
+    }
+
     /**
      * 특정 ConcertSchedule의 상태를 AVAILABLE로 변경.
      * <br>
@@ -201,8 +368,10 @@ public class ConcertService {
                 .orElseThrow(() -> new UnavailableRequestException(ErrorCode.CONCERT_SCHEDULE_NOT_FOUND,
                         "해당 공연 일정이 존재하지 않습니다."));
 
-        if (getRemainingSeatsCount(concertScheduleId) > 0) {
+        if (concertSchedule.getAvailability() == ConcertScheduleAvailability.SOLDOUT
+                && getRemainingSeatsCount(concertScheduleId) > 0) {
             concertSchedule.makeAvailable();
+            applicationEventPublisher.publishEvent(ConcertScheduleChangedEvent.fromDomain(concertSchedule));
         }
 
         return concertScheduleRepository.save(concertSchedule);
@@ -223,8 +392,10 @@ public class ConcertService {
         int remainingSeatsCount = getRemainingSeatsCount(concertScheduleId);
         log.info("남은 좌석 수 : {}", remainingSeatsCount);
 
-        if (getRemainingSeatsCount(concertScheduleId) == 0) {
+        if (remainingSeatsCount == ConcertSchedule.MIN_AVAILABLE_SEATS
+                && concertSchedule.getAvailability() != ConcertScheduleAvailability.SOLDOUT) {
             concertSchedule.makeSoldOut();
+            applicationEventPublisher.publishEvent(ConcertScheduleChangedEvent.fromDomain(concertSchedule));
             log.warn("공연 매진 처리 - concertScheduleId: {}", concertScheduleId);
         }
 
@@ -233,12 +404,17 @@ public class ConcertService {
 
     /**
      * 특정 ConcertSchedule의 모든 좌석 조회
+     * <br>
+     * </br>
+     * 선점 결과를 DB 에 비동기로 반영하는 {@link SeatAssigner} 라면 DB 대신 해당 구현체의 좌석 상태를 조회하여, 좌석 배치도 캐시와 좌석 예약
+     * 가능 여부가 DB 반영 주기만큼 뒤처진 상태로 적재되지 않도록 합니다.
      * 
      * @param concertScheduleId
      * @return
      */
     public List<Seat> getSeatsOfConcertSchedule(Long concertScheduleId) {
-        return seatRepository.findAllByConcertScheduleId(concertScheduleId);
+        return seatAssigner.findSeats(concertScheduleId)
+                .orElseGet(() -> seatRepository.findAllByConcertScheduleId(concertScheduleId));
     }
 
     /**
@@ -0,0 +1,81 @@
+package com.slam.concertreservation.domain.concert.service;
+
+import com.slam.concertreservation.common.error.ErrorCode;
+import com.slam.concertreservation.common.exceptions.BusinessRuleViolationException;
+import com.slam.concertreservation.common.exceptions.UnavailableRequestException;
+import com.slam.concertreservation.domain.concert.model.Seat;
+import com.slam.concertreservation.domain.concert.model.SeatStatus;
+import com.slam.concertreservation.domain.concert.repository.SeatRepository;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 조건부 UPDATE 기반 좌석 선점. ({@code app.seat.assignment-mode: CONDITIONAL_UPDATE})
+ * <br>
+ * </br>
+ * {@code UPDATE SEAT SET status = 'UNAVAILABLE' WHERE seatId = ? AND status = 'AVAILABLE'} 의 영향받은 행 수로 선점 성공 여부를
+ * 판단합니다. 같은 좌석에 대한 동시 UPDATE 는 DB 의 행 락으로 직렬화되고, 나중에 수행된 UPDATE 는 조건을 만족하지 않아 0 행을
+ * 반환하므로 분산 락 없이도 중복 선점이 발생하지 않습니다.
+ * <br>
+ * </br>
+ * 분산 락 방식 대비 락 획득/해제 왕복과 저장 전 재조회가 사라지며, 선점 성공 시 반환할 좌석 정보 조회 1회만 추가로 발생합니다. 실패 시에는
+ * 좌석 부재와 선점 충돌을 구분하기 위해 한 번 조회합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.seat", name = "assignment-mode", havingValue = "CONDITIONAL_UPDATE")
+public class ConditionalUpdateSeatAssigner implements SeatAssigner {
+
+    private final SeatRepository seatRepository;
+
+    @Override
+    public Seat assign(Long concertScheduleId, Long seatId) {
+        return transition(seatId, SeatStatus.AVAILABLE, SeatStatus.UNAVAILABLE, "이미 선점되었거나 이용 불가한 좌석입니다.");
+    }
+
+    @Override
+    public Seat unassign(Long concertScheduleId, Long seatId) {
+        return transition(seatId, SeatStatus.UNAVAILABLE, SeatStatus.AVAILABLE, "이미 예약 가능 상태인 좌석입니다.");
+    }
+
+    // 모든 좌석의 조건부 UPDATE 를 하나의 트랜잭션으로 처리. 하나라도 0 행이면 트랜잭션 전체가 롤백된다.
+    @Override
+    @Transactional
+    public List<Seat> assignAll(Long concertScheduleId, List<Long> seatIds) {
+        List<Seat> assignedSeats = new ArrayList<>(seatIds.size());
+        for (Long seatId : seatIds) {
+            assignedSeats.add(assign(concertScheduleId, seatId));
+        }
+        return assignedSeats;
+    }
+
+    /**
+     * 선점 중인 좌석만 골라 하나의 조건부 UPDATE 로 해제합니다. 해제 대상 좌석의 행에 쓰기 락을 걸어 다른 해제 요청과의 중복 반영을 막으며,
+     * 실제로 해제된 좌석만 반환합니다.
+     */
+    @Override
+    @Transactional
+    public List<Seat> unassignAll(Long concertScheduleId, List<Long> seatIds) {
+        return OccupiedSeatRelease.releaseAll(seatRepository, seatIds);
+    }
+
+    @Override
+    public int countOccupiedSeats(Long concertScheduleId) {
+        return seatRepository.findOccupiedSeatsCount(concertScheduleId);
+    }
+
+    private Seat transition(Long seatId, SeatStatus from, SeatStatus to, String conflictMessage) {
+        boolean updated = seatRepository.updateStatusIfMatches(seatId, from, to);
+
+        Seat seat = seatRepository.findById(seatId)
+                .orElseThrow(() -> new UnavailableRequestException(ErrorCode.SEAT_NOT_FOUND, "해당 좌석이 존재하지 않습니다."));
+        if (!updated) {
+            throw new BusinessRuleViolationException(ErrorCode.SEAT_ALREADY_OCCUPIED, conflictMessage);
+        }
+        return seat;
+    }
+}
@@ -0,0 +1,95 @@
+package com.slam.concertreservation.domain.concert.service;
+
+import com.slam.concertreservation.common.error.ErrorCode;
+import com.slam.concertreservation.common.exceptions.UnavailableRequestException;
+import com.slam.concertreservation.domain.concert.model.Seat;
+import com.slam.concertreservation.domain.concert.repository.SeatRepository;
+import com.slam.concertreservation.infrastructure.persistence.redis.locking.RedissonDistributedLock;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 분산 락 기반 좌석 선점. ({@code app.seat.assignment-mode: LOCK})
+ * <br>
+ * </br>
+ * 좌석 단위 공정 락을 획득한 뒤 트랜잭션 내에서 좌석을 조회, 상태 변경, 저장합니다. 락이 트랜잭션보다 바깥에서 획득되고 커밋 이후에
+ * 해제되므로, 같은 좌석에 대한 선점은 직렬화됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.seat", name = "assignment-mode", havingValue = "LOCK", matchIfMissing = true)
+public class LockingSeatAssigner implements SeatAssigner {
+
+    private final SeatRepository seatRepository;
+
+    @Override
+    @Transactional
+    @RedissonDistributedLock(key = "seatId")
+    public Seat assign(Long concertScheduleId, Long seatId) {
+        // 배정될 좌석 조회
+        Seat targetSeat = seatRepository.findById(seatId)
+                .orElseThrow(() -> new UnavailableRequestException(ErrorCode.SEAT_NOT_FOUND, "해당 좌석이 존재하지 않습니다."));
+
+        // 배정될 좌석의 상태 변경
+        targetSeat.makeUnavailable();
+
+        // 수정된 사항을 명시적으로 저장 및 반환
+        return seatRepository.save(targetSeat);
+    }
+
+    @Override
+    @Transactional
+    @RedissonDistributedLock(key = "seatId")
+    public Seat unassign(Long concertScheduleId, Long seatId) {
+        // 배정 해제될 좌석 조회
+        Seat targetSeat = seatRepository.findById(seatId)
+                .orElseThrow(() -> new UnavailableRequestException(ErrorCode.SEAT_NOT_FOUND, "해당 좌석이 존재하지 않습니다."));
+
+        // 배정 해제될 좌석의 상태 변경
+        targetSeat.makeAvailable();
+
+        // 수정된 사항을 명시적으로 저장
+        return seatRepository.save(targetSeat);
+    }
+
+    /**
+     * 좌석별 분산 락을 MultiLock 으로 한 번에 획득한 뒤, 모든 좌석의 선점을 하나의 트랜잭션으로 처리합니다. 하나라도 선점할 수 없다면 트랜잭션
+     * 전체가 롤백됩니다.
+     * <br>
+     * </br>
+     * 단건 선점과 같은 락 키({@code seatId})를 사용하므로 단건/다건 선점이 서로 배제되며, 처리 시간이 좌석 수에 비례하므로 고정 임대 시간 대신
+     * 락을 보유하는 동안 임대가 갱신됩니다.
+     */
+    @Override
+    @Transactional
+    @RedissonDistributedLock(key = "seatIds", lockName = "seatId", waitTime = 100L)
+    public List<Seat> assignAll(Long concertScheduleId, List<Long> seatIds) {
+        List<Seat> assignedSeats = new ArrayList<>(seatIds.size());
+        for (Long seatId : seatIds) {
+            Seat targetSeat = seatRepository.findById(seatId)
+                    .orElseThrow(() -> new UnavailableRequestException(ErrorCode.SEAT_NOT_FOUND, "해당 좌석이 존재하지 않습니다."));
+            targetSeat.makeUnavailable();
+            assignedSeats.add(seatRepository.save(targetSeat));
+        }
+        return assignedSeats;
+    }
+
+    /**
+     * 선점 중인 좌석만 골라 하나의 조건부 UPDATE 로 해제합니다. 단건 해제와 달리 좌석별 분산 락을 획득하지 않고, 해제 대상 좌석의 행에 DB 쓰기
+     * 락을 걸어 다른 해제 요청과의 중복 반영을 막습니다. 실제로 해제된 좌석만 반환합니다.
+     */
+    @Override
+    @Transactional
+    public List<Seat> unassignAll(Long concertScheduleId, List<Long> seatIds) {
+        return OccupiedSeatRelease.releaseAll(seatRepository, seatIds);
+    }
+
+    @Override
+    public int countOccupiedSeats(Long concertScheduleId) {
+        return seatRepository.findOccupiedSeatsCount(concertScheduleId);
+    }
+}
@@ -0,0 +1,41 @@
+package com.slam.concertreservation.domain.concert.service;
+
+import com.slam.concertreservation.common.error.ErrorCode;
+import com.slam.concertreservation.common.exceptions.ConcurrencyException;
+import com.slam.concertreservation.domain.concert.model.Seat;
+import com.slam.concertreservation.domain.concert.model.SeatStatus;
+import com.slam.concertreservation.domain.concert.repository.SeatRepository;
+import java.util.List;
+
+/**
+ * DB 에서 직접 좌석을 선점하는 {@link SeatAssigner} 구현체의 일괄 선점 해제.
+ * <br>
+ * </br>
+ * 선점 중인 좌석을 쓰기 락과 함께 조회한 뒤 하나의 조건부 UPDATE 로 해제합니다. 트랜잭션이 끝날 때까지 다른 트랜잭션은 조회한 좌석의 상태를
+ * 바꿀 수 없으므로, 조회한 좌석이 곧 UPDATE 로 변경되는 좌석입니다. 따라서 같은 좌석에 대한 해제가 동시에 요청되어도 각 좌석은 한 요청의
+ * 결과에만 포함되고, 좌석 상태 변경 이벤트와 남은 좌석 수 증가가 중복되지 않습니다.
+ * <br>
+ * </br>
+ * 호출하는 쪽의 트랜잭션 안에서 수행되어야 합니다.
+ */
+final class OccupiedSeatRelease {
+
+    private OccupiedSeatRelease() {
+    }
+
+    static List<Seat> releaseAll(SeatRepository seatRepository, List<Long> seatIds) {
+        if (seatIds.isEmpty()) {
+            return List.of();
+        }
+        List<Seat> occupiedSeats = seatRepository.findAllOccupiedByIdsForUpdate(seatIds);
+        int releasedCount = seatRepository.updateStatusAllIfMatches(occupiedSeats.stream().map(Seat::getId).toList(),
+                SeatStatus.UNAVAILABLE, SeatStatus.AVAILABLE);
+        if (releasedCount != occupiedSeats.size()) {
+            // 쓰기 락을 보유한 좌석이므로 발생하지 않아야 한다. 반환 목록과 실제 변경이 어긋나지 않도록 롤백.
+            throw new ConcurrencyException(ErrorCode.INTERNAL_SERVER_ERROR,
+                    "선점 해제된 좌석 수가 조회한 선점 좌석 수와 다릅니다. : " + releasedCount + " / " + occupiedSeats.size());
+        }
+        occupiedSeats.forEach(Seat::makeAvailable);
+        return occupiedSeats;
+    }
+}
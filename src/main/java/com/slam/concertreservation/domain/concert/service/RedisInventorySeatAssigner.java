@@ -0,0 +1,77 @@
+package com.slam.concertreservation.domain.concert.service;
+
+import com.slam.concertreservation.common.error.ErrorCode;
+import com.slam.concertreservation.common.exceptions.UnavailableRequestException;
+import com.slam.concertreservation.domain.concert.model.Seat;
+import com.slam.concertreservation.domain.concert.model.SeatStatus;
+import com.slam.concertreservation.domain.concert.repository.SeatInventoryRepository;
+import com.slam.concertreservation.domain.concert.repository.SeatRepository;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 좌석 재고 기반 좌석 선점. ({@code app.seat.assignment-mode: REDIS_INVENTORY})
+ * <br>
+ * </br>
+ * 분산 락 방식은 선점 1건에 락 획득/해제, 좌석 조회, 저장 전 재조회, UPDATE 가 순차적으로 발생하므로 경합 시 지연이 DB 왕복 횟수에
+ * 비례합니다. 해당 구현체는 공연 일정별 좌석 재고를 Redis 에 두고 상태 확인과 변경을 하나의 스크립트로 수행하므로, 선점 1건이 Redis 왕복
+ * 1회로 끝납니다.
+ * <br>
+ * </br>
+ * 변경된 좌석은 DB 반영 대기열에 적재되어 {@code SeatInventoryWriteBehindScheduler} 가 주기적으로 일괄 반영하고, 재고와 DB 간 불일치를
+ * 보정합니다. 좌석 배치도 캐시와 좌석 예약 가능 여부는 {@link #findSeats(Long)} 로 재고로부터 적재하므로 반영 주기와 무관하지만, 재고가
+ * 적재되기 전이거나 DB 를 직접 조회하는 경로(좌석 단건 조회, 예약 가능 좌석 목록 조회)는 반영 주기만큼 늦게 변경을 관측할 수 있습니다.
+ * <br>
+ * </br>
+ * 재고는 공연 일정의 좌석이 최초로 선점/해제될 때 DB 로부터 적재됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.seat", name = "assignment-mode", havingValue = "REDIS_INVENTORY")
+public class RedisInventorySeatAssigner implements SeatAssigner {
+
+    private final SeatInventoryRepository seatInventoryRepository;
+    private final SeatRepository seatRepository;
+
+    @Override
+    public Seat assign(Long concertScheduleId, Long seatId) {
+        return transition(concertScheduleId, seatId, SeatStatus.AVAILABLE, SeatStatus.UNAVAILABLE);
+    }
+
+    @Override
+    public Seat unassign(Long concertScheduleId, Long seatId) {
+        return transition(concertScheduleId, seatId, SeatStatus.UNAVAILABLE, SeatStatus.AVAILABLE);
+    }
+
+    @Override
+    public int countOccupiedSeats(Long concertScheduleId) {
+        return seatInventoryRepository.countOccupied(concertScheduleId)
+                .orElseGet(() -> seatRepository.findOccupiedSeatsCount(concertScheduleId));
+    }
+
+    // 재고가 적재되어 있다면 DB 대신 재고 기준의 좌석 목록 반환. 아직 DB 에 반영되지 않은 선점/해제가 포함된다.
+    @Override
+    public Optional<List<Seat>> findSeats(Long concertScheduleId) {
+        List<Seat> seats = seatInventoryRepository.findAll(concertScheduleId);
+        return seats.isEmpty() ? Optional.empty() : Optional.of(seats);
+    }
+
+    private Seat transition(Long concertScheduleId, Long seatId, SeatStatus from, SeatStatus to) {
+        return seatInventoryRepository.transition(concertScheduleId, seatId, from, to)
+                .orElseGet(() -> {
+                    // 재고 미적재 : DB 로부터 적재 후 재시도. 다른 노드가 먼저 적재했다면 해당 재고를 그대로 사용.
+                    if (seatInventoryRepository.loadIfAbsent(concertScheduleId,
+                            seatRepository.findAllByConcertScheduleId(concertScheduleId))) {
+                        log.info("좌석 재고 적재 완료 - concertScheduleId: {}", concertScheduleId);
+                    }
+                    return seatInventoryRepository.transition(concertScheduleId, seatId, from, to)
+                            .orElseThrow(() -> new UnavailableRequestException(ErrorCode.SEAT_NOT_FOUND,
+                                    "해당 좌석이 존재하지 않습니다."));
+                });
+    }
+}
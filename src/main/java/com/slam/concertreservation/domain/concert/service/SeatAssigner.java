@@ -0,0 +1,90 @@
+package com.slam.concertreservation.domain.concert.service;
+
+import com.slam.concertreservation.common.exceptions.BusinessRuleViolationException;
+import com.slam.concertreservation.common.exceptions.UnavailableRequestException;
+import com.slam.concertreservation.domain.concert.model.Seat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 좌석 선점/해제 방식. {@code app.seat.assignment-mode} 설정에 따라 구현체가 선택됩니다.
+ * <br>
+ * </br>
+ * LOCK : 좌석 단위 분산 락 내에서 조회 후 변경 (기본값) / REDIS_INVENTORY : Redis 좌석 재고에서 원자적으로 변경 후 DB 에는 비동기 반영 /
+ * CONDITIONAL_UPDATE : 락 없이 현재 상태를 조건으로 하는 단일 UPDATE 로 변경
+ */
+public interface SeatAssigner {
+
+    // 좌석 선점. AVAILABLE -> UNAVAILABLE
+    Seat assign(Long concertScheduleId, Long seatId);
+
+    // 좌석 선점 해제. UNAVAILABLE -> AVAILABLE
+    Seat unassign(Long concertScheduleId, Long seatId);
+
+    /**
+     * 여러 좌석을 모두 선점하거나, 하나도 선점하지 않습니다. 주어진 순서대로 선점하며, 도중에 실패하면 이미 선점한 좌석을 해제한 뒤 예외를 그대로
+     * 던집니다.
+     * <br>
+     * </br>
+     * 하나의 트랜잭션으로 묶을 수 있는 구현체는 재정의하여 보상 해제 없이 원자적으로 처리합니다.
+     *
+     * @param concertScheduleId
+     * @param seatIds
+     * @return 선점된 좌석 목록. seatIds 와 같은 순서.
+     */
+    default List<Seat> assignAll(Long concertScheduleId, List<Long> seatIds) {
+        List<Seat> assignedSeats = new ArrayList<>(seatIds.size());
+        try {
+            for (Long seatId : seatIds) {
+                assignedSeats.add(assign(concertScheduleId, seatId));
+            }
+        } catch (RuntimeException e) {
+            for (Seat assignedSeat : assignedSeats) {
+                unassign(concertScheduleId, assignedSeat.getId());
+            }
+            throw e;
+        }
+        return assignedSeats;
+    }
+
+    /**
+     * 여러 좌석의 선점을 해제합니다. 이미 해제되었거나 존재하지 않는 좌석은 건너뛰고, 실제로 해제된 좌석만 반환합니다.
+     * <br>
+     * </br>
+     * 가예약 일괄 만료처럼 좌석의 선점 주체(가예약)가 이미 확정된 상태에서 호출되는 것을 전제로 합니다. 하나의 조건부 UPDATE 로 처리할 수 있는
+     * 구현체는 재정의하여 좌석 수와 무관하게 한 번의 UPDATE 로 해제합니다.
+     *
+     * @param concertScheduleId
+     * @param seatIds
+     * @return 선점 해제된 좌석 목록
+     */
+    default List<Seat> unassignAll(Long concertScheduleId, List<Long> seatIds) {
+        List<Seat> releasedSeats = new ArrayList<>(seatIds.size());
+        for (Long seatId : seatIds) {
+            try {
+                releasedSeats.add(unassign(concertScheduleId, seatId));
+            } catch (BusinessRuleViolationException | UnavailableRequestException e) {
+                // 이미 해제된 좌석은 건너뛴다.
+            }
+        }
+        return releasedSeats;
+    }
+
+    // 공연 일정의 선점 좌석 수 집계
+    int countOccupiedSeats(Long concertScheduleId);
+
+    /**
+     * 선점 여부를 판정하는 저장소 기준의 공연 일정 좌석 목록을 조회합니다.
+     * <br>
+     * </br>
+     * DB 에서 직접 선점하는 구현체는 빈 값을 반환하여 DB 를 조회하도록 합니다. DB 에 비동기로 반영하는 구현체는 재정의하여, 좌석 배치도나
+     * 좌석 예약 가능 여부가 DB 반영 이전의 상태로 적재되지 않도록 합니다.
+     *
+     * @param concertScheduleId
+     * @return 좌석 목록. 저장소에 적재되지 않았다면 빈 값.
+     */
+    default Optional<List<Seat>> findSeats(Long concertScheduleId) {
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,67 @@
+package com.slam.concertreservation.domain.queue.model;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 대기열 진입 허용 속도를 제한하는 토큰 버킷.
+ * <br>
+ * </br>
+ * 초당 {@code ratePerSecond} 개의 허용량이 채워지며, 최대 {@code capacity} 개까지 누적됩니다. 스케줄러 주기마다 누적된 허용량만큼
+ * 대기 토큰을 활성화하므로, 주기와 무관하게 일정한 속도로 사용자가 서비스에 진입합니다.
+ */
+public class AdmissionBucket {
+
+    private final double ratePerSecond;
+    private final double capacity;
+    private final LongSupplier nanoClock;
+
+    private double available;
+    private long lastRefilledAt;
+
+    public AdmissionBucket(double ratePerSecond, int capacity) {
+        this(ratePerSecond, capacity, System::nanoTime);
+    }
+
+    public AdmissionBucket(double ratePerSecond, int capacity, LongSupplier nanoClock) {
+        this.ratePerSecond = ratePerSecond;
+        this.capacity = capacity;
+        this.nanoClock = nanoClock;
+        this.available = capacity;
+        this.lastRefilledAt = nanoClock.getAsLong();
+    }
+
+    /**
+     * 최대 {@code requested} 개의 허용량을 가져갑니다.
+     *
+     * @param requested
+     * @return 실제로 가져간 허용량. 누적된 허용량이 부족하다면 요청보다 적을 수 있다.
+     */
+    public synchronized int acquire(int requested) {
+        if (requested <= 0) {
+            return 0;
+        }
+        refill();
+        int granted = (int) Math.min(requested, Math.floor(available));
+        available -= granted;
+        return granted;
+    }
+
+    /**
+     * 가져갔으나 사용하지 못한 허용량을 반환합니다. (ex. 대기열이 예상보다 짧았던 경우)
+     *
+     * @param unused
+     */
+    public synchronized void release(int unused) {
+        if (unused <= 0) {
+            return;
+        }
+        available = Math.min(capacity, available + unused);
+    }
+
+    private void refill() {
+        long now = nanoClock.getAsLong();
+        double elapsedSeconds = (now - lastRefilledAt) / 1_000_000_000.0;
+        available = Math.min(capacity, available + elapsedSeconds * ratePerSecond);
+        lastRefilledAt = now;
+    }
+}
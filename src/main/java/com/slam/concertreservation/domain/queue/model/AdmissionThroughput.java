@@ -0,0 +1,51 @@
+package com.slam.concertreservation.domain.queue.model;
+
+/**
+ * 공연 일정별 대기열 진입 처리량(초당 진입 사용자 수)의 지수 이동 평균.
+ * <br>
+ * </br>
+ * 스케줄러 주기가 일정하지 않더라도 평균이 왜곡되지 않도록, 반영 가중치를 직전 기록 이후 경과 시간으로 산출합니다.
+ * ({@code alpha = 1 - exp(-경과 시간 / 평활 구간)}) 평활 구간이 길수록 순간적인 진입량 변화에 덜 민감합니다.
+ */
+public class AdmissionThroughput {
+
+    private final double windowSeconds;
+
+    private double ratePerSecond;
+    private long lastRecordedAtNanos;
+    private boolean initialized;
+
+    public AdmissionThroughput(double windowSeconds, long nowNanos) {
+        this.windowSeconds = windowSeconds;
+        this.lastRecordedAtNanos = nowNanos;
+    }
+
+    /**
+     * 직전 기록 이후 진입한 사용자 수 반영.
+     *
+     * @param admittedCount
+     * @param nowNanos
+     * @return 갱신된 초당 진입 사용자 수
+     */
+    public synchronized double record(int admittedCount, long nowNanos) {
+        double elapsedSeconds = (nowNanos - lastRecordedAtNanos) / 1_000_000_000.0;
+        if (elapsedSeconds <= 0) {
+            return ratePerSecond;
+        }
+        double instantRate = admittedCount / elapsedSeconds;
+
+        if (!initialized) {
+            ratePerSecond = instantRate;
+            initialized = true;
+        } else {
+            double alpha = 1 - Math.exp(-elapsedSeconds / windowSeconds);
+            ratePerSecond = alpha * instantRate + (1 - alpha) * ratePerSecond;
+        }
+        lastRecordedAtNanos = nowNanos;
+        return ratePerSecond;
+    }
+
+    public synchronized double getRatePerSecond() {
+        return ratePerSecond;
+    }
+}
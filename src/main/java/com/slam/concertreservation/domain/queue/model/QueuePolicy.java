@@ -12,6 +12,10 @@ public class QueuePolicy {
     private int activeTokenDuration; // 활성 상태 토큰의 유효시간 (분)
     private int maxConcurrentUser; // 최대 동시 예약 가능한 사용자 수
     private double maxConcurrentUserThreshold; // N 초에 M 명 활성화 시에도 지켜져야하는 최대 동시 사용자 산출 계수.
+    private double admissionRatePerSecond; // 대기열에서 서비스로 진입시키는 초당 최대 사용자 수. 0 이하일 경우 속도 제한 없이 빈 자리만큼 진입.
+    private int admissionBurstSize; // 진입 허용량의 최대 누적치. 한 번에 진입시킬 수 있는 최대 사용자 수.
+    private double admissionRateWindowSeconds = 60; // 예상 대기 시간 산출에 사용하는 진입 처리량 이동 평균의 평활 구간 (초)
+    private int waitingTokenSweepBatchSize = 500; // 스케줄러 주기마다 공연 일정별로 만료 처리하는 대기 토큰의 최대 수
 
     public int calculateConcurrentUserThreshold(){
         return (int)Math.floor(maxConcurrentUser * maxConcurrentUserThreshold);
@@ -0,0 +1,11 @@
+package com.slam.concertreservation.domain.queue.repository;
+
+import java.util.Map;
+
+public interface QueueStatisticsRepository {
+    // 공연 일정별 초당 진입 사용자 수 저장.
+    void saveAdmissionRate(Long concertScheduleId, double ratePerSecond);
+
+    // 전체 공연 일정의 초당 진입 사용자 수 조회.
+    Map<Long, Double> findAllAdmissionRates();
+}
@@ -1,13 +1,18 @@
 package com.slam.concertreservation.domain.queue.repository;
 
 import com.slam.concertreservation.domain.queue.model.Token;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface TokenRepository {
     // 토큰 생성 : V
     Token save(Token token);
 
+    // 토큰 발급 : 활성 토큰 수 확인 -> 활성화 혹은 대기열 진입 -> 저장 -> 대기열 자료구조 TTL 갱신.
+    Token issue(Token token, int concurrentUserThreshold, int activeTokenDuration, long queueTtlSeconds);
+
     // 상태 변경한 토큰들 한 번에 저장. : V
     List<Token> saveAll(List<Token> tokens);
 
@@ -26,11 +31,14 @@ public interface TokenRepository {
     // 공연 일정 ID, 사용자 ID, 상태 목록으로 남은 토큰 수 집계.
     int countRemaining(Long concertScheduleId, String tokenId);
 
+    // 주어진 토큰들의 대기 순번 조회. 대기열에 없는 토큰은 결과에서 제외된다.
+    Map<String, Integer> findWaitingPositions(Long concertScheduleId, List<String> tokenIds);
+
     // 활성화된 토큰 중 만료될 토큰 조회.
     List<Token> findActivatedTokensToBeExpired(Long concertScheduleId);
 
-    // 대기 중인 토큰 중 만료될 토큰 조회.
-    List<Token> findWaitingTokensToBeExpired();
+    // 대기 중인 토큰 중 주어진 시각 이전에 발급되어 만료될 토큰을 발급 순으로 최대 limit 개 조회.
+    List<Token> findWaitingTokensToBeExpired(Long concertScheduleId, LocalDateTime issuedBefore, int limit);
 
     // 공연 일정 ID로 대기 중 토큰 수 집계.
     int countCurrentlyWaitingTokens(Long concertScheduleId);
@@ -0,0 +1,147 @@
+package com.slam.concertreservation.domain.queue.service;
+
+import com.slam.concertreservation.domain.queue.model.AdmissionBucket;
+import com.slam.concertreservation.domain.queue.model.QueuePolicy;
+import com.slam.concertreservation.domain.queue.model.Token;
+import com.slam.concertreservation.domain.queue.repository.TokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * 대기열 진입 제어기.
+ * <br>
+ * </br>
+ * 스케줄러 주기마다 공연 일정별로 빈 자리(정책상 최대 동시 사용자 수 - 현재 활성 토큰 수)를 계산하고, 빈 자리와 진입 허용 속도(토큰 버킷)
+ * 중 작은 값만큼 대기 토큰을 활성화합니다. 활성 토큰의 만료 여부와 무관하게 매 주기 진입 여부를 판단하므로, 자리가 비어 있는 한 대기열이
+ * 멈추지 않습니다.
+ * <br>
+ * </br>
+ * 토큰 버킷은 노드 메모리에 공연 일정별로 유지됩니다. 스케줄러가 공연 일정별 담당 노드를 나누어 처리하므로 하나의 공연 일정에 대한 진입 속도는
+ * 하나의 버킷으로 제어됩니다.
+ */
+@Slf4j
+@Service
+public class QueueAdmissionController {
+
+    private final TokenRepository tokenRepository;
+    private final QueuePolicy queuePolicy;
+    private final QueueWaitTimeEstimator queueWaitTimeEstimator;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Long, AdmissionBucket> admissionBuckets = new ConcurrentHashMap<>();
+    private final Map<Long, AtomicInteger> waitingDepths = new ConcurrentHashMap<>();
+
+    private final Counter admittedCounter;
+    private final Timer timeInQueueTimer;
+
+    public QueueAdmissionController(TokenRepository tokenRepository, QueuePolicy queuePolicy,
+            QueueWaitTimeEstimator queueWaitTimeEstimator, MeterRegistry meterRegistry) {
+        this.tokenRepository = tokenRepository;
+        this.queuePolicy = queuePolicy;
+        this.queueWaitTimeEstimator = queueWaitTimeEstimator;
+        this.meterRegistry = meterRegistry;
+        this.admittedCounter = Counter.builder("queue.admission.admitted")
+                .description("대기열에서 서비스로 진입한 사용자 수")
+                .register(meterRegistry);
+        this.timeInQueueTimer = Timer.builder("queue.admission.time.in.queue")
+                .description("토큰 발급부터 활성화까지의 대기 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 특정 공연 일정의 대기 토큰을 빈 자리와 진입 허용 속도 내에서 활성화합니다.
+     *
+     * @param concertScheduleId
+     * @return 활성화된 토큰 목록
+     */
+    public List<Token> admit(Long concertScheduleId) {
+        int waitingCount = tokenRepository.countCurrentlyWaitingTokens(concertScheduleId);
+        recordWaitingDepth(concertScheduleId, waitingCount);
+
+        if (waitingCount == 0) {
+            return List.of();
+        }
+
+        // 대기 토큰이 존재하는 주기에는 진입 인원이 0 이더라도 처리량에 반영.
+        List<Token> admitted = admit(concertScheduleId, waitingCount);
+        queueWaitTimeEstimator.recordAdmission(concertScheduleId, admitted.size());
+        return admitted;
+    }
+
+    private List<Token> admit(Long concertScheduleId, int waitingCount) {
+        int activeCount = tokenRepository.countCurrentlyActiveTokens(concertScheduleId);
+        int freeSlots = queuePolicy.calculateConcurrentUserThreshold() - activeCount;
+
+        int requested = Math.min(freeSlots, waitingCount);
+        if (requested <= 0) {
+            return List.of();
+        }
+
+        AdmissionBucket bucket = getAdmissionBucket(concertScheduleId);
+        int permits = bucket == null ? requested : bucket.acquire(requested);
+        if (permits == 0) {
+            return List.of();
+        }
+
+        List<Token> activated = tokenRepository.findNextKTokensToBeActivated(concertScheduleId, permits)
+                .stream()
+                .map(token -> token.activate(queuePolicy.getActiveTokenDuration()))
+                .toList();
+
+        // 대기열이 그 사이 줄어 허용량을 다 쓰지 못했다면 반환.
+        if (bucket != null) {
+            bucket.release(permits - activated.size());
+        }
+
+        if (activated.isEmpty()) {
+            return activated;
+        }
+
+        List<Token> saved = tokenRepository.saveAll(activated);
+
+        LocalDateTime now = LocalDateTime.now();
+        admittedCounter.increment(saved.size());
+        saved.stream()
+                .filter(token -> token.getCreatedAt() != null)
+                .forEach(token -> timeInQueueTimer.record(Duration.between(token.getCreatedAt(), now)));
+        recordWaitingDepth(concertScheduleId, waitingCount - saved.size());
+
+        log.info("대기열 진입 처리 완료 - concertScheduleId: {}, admittedCount: {}, freeSlots: {}, remainingWaiting: {}",
+                concertScheduleId, saved.size(), freeSlots, waitingCount - saved.size());
+
+        return saved;
+    }
+
+    // 진입 허용 속도가 설정되지 않았다면 버킷 없이 빈 자리만큼 진입.
+    private AdmissionBucket getAdmissionBucket(Long concertScheduleId) {
+        if (queuePolicy.getAdmissionRatePerSecond() <= 0) {
+            return null;
+        }
+        return admissionBuckets.computeIfAbsent(concertScheduleId, id -> new AdmissionBucket(
+                queuePolicy.getAdmissionRatePerSecond(),
+                Math.max(1, queuePolicy.getAdmissionBurstSize())));
+    }
+
+    // 공연 일정별 대기열 길이 게이지. 최초 관측 시 등록하고 이후에는 값만 갱신.
+    private void recordWaitingDepth(Long concertScheduleId, int waitingCount) {
+        waitingDepths.computeIfAbsent(concertScheduleId, id -> {
+            AtomicInteger depth = new AtomicInteger();
+            Gauge.builder("queue.waiting.depth", depth, AtomicInteger::get)
+                    .description("공연 일정별 대기 중인 토큰 수")
+                    .tag("concertScheduleId", String.valueOf(id))
+                    .register(meterRegistry);
+            return depth;
+        }).set(Math.max(0, waitingCount));
+    }
+}
@@ -6,7 +6,9 @@ import com.slam.concertreservation.domain.queue.model.Token;
 import com.slam.concertreservation.domain.queue.repository.TokenRepository;
 import com.slam.concertreservation.common.exceptions.UnavailableRequestException;
 import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -19,6 +21,8 @@ public class QueueService {
     private final TokenRepository tokenRepository;
     private final QueuePolicy queuePolicy;
 
+    private static final Duration QUEUE_TTL = Duration.ofHours(12); // Redis 내 토큰 보관 자료구조 TTL
+
     /**
      * 특정 공연 일정 예약을 위해 대기하는 어떤 사용자에게 토큰을 발급합니다.
      * <br>
@@ -45,24 +49,17 @@ public class QueueService {
         // 토큰 생성
         Token token = Token.create(userId, concertScheduleId, queuePolicy.getWaitingTokenDuration());
 
-        // 현재 예약 서비스 이용 중인 사용자 수 확인
-        int activeTokenCount = tokenRepository.countCurrentlyActiveTokens(concertScheduleId);
-        int waitingCount = tokenRepository.countCurrentlyWaitingTokens(concertScheduleId);
-
-        // 만약 대기가 필요 없을 경우 바로 활성화 및 만료 시간 설정(5분)
-        if (activeTokenCount < queuePolicy.calculateConcurrentUserThreshold()) {
-            token.activate(queuePolicy.getActiveTokenDuration());
-        }
-
-        // 발급된 토큰 저장.
-        Token saved = tokenRepository.save(token);
-
-        // Redis 내 토큰 보관 자료구조 TTL 설정
-        tokenRepository.setQueueExpiration(concertScheduleId, Duration.ofHours(12).getSeconds());
+        // 활성화 여부 결정(대기가 필요 없을 경우 바로 활성화), 토큰 저장, 토큰 보관 자료구조 TTL 갱신은 저장소에 위임.
+        // 구현체에 따라 단일 원자 연산으로 수행됩니다.
+        Token saved = tokenRepository.issue(
+                token,
+                queuePolicy.calculateConcurrentUserThreshold(),
+                queuePolicy.getActiveTokenDuration(),
+                QUEUE_TTL.getSeconds());
 
         // 로그 기록
-        log.info("토큰 발급 완료 - tokenId: {}, userId: {}, status: {}, activeUsers: {}, waitingUsers: {}",
-                saved.getId(), userId, saved.getStatus(), activeTokenCount, waitingCount);
+        log.info("토큰 발급 완료 - tokenId: {}, userId: {}, status: {}",
+                saved.getId(), userId, saved.getStatus());
 
         return saved;
     }
@@ -123,6 +120,29 @@ public class QueueService {
         return tokenRepository.countRemaining(concertScheduleId, tokenId);
     }
 
+    /**
+     * 주어진 토큰들의 대기 순번 일괄 조회. 대기열에 없는 토큰은 결과에서 제외됩니다.
+     * 
+     * @param concertScheduleId
+     * @param tokenIds
+     * @return 토큰 ID 별 대기 순번
+     */
+    public Map<String, Integer> getWaitingPositions(Long concertScheduleId, List<String> tokenIds) {
+        return tokenRepository.findWaitingPositions(concertScheduleId, tokenIds);
+    }
+
+    /**
+     * 토큰 단건 조회
+     * 
+     * @param concertScheduleId
+     * @param tokenId
+     * @return
+     */
+    public Token getToken(Long concertScheduleId, String tokenId) {
+        return tokenRepository.findTokenWithIdAndConcertScheduleId(concertScheduleId, tokenId)
+                .orElseThrow(() -> new UnavailableRequestException(ErrorCode.TOKEN_NOT_FOUND, "해당 토큰이 존재하지 않습니다."));
+    }
+
     /**
      * 토큰 검증
      * 
@@ -130,6 +150,17 @@ public class QueueService {
      * @return
      */
     public boolean validateToken(Long concertScheduleId, String tokenId) {
+        return getValidatedToken(concertScheduleId, tokenId).isActive();
+    }
+
+    /**
+     * 토큰 검증 후 검증된(활성화 상태) 토큰 반환. 호출 측에서 검증 결과를 만료 시점까지 재사용할 수 있도록 토큰 자체를 반환합니다.
+     * 
+     * @param concertScheduleId
+     * @param tokenId
+     * @return
+     */
+    public Token getValidatedToken(Long concertScheduleId, String tokenId) {
         return tokenRepository.findTokenWithIdAndConcertScheduleId(concertScheduleId, tokenId)
                 .map(token -> {
                     if (token.isExpired()) {
@@ -137,7 +168,7 @@ public class QueueService {
                     } else if (token.isWait()) {
                         throw new UnavailableRequestException(ErrorCode.INVALID_REQUEST, "대기 중인 토큰은 사용 불가합니다.");
                     } else {
-                        return true;
+                        return token;
                     }
                 })
                 .orElseThrow(() -> new UnavailableRequestException(ErrorCode.TOKEN_NOT_FOUND, "해당 토큰이 존재하지 않습니다."));
@@ -153,12 +184,15 @@ public class QueueService {
     }
 
     /**
-     * 만료될 대기 중 토큰 조회
+     * 대기 유효 시간이 지난 대기 중 토큰을 가장 오래 대기한 순으로 최대 limit 개 조회
      * 
+     * @param concertScheduleId
+     * @param limit
      * @return
      */
-    public List<Token> getWaitingTokensToBeExpired() {
-        return tokenRepository.findWaitingTokensToBeExpired();
+    public List<Token> getWaitingTokensToBeExpired(Long concertScheduleId, int limit) {
+        LocalDateTime issuedBefore = LocalDateTime.now().minusHours(queuePolicy.getWaitingTokenDuration());
+        return tokenRepository.findWaitingTokensToBeExpired(concertScheduleId, issuedBefore, limit);
     }
 
     /**
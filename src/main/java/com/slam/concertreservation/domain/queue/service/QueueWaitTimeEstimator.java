@@ -0,0 +1,66 @@
+package com.slam.concertreservation.domain.queue.service;
+
+import com.slam.concertreservation.domain.queue.model.AdmissionThroughput;
+import com.slam.concertreservation.domain.queue.model.QueuePolicy;
+import com.slam.concertreservation.domain.queue.repository.QueueStatisticsRepository;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 대기 토큰의 예상 대기 시간 산출.
+ * <br>
+ * </br>
+ * 공연 일정의 담당 노드는 주기마다 진입 처리 결과를 {@link AdmissionThroughput} 에 반영하고, 갱신된 처리량을 저장소에 기록합니다. 모든 노드는
+ * 주기마다 한 번 전체 공연 일정의 처리량을 조회하여 로컬에 보관하므로, 요청마다의 예상 대기 시간 산출은 추가 Redis 조회 없이 O(1) 로 수행됩니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class QueueWaitTimeEstimator {
+
+    private final QueueStatisticsRepository queueStatisticsRepository;
+    private final QueuePolicy queuePolicy;
+
+    // 담당 노드에서 갱신하는 공연 일정별 처리량.
+    private final Map<Long, AdmissionThroughput> admissionThroughputs = new ConcurrentHashMap<>();
+
+    // 모든 노드가 주기마다 갱신하는 공연 일정별 처리량 스냅샷.
+    private volatile Map<Long, Double> admissionRates = Map.of();
+
+    /**
+     * 진입 처리 결과 반영. 대기 토큰이 존재하는 주기마다 진입 인원이 0 이더라도 호출되어야 처리량이 실제 진입 속도를 따라갑니다.
+     *
+     * @param concertScheduleId
+     * @param admittedCount
+     */
+    public void recordAdmission(Long concertScheduleId, int admittedCount) {
+        long now = System.nanoTime();
+        AdmissionThroughput throughput = admissionThroughputs.computeIfAbsent(concertScheduleId,
+                id -> new AdmissionThroughput(queuePolicy.getAdmissionRateWindowSeconds(), now));
+
+        queueStatisticsRepository.saveAdmissionRate(concertScheduleId, throughput.record(admittedCount, now));
+    }
+
+    /**
+     * 저장소로부터 전체 공연 일정의 처리량을 조회하여 로컬 스냅샷 갱신.
+     */
+    public void refreshAdmissionRates() {
+        admissionRates = Map.copyOf(queueStatisticsRepository.findAllAdmissionRates());
+    }
+
+    /**
+     * 예상 대기 시간(초) 산출. 처리량이 아직 집계되지 않았거나 진입이 멈춘 상태라면 null 을 반환합니다.
+     *
+     * @param concertScheduleId
+     * @param position 앞선 대기자 수
+     * @return
+     */
+    public Long estimateWaitSeconds(Long concertScheduleId, int position) {
+        Double ratePerSecond = admissionRates.get(concertScheduleId);
+        if (ratePerSecond == null || ratePerSecond <= 0) {
+            return null;
+        }
+        return (long) Math.ceil((position + 1) / ratePerSecond);
+    }
+}
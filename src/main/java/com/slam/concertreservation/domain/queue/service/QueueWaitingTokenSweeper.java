@@ -0,0 +1,61 @@
+package com.slam.concertreservation.domain.queue.service;
+
+import com.slam.concertreservation.domain.queue.model.QueuePolicy;
+import com.slam.concertreservation.domain.queue.model.Token;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * 대기 토큰 만료 처리기.
+ * <br>
+ * </br>
+ * 대기 유효 시간이 지나도록 진입하지 못한(이탈한) 대기 토큰이 대기열에 남아 있으면, 대기열 길이와 모든 대기자의 순번이 부풀려집니다.
+ * 스케줄러 주기마다 공연 일정별로 가장 오래 대기한 토큰부터 최대 {@code waitingTokenSweepBatchSize} 개씩 만료 처리하므로, 쌓인 토큰이
+ * 많더라도 한 주기에 Redis 를 오래 점유하지 않고 여러 주기에 걸쳐 점진적으로 정리됩니다.
+ */
+@Slf4j
+@Service
+public class QueueWaitingTokenSweeper {
+
+    private final QueueService queueService;
+    private final QueuePolicy queuePolicy;
+
+    private final Counter expiredCounter;
+
+    public QueueWaitingTokenSweeper(QueueService queueService, QueuePolicy queuePolicy, MeterRegistry meterRegistry) {
+        this.queueService = queueService;
+        this.queuePolicy = queuePolicy;
+        this.expiredCounter = Counter.builder("queue.waiting.expired")
+                .description("대기 유효 시간이 지나 만료 처리된 대기 토큰 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 특정 공연 일정의 대기 유효 시간이 지난 대기 토큰을 최대 한 묶음 만료 처리합니다.
+     *
+     * @param concertScheduleId
+     * @return 만료 처리된 토큰 목록
+     */
+    public List<Token> sweep(Long concertScheduleId) {
+        int batchSize = queuePolicy.getWaitingTokenSweepBatchSize();
+        if (batchSize <= 0) {
+            return List.of();
+        }
+
+        List<Token> toBeExpired = queueService.getWaitingTokensToBeExpired(concertScheduleId, batchSize);
+        if (toBeExpired.isEmpty()) {
+            return List.of();
+        }
+
+        List<Token> expired = queueService.expireToken(concertScheduleId, toBeExpired);
+        expiredCounter.increment(expired.size());
+
+        log.info("대기 토큰 만료 처리 완료 - concertScheduleId: {}, expiredCount: {}, batchFull: {}",
+                concertScheduleId, expired.size(), toBeExpired.size() == batchSize);
+
+        return expired;
+    }
+}
@@ -0,0 +1,18 @@
+package com.slam.concertreservation.domain.reservation.event;
+
+import com.slam.concertreservation.domain.reservation.model.Reservation;
+import java.util.List;
+
+/**
+ * 예약 일괄 만료 이벤트. 한 번의 일괄 만료 처리로 만료된 예약 목록을 담습니다.
+ *
+ * @param expirations 만료된 예약별 만료 이벤트
+ */
+public record ReservationBatchExpirationEvent(List<ReservationExpirationEvent> expirations) {
+
+    public static ReservationBatchExpirationEvent fromDomain(List<Reservation> reservations) {
+        return new ReservationBatchExpirationEvent(reservations.stream()
+                .map(ReservationExpirationEvent::fromDomain)
+                .toList());
+    }
+}
@@ -8,13 +8,15 @@ public record ReservationCreationEvent(
         Long concertScheduleId,
         Long userId,
         Long seatId,
-        LocalDateTime createdAt) {
+        LocalDateTime createdAt,
+        LocalDateTime expiredAt) {
     public static ReservationCreationEvent fromDomain(Reservation reservation) {
         return new ReservationCreationEvent(
                 reservation.getId(),
                 reservation.getConcertScheduleId(),
                 reservation.getUserId(),
                 reservation.getSeatId(),
-                reservation.getCreatedAt());
+                reservation.getCreatedAt(),
+                reservation.getExpiredAt());
     }
 }
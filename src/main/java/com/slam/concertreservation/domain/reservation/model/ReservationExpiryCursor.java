@@ -0,0 +1,17 @@
+package com.slam.concertreservation.domain.reservation.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * 만료 대상 예약 조회 위치. 만료 대상은 {@code (expiredAt, reservationId)} 순으로 조회되며, 직전 페이지의 마지막 예약 다음부터 이어서
+ * 조회합니다.
+ *
+ * @param expiredAt     직전 페이지 마지막 예약의 만료 시각
+ * @param reservationId 직전 페이지 마지막 예약의 ID. 만료 시각이 같은 예약 간 순서를 정한다.
+ */
+public record ReservationExpiryCursor(LocalDateTime expiredAt, Long reservationId) {
+
+    public static ReservationExpiryCursor of(Reservation reservation) {
+        return new ReservationExpiryCursor(reservation.getExpiredAt(), reservation.getId());
+    }
+}
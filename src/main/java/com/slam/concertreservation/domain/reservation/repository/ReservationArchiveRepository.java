@@ -0,0 +1,12 @@
+package com.slam.concertreservation.domain.reservation.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ReservationArchiveRepository {
+    // 공연 시각이 finishedBefore 이전이면서 보관할 예약이 남은 공연 일정 ID 를 오래된 순으로 최대 limit 개 조회.
+    List<Long> findArchivableConcertScheduleIds(LocalDateTime finishedBefore, int limit);
+
+    // 공연 일정의 결제/취소/만료 예약을 보관 저장소로 옮김. 옮긴 예약 수 반환.
+    int archive(Long concertScheduleId);
+}
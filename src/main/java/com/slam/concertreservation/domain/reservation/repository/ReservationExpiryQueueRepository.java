@@ -0,0 +1,12 @@
+package com.slam.concertreservation.domain.reservation.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ReservationExpiryQueueRepository {
+    // 가예약을 만료 시각에 꺼내지도록 지연 큐에 적재. 이미 적재된 가예약이라면 만료 시각만 갱신.
+    void schedule(Long reservationId, LocalDateTime expiredAt);
+
+    // 만료 시각이 now 이전인 가예약 ID 를 만료 시각 순으로 최대 limit 건 꺼냄. 꺼낸 가예약은 지연 큐에서 제거된다.
+    List<Long> pollDue(LocalDateTime now, int limit);
+}
@@ -1,6 +1,8 @@
 package com.slam.concertreservation.domain.reservation.repository;
 
 import com.slam.concertreservation.domain.reservation.model.Reservation;
+import com.slam.concertreservation.domain.reservation.model.ReservationExpiryCursor;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -9,16 +11,25 @@ public interface ReservationRepository {
     // 예약 저장.
     Reservation save(Reservation reservation);
 
+    // 신규 예약을 즉시 INSERT. 같은 좌석에 진행 중인 예약이 이미 있다면 UnavailableRequestException 이 발생한다.
+    Reservation insert(Reservation reservation);
+
+    // 신규 예약 목록을 즉시 INSERT. 하나라도 같은 좌석에 진행 중인 예약이 있다면 UnavailableRequestException 이 발생한다.
+    List<Reservation> insertAll(List<Reservation> reservations);
+
     // 예약 ID로 예약 조회
     Optional<Reservation> findById(Long reservationId);
 
     // 사용자 ID로 예약 조회
     List<Reservation> findByUserId(Long userId);
 
-    // 공연 일정 ID와 좌석 ID로 예약 조회. 단 건 조회인 대신 Service.register() 시 중복 여부 검증을 수행한다.
+    // 공연 일정 ID와 좌석 ID로 예약 조회. 만료/취소된 이전 예약이 함께 있다면 가장 최근 예약을 반환한다.
     Optional<Reservation> findByConcertScheduleIdAndSeatId(Long concertScheduleId, Long seatId);
 
-    // 공연 일정 ID와 사용자 ID로 예약 조회.
+    // 공연 일정 ID와 좌석 ID 목록으로 예약 조회.
+    List<Reservation> findAllByConcertScheduleIdAndSeatIds(Long concertScheduleId, List<Long> seatIds);
+
+    // 공연 일정 ID와 사용자 ID로 예약 조회. 여러 건이라면 가장 최근 예약을 반환한다.
     Optional<Reservation> findByConcertScheduleIdAndUserId(Long concertScheduleId, Long userId);
 
     // 공연 일정 ID로 예약 조회
@@ -27,6 +38,19 @@ public interface ReservationRepository {
     // 만료 대상인 예약 전체 조회.
     List<Reservation> findAllByExpirationCriteria();
 
+    // now 기준 만료 대상인 예약을 (만료 시각, ID) 순으로 after 다음부터 최대 limit 건 조회. after 가 없다면 처음부터 조회한다.
+    // 다른 만료 처리와 겹치지 않도록 조회한 예약에 쓰기 락을 건다.
+    List<Reservation> findAllByExpirationCriteria(LocalDateTime now, ReservationExpiryCursor after, int limit);
+
+    // 예약 ID 목록 중 now 기준 만료 대상인 예약 조회. 조회한 예약에 쓰기 락을 건다.
+    List<Reservation> findAllByIdsAndExpirationCriteria(List<Long> reservationIds, LocalDateTime now);
+
+    // 예약 ID 목록 중 가예약 상태인 예약 조회.
+    List<Reservation> findAllPreemptedByIds(List<Long> reservationIds);
+
+    // 예약 ID 목록 중 가예약 상태인 예약을 일괄 만료 처리. 만료된 예약 수 반환.
+    int expireAll(List<Long> reservationIds);
+
     // 특정 유저의 가예약 조회.
     Optional<Reservation> findPendingReservationByUserId(Long userId);
 
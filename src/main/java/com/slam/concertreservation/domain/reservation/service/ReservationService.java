@@ -1,14 +1,17 @@
 package com.slam.concertreservation.domain.reservation.service;
 
 import com.slam.concertreservation.common.error.ErrorCode;
+import com.slam.concertreservation.domain.reservation.event.ReservationBatchExpirationEvent;
 import com.slam.concertreservation.domain.reservation.event.ReservationCancellationEvent;
 import com.slam.concertreservation.domain.reservation.event.ReservationCreationEvent;
 import com.slam.concertreservation.domain.reservation.event.ReservationExpirationEvent;
 import com.slam.concertreservation.domain.reservation.model.Reservation;
-import com.slam.concertreservation.domain.reservation.model.ReservationStatus;
+import com.slam.concertreservation.domain.reservation.model.ReservationExpiryCursor;
 import com.slam.concertreservation.domain.reservation.repository.ReservationRepository;
 import com.slam.concertreservation.common.exceptions.UnavailableRequestException;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
@@ -26,13 +29,18 @@ public class ReservationService {
          * 예약을 생성합니다. 생성 시 예약 상테는 {@code ReservationStatus.BOOKED} 입니다.
          * <br>
          * </br>
-         * 또한, 도메인 모델 인스턴스 생성 당시엔 확정이 불가했던 expiredAt 필드를 초기화한 후 명시적으로 한 번 더 저장하여 갱신해줍니다.
+         * 만료 시간은 생성 시점 기준으로 미리 정해 두므로, 예약 생성은 INSERT 한 번으로 끝납니다.
          * <br>
          * </br>
          * 예약 생성 시 중복 검증을 시행합니다. 중복 시 {@code UnavailableRequestException} 발생합니다.
          * <br>
          * 이때 중복이란, 해당 좌석에 대해 {@code ReservationStatus.EXPIRED} 혹은
-         * {@code ReservationStatus.CANCELLED} 가 아닌 예약이 이미 존재하는 경우를 의미합니다.
+         * {@code ReservationStatus.CANCELLED} 가 아닌 예약이 이미 존재하는 경우를 의미합니다. 중복 여부는 미리 조회하지 않고, 좌석당 진행 중인
+         * 예약을 하나로 제한하는 DB 유니크 인덱스가 INSERT 시점에 판정합니다. 따라서 동시에 같은 좌석을 예약하더라도 하나만 생성됩니다.
+         * <br>
+         * </br>
+         * 예약 생성 이벤트는 INSERT 이후에 발행하므로, 중복으로 실패한 경우 좌석 선점을 해제하지 않습니다. 이 경우 좌석은 이전 요청에서 선점되어
+         * 이미 진행 중인 예약이 사용 중인 좌석입니다.
          * 
          * @param userId
          * @param concertScheduleId
@@ -41,19 +49,9 @@ public class ReservationService {
          */
         @Transactional
         public Reservation createReservation(Long userId, Long concertScheduleId, Long seatId, Integer price) {
-                reservationRepository.findByConcertScheduleIdAndSeatId(concertScheduleId, seatId)
-                                .filter(reservation -> reservation.getStatus() != ReservationStatus.EXPIRED &&
-                                                reservation.getStatus() != ReservationStatus.CANCELLED)
-                                .ifPresent(reservation -> {
-                                        throw new UnavailableRequestException(ErrorCode.RESERVATION_ALREADY_EXISTS,
-                                                        "해당 좌석에 대한 예약이 이미 존재하므로 예약이 불가합니다.");
-                                });
-
-                Reservation reservation = Reservation.create(userId, seatId, concertScheduleId, price); // 가예약 생성
-                Reservation createdTemporaryReservation = reservationRepository.save(reservation); // 가예약 저장
-                createdTemporaryReservation.initiateExpiredAt(); // 만료 시간 초기화
-                Reservation savedReservation = reservationRepository.save(createdTemporaryReservation); // 만료 시간 갱신된 가예약
-                                                                                                        // 저장
+                Reservation reservation = Reservation.create(userId, seatId, concertScheduleId, price,
+                                LocalDateTime.now().plusMinutes(Reservation.VALID_FOR_MINUTES)); // 가예약 생성
+                Reservation savedReservation = reservationRepository.insert(reservation); // 가예약 저장 (중복 시 예외)
 
                 log.info(
                                 "예약 생성 완료 - reservationId: {}, userId: {}, seatId: {}, concertScheduleId: {}, price: {}, expiredAt: {}",
@@ -65,6 +63,45 @@ public class ReservationService {
                 return savedReservation;
         }
 
+        /**
+         * 한 사용자의 여러 좌석에 대한 가예약을 하나의 트랜잭션으로 생성합니다. 하나라도 생성할 수 없다면 모두 생성되지 않습니다.
+         * <br>
+         * </br>
+         * 중복 기준과 검증 방식은 {@link #createReservation} 과 같으며, 모든 가예약을 한 번에 INSERT 합니다.
+         * <br>
+         * </br>
+         * 좌석은 같은 요청에서 방금 선점되었으므로, 예약 생성 이벤트를 INSERT 이전에 좌석별로 발행합니다. 따라서 중복으로 INSERT 가 실패하는
+         * 경우를 포함하여 트랜잭션이 롤백되면, 이벤트에 의해 이 요청에서 선점한 좌석이 모두 해제됩니다. 가예약 ID 와 만료 시각은 INSERT 이전에
+         * 정해지므로 커밋 이후의 만료 예약 역시 같은 이벤트로 처리됩니다.
+         *
+         * @param userId
+         * @param concertScheduleId
+         * @param pricesBySeatId    좌석 ID 별 가격
+         * @return 생성된 가예약 목록
+         */
+        @Transactional
+        public List<Reservation> createReservations(Long userId, Long concertScheduleId,
+                        Map<Long, Integer> pricesBySeatId) {
+                List<Long> seatIds = List.copyOf(pricesBySeatId.keySet());
+                LocalDateTime expiredAt = LocalDateTime.now().plusMinutes(Reservation.VALID_FOR_MINUTES);
+                List<Reservation> reservations = seatIds.stream()
+                                .map(seatId -> Reservation.create(userId, seatId, concertScheduleId,
+                                                pricesBySeatId.get(seatId), expiredAt))
+                                .toList();
+
+                // INSERT 실패 시에도 롤백 이후 선점 좌석이 해제되도록 INSERT 이전에 이벤트 발행.
+                reservations.forEach(reservation -> applicationEventPublisher
+                                .publishEvent(ReservationCreationEvent.fromDomain(reservation)));
+
+                List<Reservation> savedReservations = reservationRepository.insertAll(reservations); // 중복 시 예외
+
+                log.info("예약 일괄 생성 완료 - reservationIds: {}, userId: {}, seatIds: {}, concertScheduleId: {}",
+                                savedReservations.stream().map(Reservation::getId).toList(), userId, seatIds,
+                                concertScheduleId);
+
+                return savedReservations;
+        }
+
         /**
          * 예약 ID로 예약 조회
          * 
@@ -152,6 +189,70 @@ public class ReservationService {
                 return expiredReservation;
         }
 
+        /**
+         * now 기준 만료 대상인 가예약을 after 다음부터 최대 limit 건 일괄 만료 처리합니다.
+         * <br>
+         * </br>
+         * 만료 대상을 {@code (expiredAt, reservationId)} 순으로 쓰기 락을 걸어 조회한 뒤, 건별 조회/저장 없이 한 번의 UPDATE 로 만료합니다.
+         * 조회한 예약에 락이 걸려 있으므로 같은 예약에 대한 결제 확정, 다른 노드의 만료 처리와 겹치지 않습니다.
+         * <br>
+         * </br>
+         * 호출자는 반환된 마지막 예약으로 다음 조회 위치를 정하여, OFFSET 없이 만료 대상을 페이지 단위로 끝까지 순회할 수 있습니다. 만료된 예약
+         * 전체에 대해 하나의 일괄 만료 이벤트를 발행하며, 커밋 이후 선점 좌석이 일괄 해제됩니다.
+         *
+         * @param now   만료 기준 시각. 한 번의 순회 동안 고정하여 순회 범위를 제한한다.
+         * @param after 직전 페이지의 마지막 예약 위치. 없다면 처음부터.
+         * @param limit 한 번에 만료 처리할 최대 예약 수
+         * @return 만료 처리된 예약 목록. (expiredAt, reservationId) 순.
+         */
+        @Transactional
+        public List<Reservation> expireReservations(LocalDateTime now, ReservationExpiryCursor after, int limit) {
+                return expireAll(reservationRepository.findAllByExpirationCriteria(now, after, limit));
+        }
+
+        /**
+         * 주어진 예약 중 만료 시각이 지난 가예약을 일괄 만료 처리합니다. 만료 지연 큐에서 꺼낸 가예약의 만료 시 활용됩니다.
+         * <br>
+         * </br>
+         * 이미 결제, 취소, 만료되어 가예약 상태가 아니거나 now 기준 만료 시각이 지나지 않은 예약은 건너뜁니다. 처리 방식은
+         * {@link #expireReservations(LocalDateTime, ReservationExpiryCursor, int)} 와 같습니다.
+         *
+         * @param reservationIds
+         * @param now            만료 기준 시각. 지연 큐에서 꺼낼 때의 기준 시각과 같아야 한다.
+         * @return 만료 처리된 예약 목록
+         */
+        @Transactional
+        public List<Reservation> expireReservations(List<Long> reservationIds, LocalDateTime now) {
+                return expireAll(reservationRepository.findAllByIdsAndExpirationCriteria(reservationIds, now));
+        }
+
+        /**
+         * 예약 ID 목록 중 아직 가예약 상태인 예약 조회. 지연 큐에서 꺼냈으나 만료되지 않은 가예약을 다시 적재할 때 활용됩니다.
+         *
+         * @param reservationIds
+         * @return
+         */
+        public List<Reservation> getPreemptedReservations(List<Long> reservationIds) {
+                return reservationRepository.findAllPreemptedByIds(reservationIds);
+        }
+
+        private List<Reservation> expireAll(List<Reservation> toBeExpired) {
+                if (toBeExpired.isEmpty()) {
+                        return toBeExpired;
+                }
+
+                toBeExpired.forEach(Reservation::expire); // 도메인 규칙 검증 및 상태 변경
+                int expiredCount = reservationRepository
+                                .expireAll(toBeExpired.stream().map(Reservation::getId).toList());
+
+                log.info("예약 일괄 만료 처리 - 대상: {}건, 만료: {}건", toBeExpired.size(), expiredCount);
+
+                applicationEventPublisher.publishEvent(ReservationBatchExpirationEvent.fromDomain(toBeExpired)); // 이벤트
+                                                                                                                 // 발행
+
+                return toBeExpired;
+        }
+
         /**
          * 만료 처리 대상인 예약 전체 조회. 이후 가예약 건에 대한 만료 시 활용됩니다.
          * <br>
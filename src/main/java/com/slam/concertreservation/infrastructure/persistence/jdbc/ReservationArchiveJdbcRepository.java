@@ -0,0 +1,86 @@
+package com.slam.concertreservation.infrastructure.persistence.jdbc;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 예약 보관 저장소.
+ * <br>
+ * </br>
+ * 종료된 공연 일정의 예약을 예약 테이블에서 보관 테이블로 옮깁니다. 행을 애플리케이션으로 읽어오지 않고 INSERT ... SELECT 와 DELETE 두 문장으로
+ * 공연 일정 단위로 옮기며, 호출한 트랜잭션의 커넥션을 그대로 사용하므로 두 문장은 원자적으로 반영됩니다.
+ * <br>
+ * </br>
+ * 가예약, 결제 대기 예약처럼 아직 상태가 바뀔 수 있는 예약은 옮기지 않으며, 만료 처리 등으로 상태가 확정된 뒤 다음 보관 시 옮겨집니다.
+ */
+@Repository
+public class ReservationArchiveJdbcRepository {
+
+    private static final String FINISHED_STATUSES = "('CONFIRMED', 'CANCELLED', 'EXPIRED')";
+
+    private static final String FIND_ARCHIVABLE_CONCERT_SCHEDULE_IDS_SQL = """
+            SELECT c.concert_schedule_id
+            FROM `CONCERTSCHEDULE` c
+            WHERE c.datetime < ?
+              AND EXISTS (SELECT 1 FROM `RESERVATION` r
+                          WHERE r.concert_schedule_id = c.concert_schedule_id AND r.status IN %s)
+            ORDER BY c.datetime
+            LIMIT ?
+            """.formatted(FINISHED_STATUSES);
+
+    private static final String COPY_TO_ARCHIVE_SQL = """
+            INSERT INTO `RESERVATION_ARCHIVE`
+                (reservation_id, user_id, concert_schedule_id, seat_id, price, status, expired_at,
+                 created_at, updated_at, archived_at)
+            SELECT reservation_id, user_id, concert_schedule_id, seat_id, price, status, expired_at,
+                   created_at, updated_at, ?
+            FROM `RESERVATION`
+            WHERE concert_schedule_id = ? AND status IN %s
+            """.formatted(FINISHED_STATUSES);
+
+    private static final String DELETE_ARCHIVED_SQL = """
+            DELETE FROM `RESERVATION`
+            WHERE concert_schedule_id = ? AND status IN %s
+            """.formatted(FINISHED_STATUSES);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ReservationArchiveJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 공연 시각이 finishedBefore 이전이면서 예약 테이블에 보관 대상 예약이 남은 공연 일정 ID 를 오래된 순으로 최대 limit 개 조회.
+     *
+     * @param finishedBefore
+     * @param limit
+     * @return
+     */
+    public List<Long> findArchivableConcertScheduleIds(LocalDateTime finishedBefore, int limit) {
+        return jdbcTemplate.queryForList(FIND_ARCHIVABLE_CONCERT_SCHEDULE_IDS_SQL, Long.class,
+                Timestamp.valueOf(finishedBefore), limit);
+    }
+
+    /**
+     * 공연 일정의 보관 대상 예약을 보관 테이블로 옮깁니다.
+     * <br>
+     * </br>
+     * 복사한 행 수와 삭제한 행 수가 다르다면 복사 이후 예약이 변경된 것이므로 예외를 던져 호출한 트랜잭션을 롤백시킵니다.
+     *
+     * @param concertScheduleId
+     * @param archivedAt
+     * @return 옮긴 예약 수
+     */
+    public int moveToArchive(Long concertScheduleId, LocalDateTime archivedAt) {
+        int copied = jdbcTemplate.update(COPY_TO_ARCHIVE_SQL, Timestamp.valueOf(archivedAt), concertScheduleId);
+        int deleted = jdbcTemplate.update(DELETE_ARCHIVED_SQL, concertScheduleId);
+        if (copied != deleted) {
+            throw new IllegalStateException("보관 중 예약이 변경되었습니다. concertScheduleId: " + concertScheduleId
+                    + ", copied: " + copied + ", deleted: " + deleted);
+        }
+        return deleted;
+    }
+}
@@ -0,0 +1,64 @@
+package com.slam.concertreservation.infrastructure.persistence.jdbc;
+
+import com.slam.concertreservation.domain.concert.model.Seat;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 좌석 대량 저장소.
+ * <br>
+ * </br>
+ * 좌석 ID 는 TSID 로 미리 할당되므로 {@code JpaRepository.saveAll} 은 좌석마다 존재 여부를 확인(SELECT)한 뒤 병합하고, 쓰기 지연
+ * 배치도 적용되지 않아 좌석 수만큼 INSERT 가 개별 전송됩니다. 해당 저장소는 JDBC 배치로 {@code batchSize} 개씩 묶어 전송하며,
+ * {@code rewriteBatchedStatements=true} 인 경우 MySQL 드라이버가 이를 다중 행 INSERT 하나로 재작성합니다.
+ * <br>
+ * </br>
+ * 호출한 트랜잭션의 커넥션을 그대로 사용하므로 공연 일정 저장과 원자적으로 처리됩니다. 영속성 컨텍스트를 거치지 않으므로 생성/수정 일시는 직접
+ * 기록합니다.
+ */
+@Repository
+public class SeatJdbcRepository {
+
+    private static final String INSERT_SEAT_SQL = """
+            INSERT INTO `SEAT` (seat_id, concert_schedule_id, number, price, status, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    public SeatJdbcRepository(
+            JdbcTemplate jdbcTemplate,
+            @Value("${app.seat.bulk-insert-batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 좌석 일괄 저장.
+     *
+     * @param seats
+     * @return 저장 요청한 좌석 수
+     */
+    public int insertAll(List<Seat> seats) {
+        if (seats.isEmpty()) {
+            return 0;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SEAT_SQL, seats, batchSize, (ps, seat) -> {
+            ps.setLong(1, seat.getId());
+            ps.setLong(2, seat.getConcertScheduleId());
+            ps.setInt(3, seat.getNumber());
+            ps.setInt(4, seat.getPrice());
+            ps.setString(5, seat.getStatus().name());
+            ps.setTimestamp(6, now);
+            ps.setTimestamp(7, now);
+        });
+        return seats.size();
+    }
+}
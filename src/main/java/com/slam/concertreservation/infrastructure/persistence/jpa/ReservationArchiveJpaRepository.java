@@ -0,0 +1,24 @@
+package com.slam.concertreservation.infrastructure.persistence.jpa;
+
+import com.slam.concertreservation.infrastructure.persistence.jpa.entities.ReservationArchiveJpaEntity;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ReservationArchiveJpaRepository extends JpaRepository<ReservationArchiveJpaEntity, Long> {
+
+        List<ReservationArchiveJpaEntity> findByUserId(Long userId);
+
+        List<ReservationArchiveJpaEntity> findByConcertScheduleId(Long concertScheduleId);
+
+        // 공연 일정 ID와 좌석 ID로 보관 예약 조회. 한 좌석에 여러 예약이 보관될 수 있으므로 최근 예약 순으로 반환한다.
+        @Query("SELECT r FROM ReservationArchiveJpaEntity r WHERE r.concertScheduleId = :concertScheduleId AND r.seatId = :seatId ORDER BY r.created_at DESC")
+        List<ReservationArchiveJpaEntity> findByConcertScheduleIdAndSeatId(
+                        @Param("concertScheduleId") Long concertScheduleId, @Param("seatId") Long seatId);
+
+        // 공연 일정 ID와 사용자 ID로 보관 예약 조회. 최근 예약 순으로 반환한다.
+        @Query("SELECT r FROM ReservationArchiveJpaEntity r WHERE r.concertScheduleId = :concertScheduleId AND r.userId = :userId ORDER BY r.created_at DESC")
+        List<ReservationArchiveJpaEntity> findByConcertScheduleIdAndUserId(
+                        @Param("concertScheduleId") Long concertScheduleId, @Param("userId") Long userId);
+}
@@ -1,10 +1,14 @@
 package com.slam.concertreservation.infrastructure.persistence.jpa;
 
 import com.slam.concertreservation.infrastructure.persistence.jpa.entities.ReservationJpaEntity;
+import jakarta.persistence.LockModeType;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -12,14 +16,19 @@ public interface ReservationJpaRepository extends JpaRepository<ReservationJpaEn
 
         List<ReservationJpaEntity> findByUserId(Long userId);
 
-        // 공연 일정 ID와 좌석 ID로 예약 조회. 단 건 조회인 대신 Service.register() 시 중복 여부 검증을 수행한다.
-        @Query("SELECT r FROM ReservationJpaEntity r WHERE r.concertScheduleId = :concertScheduleId AND r.seatId = :seatId")
-        Optional<ReservationJpaEntity> findByConcertScheduleIdAndSeatId(
+        // 공연 일정 ID와 좌석 ID로 예약 조회. 만료/취소된 이전 예약이 함께 있을 수 있으므로 최신 예약부터 반환한다.
+        @Query("SELECT r FROM ReservationJpaEntity r WHERE r.concertScheduleId = :concertScheduleId AND r.seatId = :seatId ORDER BY r.created_at DESC")
+        List<ReservationJpaEntity> findByConcertScheduleIdAndSeatId(
                         @Param("concertScheduleId") Long concertScheduleId, @Param("seatId") Long seatId);
 
-        // 공연 일정 ID와 사용자 ID로 예약 조회.
-        @Query("SELECT r FROM ReservationJpaEntity r WHERE r.concertScheduleId = :concertScheduleId AND r.userId = :userId")
-        Optional<ReservationJpaEntity> findByConcertScheduleIdAndUserId(
+        // 공연 일정 ID와 좌석 ID 목록으로 예약 조회.
+        @Query("SELECT r FROM ReservationJpaEntity r WHERE r.concertScheduleId = :concertScheduleId AND r.seatId IN :seatIds")
+        List<ReservationJpaEntity> findAllByConcertScheduleIdAndSeatIds(
+                        @Param("concertScheduleId") Long concertScheduleId, @Param("seatIds") List<Long> seatIds);
+
+        // 공연 일정 ID와 사용자 ID로 예약 조회. 최신 예약부터 반환한다.
+        @Query("SELECT r FROM ReservationJpaEntity r WHERE r.concertScheduleId = :concertScheduleId AND r.userId = :userId ORDER BY r.created_at DESC")
+        List<ReservationJpaEntity> findByConcertScheduleIdAndUserId(
                         @Param("concertScheduleId") Long concertScheduleId, @Param("userId") Long userId);
 
         // 공연 일정 ID로 예약 조회
@@ -29,6 +38,36 @@ public interface ReservationJpaRepository extends JpaRepository<ReservationJpaEn
         @Query("SELECT r FROM ReservationJpaEntity r WHERE r.status = 'PREEMPTED' AND r.expiredAt < :now")
         List<ReservationJpaEntity> findAllByExpirationCriteria(@Param("now") LocalDateTime now);
 
+        // 만료 대상 예약 목록의 첫 페이지를 (만료 시각, ID) 순으로 조회하며, 조회한 행에 쓰기 락을 건다.
+        // (status, expiredAt) 인덱스를 범위 조회하며, 인덱스에 PK 가 포함되므로 정렬을 위한 filesort 가 발생하지 않는다.
+        @Lock(LockModeType.PESSIMISTIC_WRITE)
+        @Query("SELECT r FROM ReservationJpaEntity r WHERE r.status = 'PREEMPTED' AND r.expiredAt < :now ORDER BY r.expiredAt, r.id")
+        List<ReservationJpaEntity> findAllByExpirationCriteria(@Param("now") LocalDateTime now, Pageable pageable);
+
+        // 만료 대상 예약 목록의 다음 페이지를 직전 페이지 마지막 예약의 (만료 시각, ID) 다음부터 조회하며, 조회한 행에 쓰기 락을 건다.
+        @Lock(LockModeType.PESSIMISTIC_WRITE)
+        @Query("SELECT r FROM ReservationJpaEntity r WHERE r.status = 'PREEMPTED' AND r.expiredAt < :now "
+                        + "AND (r.expiredAt > :lastExpiredAt OR (r.expiredAt = :lastExpiredAt AND r.id > :lastReservationId)) "
+                        + "ORDER BY r.expiredAt, r.id")
+        List<ReservationJpaEntity> findAllByExpirationCriteriaAfter(@Param("now") LocalDateTime now,
+                        @Param("lastExpiredAt") LocalDateTime lastExpiredAt,
+                        @Param("lastReservationId") Long lastReservationId, Pageable pageable);
+
+        // 예약 ID 목록 중 만료 대상 예약 목록을 조회하며, 조회한 행에 쓰기 락을 건다.
+        @Lock(LockModeType.PESSIMISTIC_WRITE)
+        @Query("SELECT r FROM ReservationJpaEntity r WHERE r.id IN :reservationIds AND r.status = 'PREEMPTED' AND r.expiredAt <= :now")
+        List<ReservationJpaEntity> findAllByIdsAndExpirationCriteria(
+                        @Param("reservationIds") List<Long> reservationIds, @Param("now") LocalDateTime now);
+
+        // 예약 ID 목록 중 가예약 상태인 예약 목록 조회.
+        @Query("SELECT r FROM ReservationJpaEntity r WHERE r.id IN :reservationIds AND r.status = 'PREEMPTED'")
+        List<ReservationJpaEntity> findAllPreemptedByIds(@Param("reservationIds") List<Long> reservationIds);
+
+        // 가예약 상태인 예약 일괄 만료 처리
+        @Modifying(clearAutomatically = true)
+        @Query("UPDATE ReservationJpaEntity r SET r.status = 'EXPIRED', r.updated_at = :now WHERE r.id IN :reservationIds AND r.status = 'PREEMPTED'")
+        int expireAll(@Param("reservationIds") List<Long> reservationIds, @Param("now") LocalDateTime now);
+
         // 특정 유저의 가예약 조회.
         @Query("SELECT r FROM ReservationJpaEntity r WHERE r.userId = :userId AND r.status = 'PREEMPTED'")
         Optional<ReservationJpaEntity> findPendingReservationByUserId(@Param("userId") Long userId);
@@ -1,8 +1,11 @@
 package com.slam.concertreservation.infrastructure.persistence.jpa;
 
 import com.slam.concertreservation.infrastructure.persistence.jpa.entities.SeatJpaEntity;
+import jakarta.persistence.LockModeType;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -13,6 +16,25 @@ public interface SeatJpaRepository extends JpaRepository<SeatJpaEntity, Long> {
     @Query("SELECT s FROM SeatJpaEntity s WHERE s.concertScheduleId = :concertScheduleId AND s.status = 'AVAILABLE'")
     List<SeatJpaEntity> findAllAvailableSeatsByConcertScheduleId(Long concertScheduleId);
 
+    // 좌석 ID 목록 중 선점 중인 좌석을 조회하며, 조회한 행에 쓰기 락을 건다. 동시 요청 간 교착을 피하도록 좌석 ID 순으로 락을 건다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM SeatJpaEntity s WHERE s.seatId IN :seatIds AND s.status = 'UNAVAILABLE' ORDER BY s.seatId")
+    List<SeatJpaEntity> findAllOccupiedByIdsForUpdate(@Param("seatIds") List<Long> seatIds);
+
     @Query("SELECT COUNT(s) FROM SeatJpaEntity s WHERE s.concertScheduleId = :concertScheduleId AND s.status = 'UNAVAILABLE'")
     int findOccupiedSeatsCount(@Param("concertScheduleId") Long concertScheduleId);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE SeatJpaEntity s SET s.status = :status WHERE s.seatId IN :seatIds")
+    int updateStatusAll(@Param("seatIds") List<Long> seatIds, @Param("status") String status);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE SeatJpaEntity s SET s.status = :status WHERE s.seatId = :seatId AND s.status = :expected")
+    int updateStatusIfMatches(@Param("seatId") Long seatId, @Param("expected") String expected,
+            @Param("status") String status);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE SeatJpaEntity s SET s.status = :status WHERE s.seatId IN :seatIds AND s.status = :expected")
+    int updateStatusAllIfMatches(@Param("seatIds") List<Long> seatIds, @Param("expected") String expected,
+            @Param("status") String status);
 }
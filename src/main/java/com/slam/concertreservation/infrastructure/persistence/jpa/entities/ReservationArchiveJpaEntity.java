@@ -0,0 +1,53 @@
+package com.slam.concertreservation.infrastructure.persistence.jpa.entities;
+
+import com.slam.concertreservation.domain.reservation.model.Reservation;
+import com.slam.concertreservation.domain.reservation.model.ReservationStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * 보관 예약. 종료된 공연 일정의 결제/취소/만료 예약이 예약 테이블에서 옮겨져 보관됩니다.
+ * <br>
+ * </br>
+ * 보관은 {@code ReservationArchiveJdbcRepository} 가 INSERT ... SELECT 로 수행하며, 보관된 예약은 더 이상 변경되지 않으므로 조회 전용으로
+ * 매핑합니다.
+ */
+@Entity
+@Immutable
+@Getter
+@Table(name = "`RESERVATION_ARCHIVE`", indexes = {
+        @Index(name = "IDX_RESERVATION_ARCHIVE_SCHEDULE_SEAT", columnList = "concertScheduleId, seatId"),
+        @Index(name = "IDX_RESERVATION_ARCHIVE_USER", columnList = "userId")
+})
+public class ReservationArchiveJpaEntity extends BaseJpaEntity {
+
+    @Id
+    @Column(name = "reservation_id")
+    private Long id;
+    private Long userId;
+    private Long concertScheduleId;
+    private Long seatId;
+    private Integer price;
+    private String status;
+    private LocalDateTime expiredAt;
+    private LocalDateTime archivedAt;
+
+    public Reservation toDomain() {
+        return Reservation.create(
+                this.getId(),
+                this.getUserId(),
+                this.getSeatId(),
+                this.getConcertScheduleId(),
+                ReservationStatus.valueOf(this.getStatus()),
+                this.getPrice(),
+                this.getExpiredAt(),
+                this.getCreated_at(),
+                this.getUpdated_at());
+    }
+}
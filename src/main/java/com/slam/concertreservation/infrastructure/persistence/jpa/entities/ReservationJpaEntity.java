@@ -5,14 +5,30 @@ import com.slam.concertreservation.domain.reservation.model.ReservationStatus;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import jakarta.persistence.UniqueConstraint;
 import java.time.LocalDateTime;
 import lombok.Getter;
+import org.springframework.data.domain.Persistable;
 
 @Entity
 @Getter
-@Table(name = "`RESERVATION`")
-public class ReservationJpaEntity extends BaseJpaEntity {
+@Table(name = "`RESERVATION`", indexes = {
+        @Index(name = "IDX_RESERVATION_USER", columnList = "userId"),
+        @Index(name = "IDX_RESERVATION_SCHEDULE", columnList = "concertScheduleId"),
+        @Index(name = "IDX_RESERVATION_STATUS_EXPIRED_AT", columnList = "status, expiredAt")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = ReservationJpaEntity.ACTIVE_SEAT_CONSTRAINT, columnNames = { "concertScheduleId",
+                "activeSeatKey" })
+})
+public class ReservationJpaEntity extends BaseJpaEntity implements Persistable<Long> {
+
+    // 좌석당 진행 중인 예약은 하나뿐임을 보장하는 유니크 인덱스
+    public static final String ACTIVE_SEAT_CONSTRAINT = "UK_RESERVATION_ACTIVE_SEAT";
 
     @Id
     @Column(name = "reservation_id")
@@ -24,6 +40,26 @@ public class ReservationJpaEntity extends BaseJpaEntity {
     private String status;
     private LocalDateTime expiredAt;
 
+    // 진행 중(가예약, 결제 대기, 결제 완료)인 예약에만 좌석 ID 가 채워지는 생성 컬럼. 만료/취소된 예약은 NULL 이 되어 유니크 인덱스의 제약을 받지 않는다.
+    @Column(insertable = false, updatable = false, columnDefinition = "BIGINT GENERATED ALWAYS AS "
+            + "(CASE WHEN status IN ('PREEMPTED', 'PAYMENT_PENDING', 'CONFIRMED') THEN seat_id END) VIRTUAL")
+    private Long activeSeatKey;
+
+    // 예약 ID(TSID)는 애플리케이션에서 할당되므로, 신규 여부를 직접 관리하여 저장 시 merge 전 SELECT 를 생략한다.
+    @Transient
+    private boolean newEntity = true;
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+
     public Reservation toDomain() {
         return Reservation.create(
                 this.getId(),
@@ -5,17 +5,21 @@ import com.slam.concertreservation.domain.concert.model.SeatStatus;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.Getter;
+import org.springframework.data.domain.Persistable;
 
 @Entity
 @Table(name = "`SEAT`", indexes = {
         @Index(name = "IDX_SEAT_CONCERT_SCHEDULE_ID", columnList = "concertScheduleId")
 })
 @Getter
-public class SeatJpaEntity extends BaseJpaEntity {
+public class SeatJpaEntity extends BaseJpaEntity implements Persistable<Long> {
     @Id
     private Long seatId;
     private Long concertScheduleId;
@@ -23,6 +27,26 @@ public class SeatJpaEntity extends BaseJpaEntity {
     private int price;
     private String status;
 
+    // 좌석 ID 는 애플리케이션에서 할당되므로, 신규 여부를 직접 관리하여 저장 시 merge 전 SELECT 를 생략한다.
+    @Transient
+    private boolean newEntity = true;
+
+    @Override
+    public Long getId() {
+        return seatId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+
     public static SeatJpaEntity fromDomain(Seat seat) {
         SeatJpaEntity entity = new SeatJpaEntity();
         entity.seatId = seat.getId();
@@ -0,0 +1,27 @@
+package com.slam.concertreservation.infrastructure.persistence.jpa.impl;
+
+import com.slam.concertreservation.domain.reservation.repository.ReservationArchiveRepository;
+import com.slam.concertreservation.infrastructure.persistence.jdbc.ReservationArchiveJdbcRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+@RequiredArgsConstructor
+public class ReservationArchiveRepositoryImpl implements ReservationArchiveRepository {
+
+    private final ReservationArchiveJdbcRepository reservationArchiveJdbcRepository;
+
+    @Override
+    public List<Long> findArchivableConcertScheduleIds(LocalDateTime finishedBefore, int limit) {
+        return reservationArchiveJdbcRepository.findArchivableConcertScheduleIds(finishedBefore, limit);
+    }
+
+    @Override
+    @Transactional
+    public int archive(Long concertScheduleId) {
+        return reservationArchiveJdbcRepository.moveToArchive(concertScheduleId, LocalDateTime.now());
+    }
+}
@@ -1,64 +1,177 @@
 package com.slam.concertreservation.infrastructure.persistence.jpa.impl;
 
+import com.slam.concertreservation.common.error.ErrorCode;
+import com.slam.concertreservation.common.exceptions.UnavailableRequestException;
 import com.slam.concertreservation.domain.reservation.model.Reservation;
+import com.slam.concertreservation.domain.reservation.model.ReservationExpiryCursor;
 import com.slam.concertreservation.domain.reservation.repository.ReservationRepository;
+import com.slam.concertreservation.infrastructure.persistence.jpa.ReservationArchiveJpaRepository;
 import com.slam.concertreservation.infrastructure.persistence.jpa.ReservationJpaRepository;
+import com.slam.concertreservation.infrastructure.persistence.jpa.entities.ReservationArchiveJpaEntity;
 import com.slam.concertreservation.infrastructure.persistence.jpa.entities.ReservationJpaEntity;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * 예약 저장소. 진행 중인 공연 일정의 예약은 예약 테이블에, 종료 후 보관된 공연 일정의 예약은 보관 테이블에 있습니다.
+ * <br>
+ * </br>
+ * 저장, 만료 처리 등 예약 상태를 변경하는 연산과 가예약 조회는 예약 테이블만 대상으로 합니다. 보관된 예약은 더 이상 변경되지 않기 때문입니다.
+ * <br>
+ * </br>
+ * 그 외 단 건 조회는 예약 테이블을 먼저 조회하고, 결과가 없을 때만 보관 테이블을 조회합니다. 사용자, 공연 일정별 예약 목록 조회는 두 테이블의
+ * 결과를 합칩니다.
+ * 따라서 호출자는 예약이 어느 테이블에 있는지 알 필요가 없으며, 예약 테이블에는 진행 중인 공연 일정의 예약만 남아 인덱스가 작게 유지됩니다.
+ */
 @Repository
 @RequiredArgsConstructor
 public class ReservationRepositoryImpl implements ReservationRepository {
     private final ReservationJpaRepository reservationJpaRepository;
+    private final ReservationArchiveJpaRepository reservationArchiveJpaRepository;
 
+    /**
+     * 예약 저장.
+     * <br>
+     * </br>
+     * 생성 시각이 없는 예약은 아직 저장된 적 없는 신규 예약이므로, 기존재 여부 조회 없이 바로 persist 하여 INSERT 한 번만 수행합니다.
+     * 그 외의 예약은 같은 트랜잭션에서 이미 조회된 엔티티를 영속성 컨텍스트에서 꺼내 갱신하고, 변경 감지로 UPDATE 한 번만 수행합니다.
+     *
+     * @param reservation
+     * @return
+     */
+    @Override
+    @Transactional
     public Reservation save(Reservation reservation) {
-        ReservationJpaEntity toSave = reservationJpaRepository.findById(reservation.getId())
-                .map(existingEntity -> {
-                    // 만약 기존재 예약 Entity 존재 시 업데이트 후 반환
-                    existingEntity.updateFromDomain(reservation);
-                    return existingEntity;
-                })
-                .orElseGet(() -> ReservationJpaEntity.fromDomain(reservation));
+        if (reservation.getCreatedAt() == null) {
+            return reservationJpaRepository.save(ReservationJpaEntity.fromDomain(reservation)).toDomain();
+        }
+
+        return reservationJpaRepository.findById(reservation.getId())
+                // 만약 기존재 예약 Entity 존재 시 업데이트 후 반환
+                .map(existingEntity -> existingEntity.updateFromDomain(reservation).toDomain())
+                .orElseGet(() -> reservationJpaRepository.save(ReservationJpaEntity.fromDomain(reservation))
+                        .toDomain());
+    }
+
+    /**
+     * 신규 예약을 즉시 INSERT 합니다.
+     * <br>
+     * </br>
+     * 좌석당 진행 중인 예약은 하나뿐이라는 규칙은 {@code UK_RESERVATION_ACTIVE_SEAT} 유니크 인덱스가 보장하므로, 중복 여부를 미리 조회하지 않습니다.
+     * 트랜잭션 커밋까지 INSERT 를 미루지 않고 바로 flush 하여, 중복 시 이 호출에서 {@code UnavailableRequestException} 이 발생합니다.
+     *
+     * @param reservation
+     * @return
+     */
+    @Override
+    @Transactional
+    public Reservation insert(Reservation reservation) {
+        try {
+            return reservationJpaRepository.saveAndFlush(ReservationJpaEntity.fromDomain(reservation)).toDomain();
+        } catch (DataIntegrityViolationException e) {
+            throw translateDuplicate(e, "해당 좌석에 대한 예약이 이미 존재하므로 예약이 불가합니다.");
+        }
+    }
 
-        // Finally, persist the JPA entity and return the domain model
-        ReservationJpaEntity saved = reservationJpaRepository.save(toSave);
-        return saved.toDomain();
+    @Override
+    @Transactional
+    public List<Reservation> insertAll(List<Reservation> reservations) {
+        if (reservations.isEmpty()) {
+            return List.of();
+        }
+        try {
+            return reservationJpaRepository.saveAllAndFlush(reservations.stream()
+                    .map(ReservationJpaEntity::fromDomain)
+                    .toList())
+                    .stream()
+                    .map(ReservationJpaEntity::toDomain)
+                    .toList();
+        } catch (DataIntegrityViolationException e) {
+            throw translateDuplicate(e, "요청한 좌석 중 이미 예약이 존재하는 좌석이 있으므로 예약이 불가합니다.");
+        }
+    }
+
+    // 진행 중 예약 유니크 인덱스 위반만 예약 중복으로 변환하고, 그 외의 무결성 위반은 그대로 전파한다.
+    // MySQL 의 중복 키 오류 메시지("Duplicate entry ... for key 'RESERVATION.UK_...'")에 위반한 인덱스 이름이 포함된다.
+    private RuntimeException translateDuplicate(DataIntegrityViolationException e, String message) {
+        String cause = e.getMostSpecificCause().getMessage();
+        if (cause != null && cause.toUpperCase().contains(ReservationJpaEntity.ACTIVE_SEAT_CONSTRAINT)) {
+            return new UnavailableRequestException(ErrorCode.RESERVATION_ALREADY_EXISTS, message);
+        }
+        return e;
     }
 
     @Override
     public Optional<Reservation> findById(Long reservationId) {
         return reservationJpaRepository.findById(reservationId)
-                .map(ReservationJpaEntity::toDomain);
+                .map(ReservationJpaEntity::toDomain)
+                .or(() -> reservationArchiveJpaRepository.findById(reservationId)
+                        .map(ReservationArchiveJpaEntity::toDomain));
     }
 
     @Override
     public List<Reservation> findByUserId(Long userId) {
-        return reservationJpaRepository.findByUserId(userId).stream()
-                .map(ReservationJpaEntity::toDomain)
+        return Stream.concat(
+                reservationJpaRepository.findByUserId(userId).stream()
+                        .map(ReservationJpaEntity::toDomain),
+                reservationArchiveJpaRepository.findByUserId(userId).stream()
+                        .map(ReservationArchiveJpaEntity::toDomain))
                 .toList();
     }
 
     @Override
     public Optional<Reservation> findByConcertScheduleIdAndSeatId(Long concertScheduleId, Long seatId) {
-        return reservationJpaRepository.findByConcertScheduleIdAndSeatId(concertScheduleId, seatId)
-                .map(ReservationJpaEntity::toDomain);
+        return reservationJpaRepository.findByConcertScheduleIdAndSeatId(concertScheduleId, seatId).stream()
+                .findFirst()
+                .map(ReservationJpaEntity::toDomain)
+                .or(() -> reservationArchiveJpaRepository.findByConcertScheduleIdAndSeatId(concertScheduleId, seatId)
+                        .stream()
+                        .findFirst()
+                        .map(ReservationArchiveJpaEntity::toDomain));
+    }
+
+    @Override
+    public List<Reservation> findAllByConcertScheduleIdAndSeatIds(Long concertScheduleId, List<Long> seatIds) {
+        if (seatIds.isEmpty()) {
+            return List.of();
+        }
+        return reservationJpaRepository.findAllByConcertScheduleIdAndSeatIds(concertScheduleId, seatIds).stream()
+                .map(ReservationJpaEntity::toDomain)
+                .toList();
     }
 
     @Override
     public Optional<Reservation> findByConcertScheduleIdAndUserId(Long concertScheduleId, Long userId) {
-        return reservationJpaRepository.findByConcertScheduleIdAndUserId(concertScheduleId, userId)
-                .map(ReservationJpaEntity::toDomain);
+        return reservationJpaRepository.findByConcertScheduleIdAndUserId(concertScheduleId, userId).stream()
+                .findFirst()
+                .map(ReservationJpaEntity::toDomain)
+                .or(() -> reservationArchiveJpaRepository.findByConcertScheduleIdAndUserId(concertScheduleId, userId)
+                        .stream()
+                        .findFirst()
+                        .map(ReservationArchiveJpaEntity::toDomain));
     }
 
+    // 공연 일정의 예약은 가예약 등 일부가 예약 테이블에 남은 채 보관될 수 있으므로, 두 테이블의 결과를 합친다.
     @Override
     public List<Reservation> findByConcertScheduleId(Long concertScheduleId) {
-        return reservationJpaRepository.findByConcertScheduleId(concertScheduleId).stream()
+        List<Reservation> reservations = reservationJpaRepository.findByConcertScheduleId(concertScheduleId).stream()
                 .map(ReservationJpaEntity::toDomain)
                 .toList();
+        List<ReservationArchiveJpaEntity> archived = reservationArchiveJpaRepository
+                .findByConcertScheduleId(concertScheduleId);
+        if (archived.isEmpty()) {
+            return reservations;
+        }
+        return Stream.concat(reservations.stream(), archived.stream().map(ReservationArchiveJpaEntity::toDomain))
+                .toList();
     }
 
     @Override
@@ -68,6 +181,53 @@ public class ReservationRepositoryImpl implements ReservationRepository {
                 .toList();
     }
 
+    /**
+     * 만료 대상 예약을 키셋 페이지 단위로 조회합니다. OFFSET 없이 직전 페이지의 마지막 {@code (expiredAt, reservationId)} 다음부터 조회하므로,
+     * 몇 번째 페이지든 {@code (status, expiredAt)} 인덱스에서 limit 건만 읽습니다.
+     */
+    @Override
+    public List<Reservation> findAllByExpirationCriteria(LocalDateTime now, ReservationExpiryCursor after, int limit) {
+        Pageable page = PageRequest.of(0, limit);
+        List<ReservationJpaEntity> entities = after == null
+                ? reservationJpaRepository.findAllByExpirationCriteria(now, page)
+                : reservationJpaRepository.findAllByExpirationCriteriaAfter(now, after.expiredAt(),
+                        after.reservationId(), page);
+        return entities.stream()
+                .map(ReservationJpaEntity::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<Reservation> findAllByIdsAndExpirationCriteria(List<Long> reservationIds, LocalDateTime now) {
+        if (reservationIds.isEmpty()) {
+            return List.of();
+        }
+        return reservationJpaRepository.findAllByIdsAndExpirationCriteria(reservationIds, now)
+                .stream()
+                .map(ReservationJpaEntity::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<Reservation> findAllPreemptedByIds(List<Long> reservationIds) {
+        if (reservationIds.isEmpty()) {
+            return List.of();
+        }
+        return reservationJpaRepository.findAllPreemptedByIds(reservationIds)
+                .stream()
+                .map(ReservationJpaEntity::toDomain)
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public int expireAll(List<Long> reservationIds) {
+        if (reservationIds.isEmpty()) {
+            return 0;
+        }
+        return reservationJpaRepository.expireAll(reservationIds, LocalDateTime.now());
+    }
+
     @Override
     public Optional<Reservation> findPendingReservationByUserId(Long userId) {
         return reservationJpaRepository.findPendingReservationByUserId(userId)
@@ -1,31 +1,43 @@
 package com.slam.concertreservation.infrastructure.persistence.jpa.impl;
 
 import com.slam.concertreservation.domain.concert.model.Seat;
+import com.slam.concertreservation.domain.concert.model.SeatStatus;
 import com.slam.concertreservation.domain.concert.repository.SeatRepository;
+import com.slam.concertreservation.infrastructure.persistence.jdbc.SeatJdbcRepository;
 import com.slam.concertreservation.infrastructure.persistence.jpa.SeatJpaRepository;
 import com.slam.concertreservation.infrastructure.persistence.jpa.entities.SeatJpaEntity;
 import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 @RequiredArgsConstructor
 public class SeatRepositoryImpl implements SeatRepository {
 
     private final SeatJpaRepository seatJpaRepository;
+    private final SeatJdbcRepository seatJdbcRepository;
 
+    /**
+     * 좌석 저장. 같은 트랜잭션에서 이미 조회된 좌석이라면 영속성 컨텍스트의 엔티티를 그대로 갱신하고, 변경 감지로 UPDATE 한 번만 수행합니다.
+     * <br>
+     * </br>
+     * 존재하지 않는 좌석은 merge 없이 바로 persist 하므로 INSERT 한 번만 수행합니다.
+     *
+     * @param seat
+     * @return
+     */
     @Override
+    @Transactional
     public Seat save(Seat seat) {
         return seatJpaRepository.findById(seat.getId())
-                .map(seatJpaEntity -> {
-                    seatJpaEntity.updateFromDomain(seat);
-                    return seatJpaRepository.save(seatJpaEntity).toDomain();
-                })
+                .map(seatJpaEntity -> seatJpaEntity.updateFromDomain(seat).toDomain())
                 .orElseGet(() -> seatJpaRepository.save(SeatJpaEntity.fromDomain(seat)).toDomain());
     }
 
     @Override
+    @Transactional
     public List<Seat> saveAll(List<Seat> seats) {
         return seatJpaRepository.saveAll(SeatJpaEntity.createSeatEntitiesFromDomain(seats))
                 .stream()
@@ -33,12 +45,35 @@ public class SeatRepositoryImpl implements SeatRepository {
                 .toList();
     }
 
+    @Override
+    @Transactional
+    public int insertAll(List<Seat> seats) {
+        return seatJdbcRepository.insertAll(seats);
+    }
+
     @Override
     public Optional<Seat> findById(Long seatId) {
         return seatJpaRepository.findById(seatId)
                 .map(SeatJpaEntity::toDomain);
     }
 
+    @Override
+    public List<Seat> findAllById(List<Long> seatIds) {
+        return seatJpaRepository.findAllById(seatIds)
+                .stream()
+                .map(SeatJpaEntity::toDomain)
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public List<Seat> findAllOccupiedByIdsForUpdate(List<Long> seatIds) {
+        return seatJpaRepository.findAllOccupiedByIdsForUpdate(seatIds)
+                .stream()
+                .map(SeatJpaEntity::toDomain)
+                .toList();
+    }
+
     @Override
     public List<Seat> findAllByConcertScheduleId(Long concertScheduleId) {
         return seatJpaRepository.findAllByConcertScheduleId(concertScheduleId)
@@ -59,4 +94,28 @@ public class SeatRepositoryImpl implements SeatRepository {
     public int findOccupiedSeatsCount(Long concertScheduleId) {
         return seatJpaRepository.findOccupiedSeatsCount(concertScheduleId);
     }
+
+    @Override
+    @Transactional
+    public int updateStatusAll(List<Long> seatIds, SeatStatus status) {
+        if (seatIds.isEmpty()) {
+            return 0;
+        }
+        return seatJpaRepository.updateStatusAll(seatIds, status.name());
+    }
+
+    @Override
+    @Transactional
+    public boolean updateStatusIfMatches(Long seatId, SeatStatus expected, SeatStatus status) {
+        return seatJpaRepository.updateStatusIfMatches(seatId, expected.name(), status.name()) == 1;
+    }
+
+    @Override
+    @Transactional
+    public int updateStatusAllIfMatches(List<Long> seatIds, SeatStatus expected, SeatStatus status) {
+        if (seatIds.isEmpty()) {
+            return 0;
+        }
+        return seatJpaRepository.updateStatusAllIfMatches(seatIds, expected.name(), status.name());
+    }
 }
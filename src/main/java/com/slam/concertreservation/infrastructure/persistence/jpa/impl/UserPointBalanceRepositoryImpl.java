@@ -9,6 +9,7 @@ import com.slam.concertreservation.infrastructure.persistence.jpa.entities.UserP
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 @RequiredArgsConstructor
@@ -23,19 +24,17 @@ public class UserPointBalanceRepositoryImpl implements UserPointBalanceRepositor
     }
 
     @Override
+    @Transactional
     public UserPointBalance save(UserPointBalance userPointBalance) {
-        // 1) domain.id()가 존재하면, DB에서 엔티티를 조회 후 update
+        // 1) domain.id()가 존재하면, 영속성 컨텍스트(혹은 DB)에서 엔티티를 조회 후 update
         if (userPointBalance.id() != null) {
             UserPointBalanceJpaEntity existingEntity = userPointBalanceJpaRepository
                     .findById(userPointBalance.id())
                     .orElseThrow(() -> new BusinessRuleViolationException(ErrorCode.INTERNAL_SERVER_ERROR,
                             "존재하지 않는 PointBalance ID입니다."));
 
-            // 기존 엔티티의 version, id 유지, point 등만 갱신
-            existingEntity = existingEntity.updateFromDomain(userPointBalance);
-
-            UserPointBalanceJpaEntity saved = userPointBalanceJpaRepository.save(existingEntity);
-            return saved.toDomain();
+            // 기존 엔티티의 version, id 유지, point 등만 갱신. 관리 중인 엔티티이므로 변경 감지로 version 조건부 UPDATE 가 수행된다.
+            return existingEntity.updateFromDomain(userPointBalance).toDomain();
 
         } else {
             // 2) domain.id()가 없으면 신규 생성
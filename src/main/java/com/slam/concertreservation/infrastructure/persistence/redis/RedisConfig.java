@@ -9,6 +9,7 @@ import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.slam.concertreservation.component.idempotency.IdempotencyRecord;
 import com.slam.concertreservation.component.idempotency.IdempotencyRecordStatus;
 import com.slam.concertreservation.domain.queue.model.Token;
+import com.slam.concertreservation.infrastructure.persistence.redis.codec.TokenRedisSerializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -16,6 +17,7 @@ import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
@@ -29,6 +31,9 @@ public class RedisConfig {
     @Value("${spring.data.redis.port}")
     private int redisPort;
 
+    @Value("${app.queue.token-codec:JSON}")
+    private TokenRedisSerializer.Format tokenCodec; // 토큰 저장 형식. 읽기는 형식과 무관하게 JSON / BINARY 모두 지원.
+
     @Bean
     public RedisConnectionFactory redisConnectionFactory() {
         return new LettuceConnectionFactory(redisHost, redisPort);
@@ -80,8 +85,11 @@ public class RedisConfig {
         // Use a JSON serializer that can handle your Token class
         GenericJackson2JsonRedisSerializer jacksonSerializer = new GenericJackson2JsonRedisSerializer(mapper);
 
-        template.setValueSerializer(jacksonSerializer);
-        template.setHashValueSerializer(jacksonSerializer);
+        // 쓰기는 설정된 형식으로, 읽기는 JSON / BINARY 모두 지원하는 이중 읽기 시리얼라이저.
+        TokenRedisSerializer tokenSerializer = new TokenRedisSerializer(jacksonSerializer, tokenCodec);
+
+        template.setValueSerializer(tokenSerializer);
+        template.setHashValueSerializer(tokenSerializer);
 
         template.afterPropertiesSet();
         return template;
@@ -94,6 +102,14 @@ public class RedisConfig {
         return tpl;
     }
 
+    // Pub/Sub 구독용 컨테이너. 구독 대상 채널과 리스너는 각 컴포넌트에서 등록합니다.
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory factory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(factory);
+        return container;
+    }
+
     @Bean
     public RedisTemplate<String, IdempotencyRecord> idempotencyRecordRedisTemplate(RedisConnectionFactory factory){
         RedisTemplate<String, IdempotencyRecord> template = new RedisTemplate<>();
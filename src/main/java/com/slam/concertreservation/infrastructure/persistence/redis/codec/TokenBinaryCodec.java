@@ -0,0 +1,178 @@
+package com.slam.concertreservation.infrastructure.persistence.redis.codec;
+
+import com.slam.concertreservation.domain.queue.model.Token;
+import com.slam.concertreservation.domain.queue.model.TokenStatus;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+/**
+ * {@link Token} 고정 레이아웃 바이너리 인코딩.
+ * <br>
+ * </br>
+ * JSON(Default Typing) 형식은 토큰마다 클래스명 속성과 ISO-8601 날짜 문자열을 포함하므로 토큰 1건당 수백 바이트를 차지합니다. 해당 형식은
+ * 필드 이름 없이 정해진 순서로 값을 기록하며, UUID 형식의 토큰 ID 는 16 바이트로, 시각은 epoch 기준 나노초(long)로 기록합니다.
+ * <br>
+ * </br>
+ * <pre>
+ * [0]   MAGIC (0xA7)      : JSON 의 첫 바이트('{', '[', '"')와 겹치지 않는 값. 이중 읽기 시 형식 판별에 사용.
+ * [1]   VERSION (1)
+ * [2]   FLAGS             : 각 비트는 아래 FLAG_* 참고.
+ * [3]   STATUS            : 0 - WAIT, 1 - ACTIVE, 2 - EXPIRED
+ * [..]  ID                : UUID 형식이면 16 바이트, 아니라면 길이(2 바이트) + UTF-8 바이트.
+ * [..]  userId, concertScheduleId, createdAt, expiredAt : 각 8 바이트. null 인 필드는 FLAGS 로 표시하고 기록하지 않음.
+ * </pre>
+ * 시각은 {@link LocalDateTime} 필드 값 그대로 보존하기 위해 UTC 기준으로 환산하며, 시간대 변환은 수행하지 않습니다.
+ */
+public final class TokenBinaryCodec {
+
+    public static final byte MAGIC = (byte) 0xA7;
+    private static final byte VERSION = 1;
+
+    private static final int FLAG_ID_UUID = 1;
+    private static final int FLAG_ID_NULL = 1 << 1;
+    private static final int FLAG_USER_ID_NULL = 1 << 2;
+    private static final int FLAG_CONCERT_SCHEDULE_ID_NULL = 1 << 3;
+    private static final int FLAG_CREATED_AT_NULL = 1 << 4;
+    private static final int FLAG_EXPIRED_AT_NULL = 1 << 5;
+
+    private static final int HEADER_SIZE = 4;
+    private static final int UUID_SIZE = 16;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private TokenBinaryCodec() {
+    }
+
+    public static boolean isBinary(byte[] bytes) {
+        return bytes != null && bytes.length >= HEADER_SIZE && bytes[0] == MAGIC;
+    }
+
+    public static byte[] encode(Token token) {
+        int flags = 0;
+
+        byte[] idBytes = null;
+        UUID uuid = parseUuid(token.getId());
+        if (token.getId() == null) {
+            flags |= FLAG_ID_NULL;
+        } else if (uuid != null) {
+            flags |= FLAG_ID_UUID;
+        } else {
+            idBytes = token.getId().getBytes(StandardCharsets.UTF_8);
+        }
+        if (token.getUserId() == null) {
+            flags |= FLAG_USER_ID_NULL;
+        }
+        if (token.getConcertScheduleId() == null) {
+            flags |= FLAG_CONCERT_SCHEDULE_ID_NULL;
+        }
+        if (token.getCreatedAt() == null) {
+            flags |= FLAG_CREATED_AT_NULL;
+        }
+        if (token.getExpiredAt() == null) {
+            flags |= FLAG_EXPIRED_AT_NULL;
+        }
+
+        int size = HEADER_SIZE
+                + (uuid != null ? UUID_SIZE : 0)
+                + (idBytes != null ? 2 + idBytes.length : 0)
+                + Long.BYTES * (4 - Integer.bitCount(flags & (FLAG_USER_ID_NULL | FLAG_CONCERT_SCHEDULE_ID_NULL
+                        | FLAG_CREATED_AT_NULL | FLAG_EXPIRED_AT_NULL)));
+
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.put(MAGIC);
+        buffer.put(VERSION);
+        buffer.put((byte) flags);
+        buffer.put(encodeStatus(token.getStatus()));
+
+        if (uuid != null) {
+            buffer.putLong(uuid.getMostSignificantBits());
+            buffer.putLong(uuid.getLeastSignificantBits());
+        } else if (idBytes != null) {
+            buffer.putShort((short) idBytes.length);
+            buffer.put(idBytes);
+        }
+        if (token.getUserId() != null) {
+            buffer.putLong(token.getUserId());
+        }
+        if (token.getConcertScheduleId() != null) {
+            buffer.putLong(token.getConcertScheduleId());
+        }
+        if (token.getCreatedAt() != null) {
+            buffer.putLong(toEpochNanos(token.getCreatedAt()));
+        }
+        if (token.getExpiredAt() != null) {
+            buffer.putLong(toEpochNanos(token.getExpiredAt()));
+        }
+        return buffer.array();
+    }
+
+    public static Token decode(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        if (buffer.get() != MAGIC) {
+            throw new IllegalArgumentException("토큰 바이너리 형식이 아닙니다.");
+        }
+        byte version = buffer.get();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 토큰 바이너리 버전입니다. - version: " + version);
+        }
+        int flags = buffer.get();
+        TokenStatus status = decodeStatus(buffer.get());
+
+        String id = null;
+        if ((flags & FLAG_ID_UUID) != 0) {
+            id = new UUID(buffer.getLong(), buffer.getLong()).toString();
+        } else if ((flags & FLAG_ID_NULL) == 0) {
+            byte[] idBytes = new byte[Short.toUnsignedInt(buffer.getShort())];
+            buffer.get(idBytes);
+            id = new String(idBytes, StandardCharsets.UTF_8);
+        }
+        Long userId = (flags & FLAG_USER_ID_NULL) == 0 ? buffer.getLong() : null;
+        Long concertScheduleId = (flags & FLAG_CONCERT_SCHEDULE_ID_NULL) == 0 ? buffer.getLong() : null;
+        LocalDateTime createdAt = (flags & FLAG_CREATED_AT_NULL) == 0 ? fromEpochNanos(buffer.getLong()) : null;
+        LocalDateTime expiredAt = (flags & FLAG_EXPIRED_AT_NULL) == 0 ? fromEpochNanos(buffer.getLong()) : null;
+
+        return Token.create(id, userId, concertScheduleId, status.name(), createdAt, expiredAt);
+    }
+
+    // enum 순서 변경에 영향을 받지 않도록 상태별 코드를 명시적으로 지정.
+    private static byte encodeStatus(TokenStatus status) {
+        return switch (status) {
+            case WAIT -> 0;
+            case ACTIVE -> 1;
+            case EXPIRED -> 2;
+        };
+    }
+
+    private static TokenStatus decodeStatus(byte code) {
+        return switch (code) {
+            case 0 -> TokenStatus.WAIT;
+            case 1 -> TokenStatus.ACTIVE;
+            case 2 -> TokenStatus.EXPIRED;
+            default -> throw new IllegalArgumentException("알 수 없는 토큰 상태 코드입니다. - code: " + code);
+        };
+    }
+
+    // 표준 형식(소문자, 36자)의 UUID 만 압축. 그 외 형식은 원문 보존을 위해 문자열로 기록.
+    private static UUID parseUuid(String id) {
+        if (id == null || id.length() != 36) {
+            return null;
+        }
+        try {
+            UUID uuid = UUID.fromString(id);
+            return uuid.toString().equals(id) ? uuid : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static long toEpochNanos(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * NANOS_PER_SECOND + dateTime.getNano();
+    }
+
+    private static LocalDateTime fromEpochNanos(long epochNanos) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(epochNanos, NANOS_PER_SECOND),
+                (int) Math.floorMod(epochNanos, NANOS_PER_SECOND), ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,56 @@
+package com.slam.concertreservation.infrastructure.persistence.redis.codec;
+
+import com.slam.concertreservation.domain.queue.model.Token;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * 토큰 저장소 직렬화기. 쓰기 형식은 설정({@code app.queue.token-codec})을 따르고, 읽기는 두 형식을 모두 지원합니다.
+ * <br>
+ * </br>
+ * 형식 전환은 두 단계로 진행합니다.
+ * <br>
+ * </br>
+ * 1) {@code JSON} 으로 배포 : 모든 노드가 바이너리 형식을 읽을 수 있는 상태가 됩니다.
+ * <br>
+ * </br>
+ * 2) {@code BINARY} 로 전환 : 이후 저장되는 토큰부터 바이너리로 기록되며, 기존 JSON 토큰은 갱신되거나 대기열 TTL 로 만료될 때까지 그대로
+ * 읽힙니다. 되돌릴 때도 같은 순서를 역으로 밟으면 됩니다.
+ */
+public class TokenRedisSerializer implements RedisSerializer<Object> {
+
+    public enum Format {
+        JSON, BINARY
+    }
+
+    private final RedisSerializer<Object> jsonSerializer;
+    private final Format writeFormat;
+
+    public TokenRedisSerializer(RedisSerializer<Object> jsonSerializer, Format writeFormat) {
+        this.jsonSerializer = jsonSerializer;
+        this.writeFormat = writeFormat;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (writeFormat == Format.BINARY && value instanceof Token token) {
+            return TokenBinaryCodec.encode(token);
+        }
+        return jsonSerializer.serialize(value);
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (TokenBinaryCodec.isBinary(bytes)) {
+            try {
+                return TokenBinaryCodec.decode(bytes);
+            } catch (RuntimeException e) {
+                throw new SerializationException("토큰 바이너리 역직렬화 실패", e);
+            }
+        }
+        return jsonSerializer.deserialize(bytes);
+    }
+}
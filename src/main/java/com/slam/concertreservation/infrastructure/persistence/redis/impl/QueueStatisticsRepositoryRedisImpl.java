@@ -0,0 +1,43 @@
+package com.slam.concertreservation.infrastructure.persistence.redis.impl;
+
+import com.slam.concertreservation.domain.queue.repository.QueueStatisticsRepository;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 대기열 통계 저장소. 공연 일정별 진입 처리량을 하나의 Hash 에 보관합니다. (field : 공연 일정 ID, value : 초당 진입 사용자 수)
+ * <br>
+ * </br>
+ * 공연 일정의 담당 노드가 주기마다 갱신하고, 모든 노드가 주기마다 한 번 전체를 조회하여 로컬에 보관합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class QueueStatisticsRepositoryRedisImpl implements QueueStatisticsRepository {
+
+    private static final String ADMISSION_RATE_HASH_NAME = "queueAdmissionRateHash";
+    private static final Duration ADMISSION_RATE_TTL = Duration.ofHours(12); // 대기열 자료구조 TTL 과 동일.
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Override
+    public void saveAdmissionRate(Long concertScheduleId, double ratePerSecond) {
+        stringRedisTemplate.opsForHash().put(ADMISSION_RATE_HASH_NAME, String.valueOf(concertScheduleId),
+                String.valueOf(ratePerSecond));
+        stringRedisTemplate.expire(ADMISSION_RATE_HASH_NAME, ADMISSION_RATE_TTL);
+    }
+
+    @Override
+    public Map<Long, Double> findAllAdmissionRates() {
+        Map<Object, Object> entries = stringRedisTemplate.opsForHash().entries(ADMISSION_RATE_HASH_NAME);
+
+        Map<Long, Double> rates = new HashMap<>(entries.size() * 2);
+        entries.forEach((concertScheduleId, rate) -> rates.put(
+                Long.valueOf((String) concertScheduleId),
+                Double.valueOf((String) rate)));
+        return rates;
+    }
+}
@@ -0,0 +1,66 @@
+package com.slam.concertreservation.infrastructure.persistence.redis.impl;
+
+import com.slam.concertreservation.domain.reservation.repository.ReservationExpiryQueueRepository;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 가예약 만료 지연 큐. 가예약 ID 를 만료 시각(epoch millis)을 score 로 하는 Redis Sorted Set 에 보관합니다.
+ * <br>
+ * </br>
+ * i.e. {@code reservationExpiryQueue} (member : 예약 ID, score : 만료 시각 epoch millis)
+ * <br>
+ * </br>
+ * 만료 시각이 지난 가예약은 조회와 제거를 하나의 Lua Script 로 수행하여 꺼내므로, 여러 노드가 동시에 꺼내더라도 같은 가예약을 중복 처리하지
+ * 않습니다.
+ */
+@Repository
+public class ReservationExpiryQueueRepositoryRedisImpl implements ReservationExpiryQueueRepository {
+
+    private static final String RESERVATION_EXPIRY_QUEUE_NAME = "reservationExpiryQueue";
+    private static final String POLL_DUE_RESERVATIONS_SCRIPT_PATH = "scripts/reservation/poll_due_reservations.lua";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final DefaultRedisScript<List> pollDueReservationsScript;
+
+    public ReservationExpiryQueueRepositoryRedisImpl(StringRedisTemplate stringRedisTemplate) {
+        this.stringRedisTemplate = stringRedisTemplate;
+
+        this.pollDueReservationsScript = new DefaultRedisScript<>();
+        this.pollDueReservationsScript.setScriptSource(
+                new ResourceScriptSource(new ClassPathResource(POLL_DUE_RESERVATIONS_SCRIPT_PATH)));
+        this.pollDueReservationsScript.setResultType(List.class);
+    }
+
+    @Override
+    public void schedule(Long reservationId, LocalDateTime expiredAt) {
+        stringRedisTemplate.opsForZSet().add(RESERVATION_EXPIRY_QUEUE_NAME, String.valueOf(reservationId),
+                toEpochMilli(expiredAt));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Long> pollDue(LocalDateTime now, int limit) {
+        List<String> due = stringRedisTemplate.execute(
+                pollDueReservationsScript,
+                List.of(RESERVATION_EXPIRY_QUEUE_NAME),
+                String.valueOf(toEpochMilli(now)),
+                String.valueOf(limit));
+        if (due == null || due.isEmpty()) {
+            return List.of();
+        }
+        return due.stream()
+                .map(Long::valueOf)
+                .toList();
+    }
+
+    private long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
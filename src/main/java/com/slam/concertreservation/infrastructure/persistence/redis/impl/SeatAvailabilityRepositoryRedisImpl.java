@@ -0,0 +1,139 @@
+package com.slam.concertreservation.infrastructure.persistence.redis.impl;
+
+import com.slam.concertreservation.domain.concert.model.Seat;
+import com.slam.concertreservation.domain.concert.model.SeatAvailability;
+import com.slam.concertreservation.domain.concert.repository.SeatAvailabilityRepository;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 좌석 예약 가능 여부 저장소. 공연 일정별 좌석 예약 가능 여부를 Redis Bitmap 으로 보관합니다.
+ * <br>
+ * </br>
+ * i.e. {@code seatAvailabilityBitmap:{concertScheduleId}} 의 {@code (좌석 번호 - 최소 좌석 번호)} 번째 비트가 1 이면 예약 가능.
+ * 좌석 5만 개 기준 약 6KB 입니다.
+ * <br>
+ * </br>
+ * Bitmap 의 길이는 바이트 단위이므로 좌석 수는 {@code seatAvailabilitySeatCount:{concertScheduleId}} 에 별도로 보관합니다.
+ * <br>
+ * </br>
+ * 남은 좌석 수는 {@code seatAvailabilityRemainingCount:{concertScheduleId}} 카운터로 보관하며, 비트 변경과 같은 스크립트 내에서
+ * 비트가 실제로 바뀐 경우에만 {@code INCR/DECR} 됩니다. 따라서 매진 여부 확인은 {@code BITCOUNT} 없이 {@code GET} 한 번으로 끝납니다.
+ * 카운터가 없다면 최초 조회/변경 시 {@code BITCOUNT} 로 초기화됩니다.
+ */
+@Repository
+public class SeatAvailabilityRepositoryRedisImpl implements SeatAvailabilityRepository {
+
+    private static final String SEAT_AVAILABILITY_BITMAP_NAME = "seatAvailabilityBitmap";
+    private static final String SEAT_AVAILABILITY_SEAT_COUNT_NAME = "seatAvailabilitySeatCount";
+    private static final String SEAT_AVAILABILITY_REMAINING_COUNT_NAME = "seatAvailabilityRemainingCount";
+
+    private static final String COUNT_AVAILABLE_SEATS_SCRIPT_PATH = "scripts/seat/count_available_seats.lua";
+    private static final String UPDATE_SEAT_AVAILABILITY_SCRIPT_PATH = "scripts/seat/update_seat_availability.lua";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final DefaultRedisScript<Long> countAvailableSeatsScript;
+    private final DefaultRedisScript<Long> updateSeatAvailabilityScript;
+
+    public SeatAvailabilityRepositoryRedisImpl(StringRedisTemplate stringRedisTemplate) {
+        this.stringRedisTemplate = stringRedisTemplate;
+
+        this.countAvailableSeatsScript = new DefaultRedisScript<>();
+        this.countAvailableSeatsScript.setScriptSource(
+                new ResourceScriptSource(new ClassPathResource(COUNT_AVAILABLE_SEATS_SCRIPT_PATH)));
+        this.countAvailableSeatsScript.setResultType(Long.class);
+
+        this.updateSeatAvailabilityScript = new DefaultRedisScript<>();
+        this.updateSeatAvailabilityScript.setScriptSource(
+                new ResourceScriptSource(new ClassPathResource(UPDATE_SEAT_AVAILABILITY_SCRIPT_PATH)));
+        this.updateSeatAvailabilityScript.setResultType(Long.class);
+    }
+
+    private String getSeatAvailabilityBitmapName(Long concertScheduleId) {
+        return SEAT_AVAILABILITY_BITMAP_NAME + ":" + concertScheduleId;
+    }
+
+    private String getSeatAvailabilitySeatCountName(Long concertScheduleId) {
+        return SEAT_AVAILABILITY_SEAT_COUNT_NAME + ":" + concertScheduleId;
+    }
+
+    private String getSeatAvailabilityRemainingCountName(Long concertScheduleId) {
+        return SEAT_AVAILABILITY_REMAINING_COUNT_NAME + ":" + concertScheduleId;
+    }
+
+    /**
+     * 좌석 수를 먼저 기록한 뒤 Bitmap 을 {@code SET NX} 로 저장합니다. 좌석 수는 공연 일정마다 고정이므로 중복 기록되어도 무방하며, Bitmap 은
+     * 먼저 저장된(그 사이 변경이 반영된) 값을 덮어쓰지 않습니다.
+     * <br>
+     * </br>
+     * Bitmap 이 새로 저장되었다면 이전에 남아 있던 남은 좌석 수 카운터를 제거하여, 다음 조회/변경 시 새 Bitmap 기준으로 초기화되도록 합니다.
+     *
+     * @param concertScheduleId
+     * @param seatAvailability
+     * @return 저장 여부
+     */
+    @Override
+    public boolean saveIfAbsent(Long concertScheduleId, SeatAvailability seatAvailability) {
+        stringRedisTemplate.opsForValue().set(getSeatAvailabilitySeatCountName(concertScheduleId),
+                String.valueOf(seatAvailability.getSeatCount()));
+
+        byte[] key = getSeatAvailabilityBitmapName(concertScheduleId).getBytes(StandardCharsets.UTF_8);
+        byte[] bitmap = seatAvailability.toBitmap();
+        Boolean saved = stringRedisTemplate.execute((RedisCallback<Boolean>) connection -> connection.stringCommands()
+                .set(key, bitmap, Expiration.persistent(), SetOption.ifAbsent()));
+        if (Boolean.TRUE.equals(saved)) {
+            stringRedisTemplate.delete(getSeatAvailabilityRemainingCountName(concertScheduleId));
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public Optional<SeatAvailability> findByConcertScheduleId(Long concertScheduleId) {
+        String seatCount = stringRedisTemplate.opsForValue().get(getSeatAvailabilitySeatCountName(concertScheduleId));
+        if (seatCount == null) {
+            return Optional.empty();
+        }
+
+        byte[] key = getSeatAvailabilityBitmapName(concertScheduleId).getBytes(StandardCharsets.UTF_8);
+        byte[] bitmap = stringRedisTemplate.execute((RedisCallback<byte[]>) connection -> connection.stringCommands()
+                .get(key));
+        return bitmap == null
+                ? Optional.empty()
+                : Optional.of(SeatAvailability.fromBitmap(bitmap, Integer.parseInt(seatCount)));
+    }
+
+    @Override
+    public OptionalInt countAvailable(Long concertScheduleId) {
+        Long available = stringRedisTemplate.execute(countAvailableSeatsScript,
+                List.of(getSeatAvailabilityBitmapName(concertScheduleId),
+                        getSeatAvailabilityRemainingCountName(concertScheduleId)));
+        return toRemainingCount(available);
+    }
+
+    @Override
+    public OptionalInt updateAvailability(Long concertScheduleId, int seatNumber, boolean available) {
+        Long remaining = stringRedisTemplate.execute(updateSeatAvailabilityScript,
+                List.of(getSeatAvailabilityBitmapName(concertScheduleId),
+                        getSeatAvailabilityRemainingCountName(concertScheduleId)),
+                String.valueOf(seatNumber - Seat.MIN_SEAT_NUMBER),
+                available ? "1" : "0");
+        return toRemainingCount(remaining);
+    }
+
+    // 스크립트 반환값 -1 은 미적재.
+    private OptionalInt toRemainingCount(Long remaining) {
+        return remaining == null || remaining < 0 ? OptionalInt.empty() : OptionalInt.of(remaining.intValue());
+    }
+}
@@ -0,0 +1,211 @@
+package com.slam.concertreservation.infrastructure.persistence.redis.impl;
+
+import com.slam.concertreservation.common.error.ErrorCode;
+import com.slam.concertreservation.common.exceptions.BusinessRuleViolationException;
+import com.slam.concertreservation.common.exceptions.UnavailableRequestException;
+import com.slam.concertreservation.domain.concert.model.Seat;
+import com.slam.concertreservation.domain.concert.model.SeatStatus;
+import com.slam.concertreservation.domain.concert.repository.SeatInventoryRepository;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 좌석 재고 저장소. 공연 일정별 좌석 상태를 Redis Hash 에 보관하고, 좌석 선점/해제를 하나의 Lua Script 로 원자적으로 수행합니다.
+ * <br>
+ * </br>
+ * i.e. {@code seatInventoryHash:{concertScheduleId}} (field : 좌석 ID, value : {@code "{상태}|{좌석 번호}|{가격}"})
+ * <br>
+ * </br>
+ * 상태가 변경된 좌석은 같은 스크립트 내에서 DB 반영 대기열(List)에 {@code "{공연 일정 ID}:{좌석 ID}"} 형태로 적재됩니다. 대기열은
+ * 좌석의 변경 이력이 아닌 "변경된 좌석"만을 기록하므로, DB 반영 시점의 재고 상태를 조회하여 반영합니다.
+ */
+@Repository
+public class SeatInventoryRepositoryRedisImpl implements SeatInventoryRepository {
+
+    private static final String SEAT_INVENTORY_HASH_NAME = "seatInventoryHash";
+    private static final String SEAT_INVENTORY_OCCUPIED_COUNT_NAME = "seatInventoryOccupiedCount";
+    private static final String SEAT_INVENTORY_WRITE_BEHIND_QUEUE_NAME = "seatInventoryWriteBehindQueue";
+
+    private static final String TRANSITION_SEAT_SCRIPT_PATH = "scripts/seat/transition_seat.lua";
+    private static final String LOAD_SEAT_INVENTORY_SCRIPT_PATH = "scripts/seat/load_seat_inventory.lua";
+
+    private static final String VALUE_SEPARATOR = "|";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final HashOperations<String, String, String> seatInventoryHash;
+
+    private final DefaultRedisScript<String> transitionSeatScript;
+    private final DefaultRedisScript<Long> loadSeatInventoryScript;
+
+    public SeatInventoryRepositoryRedisImpl(StringRedisTemplate stringRedisTemplate) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.seatInventoryHash = stringRedisTemplate.opsForHash();
+
+        this.transitionSeatScript = new DefaultRedisScript<>();
+        this.transitionSeatScript.setScriptSource(
+                new ResourceScriptSource(new ClassPathResource(TRANSITION_SEAT_SCRIPT_PATH)));
+        this.transitionSeatScript.setResultType(String.class);
+
+        this.loadSeatInventoryScript = new DefaultRedisScript<>();
+        this.loadSeatInventoryScript.setScriptSource(
+                new ResourceScriptSource(new ClassPathResource(LOAD_SEAT_INVENTORY_SCRIPT_PATH)));
+        this.loadSeatInventoryScript.setResultType(Long.class);
+    }
+
+    private String getSeatInventoryHashName(Long concertScheduleId) {
+        return SEAT_INVENTORY_HASH_NAME + ":" + concertScheduleId;
+    }
+
+    private String getSeatInventoryOccupiedCountName(Long concertScheduleId) {
+        return SEAT_INVENTORY_OCCUPIED_COUNT_NAME + ":" + concertScheduleId;
+    }
+
+    /**
+     * 좌석 재고 적재. 이미 적재된 재고는 덮어쓰지 않습니다.
+     *
+     * @param concertScheduleId
+     * @param seats
+     * @return 적재 여부
+     */
+    @Override
+    public boolean loadIfAbsent(Long concertScheduleId, List<Seat> seats) {
+        if (seats.isEmpty()) {
+            return false;
+        }
+
+        List<String> args = new ArrayList<>(seats.size() * 2 + 1);
+        args.add(String.valueOf(seats.stream().filter(seat -> !seat.isAvailable()).count()));
+        for (Seat seat : seats) {
+            args.add(String.valueOf(seat.getId()));
+            args.add(toValue(seat));
+        }
+
+        Long loaded = stringRedisTemplate.execute(
+                loadSeatInventoryScript,
+                List.of(getSeatInventoryHashName(concertScheduleId), getSeatInventoryOccupiedCountName(concertScheduleId)),
+                args.toArray());
+        return loaded != null && loaded == 1L;
+    }
+
+    /**
+     * 좌석 상태 전이. 상태 확인, 변경, 선점 좌석 수 갱신, DB 반영 대기열 적재를 한 번의 스크립트 호출로 수행합니다.
+     *
+     * @param concertScheduleId
+     * @param seatId
+     * @param from
+     * @param to
+     * @return 변경된 좌석. 재고가 적재되지 않았다면 빈 값.
+     */
+    @Override
+    public Optional<Seat> transition(Long concertScheduleId, Long seatId, SeatStatus from, SeatStatus to) {
+        String result = stringRedisTemplate.execute(
+                transitionSeatScript,
+                List.of(getSeatInventoryHashName(concertScheduleId),
+                        getSeatInventoryOccupiedCountName(concertScheduleId),
+                        SEAT_INVENTORY_WRITE_BEHIND_QUEUE_NAME),
+                String.valueOf(seatId),
+                from.name(),
+                to.name(),
+                to == SeatStatus.UNAVAILABLE ? "1" : "-1",
+                concertScheduleId + ":" + seatId);
+
+        if (result == null || "NOT_LOADED".equals(result)) {
+            return Optional.empty();
+        }
+        if ("NOT_FOUND".equals(result)) {
+            throw new UnavailableRequestException(ErrorCode.SEAT_NOT_FOUND, "해당 좌석이 존재하지 않습니다.");
+        }
+        if ("CONFLICT".equals(result)) {
+            throw new BusinessRuleViolationException(ErrorCode.SEAT_ALREADY_OCCUPIED,
+                    to == SeatStatus.UNAVAILABLE ? "이미 선점되었거나 이용 불가한 좌석입니다." : "이미 예약 가능 상태인 좌석입니다.");
+        }
+        return Optional.of(fromValue(concertScheduleId, seatId, result));
+    }
+
+    @Override
+    public OptionalInt countOccupied(Long concertScheduleId) {
+        String occupied = stringRedisTemplate.opsForValue().get(getSeatInventoryOccupiedCountName(concertScheduleId));
+        return occupied == null ? OptionalInt.empty() : OptionalInt.of(Integer.parseInt(occupied));
+    }
+
+    @Override
+    public List<Seat> findAll(Long concertScheduleId) {
+        return seatInventoryHash.entries(getSeatInventoryHashName(concertScheduleId))
+                .entrySet()
+                .stream()
+                .map(entry -> fromValue(concertScheduleId, Long.valueOf(entry.getKey()), entry.getValue()))
+                .toList();
+    }
+
+    /**
+     * DB 반영 대기열에서 최대 limit 개의 항목을 꺼내고, 공연 일정별로 한 번의 {@code HMGET} 으로 현재 상태를 조회합니다.
+     * <br>
+     * </br>
+     * 같은 좌석이 여러 번 적재되어 있더라도 현재 상태 하나로 합쳐집니다.
+     *
+     * @param limit
+     * @return
+     */
+    @Override
+    public List<Seat> pollPendingChanges(int limit) {
+        List<String> entries = stringRedisTemplate.opsForList().leftPop(SEAT_INVENTORY_WRITE_BEHIND_QUEUE_NAME, limit);
+        if (entries == null || entries.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Set<String>> seatIdsBySchedule = new LinkedHashMap<>();
+        for (String entry : entries) {
+            int separator = entry.indexOf(':');
+            seatIdsBySchedule
+                    .computeIfAbsent(Long.valueOf(entry.substring(0, separator)), id -> new LinkedHashSet<>())
+                    .add(entry.substring(separator + 1));
+        }
+
+        List<Seat> pending = new ArrayList<>(entries.size());
+        seatIdsBySchedule.forEach((concertScheduleId, seatIds) -> {
+            List<String> seatIdList = new ArrayList<>(seatIds);
+            List<String> values = seatInventoryHash.multiGet(getSeatInventoryHashName(concertScheduleId), seatIdList);
+            for (int i = 0; i < seatIdList.size(); i++) {
+                // 재고가 제거된 좌석은 반영 대상에서 제외. 이후 재적재 시 DB 가 기준이 된다.
+                if (values.get(i) != null) {
+                    pending.add(fromValue(concertScheduleId, Long.valueOf(seatIdList.get(i)), values.get(i)));
+                }
+            }
+        });
+        return pending;
+    }
+
+    @Override
+    public void requeuePendingChanges(List<Seat> seats) {
+        if (seats.isEmpty()) {
+            return;
+        }
+        stringRedisTemplate.opsForList().rightPushAll(SEAT_INVENTORY_WRITE_BEHIND_QUEUE_NAME,
+                seats.stream()
+                        .map(seat -> seat.getConcertScheduleId() + ":" + seat.getId())
+                        .toList());
+    }
+
+    // 좌석 값 : "{상태}|{좌석 번호}|{가격}"
+    private String toValue(Seat seat) {
+        return seat.getStatus().name() + VALUE_SEPARATOR + seat.getNumber() + VALUE_SEPARATOR + seat.getPrice();
+    }
+
+    private Seat fromValue(Long concertScheduleId, Long seatId, String value) {
+        String[] fields = value.split("\\" + VALUE_SEPARATOR);
+        return Seat.create(seatId, concertScheduleId, Integer.parseInt(fields[1]), Integer.parseInt(fields[2]),
+                SeatStatus.valueOf(fields[0]));
+    }
+}
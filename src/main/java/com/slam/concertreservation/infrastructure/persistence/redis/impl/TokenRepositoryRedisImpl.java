@@ -8,42 +8,67 @@ import com.slam.concertreservation.common.exceptions.UnavailableRequestException
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
-import org.springframework.data.redis.core.Cursor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisConnection;
 import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ScanOptions;
-import org.springframework.data.redis.core.SetOperations;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Repository;
 
 @Repository
+@ConditionalOnProperty(prefix = "app.queue", name = "provider", havingValue = "REDIS", matchIfMissing = true)
 public class TokenRepositoryRedisImpl implements TokenRepository {
 
     private static final String TOKEN_HASH_STORAGE_NAME = "tokenHashStorage"; // 토큰 저장소(Map) 이름
     private static final String TOKEN_RANK_SORTED_SET_NAME = "tokenRankSortedSet"; // 토큰 대기열 이름
-    private static final String TOKEN_ACTIVATED_SET_NAME = "tokenActivatedSet"; // 활성화된 토큰 저장소(Set) 이름
+    private static final String TOKEN_ACTIVATED_SORTED_SET_NAME = "tokenActivatedSortedSet"; // 활성화된 토큰 저장소(Sorted Set) 이름
 
-    private final StringRedisTemplate stringRedisTemplate;
+    // 토큰 만료 알림 채널. 만료 처리된 토큰을 "{공연 일정 ID}:{토큰 ID}" 형태로 발행하여 각 노드의 로컬 캐시가 무효화하도록 한다.
+    public static final String TOKEN_EXPIRED_CHANNEL = "tokenExpiredChannel";
+
+    protected final StringRedisTemplate stringRedisTemplate;
 
     private final ZSetOperations<String, String> tokenScoredSortedSet;
     private final HashOperations<String, String, Token> tokenHashStorage;
-    private final SetOperations<String, String> activatedTokenSet;
+    private final ZSetOperations<String, String> activatedTokenSortedSet;
+
+    // Pipeline, Script 등 Template 의 Operations 를 거치지 않는 경로에서 토큰 저장소와 동일한 형태로 직렬화하기 위한 시리얼라이저.
+    protected final RedisSerializer<String> keySerializer = RedisSerializer.string();
+    protected final RedisSerializer<Object> tokenSerializer;
+
+    private final Timer batchSaveTimer; // 토큰 일괄 저장 소요 시간
 
+    @SuppressWarnings("unchecked")
     public TokenRepositoryRedisImpl(StringRedisTemplate stringRedisTemplate,
-            RedisTemplate<String, Token> tokenRedisTemplate) {
+            RedisTemplate<String, Token> tokenRedisTemplate,
+            MeterRegistry meterRegistry) {
 
         this.stringRedisTemplate = stringRedisTemplate;
 
         this.tokenScoredSortedSet = stringRedisTemplate.opsForZSet();
         this.tokenHashStorage = tokenRedisTemplate.opsForHash();
-        this.activatedTokenSet = stringRedisTemplate.opsForSet();
+        this.activatedTokenSortedSet = stringRedisTemplate.opsForZSet();
+
+        this.tokenSerializer = (RedisSerializer<Object>) tokenRedisTemplate.getHashValueSerializer();
+
+        this.batchSaveTimer = Timer.builder("queue.token.batch.save")
+                .description("토큰 일괄 저장(Pipeline) 소요 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
     }
 
     /**
@@ -52,7 +77,7 @@ public class TokenRepositoryRedisImpl implements TokenRepository {
      * @param token
      * @return
      */
-    private double calculateScoreFromCreatedTime(Token token) {
+    protected double calculateScoreFromCreatedTime(Token token) {
         return token.getCreatedAt()
                 .atZone(ZoneId.systemDefault())
                 .toInstant()
@@ -74,7 +99,7 @@ public class TokenRepositoryRedisImpl implements TokenRepository {
      * @param concertScheduleId
      * @return
      */
-    private String getTokenRankSortedSetName(Long concertScheduleId) {
+    protected String getTokenRankSortedSetName(Long concertScheduleId) {
         return TOKEN_RANK_SORTED_SET_NAME + ":" + concertScheduleId;
     }
 
@@ -90,18 +115,35 @@ public class TokenRepositoryRedisImpl implements TokenRepository {
      * @param concertScheduleId
      * @return
      */
-    private String getTokenHashStorageName(Long concertScheduleId) {
+    protected String getTokenHashStorageName(Long concertScheduleId) {
         return TOKEN_HASH_STORAGE_NAME + ":" + concertScheduleId;
     }
 
+    /**
+     * 토큰의 만료 시점을 점수로 환산해주는 메서드. 활성화된 토큰 저장소(Scored Sorted Set)의 점수로 사용됩니다.
+     * 
+     * @param token
+     * @return
+     */
+    protected double calculateScoreFromExpiredTime(Token token) {
+        return token.getExpiredAt()
+                .atZone(ZoneId.systemDefault())
+                .toInstant()
+                .toEpochMilli();
+    }
+
     /**
      * Redis 내 해당 공연 일정과 대응하는 활성화된 토큰 저장소 이름을 생성하여 반환하는 메서드.
+     * <br>
+     * </br>
+     * 활성화된 토큰 저장소는 토큰의 만료 시점을 점수로 하는 Scored Sorted Set 입니다. 따라서 만료 대상 토큰을 점수 범위 조회 한 번으로
+     * 추려낼 수 있습니다.
      * 
      * @param concertScheduleId
      * @return
      */
-    private String getTokenActivatedSetName(Long concertScheduleId) {
-        return TOKEN_ACTIVATED_SET_NAME + ":" + concertScheduleId;
+    protected String getTokenActivatedSortedSetName(Long concertScheduleId) {
+        return TOKEN_ACTIVATED_SORTED_SET_NAME + ":" + concertScheduleId;
     }
 
     /**
@@ -120,7 +162,35 @@ public class TokenRepositoryRedisImpl implements TokenRepository {
     public void setQueueExpiration(Long concertScheduleId, long ttlSeconds) {
         stringRedisTemplate.expire(getTokenHashStorageName(concertScheduleId), ttlSeconds, TimeUnit.SECONDS);
         stringRedisTemplate.expire(getTokenRankSortedSetName(concertScheduleId), ttlSeconds, TimeUnit.SECONDS);
-        stringRedisTemplate.expire(getTokenActivatedSetName(concertScheduleId), ttlSeconds, TimeUnit.SECONDS);
+        stringRedisTemplate.expire(getTokenActivatedSortedSetName(concertScheduleId), ttlSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 토큰을 발급하는 메서드.
+     * <br>
+     * </br>
+     * 현재 활성화된 토큰 수가 즉시 활성화 가능한 한계 미만일 경우 토큰을 활성화하여 저장하고, 아닐 경우 대기열에 진입시킵니다.
+     * <br>
+     * </br>
+     * 이후 해당 공연 일정의 토큰 보관 자료구조 TTL 을 갱신합니다.
+     *
+     * @param token
+     * @param concurrentUserThreshold
+     * @param activeTokenDuration
+     * @param queueTtlSeconds
+     * @return
+     */
+    @Override
+    public Token issue(Token token, int concurrentUserThreshold, int activeTokenDuration, long queueTtlSeconds) {
+        // 현재 예약 서비스 이용 중인 사용자 수 확인 -> 대기가 필요 없을 경우 바로 활성화.
+        if (countCurrentlyActiveTokens(token.getConcertScheduleId()) < concurrentUserThreshold) {
+            token.activate(activeTokenDuration);
+        }
+
+        Token saved = save(token);
+        setQueueExpiration(token.getConcertScheduleId(), queueTtlSeconds);
+
+        return saved;
     }
 
     @Override
@@ -137,13 +207,15 @@ public class TokenRepositoryRedisImpl implements TokenRepository {
 
         // Case A : 만료 토큰인 경우 -> 대기열에서 삭제 / 활성화된 토큰 저장소에서도 삭제.
         if (token.getStatus() == TokenStatus.EXPIRED) {
-            activatedTokenSet.remove(getTokenActivatedSetName(token.getConcertScheduleId()), token.getId());
+            activatedTokenSortedSet.remove(getTokenActivatedSortedSetName(token.getConcertScheduleId()), token.getId());
             tokenScoredSortedSet.remove(tokenRankSortedSetName, token.getId());
+            stringRedisTemplate.convertAndSend(TOKEN_EXPIRED_CHANNEL, toExpiredMessage(token));
         }
 
-        // Case B : 활성화된 토큰일 경우 활성화된 토큰 저장소에도 추가.
+        // Case B : 활성화된 토큰일 경우 활성화된 토큰 저장소에도 추가. 점수는 만료 시점.
         else if (token.getStatus() == TokenStatus.ACTIVE) {
-            activatedTokenSet.add(getTokenActivatedSetName(token.getConcertScheduleId()), token.getId());
+            activatedTokenSortedSet.add(getTokenActivatedSortedSetName(token.getConcertScheduleId()), token.getId(),
+                    calculateScoreFromExpiredTime(token));
         }
 
         // Case C : 아닐 경우 대기열에 토큰 추가.
@@ -162,6 +234,12 @@ public class TokenRepositoryRedisImpl implements TokenRepository {
      * 만료 처리된 토큰들 / 활성화 처리된 토큰들을 받아 한 번에 저장.
      * <br>
      * </br>
+     * 토큰 단 건마다 {@link #save(Token)} 를 호출할 경우 토큰당 최대 5회(만료 토큰 : ZREM 2회, PUBLISH, HSET, 재조회 HGET)의 왕복이
+     * 발생하므로, 전체 토큰에 대한 Sorted Set / Hash 변경 명령을 하나의 Pipeline 으로 묶어 한 번에 전송합니다. Pipeline 에는 토큰당
+     * 최대 4개(만료 토큰 기준, 그 외 2개)의 명령이 담기며 저장 후 재조회는 생략합니다. 처리 소요 시간은 {@code queue.token.batch.save} 로
+     * 기록됩니다.
+     * <br>
+     * </br>
      * 토큰 목록이 비어있을 경우 비어있는 목록을 반환합니다.
      * 
      * @param tokens
@@ -173,13 +251,63 @@ public class TokenRepositoryRedisImpl implements TokenRepository {
         if (tokens == null || tokens.isEmpty()) {
             return List.of();
         }
-        for (Token token : tokens) {
-            save(token);
-        }
+
+        // 처음 생성된 토큰인 경우 ID 할당.
+        tokens.stream()
+                .filter(token -> token.getId() == null)
+                .forEach(token -> token.assignId(UUID.randomUUID().toString()));
+
+        batchSaveTimer.record(() -> stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Token token : tokens) {
+                writeToken(connection, token);
+            }
+            return null; // Pipeline 사용 시 반드시 null 반환.
+        }));
 
         return tokens;
     }
 
+    /**
+     * {@link #save(Token)} 와 동일한 규칙으로 토큰 상태에 따른 자료구조 변경 명령을 주어진 연결에 기록하는 메서드.
+     * 
+     * @param connection
+     * @param token
+     */
+    private void writeToken(RedisConnection connection, Token token) {
+        Long concertScheduleId = token.getConcertScheduleId();
+        byte[] tokenId = keySerializer.serialize(token.getId());
+
+        // Case A : 만료 토큰인 경우 -> 대기열에서 삭제 / 활성화된 토큰 저장소에서도 삭제.
+        if (token.getStatus() == TokenStatus.EXPIRED) {
+            connection.zSetCommands().zRem(keySerializer.serialize(getTokenActivatedSortedSetName(concertScheduleId)), tokenId);
+            connection.zSetCommands().zRem(keySerializer.serialize(getTokenRankSortedSetName(concertScheduleId)), tokenId);
+            connection.publish(keySerializer.serialize(TOKEN_EXPIRED_CHANNEL), keySerializer.serialize(toExpiredMessage(token)));
+        }
+
+        // Case B : 활성화된 토큰일 경우 활성화된 토큰 저장소에도 추가. 점수는 만료 시점.
+        else if (token.getStatus() == TokenStatus.ACTIVE) {
+            connection.zSetCommands().zAdd(keySerializer.serialize(getTokenActivatedSortedSetName(concertScheduleId)),
+                    calculateScoreFromExpiredTime(token), tokenId);
+        }
+
+        // Case C : 아닐 경우 대기열에 토큰 추가.
+        else {
+            connection.zSetCommands().zAdd(keySerializer.serialize(getTokenRankSortedSetName(concertScheduleId)),
+                    calculateScoreFromCreatedTime(token), tokenId);
+        }
+
+        // 토큰 저장소에 저장
+        connection.hashCommands().hSet(
+                keySerializer.serialize(getTokenHashStorageName(concertScheduleId)),
+                tokenId,
+                tokenSerializer.serialize(token));
+    }
+
+    // 토큰 만료 알림 메시지 : "{공연 일정 ID}:{토큰 ID}"
+    private String toExpiredMessage(Token token) {
+        return token.getConcertScheduleId() + ":" + token.getId();
+    }
+
     /**
      * 공연 일정 ID 와 토큰 ID 로 토큰을 조회하는 메서드.
      * 
@@ -220,7 +348,7 @@ public class TokenRepositoryRedisImpl implements TokenRepository {
      */
     @Override
     public int countCurrentlyActiveTokens(Long concertScheduleId) {
-        Long activeTokenCount = activatedTokenSet.size(getTokenActivatedSetName(concertScheduleId));
+        Long activeTokenCount = activatedTokenSortedSet.zCard(getTokenActivatedSortedSetName(concertScheduleId));
         // Operation Pipelining 하지 않고 단일 명령 호출이므로 null 이 발생하지 않는다.
         return activeTokenCount != null ? activeTokenCount.intValue() : 0;
     }
@@ -240,7 +368,7 @@ public class TokenRepositoryRedisImpl implements TokenRepository {
                         () -> new UnavailableRequestException(ErrorCode.TOKEN_NOT_FOUND, "해당 토큰의 발급 이력이 존재하지 않습니다."));
 
         // 활성화된 토큰 여부인지 먼저 확인.
-        if (activatedTokenSet.isMember(getTokenActivatedSetName(concertScheduleId), tokenId)) {
+        if (activatedTokenSortedSet.score(getTokenActivatedSortedSetName(concertScheduleId), tokenId) != null) {
             return 0; // 활성화된 토큰은 대기열에서의 순위를 조회할 수 없다.
         }
         // 활성화되지 않은 토큰이라면 대기열에서의 순위 조회.
@@ -250,55 +378,103 @@ public class TokenRepositoryRedisImpl implements TokenRepository {
         }
     }
 
+    /**
+     * 주어진 토큰들의 대기 순번을 조회하는 메서드.
+     * <br>
+     * </br>
+     * 토큰별 {@code ZRANK} 를 하나의 Pipeline 으로 묶어 한 번에 전송합니다. 대기열 전체를 읽지 않으므로 비용은 대기열 길이가 아닌 조회할
+     * 토큰 수에 비례합니다. 대기열에 없는(활성화 혹은 만료된) 토큰은 결과에 포함되지 않습니다.
+     *
+     * @param concertScheduleId
+     * @param tokenIds
+     * @return 토큰 ID 별 대기 순번
+     */
+    @Override
+    public Map<String, Integer> findWaitingPositions(Long concertScheduleId, List<String> tokenIds) {
+        if (tokenIds.isEmpty()) {
+            return Map.of();
+        }
+        byte[] key = keySerializer.serialize(getTokenRankSortedSetName(concertScheduleId));
+        List<Object> ranks = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String tokenId : tokenIds) {
+                connection.zSetCommands().zRank(key, keySerializer.serialize(tokenId));
+            }
+            return null; // Pipeline 사용 시 반드시 null 반환.
+        });
+
+        Map<String, Integer> positions = new HashMap<>(tokenIds.size() * 2);
+        for (int i = 0; i < tokenIds.size(); i++) {
+            if (ranks.get(i) instanceof Long rank) {
+                positions.put(tokenIds.get(i), rank.intValue());
+            }
+        }
+        return positions;
+    }
+
     /**
      * 활성화된 토큰 중 만료될 토큰을 조회하는 메서드.
+     * <br>
+     * </br>
+     * 활성화된 토큰 저장소의 점수가 만료 시점이므로, {@code ZRANGEBYSCORE -inf now} 한 번으로 만료 대상 토큰 ID 를 추려낸 뒤
+     * {@code HMGET} 한 번으로 토큰들을 일괄 조회합니다.
      * 
      * @return
      */
     @Override
     public List<Token> findActivatedTokensToBeExpired(Long concertScheduleId) {
-        List<Token> toBeExpiredActivatedTokens = new ArrayList<>();
-        LocalDateTime now = LocalDateTime.now();
-
-        // 1) Cursor를 활용해 활성화된 토큰을 100개 단위로 Iteration.
-        ScanOptions scanOptions = ScanOptions.scanOptions()
-                .match("*")
-                .count(100)
-                .build();
-
-        // 특정 공연 일정의 대기열을 순회하는 Cursor 초기화.
-        Cursor<String> cursor = activatedTokenSet.scan(getTokenActivatedSetName(concertScheduleId), scanOptions);
-
-        try {
-            while (cursor.hasNext()) {
-                String tokenId = cursor.next();
+        double now = LocalDateTime.now()
+                .atZone(ZoneId.systemDefault())
+                .toInstant()
+                .toEpochMilli();
 
-                // 토큰 ID로 토큰 조회.
-                Token token = tokenHashStorage.get(getTokenHashStorageName(concertScheduleId), tokenId);
+        // 1) 만료 시점이 현재 이전인 활성화 토큰 ID 조회.
+        Set<String> toBeExpiredTokenIds = activatedTokenSortedSet
+                .rangeByScore(getTokenActivatedSortedSetName(concertScheduleId), Double.NEGATIVE_INFINITY, now);
 
-                if (token.getExpiredAt() != null && token.getExpiredAt().isBefore(now)) {
-                    toBeExpiredActivatedTokens.add(token);
-                }
-            }
-        } finally {
-            cursor.close();
+        if (toBeExpiredTokenIds == null || toBeExpiredTokenIds.isEmpty()) {
+            return List.of();
         }
 
-        // You can remove expired tokens in a second pass or inline above
-        return toBeExpiredActivatedTokens;
+        // 2) 토큰 저장소에서 일괄 조회. 저장소 TTL 만료 등으로 존재하지 않는 토큰은 제외.
+        return tokenHashStorage.multiGet(getTokenHashStorageName(concertScheduleId), toBeExpiredTokenIds)
+                .stream()
+                .filter(Objects::nonNull)
+                .toList();
     }
 
     /**
      * 대기 중인 토큰 중 만료될 토큰을 조회하는 메서드.
      * <br>
      * </br>
-     * 예약 종료 후에 Batch 성 작업으로 토큰 삭제 시에 호출할 것으로 예상.
+     * 대기열의 점수가 발급 시점이므로, {@code ZRANGEBYSCORE -inf issuedBefore LIMIT 0 limit} 한 번으로 가장 오래 대기한 토큰부터
+     * 최대 limit 개의 ID 를 추려낸 뒤 {@code HMGET} 한 번으로 토큰들을 일괄 조회합니다. 조회 범위가 limit 으로 제한되므로 대기열이
+     * 길더라도 한 번의 호출이 Redis 를 오래 점유하지 않습니다.
      * 
+     * @param concertScheduleId
+     * @param issuedBefore
+     * @param limit
      * @return
      */
     @Override
-    public List<Token> findWaitingTokensToBeExpired() {
-        return List.of();
+    public List<Token> findWaitingTokensToBeExpired(Long concertScheduleId, LocalDateTime issuedBefore, int limit) {
+        double maxScore = issuedBefore
+                .atZone(ZoneId.systemDefault())
+                .toInstant()
+                .toEpochMilli();
+
+        // 1) 발급 시점이 기준 시각 이전인 대기 토큰 ID 조회.
+        Set<String> toBeExpiredTokenIds = tokenScoredSortedSet
+                .rangeByScore(getTokenRankSortedSetName(concertScheduleId), Double.NEGATIVE_INFINITY, maxScore, 0, limit);
+
+        if (toBeExpiredTokenIds == null || toBeExpiredTokenIds.isEmpty()) {
+            return List.of();
+        }
+
+        // 2) 토큰 저장소에서 일괄 조회. 저장소 TTL 만료 등으로 존재하지 않는 토큰은 제외.
+        return tokenHashStorage.multiGet(getTokenHashStorageName(concertScheduleId), toBeExpiredTokenIds)
+                .stream()
+                .filter(Objects::nonNull)
+                .toList();
     }
 
     /**
@@ -0,0 +1,135 @@
+package com.slam.concertreservation.infrastructure.persistence.redis.impl;
+
+import com.slam.concertreservation.common.error.ErrorCode;
+import com.slam.concertreservation.common.exceptions.UnavailableRequestException;
+import com.slam.concertreservation.domain.queue.model.Token;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Lua Script 기반의 대기열 토큰 저장소 구현체. ({@code app.queue.provider: REDIS_SCRIPT})
+ * <br>
+ * </br>
+ * 기본 구현체는 토큰 발급 시 활성 토큰 수 조회, 활성화/대기열 진입, 토큰 저장, 저장 후 재조회, TTL 설정(3회)을 각각 별도의 명령으로
+ * 호출하므로 토큰 1건 발급에 약 9회의 Redis 왕복이 발생합니다.
+ * <br>
+ * </br>
+ * 해당 구현체는 이 과정을 하나의 Lua Script 로 묶어 서버 측에서 원자적으로 수행합니다. 스크립트는 애플리케이션 기동 시
+ * {@code SCRIPT LOAD} 로 미리 적재해두고, 이후에는 {@code EVALSHA} 로 호출합니다.
+ * <br>
+ * </br>
+ * 조회, 만료 등 발급 외의 연산은 기본 구현체의 것을 그대로 사용합니다.
+ */
+@Slf4j
+@Repository
+@ConditionalOnProperty(prefix = "app.queue", name = "provider", havingValue = "REDIS_SCRIPT")
+public class TokenRepositoryRedisScriptImpl extends TokenRepositoryRedisImpl {
+
+    private static final String ISSUE_TOKEN_SCRIPT_PATH = "scripts/queue/issue_token.lua";
+
+    // 스크립트 인자 직렬화기. 토큰 직렬화 값(byte[])은 그대로, 그 외 값은 문자열로 전달한다. (바이너리 형식 토큰이 깨지지 않도록)
+    private static final RedisSerializer<Object> SCRIPT_ARGS_SERIALIZER = new RedisSerializer<>() {
+        @Override
+        public byte[] serialize(Object value) {
+            return value instanceof byte[] bytes ? bytes : String.valueOf(value).getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public Object deserialize(byte[] bytes) {
+            return bytes;
+        }
+    };
+
+    private final DefaultRedisScript<Object> issueTokenScript;
+
+    public TokenRepositoryRedisScriptImpl(StringRedisTemplate stringRedisTemplate,
+            RedisTemplate<String, Token> tokenRedisTemplate,
+            MeterRegistry meterRegistry) {
+        super(stringRedisTemplate, tokenRedisTemplate, meterRegistry);
+
+        this.issueTokenScript = new DefaultRedisScript<>();
+        this.issueTokenScript.setScriptSource(new ResourceScriptSource(new ClassPathResource(ISSUE_TOKEN_SCRIPT_PATH)));
+        this.issueTokenScript.setResultType(Object.class);
+    }
+
+    /**
+     * 토큰 발급 스크립트를 Redis 에 미리 적재합니다.
+     * <br>
+     * </br>
+     * 적재에 실패하더라도 최초 호출 시 {@code NOSCRIPT} 응답을 받으면 {@code EVAL} 로 재시도하므로 발급 자체는 가능합니다.
+     */
+    @PostConstruct
+    public void preloadScripts() {
+        try {
+            String sha = stringRedisTemplate.execute((RedisCallback<String>) connection -> connection
+                    .scriptingCommands()
+                    .scriptLoad(issueTokenScript.getScriptAsString().getBytes(StandardCharsets.UTF_8)));
+            log.info("대기열 토큰 발급 스크립트 적재 완료 - sha: {}", sha);
+        } catch (Exception e) {
+            log.warn("대기열 토큰 발급 스크립트 적재 실패. 최초 호출 시 EVAL 로 대체됩니다. - cause: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 토큰 발급. 활성 토큰 수 확인 -> 활성화 혹은 대기열 진입 -> 토큰 저장 -> TTL 갱신을 한 번의 {@code EVALSHA} 로 수행합니다.
+     * <br>
+     * </br>
+     * 활성화 여부는 스크립트 내에서 결정되므로, 대기 상태와 활성 상태 두 가지 직렬화 값을 함께 전달하고 스크립트가 저장한 값을 그대로
+     * 반환받습니다.
+     *
+     * @param token
+     * @param concurrentUserThreshold
+     * @param activeTokenDuration
+     * @param queueTtlSeconds
+     * @return
+     */
+    @Override
+    public Token issue(Token token, int concurrentUserThreshold, int activeTokenDuration, long queueTtlSeconds) {
+        if (token.getId() == null) {
+            token.assignId(UUID.randomUUID().toString());
+        }
+
+        Long concertScheduleId = token.getConcertScheduleId();
+
+        // 활성화될 경우 저장될 토큰. 대기 상태 토큰과 동일한 식별자, 생성 시각을 가진다.
+        Token activatedToken = Token.create(token.getId(), token.getUserId(), concertScheduleId,
+                token.getCreatedAt(), token.getExpiredAt())
+                .activate(activeTokenDuration);
+
+        // 스크립트 내에서 HSET 하는 값이 기본 구현체가 저장하는 값과 동일하도록 토큰 저장소의 Hash Value 시리얼라이저를 그대로 사용.
+        // 반환값(HGET) 역시 같은 시리얼라이저로 역직렬화한다.
+        Object persisted = stringRedisTemplate.execute(
+                issueTokenScript,
+                SCRIPT_ARGS_SERIALIZER,
+                tokenSerializer,
+                List.of(getTokenHashStorageName(concertScheduleId),
+                        getTokenRankSortedSetName(concertScheduleId),
+                        getTokenActivatedSortedSetName(concertScheduleId)),
+                token.getId(),
+                concurrentUserThreshold,
+                queueTtlSeconds,
+                tokenSerializer.serialize(token),
+                tokenSerializer.serialize(activatedToken),
+                String.valueOf((long) calculateScoreFromCreatedTime(token)),
+                String.valueOf((long) calculateScoreFromExpiredTime(activatedToken)));
+
+        if (persisted == null) {
+            throw new UnavailableRequestException(ErrorCode.TOKEN_NOT_FOUND, "토큰 발급 스크립트 수행 결과가 존재하지 않습니다.");
+        }
+
+        return (Token) persisted;
+    }
+}
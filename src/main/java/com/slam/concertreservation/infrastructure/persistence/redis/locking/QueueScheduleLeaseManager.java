@@ -0,0 +1,132 @@
+package com.slam.concertreservation.infrastructure.persistence.redis.locking;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대기열 스케줄러의 공연 일정별 처리 소유권을 클러스터 노드 간에 분배합니다.
+ * <br>
+ * </br>
+ * 각 노드는 스케줄러 주기마다 노드 목록(Sorted Set, score : 마지막 생존 신고 시각)에 자신을 등록하고, 살아있는 노드 목록을 정렬한 뒤
+ * 공연 일정 ID 의 해시값으로 담당 노드를 결정합니다. 따라서 노드 구성이 바뀌지 않는 한 하나의 공연 일정은 항상 같은 노드가 처리합니다.
+ * <br>
+ * </br>
+ * 노드가 추가되거나 이탈하는 순간에는 두 노드가 같은 일정을 자신의 몫으로 판단할 수 있으므로, 실제 처리는 공연 일정별 임대(Lease) 락을
+ * 대기 없이 획득한 경우에만 수행합니다.
+ */
+@Slf4j
+@Component
+public class QueueScheduleLeaseManager {
+
+    private static final String NODE_SORTED_SET_NAME = "queueSchedulerNodes";
+    private static final String LEASE_KEY_PREFIX = "LOCK:queueSchedule:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedissonClient redissonClient;
+    private final String nodeId;
+
+    public QueueScheduleLeaseManager(StringRedisTemplate stringRedisTemplate, RedissonClient redissonClient) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redissonClient = redissonClient;
+        // 프로세스 식별자(pid@host) + 임의값 : 같은 호스트에서 재기동하더라도 이전 노드와 구분.
+        this.nodeId = ManagementFactory.getRuntimeMXBean().getName() + ":" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 노드 생존 신고. 자신을 노드 목록에 갱신하고, {@code nodeTtlMillis} 이상 신고가 없는 노드는 목록에서 제거합니다.
+     *
+     * @param nodeTtlMillis
+     */
+    public void heartbeat(long nodeTtlMillis) {
+        long now = System.currentTimeMillis();
+        stringRedisTemplate.opsForZSet().add(NODE_SORTED_SET_NAME, nodeId, now);
+        stringRedisTemplate.opsForZSet().removeRangeByScore(NODE_SORTED_SET_NAME, Double.NEGATIVE_INFINITY, now - nodeTtlMillis);
+    }
+
+    /**
+     * 주어진 공연 일정 중 현재 노드가 담당하는 공연 일정만 추립니다.
+     * <br>
+     * </br>
+     * 노드 목록을 조회할 수 없는 경우(생존 신고 전, Redis 장애 등)에는 전체를 반환하고, 중복 처리 방지는 임대 락에 맡깁니다.
+     *
+     * @param concertScheduleIds
+     * @return
+     */
+    public List<Long> filterOwnedConcertScheduleIds(List<Long> concertScheduleIds) {
+        List<String> liveNodes = getLiveNodes();
+        if (liveNodes.isEmpty() || !liveNodes.contains(nodeId)) {
+            return concertScheduleIds;
+        }
+
+        List<Long> owned = new ArrayList<>();
+        for (Long concertScheduleId : concertScheduleIds) {
+            int ownerIndex = Math.floorMod(Long.hashCode(concertScheduleId), liveNodes.size());
+            if (nodeId.equals(liveNodes.get(ownerIndex))) {
+                owned.add(concertScheduleId);
+            }
+        }
+        return owned;
+    }
+
+    /**
+     * 공연 일정별 임대 락을 대기 없이 획득한 경우에만 작업을 수행합니다.
+     * <br>
+     * </br>
+     * 락은 {@code leaseMillis} 이후 자동 해제되므로, 작업 도중 노드가 비정상 종료되더라도 다음 주기에 다른 노드가 이어받을 수 있습니다.
+     *
+     * @param concertScheduleId
+     * @param leaseMillis
+     * @param task
+     * @return 작업 수행 여부. 다른 노드가 임대 중이라면 false.
+     */
+    public boolean runWithLease(Long concertScheduleId, long leaseMillis, Runnable task) {
+        RLock lease = redissonClient.getLock(LEASE_KEY_PREFIX + concertScheduleId);
+
+        boolean acquired;
+        try {
+            acquired = lease.tryLock(0, leaseMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+
+        if (!acquired) {
+            log.debug("공연 일정 임대 획득 실패. 다른 노드가 처리 중입니다. - concertScheduleId: {}", concertScheduleId);
+            return false;
+        }
+
+        try {
+            task.run();
+            return true;
+        } finally {
+            if (lease.isHeldByCurrentThread()) {
+                lease.unlock();
+            }
+        }
+    }
+
+    // 노드 순서가 모든 노드에서 동일해야 하므로 score(신고 시각)가 아닌 노드 식별자 기준으로 정렬.
+    private List<String> getLiveNodes() {
+        Set<String> nodes = stringRedisTemplate.opsForZSet().range(NODE_SORTED_SET_NAME, 0, -1);
+        if (nodes == null || nodes.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<String> sorted = new ArrayList<>(nodes);
+        Collections.sort(sorted);
+        return sorted;
+    }
+}
@@ -18,6 +18,15 @@ public @interface RedissonDistributedLock {
      */
     String key();
 
+    /**
+     * 락 키에 사용할 자원 이름 (default - key 와 같은 파라미터 이름).
+     * <br>
+     * </br>
+     * key 가 좌석 ID 목록처럼 컬렉션 파라미터인 경우 원소별 락을 하나의 MultiLock 으로 묶어 획득하므로, 단건 락과 같은 자원 이름을 지정하면
+     * 단건/다건 요청이 같은 락 키로 상호 배제됩니다. ex. key = "seatIds", lockName = "seatId"
+     */
+    String lockName() default "";
+
     /**
      * 락이 유지되는 시간 : 별도의 시간 단위 명시 없을 경우 초 단위로 설정.
      */
@@ -30,7 +39,7 @@ public @interface RedissonDistributedLock {
 
     /**
      * 락 임대 시간 (default - 3s)
-     * 락을 획득한 이후 leaseTime 이 지나면 락을 해제한다
+     * 락을 획득한 이후 leaseTime 이 지나면 락을 해제한다. key 가 컬렉션 파라미터인 경우에는 사용하지 않으며, 락을 보유하는 동안 임대가 갱신된다.
      */
     long leaseTime() default 3L;
 }
\ No newline at end of file
@@ -14,6 +14,9 @@ import org.redisson.api.RedissonClient;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.List;
+
 @Aspect
 @Order(1)
 @Component
@@ -22,6 +25,7 @@ import org.springframework.stereotype.Component;
 public class RedissonDistributedLockAop {
 
     private static final String LOCK_PREFIX = "LOCK:";
+    private static final long WATCHDOG_LEASE_TIME = -1L; // 임대 시간 미지정 : 락을 보유하는 동안 watchdog 이 임대를 갱신.
     private final RedissonClient redissonClient;
 
     @Around("@annotation(redissonDistributedLock)")
@@ -48,8 +52,17 @@ public class RedissonDistributedLockAop {
                     "해당 이름을 가진 메서드 파라미터가 존재하지 않습니다. : " + paramName + " _ 발생 메서드 : " + signature.getMethod());
         }
 
+        String lockName = redissonDistributedLock.lockName().isEmpty()
+                ? parameterNames[paramIndex]
+                : redissonDistributedLock.lockName();
+
+        // 컬렉션 파라미터인 경우 원소별 락을 한 번에 획득.
+        if (args[paramIndex] instanceof Collection<?> resources) {
+            return proceedWithMultiLock(pjp, redissonDistributedLock, lockName, resources);
+        }
+
         // 3) 락을 걸 대상의 키 생성. ex) LOCK:concertId-C123
-        String lockKey = LOCK_PREFIX + ":" + parameterNames[paramIndex] + "-" + args[paramIndex];
+        String lockKey = LOCK_PREFIX + ":" + lockName + "-" + args[paramIndex];
 
         // Redisson의 ReentrantLock 구현체인 RLock 객체 생성
         RLock rLock = redissonClient.getFairLock(lockKey);
@@ -75,4 +88,51 @@ public class RedissonDistributedLockAop {
             }
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 원소별 락을 Redisson MultiLock 으로 묶어, 모두 획득한 경우에만 메서드를 실행합니다. 일부만 획득한 상태로 대기하지 않으므로 다건 요청 간
+     * 교착이 발생하지 않습니다.
+     * <br>
+     * </br>
+     * 처리 시간이 원소 수에 비례하므로 고정 임대 시간 대신 watchdog 으로 임대를 갱신하며({@link #WATCHDOG_LEASE_TIME}), 메서드 실행 이후에는
+     * 단건 락과 마찬가지로 현재 스레드가 보유 중인 락만 해제합니다.
+     */
+    private Object proceedWithMultiLock(ProceedingJoinPoint pjp, RedissonDistributedLock redissonDistributedLock,
+            String lockName, Collection<?> resources) throws Throwable {
+        List<String> lockKeys = resources.stream()
+                .map(resource -> LOCK_PREFIX + ":" + lockName + "-" + resource)
+                .distinct()
+                .sorted()
+                .toList();
+        RLock[] locks = lockKeys.stream()
+                .map(redissonClient::getFairLock)
+                .toArray(RLock[]::new);
+        RLock multiLock = redissonClient.getMultiLock(locks);
+        log.info("[RedissonLockAspect] 다음 키들에 대한 락 획득 시도 중입니다.: {}", lockKeys);
+
+        boolean currentlyLocked = false; // 현재 락 획득 상태
+
+        try {
+            boolean isLockAvailable = multiLock.tryLock(redissonDistributedLock.waitTime(), WATCHDOG_LEASE_TIME,
+                    redissonDistributedLock.timeUnit());
+            if (!isLockAvailable) {
+                throw new ConcurrencyException(ErrorCode.INTERNAL_SERVER_ERROR,
+                        "다음 자원들에 대한 락 획득에 실패하였습니다. 이미 일부 자원에 대한 락이 존재합니다.: " + lockKeys);
+            }
+            currentlyLocked = true;
+            log.info("[RedissonLockAspect] 다음 키들에 대한 락 획득에 성공하였습니다.: {}", lockKeys);
+            return pjp.proceed();
+
+        } finally {
+            // MultiLock 은 보유 여부를 확인할 수 없으므로 원소별 락 단위로 확인하여 해제.
+            if (currentlyLocked) {
+                for (RLock lock : locks) {
+                    if (lock.isHeldByCurrentThread()) {
+                        lock.unlock();
+                    }
+                }
+                log.info("[RedissonLockAspect] 다음 키들에 대한 락이 해제되었습니다.: {}", lockKeys);
+            }
+        }
+    }
+}
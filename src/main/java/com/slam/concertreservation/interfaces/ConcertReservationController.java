@@ -28,10 +28,12 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import jakarta.servlet.http.Cookie;
 import org.springframework.web.bind.annotation.CookieValue;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -44,6 +46,7 @@ public class ConcertReservationController {
     private final UserApplication userApp;
     private final PaymentOrchestrator paymentOrchestrator;
     private final PaymentService paymentService;
+    private final QueueStatusBroadcaster queueStatusBroadcaster;
 
     /* ========== User ========== */
 
@@ -111,13 +114,15 @@ public class ConcertReservationController {
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime concertDateTime,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime reservationStartAt,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime reservationEndAt,
-            @RequestParam int price) {
+            @RequestParam int price,
+            @RequestParam(required = false) Integer numOfSeats) {
         ConcertSchedule schedule = reservationApp.registerConcertSchedule(
                 concertId,
                 concertDateTime,
                 reservationStartAt,
                 reservationEndAt,
-                price);
+                price,
+                numOfSeats == null ? Seat.DEFAULT_SEAT_COUNT : numOfSeats);
         Concert concert = reservationApp.getConcert(schedule.getConcertId());
         return ResponseEntity.ok(ConcertScheduleResponse.from(schedule, concert));
     }
@@ -156,6 +161,17 @@ public class ConcertReservationController {
         return ResponseEntity.ok(SeatResponse.from(seat));
     }
 
+    /**
+     * 좌석 자동 배정 : 서버가 고른 예약 가능 좌석 count 개 선점
+     */
+    @PostMapping("/concerts/schedules/{scheduleId}/seats/auto-assign")
+    public ResponseEntity<List<SeatResponse>> autoAssignSeats(@PathVariable Long scheduleId,
+            @RequestParam Long userId,
+            @RequestParam(defaultValue = "1") int count) {
+        List<Seat> seats = reservationApp.assignBestAvailableSeats(scheduleId, userId, count);
+        return ResponseEntity.ok(seats.stream().map(SeatResponse::from).toList());
+    }
+
     /**
      * 가예약 생성
      */
@@ -172,6 +188,20 @@ public class ConcertReservationController {
                 .ok(ReservationResponse.from(reservation, seat));
     }
 
+    /**
+     * 여러 좌석 일괄 선점 및 가예약 생성 (단체 예매)
+     */
+    @PostMapping("/reservations/batch")
+    public ResponseEntity<List<ReservationResponse>> holdSeats(
+            @RequestParam Long userId,
+            @RequestParam Long scheduleId,
+            @RequestParam List<Long> seatIds) {
+        List<Reservation> reservations = reservationApp.holdSeats(scheduleId, userId, seatIds);
+        return ResponseEntity.ok(reservations.stream()
+                .map(reservation -> ReservationResponse.from(reservation, reservationApp.getSeat(reservation.getSeatId())))
+                .toList());
+    }
+
     /**
      * 예약 확정 (결제 처리)
      */
@@ -272,7 +302,7 @@ public class ConcertReservationController {
     }
 
     /**
-     * 대기열 상태 확인 (Cookie에서 tokenId 추출)
+     * 대기열 상태 확인 (Cookie에서 tokenId 추출). 대기 순번과 예상 대기 시간은 v2 상태 확인 혹은 대기열 상태 구독(SSE)으로 함께 전달됩니다.
      */
     @GetMapping("/queue/status")
     public ResponseEntity<Integer> getQueueStatus(
@@ -280,4 +310,36 @@ public class ConcertReservationController {
             @CookieValue(value = "tokenId", required = false) String tokenId) {
         return ResponseEntity.ok(reservationApp.getRemaining(scheduleId, tokenId));
     }
-}
\ No newline at end of file
+
+    /**
+     * 대기열 상태 확인 v2 (Cookie에서 tokenId 추출). 토큰 상태와 함께, 대기 중인 토큰이라면 대기 순번과 예상 대기 시간(초)을 반환합니다.
+     * <br>
+     * </br>
+     * 대기 순번은 토큰 조회 후 대기열 순위 조회 한 번으로 얻고, 예상 대기 시간은 로컬에 캐시된 처리량으로 계산하므로 추가 Redis 조회가 없습니다.
+     * 대기 중이 아닌 토큰은 {@code position}, {@code estimatedWaitSeconds} 가 null 입니다.
+     */
+    @GetMapping("/v2/queue/status")
+    public ResponseEntity<TokenResponse> getQueueStatusV2(
+            @RequestParam Long scheduleId,
+            @CookieValue(value = "tokenId", required = false) String tokenId) {
+        Token token = reservationApp.getToken(scheduleId, tokenId);
+        if (token.isWait()) {
+            Integer position = reservationApp.getWaitingPositions(scheduleId, List.of(tokenId)).get(tokenId);
+            if (position != null) {
+                return ResponseEntity.ok(TokenResponse.waiting(token, position,
+                        reservationApp.estimateWaitSeconds(scheduleId, position)));
+            }
+        }
+        return ResponseEntity.ok(TokenResponse.from(token));
+    }
+
+    /**
+     * 대기열 상태 구독 (SSE). 폴링 대신 스케줄러 주기마다 대기 순번을 Push 받고, 활성화 혹은 만료 시 최종 상태를 받은 뒤 연결이 종료됩니다.
+     */
+    @GetMapping(value = "/queue/status/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeQueueStatus(
+            @RequestParam Long scheduleId,
+            @CookieValue(value = "tokenId", required = false) String tokenId) {
+        return queueStatusBroadcaster.subscribe(scheduleId, tokenId);
+    }
+}
@@ -0,0 +1,207 @@
+package com.slam.concertreservation.interfaces;
+
+import com.slam.concertreservation.application.facade.ConcertReservationApplication;
+import com.slam.concertreservation.domain.queue.model.Token;
+import com.slam.concertreservation.interfaces.dto.QueueStatusResponse;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 대기열 상태(대기 순번) Push 채널.
+ * <br>
+ * </br>
+ * 클라이언트가 매 초 {@code GET /api/queue/status} 를 호출하면 Redis 호출 수가 대기자 수 x 폴링 횟수에 비례하여 증가합니다.
+ * 대신 해당 컴포넌트는 주기마다 이 노드에 구독자가 있는 공연 일정별로, 구독 중인 토큰의 대기 순번만 한 번의 Pipeline 으로 조회하여 SSE 로
+ * 전송합니다. 따라서 주기당 Redis 호출 수는 공연 일정 수에, 조회 비용은 대기열 길이가 아닌 이 노드의 구독자 수에 비례합니다.
+ * <br>
+ * </br>
+ * 전송은 스케줄러 스레드가 아닌 별도의 전송 스레드에서 수행하므로, 느린 클라이언트가 다른 구독자의 전송을 지연시키지 않습니다. 이전 주기의
+ * 전송이 끝나지 않은 구독자는 해당 주기를 건너뛰며, 전송에 실패한(연결이 끊긴) 구독자는 즉시 구독 목록에서 제거합니다.
+ * <br>
+ * </br>
+ * 대기열에서 빠진 토큰(활성화 혹은 만료)은 최종 상태를 한 번 조회하여 전송한 뒤 연결을 종료합니다.
+ */
+@Slf4j
+@Component
+public class QueueStatusBroadcaster {
+
+    private static final Duration EMITTER_TIMEOUT = Duration.ofMinutes(30); // 만료 시 클라이언트(EventSource)가 재연결.
+    private static final String EVENT_NAME = "queue-status";
+    private static final int SENDER_THREADS = 4;
+
+    private final ConcertReservationApplication reservationApp;
+    private final Executor senderExecutor;
+    private final Supplier<SseEmitter> emitterFactory;
+
+    private final Map<Long, List<Subscription>> subscriptions = new ConcurrentHashMap<>();
+
+    // sending : 전송 스레드에 맡긴 이벤트가 아직 전송되지 않았는지 여부. 구독자당 대기 중인 전송 작업은 최대 하나.
+    private record Subscription(String tokenId, SseEmitter emitter, AtomicBoolean sending) {
+    }
+
+    @Autowired
+    public QueueStatusBroadcaster(ConcertReservationApplication reservationApp) {
+        this(reservationApp, newSenderExecutor(), () -> new SseEmitter(EMITTER_TIMEOUT.toMillis()));
+    }
+
+    QueueStatusBroadcaster(ConcertReservationApplication reservationApp, Executor senderExecutor,
+            Supplier<SseEmitter> emitterFactory) {
+        this.reservationApp = reservationApp;
+        this.senderExecutor = senderExecutor;
+        this.emitterFactory = emitterFactory;
+    }
+
+    private static ExecutorService newSenderExecutor() {
+        AtomicInteger threadNumber = new AtomicInteger(1);
+        return Executors.newFixedThreadPool(SENDER_THREADS, runnable -> {
+            Thread thread = new Thread(runnable, "queue-status-sender-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdownSenderExecutor() {
+        if (senderExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    /**
+     * 대기열 상태 구독. 구독 직후 현재 대기 순번을 한 번 전송합니다.
+     *
+     * @param concertScheduleId
+     * @param tokenId
+     * @return
+     */
+    public SseEmitter subscribe(Long concertScheduleId, String tokenId) {
+        // 토큰 존재 여부 확인 겸 현재 순번 조회. 존재하지 않는다면 예외 발생.
+        int position = reservationApp.getRemaining(concertScheduleId, tokenId);
+
+        SseEmitter emitter = emitterFactory.get();
+        Subscription subscription = new Subscription(tokenId, emitter, new AtomicBoolean(false));
+        // 빈 목록 정리와 경합하지 않도록 등록은 compute 내에서 원자적으로 수행.
+        subscriptions.compute(concertScheduleId, (id, scheduleSubscriptions) -> {
+            List<Subscription> registered = scheduleSubscriptions == null ? new CopyOnWriteArrayList<>()
+                    : scheduleSubscriptions;
+            registered.add(subscription);
+            return registered;
+        });
+
+        Runnable unsubscribe = () -> unsubscribe(concertScheduleId, subscription);
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(unsubscribe);
+        emitter.onError(e -> unsubscribe.run());
+
+        // 아직 응답이 시작되지 않은 emitter 이므로 전송은 버퍼에 보관될 뿐 요청 스레드를 막지 않는다.
+        send(concertScheduleId, subscription, QueueStatusResponse.waiting(concertScheduleId, tokenId, position,
+                reservationApp.estimateWaitSeconds(concertScheduleId, position)));
+        return emitter;
+    }
+
+    // 스케줄러와 동일한 주기로 이 노드에 구독자가 있는 공연 일정의 대기 순번을 전송. 공연 일정 담당 노드와 무관하게 모든 노드에서 수행된다.
+    @Scheduled(fixedDelayString = "${app.queue.scheduler.tick-millis:1000}")
+    public void broadcast() {
+        subscriptions.forEach((concertScheduleId, scheduleSubscriptions) -> {
+            if (scheduleSubscriptions.isEmpty()) {
+                subscriptions.computeIfPresent(concertScheduleId, (id, current) -> current.isEmpty() ? null : current);
+                return;
+            }
+            try {
+                broadcast(concertScheduleId, scheduleSubscriptions);
+            } catch (Exception e) {
+                log.warn("대기열 상태 전송 실패 - concertScheduleId: {}, cause: {}", concertScheduleId, e.getMessage());
+            }
+        });
+    }
+
+    private void broadcast(Long concertScheduleId, List<Subscription> scheduleSubscriptions) {
+        // 이전 주기의 전송이 끝나지 않은 구독자는 이번 주기에서 제외.
+        List<Subscription> idleSubscriptions = scheduleSubscriptions.stream()
+                .filter(subscription -> !subscription.sending().get())
+                .toList();
+        if (idleSubscriptions.isEmpty()) {
+            return;
+        }
+
+        // 공연 일정당 한 번, 이 노드의 구독자 토큰에 대해서만 순번 조회.
+        Map<String, Integer> positions = reservationApp.getWaitingPositions(concertScheduleId,
+                idleSubscriptions.stream().map(Subscription::tokenId).toList());
+
+        for (Subscription subscription : idleSubscriptions) {
+            Integer position = positions.get(subscription.tokenId());
+            if (position != null) {
+                QueueStatusResponse response = QueueStatusResponse.waiting(concertScheduleId, subscription.tokenId(),
+                        position, reservationApp.estimateWaitSeconds(concertScheduleId, position));
+                dispatch(subscription, () -> send(concertScheduleId, subscription, response));
+            } else {
+                // 대기열에서 빠진 토큰 : 최종 상태 전송 후 구독 종료. 토큰당 한 번만 발생.
+                dispatch(subscription, () -> sendFinalStatus(concertScheduleId, subscription));
+            }
+        }
+    }
+
+    // 전송 스레드에 전송 작업을 맡긴다. 이미 대기 중인 전송이 있다면 맡기지 않는다.
+    private void dispatch(Subscription subscription, Runnable task) {
+        if (!subscription.sending().compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            senderExecutor.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    subscription.sending().set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            subscription.sending().set(false);
+        }
+    }
+
+    private void sendFinalStatus(Long concertScheduleId, Subscription subscription) {
+        try {
+            Token token = reservationApp.getToken(concertScheduleId, subscription.tokenId());
+            send(concertScheduleId, subscription, QueueStatusResponse.from(token));
+            subscription.emitter().complete();
+        } catch (Exception e) {
+            subscription.emitter().completeWithError(e);
+        } finally {
+            unsubscribe(concertScheduleId, subscription);
+        }
+    }
+
+    private void send(Long concertScheduleId, Subscription subscription, QueueStatusResponse response) {
+        try {
+            subscription.emitter().send(SseEmitter.event().name(EVENT_NAME).data(response));
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트 연결 종료. 이후 콜백에서도 제거되지만, 다음 주기 전송을 막기 위해 즉시 제거.
+            unsubscribe(concertScheduleId, subscription);
+            log.debug("대기열 상태 구독 해제 - concertScheduleId: {}, tokenId: {}", concertScheduleId, subscription.tokenId());
+        }
+    }
+
+    private void unsubscribe(Long concertScheduleId, Subscription subscription) {
+        List<Subscription> scheduleSubscriptions = subscriptions.get(concertScheduleId);
+        if (scheduleSubscriptions != null) {
+            scheduleSubscriptions.remove(subscription);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.slam.concertreservation.interfaces.dto;
+
+import com.slam.concertreservation.domain.queue.model.Token;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class QueueStatusResponse {
+    private String tokenId;
+    private String concertScheduleId;
+    private String status;
+    private int position; // 앞선 대기자 수. 대기 중이 아닌 토큰은 0.
+    private Long estimatedWaitSeconds; // 예상 대기 시간 (초). 처리량이 집계되지 않았거나 대기 중이 아닌 토큰은 null.
+
+    public static QueueStatusResponse waiting(Long concertScheduleId, String tokenId, int position,
+            Long estimatedWaitSeconds) {
+        return QueueStatusResponse.builder()
+                .tokenId(tokenId)
+                .concertScheduleId(String.valueOf(concertScheduleId))
+                .status("WAIT")
+                .position(position)
+                .estimatedWaitSeconds(estimatedWaitSeconds)
+                .build();
+    }
+
+    public static QueueStatusResponse from(Token token) {
+        return QueueStatusResponse.builder()
+                .tokenId(token.getId())
+                .concertScheduleId(String.valueOf(token.getConcertScheduleId()))
+                .status(token.getStatus().name())
+                .position(0)
+                .build();
+    }
+}
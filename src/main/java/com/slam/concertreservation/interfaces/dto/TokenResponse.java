@@ -13,6 +13,8 @@ public class TokenResponse {
     private String concertScheduleId;
     private String status;
     private LocalDateTime expiredAt;
+    private Integer position; // 앞선 대기자 수. 대기 중이 아닌 토큰은 null.
+    private Long estimatedWaitSeconds; // 예상 대기 시간(초). 대기 중이 아니거나 처리량 집계 전이면 null.
 
     public static TokenResponse from(Token token) {
         return TokenResponse.builder()
@@ -23,4 +25,16 @@ public class TokenResponse {
                 .expiredAt(token.getExpiredAt())
                 .build();
     }
+
+    public static TokenResponse waiting(Token token, int position, Long estimatedWaitSeconds) {
+        return TokenResponse.builder()
+                .id(token.getId())
+                .userId(String.valueOf(token.getUserId()))
+                .concertScheduleId(String.valueOf(token.getConcertScheduleId()))
+                .status(token.getStatus().name())
+                .expiredAt(token.getExpiredAt())
+                .position(position)
+                .estimatedWaitSeconds(estimatedWaitSeconds)
+                .build();
+    }
 }
@@ -114,12 +114,36 @@ CREATE TABLE IF NOT EXISTS `RESERVATION` (
     `price`             INT          NOT NULL,
     `status`            VARCHAR(255) NOT NULL,
     `expiredAt`         DATETIME(6)  NULL,
+    -- 진행 중인 예약에만 좌석 ID 가 채워지며, 만료/취소된 예약은 NULL 이 되어 유니크 제약에서 제외된다.
+    `activeSeatKey`     VARCHAR(255) GENERATED ALWAYS AS
+        (CASE WHEN `status` IN ('PREEMPTED', 'PAYMENT_PENDING', 'CONFIRMED') THEN `seatId` END) VIRTUAL,
     `created_at`        DATETIME(6)  NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
     `updated_at`        DATETIME(6)  NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6),
     PRIMARY KEY (`reservation_id`),
+    UNIQUE KEY `UK_RESERVATION_ACTIVE_SEAT` (`concertScheduleId`, `activeSeatKey`),
     INDEX `IDX_RESERVATION_USER` (`userId`),
     INDEX `IDX_RESERVATION_SCHEDULE` (`concertScheduleId`),
-    INDEX `IDX_RESERVATION_SEAT` (`seatId`)
+    INDEX `IDX_RESERVATION_SEAT` (`seatId`),
+    INDEX `IDX_RESERVATION_STATUS_EXPIRED_AT` (`status`, `expiredAt`)
+    ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+-- ============================================================
+-- 8-1) RESERVATION_ARCHIVE : 종료된 공연 일정의 결제/취소/만료 예약 보관
+-- ============================================================
+CREATE TABLE IF NOT EXISTS `RESERVATION_ARCHIVE` (
+    `reservation_id`    VARCHAR(255) NOT NULL,
+    `userId`            VARCHAR(255) NOT NULL,
+    `concertScheduleId` VARCHAR(255) NOT NULL,
+    `seatId`            VARCHAR(255) NOT NULL,
+    `price`             INT          NOT NULL,
+    `status`            VARCHAR(255) NOT NULL,
+    `expiredAt`         DATETIME(6)  NULL,
+    `created_at`        DATETIME(6)  NOT NULL,
+    `updated_at`        DATETIME(6)  NOT NULL,
+    `archivedAt`        DATETIME(6)  NOT NULL,
+    PRIMARY KEY (`reservation_id`),
+    INDEX `IDX_RESERVATION_ARCHIVE_SCHEDULE_SEAT` (`concertScheduleId`, `seatId`),
+    INDEX `IDX_RESERVATION_ARCHIVE_USER` (`userId`)
     ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
 
 -- ============================================================
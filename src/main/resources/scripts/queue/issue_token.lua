@@ -0,0 +1,30 @@
+-- 대기열 토큰 발급 스크립트
+-- 활성 토큰 수 확인 -> 활성화 혹은 대기열 진입 -> 토큰 저장 -> TTL 갱신을 단일 원자 연산으로 수행합니다.
+--
+-- KEYS[1] : 토큰 저장소(Hash)           tokenHashStorage:{concertScheduleId}
+-- KEYS[2] : 대기열(Sorted Set)          tokenRankSortedSet:{concertScheduleId}
+-- KEYS[3] : 활성화된 토큰 저장소(Sorted Set, 점수 = 만료 시각) tokenActivatedSortedSet:{concertScheduleId}
+--
+-- ARGV[1] : 토큰 ID
+-- ARGV[2] : 즉시 활성화 가능한 최대 활성 토큰 수
+-- ARGV[3] : 자료구조 TTL (초)
+-- ARGV[4] : 대기 상태 토큰 직렬화 값
+-- ARGV[5] : 활성 상태 토큰 직렬화 값
+-- ARGV[6] : 대기열 점수 (토큰 생성 시각 epoch millis)
+-- ARGV[7] : 활성화된 토큰 저장소 점수 (활성 토큰 만료 시각 epoch millis)
+
+local activeCount = redis.call('ZCARD', KEYS[3])
+
+if activeCount < tonumber(ARGV[2]) then
+    redis.call('ZADD', KEYS[3], ARGV[7], ARGV[1])
+    redis.call('HSET', KEYS[1], ARGV[1], ARGV[5])
+else
+    redis.call('ZADD', KEYS[2], ARGV[6], ARGV[1])
+    redis.call('HSET', KEYS[1], ARGV[1], ARGV[4])
+end
+
+for i = 1, 3 do
+    redis.call('EXPIRE', KEYS[i], ARGV[3])
+end
+
+return redis.call('HGET', KEYS[1], ARGV[1])
@@ -0,0 +1,16 @@
+-- 만료 시각 도래 가예약 꺼내기 스크립트
+-- 가예약 만료 지연 큐(Sorted Set)에서 만료 시각이 지난 가예약을 만료 시각 순으로 최대 limit 건 조회한 뒤 제거합니다.
+-- 조회와 제거가 하나의 스크립트로 수행되므로, 여러 노드가 동시에 꺼내더라도 같은 가예약을 중복으로 꺼내지 않습니다.
+--
+-- KEYS[1] : 가예약 만료 지연 큐(Sorted Set)  reservationExpiryQueue (member : 예약 ID, score : 만료 시각 epoch millis)
+-- ARGV[1] : 현재 시각 epoch millis
+-- ARGV[2] : 최대 꺼내기 건수
+--
+-- 반환값 : 꺼낸 예약 ID 목록
+
+local due = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, tonumber(ARGV[2]))
+if #due > 0 then
+    redis.call('ZREM', KEYS[1], unpack(due))
+end
+
+return due
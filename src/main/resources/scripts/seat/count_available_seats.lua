@@ -0,0 +1,22 @@
+-- 남은 좌석 수 조회 스크립트
+-- 남은 좌석 수 카운터를 반환합니다. 카운터가 없다면 좌석 예약 가능 여부 Bitmap 의 설정된 비트 수로 초기화한 뒤 반환합니다.
+-- 존재하지 않는 키의 BITCOUNT 는 0 이므로, 매진과 미적재를 구분하기 위해 Bitmap 존재 여부를 함께 확인합니다.
+--
+-- KEYS[1] : 좌석 예약 가능 여부(Bitmap)  seatAvailabilityBitmap:{concertScheduleId}
+-- KEYS[2] : 남은 좌석 수(String)         seatAvailabilityRemainingCount:{concertScheduleId}
+--
+-- 반환값 : 남은 좌석 수 / -1 (미적재)
+
+local remaining = redis.call('GET', KEYS[2])
+if remaining then
+    return tonumber(remaining)
+end
+
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    return -1
+end
+
+local count = redis.call('BITCOUNT', KEYS[1])
+redis.call('SET', KEYS[2], count)
+
+return count
@@ -0,0 +1,22 @@
+-- 좌석 재고 적재 스크립트
+-- 재고가 적재되지 않은 경우에만 좌석 전체와 선점 좌석 수를 단일 원자 연산으로 적재합니다.
+-- 여러 노드가 동시에 적재하더라도 먼저 적재된 재고(그 사이 반영된 선점 포함)를 덮어쓰지 않습니다.
+--
+-- KEYS[1] : 좌석 재고(Hash)       seatInventoryHash:{concertScheduleId}
+-- KEYS[2] : 선점 좌석 수(String)  seatInventoryOccupiedCount:{concertScheduleId}
+--
+-- ARGV[1]         : 선점 좌석 수
+-- ARGV[2], ARGV[3] ... : 좌석 ID, 좌석 값 쌍
+--
+-- 반환값 : 1 (적재) / 0 (이미 적재됨)
+
+if redis.call('EXISTS', KEYS[1]) == 1 then
+    return 0
+end
+
+for i = 2, #ARGV, 2 do
+    redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+end
+redis.call('SET', KEYS[2], ARGV[1])
+
+return 1
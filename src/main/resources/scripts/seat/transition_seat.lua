@@ -0,0 +1,35 @@
+-- 좌석 상태 전이 스크립트
+-- 좌석 상태 확인 -> 상태 변경 -> 선점 좌석 수 갱신 -> DB 반영 대기열 적재를 단일 원자 연산으로 수행합니다.
+--
+-- KEYS[1] : 좌석 재고(Hash, field : 좌석 ID, value : "{상태}|{좌석 번호}|{가격}")  seatInventoryHash:{concertScheduleId}
+-- KEYS[2] : 선점 좌석 수(String)                                                 seatInventoryOccupiedCount:{concertScheduleId}
+-- KEYS[3] : DB 반영 대기열(List)                                                 seatInventoryWriteBehindQueue
+--
+-- ARGV[1] : 좌석 ID
+-- ARGV[2] : 기대하는 현재 상태
+-- ARGV[3] : 변경할 상태
+-- ARGV[4] : 선점 좌석 수 증감치 (선점 : 1, 해제 : -1)
+-- ARGV[5] : DB 반영 대기열 항목 "{공연 일정 ID}:{좌석 ID}"
+--
+-- 반환값 : 변경된 좌석 값 / NOT_LOADED (재고 미적재) / NOT_FOUND (좌석 없음) / CONFLICT (기대 상태와 다름)
+
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    return 'NOT_LOADED'
+end
+
+local seat = redis.call('HGET', KEYS[1], ARGV[1])
+if not seat then
+    return 'NOT_FOUND'
+end
+
+local separator = string.find(seat, '|', 1, true)
+if string.sub(seat, 1, separator - 1) ~= ARGV[2] then
+    return 'CONFLICT'
+end
+
+local updated = ARGV[3] .. string.sub(seat, separator)
+redis.call('HSET', KEYS[1], ARGV[1], updated)
+redis.call('INCRBY', KEYS[2], ARGV[4])
+redis.call('RPUSH', KEYS[3], ARGV[5])
+
+return updated
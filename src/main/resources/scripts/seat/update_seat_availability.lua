@@ -0,0 +1,34 @@
+-- 좌석 예약 가능 여부 변경 스크립트
+-- 좌석 예약 가능 여부 Bitmap 이 존재하는 경우에만 좌석 하나의 비트를 변경하고, 비트가 실제로 바뀐 경우에만 남은 좌석 수를 증감합니다.
+-- 존재하지 않는 키에 SETBIT 하면 나머지 좌석이 모두 예약 불가한 Bitmap 이 생성되므로 이를 방지합니다.
+-- 남은 좌석 수 카운터가 아직 없다면 변경이 반영된 Bitmap 의 BITCOUNT 로 초기화합니다.
+--
+-- KEYS[1] : 좌석 예약 가능 여부(Bitmap)  seatAvailabilityBitmap:{concertScheduleId}
+-- KEYS[2] : 남은 좌석 수(String)         seatAvailabilityRemainingCount:{concertScheduleId}
+--
+-- ARGV[1] : 비트 위치 (좌석 번호 - 최소 좌석 번호)
+-- ARGV[2] : 1 (예약 가능) / 0 (예약 불가)
+--
+-- 반환값 : 변경 후 남은 좌석 수 / -1 (미적재)
+
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    return -1
+end
+
+local previous = redis.call('SETBIT', KEYS[1], ARGV[1], ARGV[2])
+
+if redis.call('EXISTS', KEYS[2]) == 0 then
+    local count = redis.call('BITCOUNT', KEYS[1])
+    redis.call('SET', KEYS[2], count)
+    return count
+end
+
+if previous == tonumber(ARGV[2]) then
+    return tonumber(redis.call('GET', KEYS[2]))
+end
+
+if ARGV[2] == '1' then
+    return redis.call('INCR', KEYS[2])
+end
+
+return redis.call('DECR', KEYS[2])
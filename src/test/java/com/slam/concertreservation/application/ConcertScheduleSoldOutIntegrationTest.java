@@ -0,0 +1,114 @@
+package com.slam.concertreservation.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.slam.concertreservation.application.facade.ConcertReservationApplication;
+import com.slam.concertreservation.common.error.ErrorCode;
+import com.slam.concertreservation.common.exceptions.BusinessRuleViolationException;
+import com.slam.concertreservation.common.exceptions.UnavailableRequestException;
+import com.slam.concertreservation.domain.concert.model.ConcertSchedule;
+import com.slam.concertreservation.domain.concert.model.ConcertScheduleAvailability;
+import com.slam.concertreservation.domain.concert.model.Seat;
+import com.slam.concertreservation.domain.concert.repository.SeatRepository;
+import com.slam.concertreservation.domain.concert.service.ConcertService;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class ConcertScheduleSoldOutIntegrationTest {
+
+        private final LocalDateTime CONCERT_SCHEDULE_START_TIME = LocalDateTime.now().plusDays(2);
+        private final LocalDateTime CONCERT_SCHEDULE_RESERVATION_START_TIME = LocalDateTime.now().plusDays(1)
+                        .minusHours(3);
+        private final LocalDateTime CONCERT_SCHEDULE_RESERVATION_END_TIME = LocalDateTime.now().plusDays(1)
+                        .minusHours(1);
+
+        @Autowired
+        private ConcertReservationApplication concertReservationApplication;
+
+        @Autowired
+        private ConcertService concertService;
+
+        @Autowired
+        private SeatRepository seatRepository;
+
+        @Test
+        @DisplayName("성공 : 마지막 좌석이 선점되면 남은 좌석 수가 0 이 되고 공연 일정이 SOLDOUT 으로 변경된다.")
+        void shouldMakeConcertScheduleSoldOut_WhenLastSeatAssigned() {
+                // given
+                ConcertSchedule concertSchedule = registerConcertSchedule(2);
+                List<Seat> seats = seatRepository.findAllByConcertScheduleId(concertSchedule.getId());
+
+                // when
+                seats.forEach(seat -> concertService.assignSeatOfConcertSchedule(concertSchedule.getId(), seat.getId(),
+                                1L));
+
+                // then
+                assertThat(concertService.getRemainingSeatsCount(concertSchedule.getId())).isZero();
+                assertThat(concertService.isSoldOut(concertSchedule.getId())).isTrue();
+                assertThat(concertService.getConcertSchedule(concertSchedule.getId()).getAvailability())
+                                .isEqualTo(ConcertScheduleAvailability.SOLDOUT);
+        }
+
+        @Test
+        @DisplayName("실패 : 매진된 공연 일정의 좌석 선점, 자동 배정, 좌석 목록 조회, 토큰 발급 요청은 즉시 거절된다.")
+        void shouldRejectRequests_WhenConcertScheduleSoldOut() {
+                // given
+                ConcertSchedule concertSchedule = registerConcertSchedule(1);
+                Seat seat = seatRepository.findAllByConcertScheduleId(concertSchedule.getId()).get(0);
+                concertService.assignSeatOfConcertSchedule(concertSchedule.getId(), seat.getId(), 1L);
+
+                // when & then
+                assertThatThrownBy(() -> concertReservationApplication.assignSeat(concertSchedule.getId(), 2L,
+                                seat.getId()))
+                                .isInstanceOf(BusinessRuleViolationException.class)
+                                .extracting("errorCode")
+                                .isEqualTo(ErrorCode.CONCERT_SCHEDULE_SOLD_OUT);
+                assertThatThrownBy(() -> concertReservationApplication.assignBestAvailableSeats(concertSchedule.getId(),
+                                2L, 1))
+                                .isInstanceOf(BusinessRuleViolationException.class)
+                                .extracting("errorCode")
+                                .isEqualTo(ErrorCode.CONCERT_SCHEDULE_SOLD_OUT);
+                assertThatThrownBy(() -> concertReservationApplication.issueToken(2L, concertSchedule.getId()))
+                                .isInstanceOf(BusinessRuleViolationException.class)
+                                .extracting("errorCode")
+                                .isEqualTo(ErrorCode.CONCERT_SCHEDULE_SOLD_OUT);
+                assertThatThrownBy(() -> concertReservationApplication.getAvailableSeats(concertSchedule.getId()))
+                                .isInstanceOf(UnavailableRequestException.class)
+                                .extracting("errorCode")
+                                .isEqualTo(ErrorCode.NO_AVAILABLE_SEATS);
+        }
+
+        @Test
+        @DisplayName("성공 : 매진된 공연 일정의 좌석이 해제되면 공연 일정이 다시 AVAILABLE 로 변경된다.")
+        void shouldMakeConcertScheduleAvailable_WhenSeatReleasedAfterSoldOut() {
+                // given
+                ConcertSchedule concertSchedule = registerConcertSchedule(1);
+                Seat seat = seatRepository.findAllByConcertScheduleId(concertSchedule.getId()).get(0);
+                concertService.assignSeatOfConcertSchedule(concertSchedule.getId(), seat.getId(), 1L);
+
+                // when
+                concertService.unassignSeatOfConcertSchedule(concertSchedule.getId(), seat.getId());
+
+                // then
+                assertThat(concertService.getRemainingSeatsCount(concertSchedule.getId())).isEqualTo(1);
+                assertThat(concertService.isSoldOut(concertSchedule.getId())).isFalse();
+                assertThat(concertService.getConcertSchedule(concertSchedule.getId()).getAvailability())
+                                .isEqualTo(ConcertScheduleAvailability.AVAILABLE);
+        }
+
+        private ConcertSchedule registerConcertSchedule(int numOfSeats) {
+                return concertService.registerConcertSchedule(
+                                ConcertSchedule.create(1L, CONCERT_SCHEDULE_START_TIME,
+                                                CONCERT_SCHEDULE_RESERVATION_START_TIME,
+                                                CONCERT_SCHEDULE_RESERVATION_END_TIME),
+                                1000, numOfSeats);
+        }
+}
@@ -212,7 +212,7 @@ public class NonConcurrentConcertReservationIntegrationTest {
 
                         // then
                         Assertions.assertNotNull(actual);
-                        Assertions.assertEquals(Seat.MAX_SEAT_NUMBER, actual.size());
+                        Assertions.assertEquals(Seat.DEFAULT_SEAT_COUNT, actual.size());
                 }
 
                 @Test
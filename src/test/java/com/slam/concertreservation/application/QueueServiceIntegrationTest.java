@@ -1,12 +1,14 @@
 package com.slam.concertreservation.application;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.slam.concertreservation.domain.concert.model.ConcertSchedule;
 import com.slam.concertreservation.domain.concert.service.ConcertService;
 import com.slam.concertreservation.domain.queue.model.QueuePolicy;
 import com.slam.concertreservation.domain.queue.model.Token;
 import com.slam.concertreservation.domain.queue.model.TokenStatus;
+import com.slam.concertreservation.domain.queue.repository.TokenRepository;
 import com.slam.concertreservation.domain.queue.service.QueueService;
 import com.slam.concertreservation.domain.user.model.User;
 import com.slam.concertreservation.domain.user.service.UserService;
@@ -15,6 +17,7 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
@@ -44,6 +47,9 @@ public class QueueServiceIntegrationTest {
         @Autowired
         private QueuePolicy queuePolicy;
 
+        @Autowired
+        private TokenRepository tokenRepository;
+
         @Autowired
         private ConcertService concertService;
 
@@ -133,6 +139,98 @@ public class QueueServiceIntegrationTest {
                                         .isTrue();
                 }
 
+                @Test
+                @DisplayName("성공 : 여러 활성 토큰을 한 번에 만료시키면 모두 만료 상태로 저장되고 활성 사용자 수에서 제외된다.")
+                void shouldSuccessExpireAllTokens_WhenExpireTokensAtOnce() {
+                        // given : 정책 상 최대 2명 활성화, 2명 모두 활성화 상태
+                        ConcertSchedule concertSchedule = ConcertSchedule.create(
+                                        CONCERT_SCHEDULE_ID,
+                                        CONCERT_SCHEDULE_START_TIME,
+                                        CONCERT_SCHEDULE_RESERVATION_START_TIME,
+                                        CONCERT_SCHEDULE_RESERVATION_END_TIME);
+                        ConcertSchedule savedConcertSchedule = concertService.registerConcertSchedule(concertSchedule,
+                                        10000);
+
+                        List<Token> activeTokens = new ArrayList<>();
+                        for (int i = 1; i <= 2; i++) {
+                                User activeUser = userService.joinUser(User.create("active" + i));
+                                activeTokens.add(queueService.issueToken(activeUser.getId(),
+                                                savedConcertSchedule.getId()));
+                        }
+
+                        // when : 일괄 만료
+                        List<Token> expiredTokens = queueService.expireToken(savedConcertSchedule.getId(),
+                                        activeTokens);
+
+                        // then : 저장소에 만료 상태로 반영
+                        assertThat(expiredTokens).hasSize(2);
+                        for (Token token : activeTokens) {
+                                assertThatThrownBy(() -> queueService.validateToken(savedConcertSchedule.getId(),
+                                                token.getId()))
+                                                .isInstanceOf(UnavailableRequestException.class);
+                        }
+
+                        // 빈 자리가 생겼으므로 새로 진입한 사용자는 바로 활성화
+                        User newUser = userService.joinUser(User.create("new"));
+                        Token newToken = queueService.issueToken(newUser.getId(), savedConcertSchedule.getId());
+                        assertThat(newToken.getStatus()).isEqualTo(TokenStatus.ACTIVE);
+                }
+
+                @Test
+                @DisplayName("성공 : 만료 시점이 지난 활성 토큰만 만료 대상으로 조회된다.")
+                void shouldReturnOnlyOverdueActiveTokens_WhenGetActivatedTokensToBeExpired() {
+                        // given : 만료 시점이 지난 활성 토큰 1개, 아직 유효한 활성 토큰 1개
+                        Long concertScheduleId = 7L;
+                        LocalDateTime now = LocalDateTime.now();
+                        Token overdue = tokenRepository.save(Token.create(null, 1L, concertScheduleId,
+                                        TokenStatus.ACTIVE.name(), now.minusMinutes(10), now.minusMinutes(1)));
+                        Token valid = tokenRepository.save(Token.create(null, 2L, concertScheduleId,
+                                        TokenStatus.ACTIVE.name(), now.minusMinutes(1), now.plusMinutes(3)));
+
+                        // when
+                        List<Token> toBeExpired = queueService.getActivatedTokensToBeExpired(concertScheduleId);
+
+                        // then : 만료 대상 1개, 두 토큰 모두 활성 사용자 수에 포함
+                        assertThat(toBeExpired).containsExactly(overdue);
+                        assertThat(tokenRepository.countCurrentlyActiveTokens(concertScheduleId)).isEqualTo(2);
+                        assertThat(tokenRepository.countRemaining(concertScheduleId, valid.getId())).isZero();
+
+                        // 만료 처리 후에는 활성 사용자 수에서 제외
+                        queueService.expireToken(concertScheduleId, toBeExpired);
+                        assertThat(queueService.getActivatedTokensToBeExpired(concertScheduleId)).isEmpty();
+                        assertThat(tokenRepository.countCurrentlyActiveTokens(concertScheduleId)).isEqualTo(1);
+                }
+
+                @Test
+                @DisplayName("성공 : 대기 유효 시간이 지난 대기 토큰만 오래 대기한 순으로 최대 limit 개 만료 대상으로 조회된다.")
+                void shouldReturnOverdueWaitingTokensUpToLimit_WhenGetWaitingTokensToBeExpired() {
+                        // given : 대기 유효 시간이 지난 대기 토큰 3개, 아직 유효한 대기 토큰 1개
+                        Long concertScheduleId = 8L;
+                        LocalDateTime now = LocalDateTime.now();
+                        int waitingHours = queuePolicy.getWaitingTokenDuration();
+                        List<Token> overdue = new ArrayList<>();
+                        for (int i = 0; i < 3; i++) {
+                                LocalDateTime createdAt = now.minusHours(waitingHours).minusMinutes(30 - i);
+                                overdue.add(tokenRepository.save(Token.create(null, (long) i, concertScheduleId,
+                                                createdAt, createdAt.plusHours(waitingHours))));
+                        }
+                        Token valid = tokenRepository.save(Token.create(null, 9L, concertScheduleId,
+                                        now.minusMinutes(1), now.plusHours(waitingHours)));
+
+                        // when
+                        List<Token> toBeExpired = queueService.getWaitingTokensToBeExpired(concertScheduleId, 2);
+
+                        // then : 가장 오래 대기한 2개만 조회
+                        assertThat(toBeExpired).containsExactly(overdue.get(0), overdue.get(1));
+
+                        // 만료 처리 후에는 대기열에서 제외되어 남은 토큰의 순번이 앞당겨진다.
+                        queueService.expireToken(concertScheduleId, toBeExpired);
+                        assertThat(queueService.getWaitingTokensToBeExpired(concertScheduleId, 2))
+                                        .containsExactly(overdue.get(2));
+                        assertThat(tokenRepository.countCurrentlyWaitingTokens(concertScheduleId)).isEqualTo(2);
+                        assertThat(tokenRepository.countRemaining(concertScheduleId, valid.getId())).isEqualTo(1);
+                }
+
                 @Test
                 @DisplayName("성공 : 어떤 사용자의 대기열 순번을 조회할 수 있다.")
                 void shouldSuccessGetQueueNumber_WhenGetQueueNumber() {
@@ -177,6 +275,14 @@ public class QueueServiceIntegrationTest {
 
                         // user3, user4가 앞에 있으므로 순번은 2 (0-based)
                         assertThat(queuePosition).isEqualTo(2);
+
+                        // 대기 순번 일괄 조회 결과가 개별 순번 조회 결과와 일치하고, 대기열에 없는 토큰은 제외된다.
+                        Map<String, Integer> waitingPositions = queueService.getWaitingPositions(
+                                        savedConcertSchedule.getId(),
+                                        List.of(tokens.get(0).getId(), tokens.get(2).getId(), lastToken.getId()));
+                        assertThat(waitingPositions).containsOnlyKeys(tokens.get(2).getId(), lastToken.getId());
+                        assertThat(waitingPositions.get(tokens.get(2).getId())).isZero();
+                        assertThat(waitingPositions.get(lastToken.getId())).isEqualTo(queuePosition);
                 }
         }
 
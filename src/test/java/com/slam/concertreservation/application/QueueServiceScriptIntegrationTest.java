@@ -0,0 +1,112 @@
+package com.slam.concertreservation.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.slam.concertreservation.domain.concert.model.ConcertSchedule;
+import com.slam.concertreservation.domain.concert.service.ConcertService;
+import com.slam.concertreservation.domain.queue.model.Token;
+import com.slam.concertreservation.domain.queue.model.TokenStatus;
+import com.slam.concertreservation.domain.queue.repository.TokenRepository;
+import com.slam.concertreservation.domain.queue.service.QueueService;
+import com.slam.concertreservation.domain.user.model.User;
+import com.slam.concertreservation.domain.user.service.UserService;
+import com.slam.concertreservation.infrastructure.persistence.redis.impl.TokenRepositoryRedisScriptImpl;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(properties = "app.queue.provider=REDIS_SCRIPT")
+@ActiveProfiles("test")
+public class QueueServiceScriptIntegrationTest {
+
+        private final LocalDateTime CONCERT_SCHEDULE_START_TIME = LocalDateTime.now().plusDays(2);
+        private final LocalDateTime CONCERT_SCHEDULE_RESERVATION_START_TIME = LocalDateTime.now().plusDays(1)
+                        .minusHours(3);
+        private final LocalDateTime CONCERT_SCHEDULE_RESERVATION_END_TIME = LocalDateTime.now().plusDays(1)
+                        .minusHours(1);
+
+        @Autowired
+        private QueueService queueService;
+
+        @Autowired
+        private TokenRepository tokenRepository;
+
+        @Autowired
+        private ConcertService concertService;
+
+        @Autowired
+        private UserService userService;
+
+        @Test
+        @DisplayName("성공 : REDIS_SCRIPT 설정 시 Lua Script 기반 저장소 구현체가 주입된다.")
+        void shouldInjectScriptRepository_WhenProviderIsRedisScript() {
+                assertThat(tokenRepository).isInstanceOf(TokenRepositoryRedisScriptImpl.class);
+        }
+
+        @Test
+        @DisplayName("성공 : 스크립트로 발급된 토큰은 정책 한계까지 활성화되고, 이후 대기열 순번이 조회된다.")
+        void shouldActivateUpToThresholdAndQueueTheRest_WhenIssuedByScript() {
+                // given : 정책상 최대 2명 활성화, 5명의 사용자
+                ConcertSchedule savedConcertSchedule = concertService.registerConcertSchedule(
+                                ConcertSchedule.create(1L, CONCERT_SCHEDULE_START_TIME,
+                                                CONCERT_SCHEDULE_RESERVATION_START_TIME,
+                                                CONCERT_SCHEDULE_RESERVATION_END_TIME),
+                                10000);
+
+                // when
+                List<Token> tokens = new ArrayList<>();
+                for (int i = 1; i <= 5; i++) {
+                        User savedUser = userService.joinUser(User.create("user" + i));
+                        tokens.add(queueService.issueToken(savedUser.getId(), savedConcertSchedule.getId()));
+                }
+
+                // then
+                assertThat(tokens.get(0).getStatus()).isEqualTo(TokenStatus.ACTIVE);
+                assertThat(tokens.get(1).getStatus()).isEqualTo(TokenStatus.ACTIVE);
+                assertThat(tokens.subList(2, 5)).allMatch(Token::isWait);
+                assertThat(queueService.validateToken(savedConcertSchedule.getId(), tokens.get(0).getId())).isTrue();
+                assertThat(queueService.getRemainingTokenCount(savedConcertSchedule.getId(), tokens.get(4).getId()))
+                                .isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("성공 : 10명이 동시에 진입해도 스크립트의 원자성으로 인해 정책 한계를 초과하여 활성화되지 않는다.")
+        void shouldNotExceedThreshold_When10PeopleEnterQueueConcurrently() throws Exception {
+                // given
+                ConcertSchedule savedConcertSchedule = concertService.registerConcertSchedule(
+                                ConcertSchedule.create(1L, CONCERT_SCHEDULE_START_TIME,
+                                                CONCERT_SCHEDULE_RESERVATION_START_TIME,
+                                                CONCERT_SCHEDULE_RESERVATION_END_TIME),
+                                10000);
+
+                List<Callable<Token>> tasks = new ArrayList<>();
+                for (int i = 1; i <= 10; i++) {
+                        User user = userService.joinUser(User.create("user" + i));
+                        tasks.add(() -> queueService.issueToken(user.getId(), savedConcertSchedule.getId()));
+                }
+
+                // when
+                ExecutorService executorService = Executors.newFixedThreadPool(10);
+                List<Future<Token>> results = executorService.invokeAll(tasks);
+                executorService.shutdown();
+
+                // then : max-concurrent-user: 2, threshold: 1.0
+                long activeCount = 0;
+                for (Future<Token> result : results) {
+                        if (result.get().isActive()) {
+                                activeCount++;
+                        }
+                }
+                assertThat(activeCount).isEqualTo(2);
+                assertThat(queueService.getAllTokensByConcertScheduleId(savedConcertSchedule.getId())).hasSize(10);
+        }
+}
@@ -0,0 +1,105 @@
+package com.slam.concertreservation.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.slam.concertreservation.application.facade.ConcertReservationApplication;
+import com.slam.concertreservation.domain.concert.model.ConcertSchedule;
+import com.slam.concertreservation.domain.concert.service.ConcertService;
+import com.slam.concertreservation.domain.queue.model.Token;
+import com.slam.concertreservation.domain.queue.model.TokenStatus;
+import jakarta.servlet.http.Cookie;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class QueueStatusV2IntegrationTest {
+
+        private final LocalDateTime CONCERT_SCHEDULE_START_TIME = LocalDateTime.now().plusDays(2);
+        private final LocalDateTime CONCERT_SCHEDULE_RESERVATION_START_TIME = LocalDateTime.now().plusDays(1)
+                        .minusHours(3);
+        private final LocalDateTime CONCERT_SCHEDULE_RESERVATION_END_TIME = LocalDateTime.now().plusDays(1)
+                        .minusHours(1);
+
+        @Autowired
+        private MockMvc mockMvc;
+
+        @Autowired
+        private ConcertReservationApplication concertReservationApplication;
+
+        @Autowired
+        private ConcertService concertService;
+
+        @Test
+        @DisplayName("성공 : 대기 중인 토큰의 v2 상태 확인 -> 대기 순번과 예상 대기 시간을 함께 반환하고, 기존 상태 확인은 순번만 반환한다.")
+        void shouldReturnPositionAndEstimate_WhenTokenIsWaiting() throws Exception {
+                // given : 정책 상 최대 2명 활성화 가능, 2명 활성화 후 2명 대기
+                ConcertSchedule concertSchedule = registerConcertSchedule();
+                Long scheduleId = concertSchedule.getId();
+                concertReservationApplication.issueToken(1L, scheduleId);
+                concertReservationApplication.issueToken(2L, scheduleId);
+                Token firstWaitingToken = concertReservationApplication.issueToken(3L, scheduleId);
+                Token secondWaitingToken = concertReservationApplication.issueToken(4L, scheduleId);
+                assertThat(secondWaitingToken.getStatus())
+                                .isEqualTo(TokenStatus.WAIT);
+
+                int position = concertReservationApplication.getRemaining(scheduleId, secondWaitingToken.getId());
+                Long estimatedWaitSeconds = concertReservationApplication.estimateWaitSeconds(scheduleId, position);
+
+                // when & then : v2 는 토큰 상태와 함께 대기 순번, 예상 대기 시간을 반환
+                mockMvc.perform(get("/api/v2/queue/status")
+                                .param("scheduleId", String.valueOf(scheduleId))
+                                .cookie(new Cookie("tokenId", secondWaitingToken.getId())))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.id").value(secondWaitingToken.getId()))
+                                .andExpect(jsonPath("$.status").value(TokenStatus.WAIT.name()))
+                                .andExpect(jsonPath("$.position").value(position))
+                                .andExpect(jsonPath("$.estimatedWaitSeconds").value(estimatedWaitSeconds));
+
+                // then : 기존 상태 확인은 순번만 그대로 반환
+                mockMvc.perform(get("/api/queue/status")
+                                .param("scheduleId", String.valueOf(scheduleId))
+                                .cookie(new Cookie("tokenId", secondWaitingToken.getId())))
+                                .andExpect(status().isOk())
+                                .andExpect(content().string(String.valueOf(position)));
+                assertThat(position)
+                                .isGreaterThan(concertReservationApplication.getRemaining(scheduleId,
+                                                firstWaitingToken.getId()));
+        }
+
+        @Test
+        @DisplayName("성공 : 활성화된 토큰의 v2 상태 확인 -> 대기 순번과 예상 대기 시간은 null 이다.")
+        void shouldReturnNullPositionAndEstimate_WhenTokenIsActive() throws Exception {
+                // given
+                ConcertSchedule concertSchedule = registerConcertSchedule();
+                Token activeToken = concertReservationApplication.issueToken(1L, concertSchedule.getId());
+
+                // when & then
+                mockMvc.perform(get("/api/v2/queue/status")
+                                .param("scheduleId", String.valueOf(concertSchedule.getId()))
+                                .cookie(new Cookie("tokenId", activeToken.getId())))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.status").value(TokenStatus.ACTIVE.name()))
+                                .andExpect(jsonPath("$.position").value((Object) null))
+                                .andExpect(jsonPath("$.estimatedWaitSeconds").value((Object) null));
+        }
+
+        private ConcertSchedule registerConcertSchedule() {
+                return concertService.registerConcertSchedule(
+                                ConcertSchedule.create(1L, CONCERT_SCHEDULE_START_TIME,
+                                                CONCERT_SCHEDULE_RESERVATION_START_TIME,
+                                                CONCERT_SCHEDULE_RESERVATION_END_TIME),
+                                1000);
+        }
+}
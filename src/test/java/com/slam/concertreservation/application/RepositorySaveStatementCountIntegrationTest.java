@@ -0,0 +1,172 @@
+package com.slam.concertreservation.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.p6spy.engine.common.StatementInformation;
+import com.p6spy.engine.event.SimpleJdbcEventListener;
+import com.slam.concertreservation.domain.concert.model.ConcertSchedule;
+import com.slam.concertreservation.domain.concert.model.Seat;
+import com.slam.concertreservation.domain.concert.model.SeatStatus;
+import com.slam.concertreservation.domain.concert.repository.SeatRepository;
+import com.slam.concertreservation.domain.concert.service.ConcertService;
+import com.slam.concertreservation.domain.point.service.PointService;
+import com.slam.concertreservation.domain.reservation.model.Reservation;
+import com.slam.concertreservation.domain.reservation.service.ReservationService;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 저장 어댑터(SeatRepositoryImpl, ReservationRepositoryImpl, UserPointBalanceRepositoryImpl)가 연산당 실행하는 SQL 수를 p6spy 로
+ * 기록하여 검증합니다.
+ * <br>
+ * </br>
+ * 다른 스레드(스케줄러 등)의 SQL 이 섞이지 않도록, 기록을 시작한 테스트 스레드에서 실행된 SQL 만 집계합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(RepositorySaveStatementCountIntegrationTest.StatementRecorderConfig.class)
+public class RepositorySaveStatementCountIntegrationTest {
+
+        private final LocalDateTime CONCERT_SCHEDULE_START_TIME = LocalDateTime.now().plusDays(2);
+        private final LocalDateTime CONCERT_SCHEDULE_RESERVATION_START_TIME = LocalDateTime.now().plusDays(1)
+                        .minusHours(3);
+        private final LocalDateTime CONCERT_SCHEDULE_RESERVATION_END_TIME = LocalDateTime.now().plusDays(1)
+                        .minusHours(1);
+
+        @Autowired
+        private StatementRecorder statementRecorder;
+
+        @Autowired
+        private ReservationService reservationService;
+
+        @Autowired
+        private ConcertService concertService;
+
+        @Autowired
+        private SeatRepository seatRepository;
+
+        @Autowired
+        private PointService pointService;
+
+        @AfterEach
+        void tearDown() {
+                statementRecorder.stop();
+        }
+
+        @Test
+        @DisplayName("성공 : 예약 생성 시 중복 여부 및 기존재 여부 조회 없이 만료 시간이 정해진 INSERT 1회만 실행된다.")
+        void shouldInsertReservationWithoutSelectById_WhenReservationCreated() {
+                // given
+                long concertScheduleId = System.nanoTime();
+                statementRecorder.start();
+
+                // when
+                Reservation created = reservationService.createReservation(1L, concertScheduleId, 1L, 1000);
+                statementRecorder.stop();
+
+                // then
+                assertThat(created.getExpiredAt()).isNotNull();
+                // 중복 예약은 유니크 인덱스가 판정하므로 중복 검증 조회, 저장을 위한 PK 조회 및 merge 조회가 없다.
+                assertThat(statementRecorder.count("select", "reservation")).isZero();
+                assertThat(statementRecorder.count("insert", "reservation")).isEqualTo(1);
+                assertThat(statementRecorder.count("update", "reservation")).isZero();
+        }
+
+        @Test
+        @DisplayName("성공 : 좌석 선점 시 트랜잭션 내에서 조회한 엔티티를 재사용하여 SELECT 1회, UPDATE 1회만 실행된다.")
+        void shouldReuseManagedSeatEntity_WhenSeatAssigned() {
+                // given
+                ConcertSchedule concertSchedule = concertService.registerConcertSchedule(
+                                ConcertSchedule.create(1L, CONCERT_SCHEDULE_START_TIME,
+                                                CONCERT_SCHEDULE_RESERVATION_START_TIME,
+                                                CONCERT_SCHEDULE_RESERVATION_END_TIME),
+                                1000);
+                Seat target = seatRepository.findAllByConcertScheduleId(concertSchedule.getId()).get(0);
+                statementRecorder.start();
+
+                // when
+                Seat assigned = concertService.assignSeatOfConcertSchedule(concertSchedule.getId(), target.getId(), 1L);
+                statementRecorder.stop();
+
+                // then
+                assertThat(assigned.getStatus()).isEqualTo(SeatStatus.UNAVAILABLE);
+                assertThat(statementRecorder.count("select", "seat")).isEqualTo(1);
+                assertThat(statementRecorder.count("update", "seat")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("성공 : 포인트 충전 시 트랜잭션 내에서 조회한 잔액 엔티티를 재사용하여 SELECT 1회, version 조건부 UPDATE 1회만 실행된다.")
+        void shouldReuseManagedBalanceEntity_WhenPointIncreased() {
+                // given
+                long userId = System.nanoTime();
+                pointService.createUserPointBalance(userId);
+                statementRecorder.start();
+
+                // when
+                pointService.increaseUserPointBalance(userId, 1000);
+                statementRecorder.stop();
+
+                // then
+                assertThat(statementRecorder.count("select", "pointbalance")).isEqualTo(1);
+                assertThat(statementRecorder.count("update", "pointbalance")).isEqualTo(1);
+                assertThat(statementRecorder.statements("update", "pointbalance").get(0)).contains("version");
+        }
+
+        @TestConfiguration
+        static class StatementRecorderConfig {
+
+                @Bean
+                StatementRecorder statementRecorder() {
+                        return new StatementRecorder();
+                }
+        }
+
+        /**
+         * p6spy 가 실행된 SQL 을 전달하는 리스너. 빈으로 등록하면 p6spy-spring-boot-starter 가 DataSource 에 연결합니다.
+         */
+        static class StatementRecorder extends SimpleJdbcEventListener {
+
+                private final List<String> statements = new CopyOnWriteArrayList<>();
+                private volatile Thread recordingThread;
+
+                void start() {
+                        statements.clear();
+                        recordingThread = Thread.currentThread();
+                }
+
+                void stop() {
+                        recordingThread = null;
+                }
+
+                @Override
+                public void onAfterAnyExecute(StatementInformation statementInformation, long timeElapsedNanos,
+                                SQLException e) {
+                        if (Thread.currentThread() == recordingThread) {
+                                statements.add(statementInformation.getSql().trim().toLowerCase(Locale.ROOT));
+                        }
+                }
+
+                List<String> statements(String command, String table) {
+                        return statements.stream()
+                                        .filter(sql -> sql.startsWith(command))
+                                        .filter(sql -> sql.contains("`" + table + "`") || sql.contains(" " + table + " "))
+                                        .toList();
+                }
+
+                int count(String command, String table) {
+                        return statements(command, table).size();
+                }
+        }
+}
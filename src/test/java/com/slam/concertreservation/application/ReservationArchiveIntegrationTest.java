@@ -0,0 +1,121 @@
+package com.slam.concertreservation.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.slam.concertreservation.application.scheduler.ReservationArchiveScheduler;
+import com.slam.concertreservation.domain.concert.model.ConcertSchedule;
+import com.slam.concertreservation.domain.concert.service.ConcertService;
+import com.slam.concertreservation.domain.reservation.model.Reservation;
+import com.slam.concertreservation.domain.reservation.model.ReservationStatus;
+import com.slam.concertreservation.domain.reservation.repository.ReservationRepository;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class ReservationArchiveIntegrationTest {
+
+        // 보관 기간(7일)이 지난 공연 일정
+        private final LocalDateTime CONCERT_SCHEDULE_START_TIME = LocalDateTime.now().minusDays(10);
+        private final LocalDateTime CONCERT_SCHEDULE_RESERVATION_START_TIME = LocalDateTime.now().minusDays(12);
+        private final LocalDateTime CONCERT_SCHEDULE_RESERVATION_END_TIME = LocalDateTime.now().minusDays(11);
+
+        @Autowired
+        private ReservationArchiveScheduler reservationArchiveScheduler;
+
+        @Autowired
+        private ConcertService concertService;
+
+        @Autowired
+        private ReservationRepository reservationRepository;
+
+        @Autowired
+        private JdbcTemplate jdbcTemplate;
+
+        @Test
+        @DisplayName("성공 : 보관 기간이 지난 공연 일정의 결제/만료 예약은 보관 테이블로 옮겨지고, 가예약은 예약 테이블에 남는다.")
+        void shouldMoveFinishedReservationsToArchive_WhenConcertScheduleFinished() {
+                // given
+                ConcertSchedule concertSchedule = registerConcertSchedule();
+                save(Reservation.create(1L, 1L, concertSchedule.getId(), 1000,
+                                CONCERT_SCHEDULE_RESERVATION_END_TIME).confirm());
+                save(Reservation.create(1L, 2L, concertSchedule.getId(), 1000,
+                                CONCERT_SCHEDULE_RESERVATION_END_TIME).expire());
+                Reservation preempted = save(Reservation.create(2L, 3L, concertSchedule.getId(), 1000,
+                                LocalDateTime.now().plusMinutes(5)));
+
+                // when
+                reservationArchiveScheduler.archiveFinishedConcertSchedules();
+
+                // then
+                assertThat(countRows("`RESERVATION`", concertSchedule.getId())).isEqualTo(1);
+                assertThat(countRows("`RESERVATION_ARCHIVE`", concertSchedule.getId())).isEqualTo(2);
+                assertThat(reservationRepository.findById(preempted.getId())).isPresent();
+        }
+
+        @Test
+        @DisplayName("성공 : 보관된 예약도 예약 조회 시 그대로 조회된다.")
+        void shouldFindArchivedReservations_WhenQueriedThroughRepository() {
+                // given
+                ConcertSchedule concertSchedule = registerConcertSchedule();
+                Long userId = concertSchedule.getId();
+                Reservation confirmed = save(Reservation.create(userId, 1L, concertSchedule.getId(), 1000,
+                                CONCERT_SCHEDULE_RESERVATION_END_TIME).confirm());
+                Reservation preempted = save(Reservation.create(userId, 2L, concertSchedule.getId(), 1000,
+                                LocalDateTime.now().plusMinutes(5)));
+
+                // when
+                reservationArchiveScheduler.archiveFinishedConcertSchedules();
+
+                // then
+                assertThat(reservationRepository.findById(confirmed.getId()).orElseThrow().getStatus())
+                                .isEqualTo(ReservationStatus.CONFIRMED);
+                assertThat(reservationRepository.findByConcertScheduleIdAndSeatId(concertSchedule.getId(), 1L))
+                                .map(Reservation::getId).contains(confirmed.getId());
+                assertThat(reservationRepository.findByConcertScheduleId(concertSchedule.getId()))
+                                .extracting(Reservation::getId)
+                                .containsExactlyInAnyOrder(confirmed.getId(), preempted.getId());
+                assertThat(reservationRepository.findByUserId(userId))
+                                .extracting(Reservation::getId)
+                                .containsExactlyInAnyOrder(confirmed.getId(), preempted.getId());
+        }
+
+        @Test
+        @DisplayName("성공 : 이미 보관된 공연 일정은 다시 보관해도 변화가 없다.")
+        void shouldArchiveNothing_WhenAlreadyArchived() {
+                // given
+                ConcertSchedule concertSchedule = registerConcertSchedule();
+                save(Reservation.create(1L, 1L, concertSchedule.getId(), 1000,
+                                CONCERT_SCHEDULE_RESERVATION_END_TIME).confirm());
+                reservationArchiveScheduler.archiveFinishedConcertSchedules();
+
+                // when
+                reservationArchiveScheduler.archiveFinishedConcertSchedules();
+
+                // then
+                assertThat(countRows("`RESERVATION`", concertSchedule.getId())).isZero();
+                assertThat(countRows("`RESERVATION_ARCHIVE`", concertSchedule.getId())).isEqualTo(1);
+        }
+
+        private Reservation save(Reservation reservation) {
+                return reservationRepository.save(reservation);
+        }
+
+        private int countRows(String table, Long concertScheduleId) {
+                return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE concert_schedule_id = ?",
+                                Integer.class, concertScheduleId);
+        }
+
+        private ConcertSchedule registerConcertSchedule() {
+                return concertService.registerConcertSchedule(
+                                ConcertSchedule.create(1L, CONCERT_SCHEDULE_START_TIME,
+                                                CONCERT_SCHEDULE_RESERVATION_START_TIME,
+                                                CONCERT_SCHEDULE_RESERVATION_END_TIME),
+                                10);
+        }
+}
@@ -0,0 +1,91 @@
+package com.slam.concertreservation.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.slam.concertreservation.application.scheduler.ReservationScheduler;
+import com.slam.concertreservation.domain.concert.model.ConcertSchedule;
+import com.slam.concertreservation.domain.concert.model.Seat;
+import com.slam.concertreservation.domain.concert.model.SeatStatus;
+import com.slam.concertreservation.domain.concert.repository.SeatRepository;
+import com.slam.concertreservation.domain.concert.service.ConcertService;
+import com.slam.concertreservation.domain.reservation.model.Reservation;
+import com.slam.concertreservation.domain.reservation.model.ReservationStatus;
+import com.slam.concertreservation.domain.reservation.repository.ReservationRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+// 테스트 중 주기 실행되는 만료 스케줄러와 경합하지 않도록 주기를 늘린다.
+@SpringBootTest(properties = { "app.reservation.expiry.poll-millis=3600000",
+                "app.reservation.expiry.delay-queue-poll-millis=3600000" })
+@ActiveProfiles("test")
+public class ReservationBulkExpiryIntegrationTest {
+
+        private final LocalDateTime CONCERT_SCHEDULE_START_TIME = LocalDateTime.now().plusDays(2);
+        private final LocalDateTime CONCERT_SCHEDULE_RESERVATION_START_TIME = LocalDateTime.now().plusDays(1)
+                        .minusHours(3);
+        private final LocalDateTime CONCERT_SCHEDULE_RESERVATION_END_TIME = LocalDateTime.now().plusDays(1)
+                        .minusHours(1);
+
+        @Autowired
+        private ReservationScheduler reservationScheduler;
+
+        @Autowired
+        private ConcertService concertService;
+
+        @Autowired
+        private SeatRepository seatRepository;
+
+        @Autowired
+        private ReservationRepository reservationRepository;
+
+        @Test
+        @DisplayName("성공 : 만료 시각이 지난 가예약은 일괄 만료되고, 선점하던 좌석이 모두 해제된다.")
+        void shouldExpireAllAndReleaseSeats_WhenTemporaryReservationsExpired() {
+                // given : 좌석 5개를 선점하고, 그중 3개의 가예약은 만료 시각이 지났다.
+                ConcertSchedule concertSchedule = registerConcertSchedule();
+                List<Seat> seats = seatRepository.findAllByConcertScheduleId(concertSchedule.getId()).subList(0, 5);
+                List<Reservation> reservations = seats.stream()
+                                .map(seat -> {
+                                        concertService.assignSeatOfConcertSchedule(concertSchedule.getId(),
+                                                        seat.getId(), seat.getId());
+                                        LocalDateTime expiredAt = seats.indexOf(seat) < 3
+                                                        ? LocalDateTime.now().minusMinutes(1)
+                                                        : LocalDateTime.now().plusMinutes(5);
+                                        return reservationRepository.save(Reservation.create(seat.getId(),
+                                                        seat.getId(), concertSchedule.getId(), 1000, expiredAt));
+                                })
+                                .toList();
+
+                // when
+                reservationScheduler.expireTemporaryReservations();
+
+                // then
+                for (int i = 0; i < reservations.size(); i++) {
+                        Reservation reservation = reservationRepository.findById(reservations.get(i).getId())
+                                        .orElseThrow();
+                        SeatStatus seatStatus = seatRepository.findById(reservation.getSeatId()).orElseThrow()
+                                        .getStatus();
+                        if (i < 3) {
+                                assertThat(reservation.getStatus()).isEqualTo(ReservationStatus.EXPIRED);
+                                assertThat(seatStatus).isEqualTo(SeatStatus.AVAILABLE);
+                        } else {
+                                assertThat(reservation.getStatus()).isEqualTo(ReservationStatus.PREEMPTED);
+                                assertThat(seatStatus).isEqualTo(SeatStatus.UNAVAILABLE);
+                        }
+                }
+                assertThat(concertService.getOccupiedSeatsCount(concertSchedule.getId())).isEqualTo(2);
+        }
+
+        private ConcertSchedule registerConcertSchedule() {
+                return concertService.registerConcertSchedule(
+                                ConcertSchedule.create(1L, CONCERT_SCHEDULE_START_TIME,
+                                                CONCERT_SCHEDULE_RESERVATION_START_TIME,
+                                                CONCERT_SCHEDULE_RESERVATION_END_TIME),
+                                100);
+        }
+}
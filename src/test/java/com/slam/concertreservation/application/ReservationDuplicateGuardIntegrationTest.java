@@ -0,0 +1,168 @@
+package com.slam.concertreservation.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.slam.concertreservation.application.facade.ConcertReservationApplication;
+import com.slam.concertreservation.common.error.ErrorCode;
+import com.slam.concertreservation.common.exceptions.UnavailableRequestException;
+import com.slam.concertreservation.domain.concert.model.ConcertSchedule;
+import com.slam.concertreservation.domain.concert.model.Seat;
+import com.slam.concertreservation.domain.concert.model.SeatStatus;
+import com.slam.concertreservation.domain.concert.repository.SeatRepository;
+import com.slam.concertreservation.domain.concert.service.ConcertService;
+import com.slam.concertreservation.domain.reservation.model.Reservation;
+import com.slam.concertreservation.domain.reservation.model.ReservationStatus;
+import com.slam.concertreservation.domain.reservation.repository.ReservationRepository;
+import com.slam.concertreservation.domain.reservation.service.ReservationService;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class ReservationDuplicateGuardIntegrationTest {
+
+        @Autowired
+        private ReservationService reservationService;
+
+        @Autowired
+        private ReservationRepository reservationRepository;
+
+        @Autowired
+        private ConcertReservationApplication concertReservationApplication;
+
+        @Autowired
+        private ConcertService concertService;
+
+        @Autowired
+        private SeatRepository seatRepository;
+
+        @Test
+        @DisplayName("실패 : 진행 중인 예약이 있는 좌석을 예약하면 UnavailableRequestException 이 발생한다.")
+        void shouldThrowUnavailableRequestException_WhenSeatHasLiveReservation() {
+                // given
+                long concertScheduleId = System.nanoTime();
+                reservationService.createReservation(1L, concertScheduleId, 1L, 1000);
+
+                // when & then
+                assertThatThrownBy(() -> reservationService.createReservation(2L, concertScheduleId, 1L, 1000))
+                                .isInstanceOf(UnavailableRequestException.class)
+                                .extracting("errorCode")
+                                .isEqualTo(ErrorCode.RESERVATION_ALREADY_EXISTS);
+        }
+
+        @Test
+        @DisplayName("성공 : 만료/취소된 예약만 있는 좌석은 다시 예약할 수 있고, 좌석별 조회 시 진행 중인 예약을 반환한다.")
+        void shouldCreateReservation_WhenPreviousReservationsFinished() {
+                // given : 같은 좌석에 만료된 예약과 취소된 예약이 쌓여 있다.
+                long concertScheduleId = System.nanoTime();
+                Reservation expired = reservationService.createReservation(1L, concertScheduleId, 1L, 1000);
+                reservationRepository.save(expired.expire());
+                Reservation cancelled = reservationService.createReservation(2L, concertScheduleId, 1L, 1000);
+                reservationRepository.save(cancelled.confirm().cancel());
+
+                // when
+                Reservation created = reservationService.createReservation(3L, concertScheduleId, 1L, 1000);
+
+                // then
+                Reservation found = reservationService.getReservationByConcertScheduleIdAndSeatId(concertScheduleId,
+                                1L);
+                assertThat(found.getId()).isEqualTo(created.getId());
+                assertThat(found.getStatus()).isEqualTo(ReservationStatus.PREEMPTED);
+        }
+
+        @Test
+        @DisplayName("실패 : 여러 좌석 중 하나라도 진행 중인 예약이 있다면 아무 예약도 생성되지 않는다.")
+        void shouldCreateNothing_WhenAnySeatHasLiveReservation() {
+                // given
+                long concertScheduleId = System.nanoTime();
+                reservationService.createReservation(1L, concertScheduleId, 2L, 1000);
+                Map<Long, Integer> pricesBySeatId = new LinkedHashMap<>();
+                pricesBySeatId.put(1L, 1000);
+                pricesBySeatId.put(2L, 1000);
+
+                // when & then
+                assertThatThrownBy(() -> reservationService.createReservations(2L, concertScheduleId, pricesBySeatId))
+                                .isInstanceOf(UnavailableRequestException.class);
+                assertThat(reservationRepository.findByConcertScheduleIdAndSeatId(concertScheduleId, 1L)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("실패 : 여러 좌석 선점 후 하나라도 진행 중인 예약이 있어 가예약 생성에 실패하면, 이 요청에서 선점한 좌석이 모두 예약 가능 상태로 돌아간다.")
+        void shouldReleaseHeldSeats_WhenHoldSeatsFailsOnLiveReservation() {
+                // given : 좌석은 예약 가능 상태이나 진행 중인 예약이 남아 있는 좌석이 포함되어 있다.
+                ConcertSchedule concertSchedule = concertService.registerConcertSchedule(
+                                ConcertSchedule.create(1L, LocalDateTime.now().plusDays(2),
+                                                LocalDateTime.now().plusDays(1).minusHours(3),
+                                                LocalDateTime.now().plusDays(1).minusHours(1)),
+                                1000);
+                List<Long> seatIds = seatRepository.findAllByConcertScheduleId(concertSchedule.getId()).stream()
+                                .map(Seat::getId)
+                                .limit(2)
+                                .toList();
+                reservationService.createReservation(1L, concertSchedule.getId(), seatIds.get(1), 1000);
+
+                // when
+                assertThatThrownBy(() -> concertReservationApplication.holdSeats(concertSchedule.getId(), 2L, seatIds))
+                                .isInstanceOf(UnavailableRequestException.class)
+                                .extracting("errorCode")
+                                .isEqualTo(ErrorCode.RESERVATION_ALREADY_EXISTS);
+
+                // then
+                assertThat(seatRepository.findAllById(seatIds))
+                                .extracting(Seat::getStatus)
+                                .containsOnly(SeatStatus.AVAILABLE);
+                assertThat(concertService.getOccupiedSeatsCount(concertSchedule.getId())).isZero();
+        }
+
+        @Test
+        @DisplayName("성공 : 같은 좌석에 대한 예약 생성이 동시에 요청되어도 하나만 생성된다.")
+        void shouldCreateOnlyOne_WhenSameSeatReservedConcurrently() throws InterruptedException {
+                // given
+                long concertScheduleId = System.nanoTime();
+                int threadCount = 10;
+                ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+                CountDownLatch startLatch = new CountDownLatch(1);
+                CountDownLatch doneLatch = new CountDownLatch(threadCount);
+                AtomicInteger successCount = new AtomicInteger();
+                AtomicInteger duplicateCount = new AtomicInteger();
+
+                // when
+                for (int i = 0; i < threadCount; i++) {
+                        long userId = i + 1;
+                        executorService.submit(() -> {
+                                try {
+                                        startLatch.await();
+                                        reservationService.createReservation(userId, concertScheduleId, 1L, 1000);
+                                        successCount.incrementAndGet();
+                                } catch (UnavailableRequestException e) {
+                                        duplicateCount.incrementAndGet();
+                                } catch (InterruptedException e) {
+                                        Thread.currentThread().interrupt();
+                                } finally {
+                                        doneLatch.countDown();
+                                }
+                        });
+                }
+                startLatch.countDown();
+                doneLatch.await(10, TimeUnit.SECONDS);
+                executorService.shutdown();
+
+                // then
+                assertThat(successCount.get()).isEqualTo(1);
+                assertThat(duplicateCount.get()).isEqualTo(threadCount - 1);
+                assertThat(reservationRepository.findByConcertScheduleId(concertScheduleId)).hasSize(1);
+        }
+}
@@ -0,0 +1,148 @@
+package com.slam.concertreservation.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.slam.concertreservation.application.scheduler.ReservationExpiryDelayQueueScheduler;
+import com.slam.concertreservation.domain.concert.model.ConcertSchedule;
+import com.slam.concertreservation.domain.concert.model.Seat;
+import com.slam.concertreservation.domain.concert.model.SeatStatus;
+import com.slam.concertreservation.domain.concert.repository.SeatRepository;
+import com.slam.concertreservation.domain.concert.service.ConcertService;
+import com.slam.concertreservation.domain.reservation.model.Reservation;
+import com.slam.concertreservation.domain.reservation.model.ReservationStatus;
+import com.slam.concertreservation.domain.reservation.repository.ReservationExpiryQueueRepository;
+import com.slam.concertreservation.domain.reservation.repository.ReservationRepository;
+import com.slam.concertreservation.domain.reservation.service.ReservationService;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+// 테스트 중 주기 실행되는 만료 스케줄러와 경합하지 않도록 주기를 늘린다.
+@SpringBootTest(properties = { "app.reservation.expiry.poll-millis=3600000",
+                "app.reservation.expiry.delay-queue-poll-millis=3600000" })
+@ActiveProfiles("test")
+public class ReservationExpiryDelayQueueIntegrationTest {
+
+        private final LocalDateTime CONCERT_SCHEDULE_START_TIME = LocalDateTime.now().plusDays(2);
+        private final LocalDateTime CONCERT_SCHEDULE_RESERVATION_START_TIME = LocalDateTime.now().plusDays(1)
+                        .minusHours(3);
+        private final LocalDateTime CONCERT_SCHEDULE_RESERVATION_END_TIME = LocalDateTime.now().plusDays(1)
+                        .minusHours(1);
+
+        @Autowired
+        private ReservationExpiryDelayQueueScheduler reservationExpiryDelayQueueScheduler;
+
+        @Autowired
+        private ReservationExpiryQueueRepository reservationExpiryQueueRepository;
+
+        @Autowired
+        private ReservationService reservationService;
+
+        @Autowired
+        private ConcertService concertService;
+
+        @Autowired
+        private SeatRepository seatRepository;
+
+        @Autowired
+        private ReservationRepository reservationRepository;
+
+        @Test
+        @DisplayName("성공 : 가예약을 생성하면 만료 시각을 기준으로 지연 큐에 적재되고, 만료 시각 전에는 꺼내지지 않는다.")
+        void shouldScheduleExpiry_WhenReservationCreated() {
+                // given
+                ConcertSchedule concertSchedule = registerConcertSchedule();
+                Seat seat = seatRepository.findAllByConcertScheduleId(concertSchedule.getId()).get(0);
+
+                // when
+                Reservation reservation = reservationService.createReservation(1L, concertSchedule.getId(),
+                                seat.getId(), 1000);
+
+                // then
+                assertThat(reservationExpiryQueueRepository
+                                .pollDue(reservation.getExpiredAt().minusSeconds(1), Integer.MAX_VALUE))
+                                .doesNotContain(reservation.getId());
+                assertThat(reservationExpiryQueueRepository.pollDue(reservation.getExpiredAt(), Integer.MAX_VALUE))
+                                .contains(reservation.getId());
+        }
+
+        @Test
+        @DisplayName("성공 : 만료 시각이 지난 가예약은 지연 큐에서 꺼내져 만료되고, 선점하던 좌석이 해제된다. 이미 결제된 예약은 만료되지 않는다.")
+        void shouldExpireDueReservationsAndReleaseSeats_WhenPolledFromDelayQueue() {
+                // given : 두 좌석을 선점한 가예약 중 하나는 이미 결제되었다.
+                ConcertSchedule concertSchedule = registerConcertSchedule();
+                List<Seat> seats = seatRepository.findAllByConcertScheduleId(concertSchedule.getId()).subList(0, 2);
+                LocalDateTime expiredAt = LocalDateTime.now().minusSeconds(1);
+                List<Reservation> reservations = seats.stream()
+                                .map(seat -> {
+                                        concertService.assignSeatOfConcertSchedule(concertSchedule.getId(),
+                                                        seat.getId(), seat.getId());
+                                        Reservation reservation = reservationRepository.save(Reservation.create(
+                                                        seat.getId(), seat.getId(), concertSchedule.getId(), 1000,
+                                                        expiredAt));
+                                        return reservation;
+                                })
+                                .toList();
+                reservationService.confirmReservation(reservations.get(1).getId());
+                reservations.forEach(reservation -> reservationExpiryQueueRepository.schedule(reservation.getId(),
+                                expiredAt));
+
+                // when
+                reservationExpiryDelayQueueScheduler.expireDueReservations();
+
+                // then
+                assertThat(reservationRepository.findById(reservations.get(0).getId()).orElseThrow().getStatus())
+                                .isEqualTo(ReservationStatus.EXPIRED);
+                assertThat(seatRepository.findById(seats.get(0).getId()).orElseThrow().getStatus())
+                                .isEqualTo(SeatStatus.AVAILABLE);
+                assertThat(reservationRepository.findById(reservations.get(1).getId()).orElseThrow().getStatus())
+                                .isEqualTo(ReservationStatus.CONFIRMED);
+                assertThat(seatRepository.findById(seats.get(1).getId()).orElseThrow().getStatus())
+                                .isEqualTo(SeatStatus.UNAVAILABLE);
+                assertThat(reservationExpiryQueueRepository.pollDue(LocalDateTime.now(), Integer.MAX_VALUE))
+                                .doesNotContainAnyElementsOf(reservations.stream().map(Reservation::getId).toList());
+        }
+
+        @Test
+        @DisplayName("성공 : DB 의 만료 시각보다 먼저 지연 큐에서 꺼내진 가예약은 버려지지 않고 다시 적재되어, 만료 시각 이후 주기에 만료된다.")
+        void shouldRescheduleAndExpireLater_WhenPolledBeforeExpiredAt() throws InterruptedException {
+                // given : 다른 노드의 시계가 앞서 있어 DB 만료 시각보다 이른 점수로 적재된 가예약.
+                ConcertSchedule concertSchedule = registerConcertSchedule();
+                Seat seat = seatRepository.findAllByConcertScheduleId(concertSchedule.getId()).get(0);
+                concertService.assignSeatOfConcertSchedule(concertSchedule.getId(), seat.getId(), 1L);
+                LocalDateTime expiredAt = LocalDateTime.now().plusSeconds(1);
+                Reservation reservation = reservationRepository.save(Reservation.create(1L, seat.getId(),
+                                concertSchedule.getId(), 1000, expiredAt));
+                reservationExpiryQueueRepository.schedule(reservation.getId(), expiredAt.minusSeconds(2));
+
+                // when : 만료 시각 전 주기에 꺼내진다.
+                reservationExpiryDelayQueueScheduler.expireDueReservations();
+
+                // then : 만료되지 않고 자신의 만료 시각으로 다시 적재된다.
+                assertThat(reservationRepository.findById(reservation.getId()).orElseThrow().getStatus())
+                                .isEqualTo(ReservationStatus.PREEMPTED);
+
+                // when : 만료 시각 이후 주기.
+                Thread.sleep(Duration.between(LocalDateTime.now(), expiredAt).toMillis() + 100);
+                reservationExpiryDelayQueueScheduler.expireDueReservations();
+
+                // then
+                assertThat(reservationRepository.findById(reservation.getId()).orElseThrow().getStatus())
+                                .isEqualTo(ReservationStatus.EXPIRED);
+                assertThat(seatRepository.findById(seat.getId()).orElseThrow().getStatus())
+                                .isEqualTo(SeatStatus.AVAILABLE);
+        }
+
+        private ConcertSchedule registerConcertSchedule() {
+                return concertService.registerConcertSchedule(
+                                ConcertSchedule.create(1L, CONCERT_SCHEDULE_START_TIME,
+                                                CONCERT_SCHEDULE_RESERVATION_START_TIME,
+                                                CONCERT_SCHEDULE_RESERVATION_END_TIME),
+                                100);
+        }
+}
@@ -0,0 +1,142 @@
+package com.slam.concertreservation.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.slam.concertreservation.application.facade.ConcertReservationApplication;
+import com.slam.concertreservation.common.exceptions.BusinessRuleViolationException;
+import com.slam.concertreservation.common.exceptions.ConcurrencyException;
+import com.slam.concertreservation.domain.concert.model.ConcertSchedule;
+import com.slam.concertreservation.domain.concert.model.Seat;
+import com.slam.concertreservation.domain.concert.model.SeatStatus;
+import com.slam.concertreservation.domain.concert.repository.SeatRepository;
+import com.slam.concertreservation.domain.concert.service.ConcertService;
+import com.slam.concertreservation.domain.reservation.model.Reservation;
+import com.slam.concertreservation.domain.reservation.repository.ReservationRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class SeatBatchHoldIntegrationTest {
+
+        private final LocalDateTime CONCERT_SCHEDULE_START_TIME = LocalDateTime.now().plusDays(2);
+        private final LocalDateTime CONCERT_SCHEDULE_RESERVATION_START_TIME = LocalDateTime.now().plusDays(1)
+                        .minusHours(3);
+        private final LocalDateTime CONCERT_SCHEDULE_RESERVATION_END_TIME = LocalDateTime.now().plusDays(1)
+                        .minusHours(1);
+
+        @Autowired
+        private ConcertReservationApplication concertReservationApplication;
+
+        @Autowired
+        private ConcertService concertService;
+
+        @Autowired
+        private SeatRepository seatRepository;
+
+        @Autowired
+        private ReservationRepository reservationRepository;
+
+        @Test
+        @DisplayName("성공 : 여러 좌석을 일괄 선점하면 모든 좌석이 선점되고 좌석별 가예약이 생성된다.")
+        void shouldHoldAllSeatsAndCreateReservations_WhenAllSeatsAvailable() {
+                // given
+                ConcertSchedule concertSchedule = registerConcertSchedule();
+                List<Long> seatIds = seatIdsOf(concertSchedule, 0, 4);
+
+                // when
+                List<Reservation> reservations = concertReservationApplication.holdSeats(concertSchedule.getId(), 1L,
+                                seatIds);
+
+                // then
+                assertThat(reservations).extracting(Reservation::getSeatId).containsExactlyInAnyOrderElementsOf(seatIds);
+                assertThat(reservations).allMatch(reservation -> reservation.getExpiredAt() != null);
+                assertThat(seatIds).allMatch(seatId -> seatRepository.findById(seatId).orElseThrow()
+                                .getStatus() == SeatStatus.UNAVAILABLE);
+        }
+
+        @Test
+        @DisplayName("실패 : 일괄 선점 대상 중 하나라도 이미 선점된 좌석이면 어떤 좌석도 선점되지 않고 가예약도 생성되지 않는다.")
+        void shouldHoldNothing_WhenAnySeatAlreadyOccupied() {
+                // given
+                ConcertSchedule concertSchedule = registerConcertSchedule();
+                List<Long> seatIds = seatIdsOf(concertSchedule, 0, 3);
+                concertService.assignSeatOfConcertSchedule(concertSchedule.getId(), seatIds.get(2), 2L);
+
+                // when & then
+                assertThatThrownBy(() -> concertReservationApplication.holdSeats(concertSchedule.getId(), 1L, seatIds))
+                                .isInstanceOf(BusinessRuleViolationException.class);
+                assertThat(seatRepository.findById(seatIds.get(0)).orElseThrow().getStatus())
+                                .isEqualTo(SeatStatus.AVAILABLE);
+                assertThat(seatRepository.findById(seatIds.get(1)).orElseThrow().getStatus())
+                                .isEqualTo(SeatStatus.AVAILABLE);
+                assertThat(reservationRepository.findAllByConcertScheduleIdAndSeatIds(concertSchedule.getId(), seatIds))
+                                .isEmpty();
+        }
+
+        @Test
+        @DisplayName("성공 : 서로 겹치는 좌석에 대한 동시 일괄 선점 시도 -> 한 좌석이 두 요청에 중복 선점되지 않는다.")
+        void shouldNeverDoubleHold_WhenOverlappingBatchesConcurrently()
+                        throws InterruptedException, ExecutionException {
+                // given : 사용자 i 는 i ~ i+3 번째 좌석을 요청한다.
+                ConcertSchedule concertSchedule = registerConcertSchedule();
+                ExecutorService executor = Executors.newFixedThreadPool(5);
+                List<Callable<Integer>> tasks = new ArrayList<>();
+                for (int i = 0; i < 5; i++) {
+                        long userId = i + 1;
+                        List<Long> seatIds = seatIdsOf(concertSchedule, i, i + 4);
+                        tasks.add(() -> {
+                                try {
+                                        return concertReservationApplication
+                                                        .holdSeats(concertSchedule.getId(), userId, seatIds).size();
+                                } catch (BusinessRuleViolationException | ConcurrencyException e) {
+                                        return 0;
+                                }
+                        });
+                }
+
+                // when
+                List<Future<Integer>> futures = executor.invokeAll(tasks);
+                executor.shutdown();
+                int heldSeatCount = 0;
+                for (Future<Integer> future : futures) {
+                        heldSeatCount += future.get();
+                }
+
+                // then : 선점 좌석 수와 생성된 가예약 수가 일치하며, 좌석당 가예약은 최대 1건이다.
+                List<Reservation> reservations = reservationRepository.findByConcertScheduleId(concertSchedule.getId());
+                assertThat(heldSeatCount).isGreaterThan(0);
+                assertThat(reservations).hasSize(heldSeatCount);
+                assertThat(reservations.stream().map(Reservation::getSeatId).distinct().count())
+                                .isEqualTo(heldSeatCount);
+                assertThat(concertService.getOccupiedSeatsCount(concertSchedule.getId())).isEqualTo(heldSeatCount);
+        }
+
+        private List<Long> seatIdsOf(ConcertSchedule concertSchedule, int fromIndex, int toIndex) {
+                return seatRepository.findAllByConcertScheduleId(concertSchedule.getId()).stream()
+                                .sorted((a, b) -> Integer.compare(a.getNumber(), b.getNumber()))
+                                .map(Seat::getId)
+                                .toList()
+                                .subList(fromIndex, toIndex);
+        }
+
+        private ConcertSchedule registerConcertSchedule() {
+                return concertService.registerConcertSchedule(
+                                ConcertSchedule.create(1L, CONCERT_SCHEDULE_START_TIME,
+                                                CONCERT_SCHEDULE_RESERVATION_START_TIME,
+                                                CONCERT_SCHEDULE_RESERVATION_END_TIME),
+                                1000);
+        }
+}
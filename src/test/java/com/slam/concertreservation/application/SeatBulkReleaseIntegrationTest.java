@@ -0,0 +1,104 @@
+package com.slam.concertreservation.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.slam.concertreservation.domain.concert.model.ConcertSchedule;
+import com.slam.concertreservation.domain.concert.model.Seat;
+import com.slam.concertreservation.domain.concert.model.SeatStatus;
+import com.slam.concertreservation.domain.concert.repository.SeatRepository;
+import com.slam.concertreservation.domain.concert.service.ConcertService;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class SeatBulkReleaseIntegrationTest {
+
+        private final LocalDateTime CONCERT_SCHEDULE_START_TIME = LocalDateTime.now().plusDays(2);
+        private final LocalDateTime CONCERT_SCHEDULE_RESERVATION_START_TIME = LocalDateTime.now().plusDays(1)
+                        .minusHours(3);
+        private final LocalDateTime CONCERT_SCHEDULE_RESERVATION_END_TIME = LocalDateTime.now().plusDays(1)
+                        .minusHours(1);
+
+        @Autowired
+        private ConcertService concertService;
+
+        @Autowired
+        private SeatRepository seatRepository;
+
+        @Test
+        @DisplayName("성공 : 선점 중인 좌석과 이미 해제된 좌석을 함께 일괄 해제하면 실제로 해제된 좌석만 반환된다.")
+        void shouldReturnOnlyReleasedSeats_WhenSomeSeatsAlreadyAvailable() {
+                // given
+                ConcertSchedule concertSchedule = registerConcertSchedule();
+                List<Long> seatIds = seatIdsOf(concertSchedule, 0, 4);
+                concertService.assignSeatsOfConcertSchedule(concertSchedule.getId(), seatIds.subList(0, 2), 1L);
+
+                // when
+                List<Seat> releasedSeats = concertService.unassignSeatsOfConcertSchedule(concertSchedule.getId(),
+                                seatIds);
+
+                // then
+                assertThat(releasedSeats).extracting(Seat::getId).containsExactlyInAnyOrderElementsOf(seatIds.subList(0, 2));
+                assertThat(releasedSeats).allMatch(seat -> seat.getStatus() == SeatStatus.AVAILABLE);
+                assertThat(concertService.getOccupiedSeatsCount(concertSchedule.getId())).isZero();
+        }
+
+        @Test
+        @DisplayName("성공 : 같은 좌석들에 대한 동시 3건 일괄 해제 -> 각 좌석은 한 요청에서만 해제되어 남은 좌석 수가 중복 증가하지 않는다.")
+        void shouldReleaseEachSeatOnce_WhenSameSeatsReleasedConcurrently()
+                        throws InterruptedException, ExecutionException {
+                // given
+                ConcertSchedule concertSchedule = registerConcertSchedule();
+                List<Long> seatIds = seatIdsOf(concertSchedule, 0, 4);
+                concertService.assignSeatsOfConcertSchedule(concertSchedule.getId(), seatIds, 1L);
+
+                // when
+                ExecutorService executor = Executors.newFixedThreadPool(3);
+                List<Callable<Integer>> tasks = new ArrayList<>();
+                for (int i = 0; i < 3; i++) {
+                        tasks.add(() -> concertService.unassignSeatsOfConcertSchedule(concertSchedule.getId(), seatIds)
+                                        .size());
+                }
+                List<Future<Integer>> futures = executor.invokeAll(tasks);
+                executor.shutdown();
+
+                int releasedCount = 0;
+                for (Future<Integer> future : futures) {
+                        releasedCount += future.get();
+                }
+
+                // then
+                assertThat(releasedCount).isEqualTo(seatIds.size());
+                assertThat(concertService.getOccupiedSeatsCount(concertSchedule.getId())).isZero();
+                assertThat(concertService.getRemainingSeatsCount(concertSchedule.getId()))
+                                .isEqualTo(Seat.DEFAULT_SEAT_COUNT);
+        }
+
+        private List<Long> seatIdsOf(ConcertSchedule concertSchedule, int fromIndex, int toIndex) {
+                return seatRepository.findAllByConcertScheduleId(concertSchedule.getId()).stream()
+                                .sorted((a, b) -> Integer.compare(a.getNumber(), b.getNumber()))
+                                .map(Seat::getId)
+                                .toList()
+                                .subList(fromIndex, toIndex);
+        }
+
+        private ConcertSchedule registerConcertSchedule() {
+                return concertService.registerConcertSchedule(
+                                ConcertSchedule.create(1L, CONCERT_SCHEDULE_START_TIME,
+                                                CONCERT_SCHEDULE_RESERVATION_START_TIME,
+                                                CONCERT_SCHEDULE_RESERVATION_END_TIME),
+                                1000);
+        }
+}
@@ -0,0 +1,176 @@
+package com.slam.concertreservation.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.slam.concertreservation.application.scheduler.SeatInventoryWriteBehindScheduler;
+import com.slam.concertreservation.common.exceptions.BusinessRuleViolationException;
+import com.slam.concertreservation.common.exceptions.UnavailableRequestException;
+import com.slam.concertreservation.component.cache.SeatMapNearCache;
+import com.slam.concertreservation.domain.concert.model.ConcertSchedule;
+import com.slam.concertreservation.domain.concert.model.Seat;
+import com.slam.concertreservation.domain.concert.model.SeatMap;
+import com.slam.concertreservation.domain.concert.model.SeatStatus;
+import com.slam.concertreservation.domain.concert.repository.SeatRepository;
+import com.slam.concertreservation.domain.concert.service.ConcertService;
+import com.slam.concertreservation.domain.concert.service.RedisInventorySeatAssigner;
+import com.slam.concertreservation.domain.concert.service.SeatAssigner;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+// DB 반영 시점을 테스트가 제어하도록 주기 반영은 사실상 비활성화.
+@SpringBootTest(properties = {
+                "app.seat.assignment-mode=REDIS_INVENTORY",
+                "app.seat.inventory.flush-millis=3600000",
+                "app.seat.inventory.reconcile-millis=3600000"
+})
+@ActiveProfiles("test")
+public class SeatInventoryIntegrationTest {
+
+        private final LocalDateTime CONCERT_SCHEDULE_START_TIME = LocalDateTime.now().plusDays(2);
+        private final LocalDateTime CONCERT_SCHEDULE_RESERVATION_START_TIME = LocalDateTime.now().plusDays(1)
+                        .minusHours(3);
+        private final LocalDateTime CONCERT_SCHEDULE_RESERVATION_END_TIME = LocalDateTime.now().plusDays(1)
+                        .minusHours(1);
+
+        @Autowired
+        private ConcertService concertService;
+
+        @Autowired
+        private SeatAssigner seatAssigner;
+
+        @Autowired
+        private SeatRepository seatRepository;
+
+        @Autowired
+        private SeatInventoryWriteBehindScheduler seatInventoryWriteBehindScheduler;
+
+        @Autowired
+        private SeatMapNearCache seatMapNearCache;
+
+        @Autowired
+        private StringRedisTemplate stringRedisTemplate;
+
+        @Test
+        @DisplayName("성공 : REDIS_INVENTORY 설정 시 Redis 좌석 재고 기반 선점 구현체가 주입된다.")
+        void shouldInjectRedisInventoryAssigner_WhenAssignmentModeIsRedisInventory() {
+                assertThat(seatAssigner).isInstanceOf(RedisInventorySeatAssigner.class);
+        }
+
+        @Test
+        @DisplayName("성공 : 동일한 좌석에 대한 동시 5건 선점 시도 -> 1건만 성공하고, 선점 좌석 수는 재고 기준으로 즉시 반영된다.")
+        void shouldAssignOnlyOnce_WhenSameSeatAssignedConcurrently() throws InterruptedException, ExecutionException {
+                // given
+                ConcertSchedule concertSchedule = registerConcertSchedule();
+                Seat target = seatRepository.findAllByConcertScheduleId(concertSchedule.getId()).get(0);
+
+                // when
+                ExecutorService executor = Executors.newFixedThreadPool(5);
+                List<Callable<Boolean>> tasks = new ArrayList<>();
+                for (int i = 0; i < 5; i++) {
+                        long userId = i;
+                        tasks.add(() -> {
+                                try {
+                                        return concertService.assignSeatOfConcertSchedule(concertSchedule.getId(),
+                                                        target.getId(), userId).getStatus() == SeatStatus.UNAVAILABLE;
+                                } catch (BusinessRuleViolationException e) {
+                                        return false;
+                                }
+                        });
+                }
+                List<Future<Boolean>> futures = executor.invokeAll(tasks);
+                executor.shutdown();
+
+                int successCount = 0;
+                for (Future<Boolean> future : futures) {
+                        if (future.get()) {
+                                successCount++;
+                        }
+                }
+
+                // then
+                assertThat(successCount).isEqualTo(1);
+                assertThat(concertService.getOccupiedSeatsCount(concertSchedule.getId())).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("성공 : 재고에서 변경된 좌석 상태는 DB 반영 주기 이후 DB 에 반영된다.")
+        void shouldWriteBehindToDatabase_WhenFlushed() {
+                // given
+                ConcertSchedule concertSchedule = registerConcertSchedule();
+                Seat target = seatRepository.findAllByConcertScheduleId(concertSchedule.getId()).get(0);
+
+                // when
+                Seat assigned = concertService.assignSeatOfConcertSchedule(concertSchedule.getId(), target.getId(), 1L);
+                seatInventoryWriteBehindScheduler.flush();
+
+                // then
+                assertThat(assigned.getNumber()).isEqualTo(target.getNumber());
+                assertThat(assigned.getPrice()).isEqualTo(target.getPrice());
+                assertThat(seatRepository.findById(target.getId()).orElseThrow().getStatus())
+                                .isEqualTo(SeatStatus.UNAVAILABLE);
+
+                // 해제 역시 동일하게 반영.
+                concertService.unassignSeatOfConcertSchedule(concertSchedule.getId(), target.getId());
+                seatInventoryWriteBehindScheduler.flush();
+                assertThat(seatRepository.findById(target.getId()).orElseThrow().getStatus())
+                                .isEqualTo(SeatStatus.AVAILABLE);
+        }
+
+        @Test
+        @DisplayName("성공 : DB 반영 이전에도 좌석 배치도와 좌석 예약 가능 여부는 재고 기준으로 적재되어 선점된 좌석을 예약 가능으로 보지 않는다.")
+        void shouldLoadSeatMapAndAvailabilityFromInventory_WhenNotFlushedYet() {
+                // given : 선점 이후 DB 반영 전.
+                ConcertSchedule concertSchedule = registerConcertSchedule();
+                Seat target = seatRepository.findAllByConcertScheduleId(concertSchedule.getId()).get(0);
+                concertService.assignSeatOfConcertSchedule(concertSchedule.getId(), target.getId(), 1L);
+                assertThat(seatRepository.findById(target.getId()).orElseThrow().getStatus())
+                                .isEqualTo(SeatStatus.AVAILABLE);
+
+                // when : 보관 중인 배치도와 좌석 예약 가능 여부가 사라져 다시 적재.
+                seatMapNearCache.invalidate(concertSchedule.getId());
+                stringRedisTemplate.delete(List.of(
+                                "seatAvailabilityBitmap:" + concertSchedule.getId(),
+                                "seatAvailabilitySeatCount:" + concertSchedule.getId(),
+                                "seatAvailabilityRemainingCount:" + concertSchedule.getId()));
+
+                // then
+                SeatMap seatMap = seatMapNearCache.findSeatMap(concertSchedule.getId()).orElseThrow();
+                assertThat(seatMap.getAvailability().isAvailable(target.getNumber())).isFalse();
+                assertThat(concertService.getSeatAvailability(concertSchedule.getId()).isAvailable(target.getNumber()))
+                                .isFalse();
+                assertThat(concertService.getRemainingSeatsCount(concertSchedule.getId()))
+                                .isEqualTo(Seat.DEFAULT_SEAT_COUNT - 1);
+        }
+
+        @Test
+        @DisplayName("실패 : 공연 일정에 존재하지 않는 좌석을 선점하려 하면 UnavailableRequestException 이 발생한다.")
+        void shouldThrowUnavailableRequestException_WhenSeatNotInInventory() {
+                // given
+                ConcertSchedule concertSchedule = registerConcertSchedule();
+
+                // when & then
+                assertThatThrownBy(() -> concertService.assignSeatOfConcertSchedule(concertSchedule.getId(), -1L, 1L))
+                                .isInstanceOf(UnavailableRequestException.class);
+        }
+
+        private ConcertSchedule registerConcertSchedule() {
+                return concertService.registerConcertSchedule(
+                                ConcertSchedule.create(1L, CONCERT_SCHEDULE_START_TIME,
+                                                CONCERT_SCHEDULE_RESERVATION_START_TIME,
+                                                CONCERT_SCHEDULE_RESERVATION_END_TIME),
+                                1000);
+        }
+}
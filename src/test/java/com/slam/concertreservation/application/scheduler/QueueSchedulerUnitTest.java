@@ -0,0 +1,114 @@
+package com.slam.concertreservation.application.scheduler;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.slam.concertreservation.domain.concert.model.ConcertSchedule;
+import com.slam.concertreservation.domain.concert.model.ConcertScheduleAvailability;
+import com.slam.concertreservation.domain.concert.service.ConcertService;
+import com.slam.concertreservation.domain.queue.service.QueueAdmissionController;
+import com.slam.concertreservation.domain.queue.service.QueueService;
+import com.slam.concertreservation.domain.queue.service.QueueWaitTimeEstimator;
+import com.slam.concertreservation.domain.queue.service.QueueWaitingTokenSweeper;
+import com.slam.concertreservation.infrastructure.persistence.redis.locking.QueueScheduleLeaseManager;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+class QueueSchedulerUnitTest {
+
+    @Mock
+    private QueueService queueService;
+
+    @Mock
+    private QueueAdmissionController queueAdmissionController;
+
+    @Mock
+    private QueueWaitTimeEstimator queueWaitTimeEstimator;
+
+    @Mock
+    private QueueWaitingTokenSweeper queueWaitingTokenSweeper;
+
+    @Mock
+    private ConcertService concertService;
+
+    @Mock
+    private QueueScheduleLeaseManager queueScheduleLeaseManager;
+
+    private QueueScheduler queueScheduler;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        QueueSchedulerProperties properties = new QueueSchedulerProperties();
+        properties.setParallelism(2);
+        queueScheduler = new QueueScheduler(queueService, queueAdmissionController, queueWaitTimeEstimator,
+                queueWaitingTokenSweeper, concertService, queueScheduleLeaseManager, properties);
+        queueScheduler.initExecutor();
+
+        LocalDateTime now = LocalDateTime.now();
+        when(concertService.getOngoingConcertSchedules(any(LocalDateTime.class))).thenReturn(List.of(
+                concertSchedule(1L, now), concertSchedule(2L, now), concertSchedule(3L, now)));
+        when(queueScheduleLeaseManager.filterOwnedConcertScheduleIds(anyList()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        // 임대를 획득했다고 가정하고 작업을 그대로 수행.
+        when(queueScheduleLeaseManager.runWithLease(anyLong(), anyLong(), any(Runnable.class)))
+                .thenAnswer(invocation -> {
+                    invocation.<Runnable>getArgument(2).run();
+                    return true;
+                });
+        when(queueService.getActivatedTokensToBeExpired(anyLong())).thenReturn(List.of());
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        queueScheduler.shutdownExecutor();
+    }
+
+    @Test
+    @DisplayName("성공 : 한 공연 일정의 처리가 실패하더라도 나머지 공연 일정은 모두 처리된다.")
+    void shouldProcessOtherSchedules_WhenOneScheduleFails() {
+        // given
+        when(queueService.getActivatedTokensToBeExpired(2L)).thenThrow(new IllegalStateException("Redis 장애"));
+
+        // when
+        queueScheduler.expireAndActivateToken();
+
+        // then
+        verify(queueAdmissionController).admit(1L);
+        verify(queueAdmissionController).admit(3L);
+        verify(queueAdmissionController, never()).admit(2L);
+    }
+
+    @Test
+    @DisplayName("성공 : 현재 노드가 담당하지 않거나 임대를 획득하지 못한 공연 일정은 처리하지 않는다.")
+    void shouldProcessOnlyOwnedAndLeasedSchedules() {
+        // given : 1, 2번만 담당, 2번은 다른 노드가 임대 중.
+        when(queueScheduleLeaseManager.filterOwnedConcertScheduleIds(anyList())).thenReturn(List.of(1L, 2L));
+        when(queueScheduleLeaseManager.runWithLease(eq(2L), anyLong(), any(Runnable.class))).thenReturn(false);
+
+        // when
+        queueScheduler.expireAndActivateToken();
+
+        // then
+        verify(queueScheduleLeaseManager).heartbeat(anyLong());
+        verify(queueAdmissionController).admit(1L);
+        verify(queueAdmissionController, never()).admit(2L);
+        verify(queueAdmissionController, never()).admit(3L);
+    }
+
+    private ConcertSchedule concertSchedule(Long id, LocalDateTime now) {
+        return ConcertSchedule.create(id, 1L, now.plusDays(2), now.minusDays(1), now.plusDays(1),
+                ConcertScheduleAvailability.AVAILABLE);
+    }
+}
@@ -0,0 +1,164 @@
+package com.slam.concertreservation.component.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.slam.concertreservation.domain.concert.event.ConcertScheduleChangedEvent;
+import com.slam.concertreservation.domain.concert.model.Concert;
+import com.slam.concertreservation.domain.concert.model.ConcertSchedule;
+import com.slam.concertreservation.domain.concert.model.ConcertScheduleAvailability;
+import com.slam.concertreservation.domain.concert.model.ConcertScheduleWithConcert;
+import com.slam.concertreservation.domain.concert.service.ConcertService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.search.Search;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+class ConcertCatalogCacheUnitTest {
+
+    @Mock
+    private ConcertService concertService;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConcertCatalogCache concertCatalogCache;
+
+    private final LocalDateTime now = LocalDateTime.of(2030, 1, 1, 12, 0, 30);
+    private final Concert concert = Concert.create(1L, "OASIS REUNION", "oasis");
+    private final ConcertSchedule concertSchedule = ConcertSchedule.create(10L, 1L, now.plusDays(2),
+            now.minusDays(1), now.plusDays(1), ConcertScheduleAvailability.AVAILABLE);
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        meterRegistry = new SimpleMeterRegistry();
+        concertCatalogCache = newCache();
+        when(concertService.getAvailableConcertScheduleWithConcert(any(LocalDateTime.class)))
+                .thenReturn(List.of(new ConcertScheduleWithConcert(concertSchedule, concert)));
+        when(concertService.getConcert(1L)).thenReturn(concert);
+    }
+
+    @Test
+    @DisplayName("성공 : 같은 구간의 예약 가능 공연 일정 목록은 최초 조회 시에만 Redis 와 DB 를 조회하고, 구간 시작 시점 기준으로 조회한다.")
+    void shouldLoadCatalogOnce_WhenRequestedWithinSameBucket() {
+        // when
+        concertCatalogCache.getAvailableConcertSchedules(now);
+        List<ConcertScheduleWithConcert> actual = concertCatalogCache.getAvailableConcertSchedules(now.plusSeconds(20));
+
+        // then
+        assertThat(actual).extracting(schedule -> schedule.concertSchedule().getId()).containsExactly(10L);
+        verify(valueOperations, times(1)).get(anyString());
+        verify(concertService, times(1)).getAvailableConcertScheduleWithConcert(now.withSecond(0));
+        verify(valueOperations).set(anyString(), anyString(), any(Duration.class));
+        assertThat(count("concert.catalog.local", "hit")).isEqualTo(1);
+        assertThat(count("concert.catalog.remote", "miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("성공 : 다른 노드가 Redis 에 보관한 목록이 있다면 DB 를 조회하지 않는다.")
+    void shouldReadFromRedis_WhenCatalogStoredByAnotherNode() {
+        // given : 다른 노드가 보관한 값.
+        concertCatalogCache.getAvailableConcertSchedules(now);
+        ArgumentCaptor<String> stored = ArgumentCaptor.forClass(String.class);
+        verify(valueOperations).set(anyString(), stored.capture(), any(Duration.class));
+        when(valueOperations.get(anyString())).thenReturn(stored.getValue());
+        ConcertCatalogCache anotherNode = newCache();
+
+        // when
+        List<ConcertScheduleWithConcert> actual = anotherNode.getAvailableConcertSchedules(now);
+
+        // then
+        assertThat(actual).hasSize(1);
+        assertThat(actual.get(0).concertSchedule().getAvailability()).isEqualTo(ConcertScheduleAvailability.AVAILABLE);
+        assertThat(actual.get(0).concertSchedule().getReservationEndAt()).isEqualTo(now.plusDays(1));
+        assertThat(actual.get(0).concert().getName()).isEqualTo("OASIS REUNION");
+        verify(concertService, times(1)).getAvailableConcertScheduleWithConcert(any(LocalDateTime.class));
+        assertThat(count("concert.catalog.remote", "hit")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("성공 : 공연 일정 변경 이벤트를 받으면 Redis 와 로컬 캐시의 목록을 제거하고 다른 노드에 알린다.")
+    void shouldInvalidateBothTiers_WhenConcertScheduleChanged() {
+        // given
+        concertCatalogCache.getAvailableConcertSchedules(LocalDateTime.now());
+
+        // when
+        concertCatalogCache.handleConcertScheduleChangedEvent(
+                new ConcertScheduleChangedEvent(10L, ConcertScheduleAvailability.SOLDOUT));
+        concertCatalogCache.getAvailableConcertSchedules(LocalDateTime.now());
+
+        // then
+        verify(stringRedisTemplate).delete(anyCollection());
+        verify(stringRedisTemplate).convertAndSend(ConcertCatalogCache.CONCERT_CATALOG_CHANNEL, "10");
+        verify(concertService, times(2)).getAvailableConcertScheduleWithConcert(any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("성공 : 공연 정보는 최초 조회 시에만 DB 를 조회하고 Redis 에 보관한다.")
+    void shouldLoadConcertOnce_WhenRequestedRepeatedly() {
+        // when
+        concertCatalogCache.getConcert(1L);
+        Concert actual = concertCatalogCache.getConcert(1L);
+
+        // then
+        assertThat(actual.getArtist()).isEqualTo("oasis");
+        verify(concertService, times(1)).getConcert(1L);
+        verify(valueOperations).set(eq("concertCache:1"), anyString(), eq(Duration.ofSeconds(3600)));
+        assertThat(count("concert.local", "hit")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("성공 : 캐시를 사용하지 않으면 매번 DB 를 조회한다.")
+    void shouldDelegate_WhenDisabled() {
+        // given
+        ConcertCatalogCache disabled = new ConcertCatalogCache(concertService, stringRedisTemplate,
+                redisMessageListenerContainer, new SimpleMeterRegistry(), false, 60, 3600, 100);
+
+        // when
+        disabled.getAvailableConcertSchedules(now);
+        disabled.getAvailableConcertSchedules(now);
+
+        // then
+        verify(concertService, times(2)).getAvailableConcertScheduleWithConcert(now);
+        verify(valueOperations, never()).get(anyString());
+    }
+
+    private ConcertCatalogCache newCache() {
+        return new ConcertCatalogCache(concertService, stringRedisTemplate, redisMessageListenerContainer,
+                meterRegistry, true, 60, 3600, 100);
+    }
+
+    // 로컬 단계는 Caffeine 통계 기반 FunctionCounter, Redis 단계는 Counter 로 기록된다.
+    private double count(String cache, String result) {
+        Search search = meterRegistry.find("cache.gets").tag("cache", cache).tag("result", result);
+        FunctionCounter functionCounter = search.functionCounter();
+        return functionCounter != null ? functionCounter.count() : search.counter().count();
+    }
+}
@@ -0,0 +1,108 @@
+package com.slam.concertreservation.component.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.slam.concertreservation.domain.concert.event.SeatStatusChangedEvent;
+import com.slam.concertreservation.domain.concert.model.Seat;
+import com.slam.concertreservation.domain.concert.model.SeatStatus;
+import com.slam.concertreservation.domain.concert.service.ConcertService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+class SeatMapNearCacheUnitTest {
+
+    @Mock
+    private ConcertService concertService;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private SeatMapNearCache seatMapNearCache;
+
+    private final Long concertScheduleId = 1L;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        seatMapNearCache = new SeatMapNearCache(concertService, stringRedisTemplate, redisMessageListenerContainer,
+                new SimpleMeterRegistry(), true, 60_000, 100);
+        when(concertService.getSeatsOfConcertSchedule(concertScheduleId)).thenReturn(List.of(
+                Seat.create(11L, concertScheduleId, 1, 1000, SeatStatus.AVAILABLE),
+                Seat.create(12L, concertScheduleId, 2, 1000, SeatStatus.AVAILABLE)));
+    }
+
+    @Test
+    @DisplayName("성공 : 좌석 배치도는 최초 조회 시 한 번만 적재된다.")
+    void shouldLoadOnce_WhenAvailableSeatsRequestedRepeatedly() {
+        // when
+        seatMapNearCache.findAvailableSeats(concertScheduleId);
+        List<Seat> availableSeats = seatMapNearCache.findAvailableSeats(concertScheduleId).orElseThrow();
+
+        // then
+        assertThat(availableSeats).hasSize(2);
+        verify(concertService, times(1)).getSeatsOfConcertSchedule(concertScheduleId);
+    }
+
+    @Test
+    @DisplayName("성공 : 좌석 상태 변경 알림을 수신하면 다시 적재하지 않고 해당 좌석만 갱신한다.")
+    void shouldApplyIncrementally_WhenSeatStatusMessageReceived() {
+        // given
+        seatMapNearCache.findAvailableSeats(concertScheduleId);
+
+        // when
+        seatMapNearCache.onMessage(message(concertScheduleId + ":1:UNAVAILABLE"), null);
+
+        // then
+        assertThat(seatMapNearCache.findAvailableSeats(concertScheduleId).orElseThrow())
+                .extracting(Seat::getId).containsExactly(12L);
+        verify(concertService, times(1)).getSeatsOfConcertSchedule(concertScheduleId);
+    }
+
+    @Test
+    @DisplayName("성공 : 예약 가능 좌석이 없다면 빈 값을 반환한다.")
+    void shouldReturnEmpty_WhenNoAvailableSeats() {
+        // given
+        seatMapNearCache.findAvailableSeats(concertScheduleId);
+
+        // when
+        seatMapNearCache.onMessage(message(concertScheduleId + ":1:UNAVAILABLE"), null);
+        seatMapNearCache.onMessage(message(concertScheduleId + ":2:UNAVAILABLE"), null);
+
+        // then
+        assertThat(seatMapNearCache.findAvailableSeats(concertScheduleId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("성공 : 좌석 상태 변경 이벤트는 모든 노드에 알림으로 발행된다.")
+    void shouldPublish_WhenSeatStatusChanged() {
+        // when
+        seatMapNearCache.handleSeatStatusChangedEvent(
+                new SeatStatusChangedEvent(concertScheduleId, 11L, 1, SeatStatus.UNAVAILABLE));
+
+        // then
+        verify(stringRedisTemplate).convertAndSend(SeatMapNearCache.SEAT_STATUS_CHANNEL,
+                concertScheduleId + ":1:UNAVAILABLE");
+    }
+
+    private Message message(String body) {
+        Message message = mock(Message.class);
+        when(message.getBody()).thenReturn(body.getBytes(StandardCharsets.UTF_8));
+        return message;
+    }
+}
@@ -0,0 +1,97 @@
+package com.slam.concertreservation.component.validator.token;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.slam.concertreservation.domain.queue.model.Token;
+import com.slam.concertreservation.domain.queue.model.TokenStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+class ActiveTokenNearCacheUnitTest {
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ActiveTokenNearCache activeTokenNearCache;
+
+    private final Long concertScheduleId = 1L;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        activeTokenNearCache = new ActiveTokenNearCache(redisMessageListenerContainer, meterRegistry, true, 60_000, 100);
+    }
+
+    @Test
+    @DisplayName("성공 : 검증된 활성 토큰은 캐시에서 적중하고, 적중/실패 횟수가 기록된다.")
+    void shouldHit_WhenActiveTokenCached() {
+        // given
+        Token token = activeToken("token1", LocalDateTime.now().plusMinutes(3));
+
+        // when
+        boolean beforePut = activeTokenNearCache.isActive(concertScheduleId, "token1");
+        activeTokenNearCache.put(token);
+        boolean afterPut = activeTokenNearCache.isActive(concertScheduleId, "token1");
+
+        // then
+        assertThat(beforePut).isFalse();
+        assertThat(afterPut).isTrue();
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("성공 : 캐시 보관 중이라도 토큰 만료 시점이 지났다면 적중하지 않는다.")
+    void shouldMiss_WhenTokenExpiredAtPassed() {
+        // given
+        activeTokenNearCache.put(activeToken("token1", LocalDateTime.now().minusSeconds(1)));
+
+        // when & then
+        assertThat(activeTokenNearCache.isActive(concertScheduleId, "token1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("성공 : 토큰 만료 알림을 수신하면 캐시에서 제거된다.")
+    void shouldInvalidate_WhenExpiredMessageReceived() {
+        // given
+        activeTokenNearCache.put(activeToken("token1", LocalDateTime.now().plusMinutes(3)));
+        Message message = mock(Message.class);
+        when(message.getBody()).thenReturn((concertScheduleId + ":token1").getBytes(StandardCharsets.UTF_8));
+
+        // when
+        activeTokenNearCache.onMessage(message, null);
+
+        // then
+        assertThat(activeTokenNearCache.isActive(concertScheduleId, "token1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("성공 : 대기 중인 토큰은 캐시에 보관되지 않는다.")
+    void shouldNotCache_WhenTokenIsWaiting() {
+        // given
+        Token waiting = Token.create("token1", 1L, concertScheduleId, LocalDateTime.now(),
+                LocalDateTime.now().plusHours(6));
+
+        // when
+        activeTokenNearCache.put(waiting);
+
+        // then
+        assertThat(activeTokenNearCache.isActive(concertScheduleId, "token1")).isFalse();
+    }
+
+    private Token activeToken(String tokenId, LocalDateTime expiredAt) {
+        return Token.create(tokenId, 1L, concertScheduleId, TokenStatus.ACTIVE.name(), LocalDateTime.now(), expiredAt);
+    }
+}
@@ -0,0 +1,108 @@
+package com.slam.concertreservation.domain.concert.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.OptionalInt;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SeatAvailabilityUnitTest {
+
+    @Test
+    @DisplayName("성공 : 모든 좌석이 예약 가능한 상태로 생성하면 남은 좌석 수는 좌석 수와 같다.")
+    void shouldCountAllSeats_WhenAllAvailable() {
+        // given
+        SeatAvailability availability = SeatAvailability.allAvailable(50_000);
+
+        // when & then
+        assertThat(availability.countAvailable()).isEqualTo(50_000);
+        assertThat(availability.isAvailable(50_000)).isTrue();
+        assertThat(availability.isAvailable(50_001)).isFalse();
+    }
+
+    @Test
+    @DisplayName("성공 : 워드 경계를 넘는 구간의 남은 좌석 수와 예약 가능 좌석 번호를 조회한다.")
+    void shouldQueryRange_WhenRangeCrossesWordBoundary() {
+        // given
+        SeatAvailability availability = SeatAvailability.allUnavailable(200);
+        availability.set(60, true);
+        availability.set(64, true);
+        availability.set(65, true);
+        availability.set(130, true);
+        availability.set(200, true);
+
+        // when & then
+        assertThat(availability.countAvailable(60, 130)).isEqualTo(4);
+        assertThat(availability.countAvailable(61, 129)).isEqualTo(2);
+        assertThat(availability.countAvailable(1, 1_000)).isEqualTo(5);
+        assertThat(availability.findAvailable(62, 200)).containsExactly(64, 65, 130, 200);
+    }
+
+    @Test
+    @DisplayName("성공 : 첫 번째 예약 가능 좌석을 조회하고, 없다면 빈 값을 반환한다.")
+    void shouldFindFirstAvailable() {
+        // given
+        SeatAvailability availability = SeatAvailability.allUnavailable(1_000);
+        availability.set(777, true);
+
+        // when & then
+        assertThat(availability.findFirstAvailable()).isEqualTo(OptionalInt.of(777));
+        assertThat(availability.findFirstAvailable(778)).isEmpty();
+
+        availability.set(777, false);
+        assertThat(availability.findFirstAvailable()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("성공 : Redis Bitmap 형식으로 변환 후 복원하면 동일한 예약 가능 여부를 가진다. 좌석 번호 1 은 첫 바이트의 최상위 비트이다.")
+    void shouldRoundTrip_WhenConvertedToBitmap() {
+        // given
+        SeatAvailability availability = SeatAvailability.of(List.of(
+                Seat.create(1L, 1L, 1, 1000, SeatStatus.AVAILABLE),
+                Seat.create(2L, 1L, 2, 1000, SeatStatus.UNAVAILABLE),
+                Seat.create(3L, 1L, 70, 1000, SeatStatus.AVAILABLE)));
+
+        // when
+        byte[] bitmap = availability.toBitmap();
+        SeatAvailability restored = SeatAvailability.fromBitmap(bitmap, availability.getSeatCount());
+
+        // then
+        assertThat(bitmap[0]).isEqualTo((byte) 0x80);
+        assertThat(restored.getSeatCount()).isEqualTo(70);
+        assertThat(restored.countAvailable()).isEqualTo(2);
+        assertThat(restored.isAvailable(1)).isTrue();
+        assertThat(restored.isAvailable(2)).isFalse();
+        assertThat(restored.isAvailable(70)).isTrue();
+    }
+
+    @Test
+    @DisplayName("실패 : 좌석 배치에 존재하지 않는 좌석 번호의 예약 가능 여부는 변경할 수 없다.")
+    void shouldThrow_WhenSeatNumberOutOfRange() {
+        // given
+        SeatAvailability availability = SeatAvailability.allAvailable(10);
+
+        // when & then
+        assertThatThrownBy(() -> availability.set(11, false)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> availability.set(0, false)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("성공 : 연속한 예약 가능 좌석 구간은 워드 경계를 넘어서도 찾는다.")
+    void shouldFindFirstAvailableRun_AcrossWordBoundary() {
+        // given : 1 ~ 200 번 중 60 ~ 70 번만 예약 가능, 62 번은 예약 불가
+        SeatAvailability availability = SeatAvailability.allUnavailable(200);
+        for (int number = 60; number <= 70; number++) {
+            availability.set(number, true);
+        }
+        availability.set(62, false);
+
+        // when & then
+        assertThat(availability.findFirstAvailableRun(2).getAsInt()).isEqualTo(60);
+        assertThat(availability.findFirstAvailableRun(3).getAsInt()).isEqualTo(63);
+        assertThat(availability.findFirstAvailableRun(8).getAsInt()).isEqualTo(63);
+        assertThat(availability.findFirstAvailableRun(9)).isEmpty();
+        assertThat(SeatAvailability.allAvailable(200).findFirstAvailableRun(200).getAsInt()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,110 @@
+package com.slam.concertreservation.domain.concert.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SeatMapUnitTest {
+
+    private final Long concertScheduleId = 1L;
+
+    @Test
+    @DisplayName("성공 : 예약 가능한 좌석만 좌석 번호 오름차순으로 좌석 ID, 가격과 함께 반환한다.")
+    void shouldReturnAvailableSeatsOrderedByNumber() {
+        // given
+        SeatMap seatMap = SeatMap.of(concertScheduleId, List.of(
+                Seat.create(13L, concertScheduleId, 3, 3000, SeatStatus.AVAILABLE),
+                Seat.create(11L, concertScheduleId, 1, 1000, SeatStatus.AVAILABLE),
+                Seat.create(12L, concertScheduleId, 2, 2000, SeatStatus.UNAVAILABLE)));
+
+        // when
+        List<Seat> availableSeats = seatMap.getAvailableSeats();
+
+        // then
+        assertThat(availableSeats).extracting(Seat::getId).containsExactly(11L, 13L);
+        assertThat(availableSeats).extracting(Seat::getPrice).containsExactly(1000, 3000);
+        assertThat(seatMap.getRemainingSeatsCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("성공 : 좌석 하나의 상태 변경을 반영하면 해당 좌석의 예약 가능 여부만 바뀐다.")
+    void shouldApplySingleSeatChange() {
+        // given
+        SeatMap seatMap = SeatMap.of(concertScheduleId, List.of(
+                Seat.create(11L, concertScheduleId, 1, 1000, SeatStatus.AVAILABLE),
+                Seat.create(12L, concertScheduleId, 2, 1000, SeatStatus.AVAILABLE)));
+
+        // when
+        boolean assigned = seatMap.apply(1, SeatStatus.UNAVAILABLE);
+
+        // then
+        assertThat(assigned).isTrue();
+        assertThat(seatMap.getAvailableSeats()).extracting(Seat::getId).containsExactly(12L);
+
+        // 해제 역시 동일하게 반영.
+        seatMap.apply(1, SeatStatus.AVAILABLE);
+        assertThat(seatMap.getAvailableSeats()).extracting(Seat::getId).containsExactly(11L, 12L);
+    }
+
+    @Test
+    @DisplayName("실패 : 배치도에 없는 좌석 번호의 상태 변경은 반영되지 않는다.")
+    void shouldIgnore_WhenSeatNumberNotInMap() {
+        // given
+        SeatMap seatMap = SeatMap.of(concertScheduleId, List.of(
+                Seat.create(11L, concertScheduleId, 1, 1000, SeatStatus.AVAILABLE)));
+
+        // when & then
+        assertThat(seatMap.apply(0, SeatStatus.UNAVAILABLE)).isFalse();
+        assertThat(seatMap.apply(2, SeatStatus.UNAVAILABLE)).isFalse();
+        assertThat(seatMap.getRemainingSeatsCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("성공 : 자동 배정 시 번호가 연속한 좌석을 우선하여 고르고, 보류된 좌석은 다시 고르지 않는다.")
+    void shouldHoldContiguousSeatsFirst_AndSkipHeldSeats() {
+        // given : 1, 3, 4, 5, 6 번 좌석 예약 가능
+        SeatMap seatMap = SeatMap.of(concertScheduleId, List.of(
+                Seat.create(11L, concertScheduleId, 1, 1000, SeatStatus.AVAILABLE),
+                Seat.create(12L, concertScheduleId, 2, 1000, SeatStatus.UNAVAILABLE),
+                Seat.create(13L, concertScheduleId, 3, 1000, SeatStatus.AVAILABLE),
+                Seat.create(14L, concertScheduleId, 4, 1000, SeatStatus.AVAILABLE),
+                Seat.create(15L, concertScheduleId, 5, 1000, SeatStatus.AVAILABLE),
+                Seat.create(16L, concertScheduleId, 6, 1000, SeatStatus.AVAILABLE)));
+
+        // when
+        List<Seat> first = seatMap.holdBestAvailableSeats(2);
+        List<Seat> second = seatMap.holdBestAvailableSeats(2);
+        List<Seat> third = seatMap.holdBestAvailableSeats(2);
+
+        // then
+        assertThat(first).extracting(Seat::getNumber).containsExactly(3, 4);
+        assertThat(second).extracting(Seat::getNumber).containsExactly(5, 6);
+        assertThat(third).isEmpty(); // 보류되지 않은 예약 가능 좌석은 1번뿐.
+        // 보류는 예약 가능 여부를 바꾸지 않는다.
+        assertThat(seatMap.getRemainingSeatsCount()).isEqualTo(5);
+
+        // 보류 해제 이후 다시 고를 수 있다.
+        seatMap.releaseHolds(first);
+        assertThat(seatMap.holdBestAvailableSeats(2)).extracting(Seat::getNumber).containsExactly(3, 4);
+    }
+
+    @Test
+    @DisplayName("성공 : 번호가 연속한 좌석이 없다면 번호가 작은 순서로 고른다.")
+    void shouldHoldLowestNumberedSeats_WhenNoContiguousRun() {
+        // given : 1, 3, 5 번 좌석 예약 가능
+        SeatMap seatMap = SeatMap.of(concertScheduleId, List.of(
+                Seat.create(11L, concertScheduleId, 1, 1000, SeatStatus.AVAILABLE),
+                Seat.create(12L, concertScheduleId, 2, 1000, SeatStatus.UNAVAILABLE),
+                Seat.create(13L, concertScheduleId, 3, 1000, SeatStatus.AVAILABLE),
+                Seat.create(14L, concertScheduleId, 4, 1000, SeatStatus.UNAVAILABLE),
+                Seat.create(15L, concertScheduleId, 5, 1000, SeatStatus.AVAILABLE)));
+
+        // when
+        List<Seat> held = seatMap.holdBestAvailableSeats(2);
+
+        // then
+        assertThat(held).extracting(Seat::getId).containsExactly(11L, 13L);
+    }
+}
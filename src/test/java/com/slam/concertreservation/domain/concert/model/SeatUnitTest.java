@@ -24,7 +24,7 @@ public class SeatUnitTest {
     @DisplayName("실패 : 좌석 최대 번호보다 큰 좌석 번호를 가진 Seat 객체 인스턴스 생성 시도 시 BusinessRuleViolation 발생하며 실패.")
     void shouldThrowBusinessRuleViolationException_WhenSeatNumberOverMax() {
         // given
-        int overMaxSeatNumber = 51;
+        int overMaxSeatNumber = Seat.MAX_SEAT_NUMBER + 1;
 
         // when & then
         assertThatThrownBy(() -> Seat.create(1L, overMaxSeatNumber, 1000, SeatStatus.AVAILABLE))
@@ -1,13 +1,16 @@
 package com.slam.concertreservation.domain.concert.service;
 
 import com.slam.concertreservation.common.error.ErrorCode;
+import com.slam.concertreservation.domain.concert.event.ConcertScheduleRegisteredEvent;
 import com.slam.concertreservation.domain.concert.model.Concert;
 import com.slam.concertreservation.domain.concert.model.ConcertSchedule;
+import com.slam.concertreservation.domain.concert.model.ConcertScheduleAvailability;
 import com.slam.concertreservation.domain.concert.model.ConcertScheduleWithConcert;
 import com.slam.concertreservation.domain.concert.model.Seat;
 import com.slam.concertreservation.domain.concert.model.SeatStatus;
 import com.slam.concertreservation.domain.concert.repository.ConcertRepository;
 import com.slam.concertreservation.domain.concert.repository.ConcertScheduleRepository;
+import com.slam.concertreservation.domain.concert.repository.SeatAvailabilityRepository;
 import com.slam.concertreservation.domain.concert.repository.SeatRepository;
 import com.slam.concertreservation.common.exceptions.BusinessRuleViolationException;
 import com.slam.concertreservation.common.exceptions.UnavailableRequestException;
@@ -16,10 +19,11 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.stream.LongStream;
 import org.mockito.MockitoAnnotations;
 import org.springframework.context.ApplicationEventPublisher;
 
@@ -38,10 +42,12 @@ class ConcertServiceUnitTest {
         @Mock
         private SeatRepository seatRepository;
 
+        @Mock
+        private SeatAvailabilityRepository seatAvailabilityRepository;
+
         @Mock
         private ApplicationEventPublisher applicationEventPublisher;
 
-        @InjectMocks
         private ConcertService concertService;
 
         LocalDateTime first = LocalDateTime.of(2022, 1, 1, 0, 0);
@@ -52,6 +58,9 @@ class ConcertServiceUnitTest {
         @BeforeEach
         void setup() {
                 MockitoAnnotations.openMocks(this);
+                concertService = new ConcertService(concertRepository, concertScheduleRepository, seatRepository,
+                                seatAvailabilityRepository, new LockingSeatAssigner(seatRepository),
+                                applicationEventPublisher);
         }
 
         @Nested
@@ -129,6 +138,11 @@ class ConcertServiceUnitTest {
                         // then
                         verify(concertScheduleRepository, times(1)).save(expected);
                         assertEquals(expected.getConcertId(), actual.getConcertId());
+
+                        // 좌석 예약 가능 여부(Redis)는 트랜잭션 안에서 초기화하지 않고, 커밋 이후 처리되도록 이벤트로 발행한다.
+                        verify(seatAvailabilityRepository, never()).saveIfAbsent(any(), any());
+                        verify(applicationEventPublisher, times(1))
+                                        .publishEvent(any(ConcertScheduleRegisteredEvent.class));
                 }
 
                 @Test
@@ -324,6 +338,128 @@ class ConcertServiceUnitTest {
                 }
         }
 
+        @Nested
+        class AssignSeatsUnitTest {
+                @Test
+                @DisplayName("성공 : 여러 좌석을 일괄 배정하면 좌석 ID 오름차순으로 모두 배정된다.")
+                void shouldAssignAllSeatsInIdOrder_WhenAllSeatsAvailable() {
+                        // given
+                        Seat seat1 = Seat.create(1L, 1L, 1, 1000, SeatStatus.AVAILABLE);
+                        Seat seat2 = Seat.create(2L, 1L, 2, 1000, SeatStatus.AVAILABLE);
+
+                        when(seatRepository.findById(1L)).thenReturn(Optional.of(seat1));
+                        when(seatRepository.findById(2L)).thenReturn(Optional.of(seat2));
+                        when(seatRepository.save(any(Seat.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+                        // when
+                        List<Seat> assignedSeats = concertService.assignSeatsOfConcertSchedule(1L, List.of(2L, 1L), 1L);
+
+                        // then
+                        assertEquals(List.of(1L, 2L), assignedSeats.stream().map(Seat::getId).toList());
+                        assertTrue(assignedSeats.stream().allMatch(seat -> seat.getStatus() == SeatStatus.UNAVAILABLE));
+                        verify(applicationEventPublisher, times(2)).publishEvent(any(Object.class));
+                }
+
+                @Test
+                @DisplayName("실패 : 일괄 배정 중 하나라도 이미 선점된 좌석이면 BusinessRuleViolationException 이 발생하고 좌석 상태 변경 이벤트는 발행되지 않는다.")
+                void shouldThrowBusinessRuleViolationException_WhenAnySeatAlreadyOccupied() {
+                        // given
+                        Seat seat1 = Seat.create(1L, 1L, 1, 1000, SeatStatus.AVAILABLE);
+                        Seat seat2 = Seat.create(2L, 1L, 2, 1000, SeatStatus.UNAVAILABLE);
+
+                        when(seatRepository.findById(1L)).thenReturn(Optional.of(seat1));
+                        when(seatRepository.findById(2L)).thenReturn(Optional.of(seat2));
+                        when(seatRepository.save(any(Seat.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+                        // when & then
+                        assertThatThrownBy(() -> concertService.assignSeatsOfConcertSchedule(1L, List.of(1L, 2L), 1L))
+                                        .isInstanceOf(BusinessRuleViolationException.class);
+                        verify(applicationEventPublisher, never()).publishEvent(any(Object.class));
+                }
+
+                @Test
+                @DisplayName("실패 : 한 번에 배정할 수 있는 좌석 수를 넘으면 BusinessRuleViolationException 이 발생한다.")
+                void shouldThrowBusinessRuleViolationException_WhenTooManySeats() {
+                        // given
+                        List<Long> seatIds = LongStream.rangeClosed(1, Seat.MAX_SEATS_PER_ASSIGNMENT + 1)
+                                        .boxed()
+                                        .toList();
+
+                        // when & then
+                        assertThatThrownBy(() -> concertService.assignSeatsOfConcertSchedule(1L, seatIds, 1L))
+                                        .isInstanceOf(BusinessRuleViolationException.class);
+                        verify(seatRepository, never()).findById(anyLong());
+                }
+        }
+
+        @Nested
+        class SoldOutGateUnitTest {
+                @Test
+                @DisplayName("실패 : 남은 좌석 수가 0 인 공연 일정의 좌석 배정은 좌석을 조회하지 않고 CONCERT_SCHEDULE_SOLD_OUT 으로 거절된다.")
+                void shouldRejectWithoutSeatLookup_WhenConcertScheduleSoldOut() {
+                        // given
+                        when(seatAvailabilityRepository.countAvailable(1L)).thenReturn(OptionalInt.of(0));
+
+                        // when & then
+                        assertThatThrownBy(() -> concertService.assignSeatOfConcertSchedule(1L, 1L, 1L))
+                                        .isInstanceOf(BusinessRuleViolationException.class)
+                                        .extracting("errorCode")
+                                        .isEqualTo(ErrorCode.CONCERT_SCHEDULE_SOLD_OUT);
+                        assertThatThrownBy(() -> concertService.assignSeatsOfConcertSchedule(1L, List.of(1L, 2L), 1L))
+                                        .isInstanceOf(BusinessRuleViolationException.class)
+                                        .extracting("errorCode")
+                                        .isEqualTo(ErrorCode.CONCERT_SCHEDULE_SOLD_OUT);
+                        verify(seatRepository, never()).findById(anyLong());
+                }
+
+                @Test
+                @DisplayName("성공 : 남은 좌석 수가 적재되지 않은 공연 일정은 매진이 아닌 것으로 본다.")
+                void shouldNotBeSoldOut_WhenRemainingCountNotLoaded() {
+                        // given
+                        when(seatAvailabilityRepository.countAvailable(1L)).thenReturn(OptionalInt.empty());
+
+                        // when & then
+                        assertFalse(concertService.isSoldOut(1L));
+                }
+
+                @Test
+                @DisplayName("성공 : 남은 좌석 수가 0 이 되면 공연 일정이 SOLDOUT 으로 변경된다.")
+                void shouldMakeSoldOut_WhenRemainingCountReachesZero() {
+                        // given
+                        ConcertSchedule schedule = ConcertSchedule.create(1L, 1L, third, first, second,
+                                        ConcertScheduleAvailability.AVAILABLE);
+                        when(concertScheduleRepository.findById(1L)).thenReturn(Optional.of(schedule));
+
+                        // when
+                        concertService.syncConcertScheduleAvailability(1L, 0);
+
+                        // then
+                        assertEquals(ConcertScheduleAvailability.SOLDOUT, schedule.getAvailability());
+                        verify(concertScheduleRepository).save(schedule);
+                }
+
+                @Test
+                @DisplayName("성공 : 매진된 공연 일정에 남은 좌석이 생기면 AVAILABLE 로 변경되며, 이미 맞는 상태라면 저장하지 않는다.")
+                void shouldMakeAvailableOnlyWhenSoldOut_WhenRemainingCountAboveZero() {
+                        // given
+                        ConcertSchedule soldOut = ConcertSchedule.create(1L, 1L, third, first, second,
+                                        ConcertScheduleAvailability.SOLDOUT);
+                        ConcertSchedule available = ConcertSchedule.create(2L, 1L, third, first, second,
+                                        ConcertScheduleAvailability.AVAILABLE);
+                        when(concertScheduleRepository.findById(1L)).thenReturn(Optional.of(soldOut));
+                        when(concertScheduleRepository.findById(2L)).thenReturn(Optional.of(available));
+
+                        // when
+                        concertService.syncConcertScheduleAvailability(1L, 1);
+                        concertService.syncConcertScheduleAvailability(2L, 1);
+
+                        // then
+                        assertEquals(ConcertScheduleAvailability.AVAILABLE, soldOut.getAvailability());
+                        verify(concertScheduleRepository).save(soldOut);
+                        verify(concertScheduleRepository, never()).save(available);
+                }
+        }
+
         @Nested
         class GetAvailableConcertScheduleWithConcertUnitTest {
                 @Test
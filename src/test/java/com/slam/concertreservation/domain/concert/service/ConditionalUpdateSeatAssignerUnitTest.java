@@ -0,0 +1,74 @@
+package com.slam.concertreservation.domain.concert.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+import com.slam.concertreservation.common.exceptions.BusinessRuleViolationException;
+import com.slam.concertreservation.common.exceptions.UnavailableRequestException;
+import com.slam.concertreservation.domain.concert.model.Seat;
+import com.slam.concertreservation.domain.concert.model.SeatStatus;
+import com.slam.concertreservation.domain.concert.repository.SeatRepository;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+class ConditionalUpdateSeatAssignerUnitTest {
+
+        @Mock
+        private SeatRepository seatRepository;
+
+        private ConditionalUpdateSeatAssigner seatAssigner;
+
+        @BeforeEach
+        void setup() {
+                MockitoAnnotations.openMocks(this);
+                seatAssigner = new ConditionalUpdateSeatAssigner(seatRepository);
+        }
+
+        @Test
+        @DisplayName("성공 : 조건부 UPDATE 로 1건이 변경되면 변경된 좌석을 반환한다.")
+        void shouldReturnSeat_WhenConditionalUpdateSucceeds() {
+                // given
+                Seat updated = Seat.create(1L, 1L, 1, 1000, SeatStatus.UNAVAILABLE);
+                when(seatRepository.updateStatusIfMatches(1L, SeatStatus.AVAILABLE, SeatStatus.UNAVAILABLE))
+                                .thenReturn(true);
+                when(seatRepository.findById(1L)).thenReturn(Optional.of(updated));
+
+                // when
+                Seat result = seatAssigner.assign(1L, 1L);
+
+                // then
+                assertThat(result.getStatus()).isEqualTo(SeatStatus.UNAVAILABLE);
+        }
+
+        @Test
+        @DisplayName("실패 : 이미 선점된 좌석이라 변경된 행이 없으면 BusinessRuleViolationException 이 발생한다.")
+        void shouldThrowBusinessRuleViolationException_WhenSeatAlreadyOccupied() {
+                // given
+                when(seatRepository.updateStatusIfMatches(1L, SeatStatus.AVAILABLE, SeatStatus.UNAVAILABLE))
+                                .thenReturn(false);
+                when(seatRepository.findById(1L))
+                                .thenReturn(Optional.of(Seat.create(1L, 1L, 1, 1000, SeatStatus.UNAVAILABLE)));
+
+                // when & then
+                assertThatThrownBy(() -> seatAssigner.assign(1L, 1L))
+                                .isInstanceOf(BusinessRuleViolationException.class);
+        }
+
+        @Test
+        @DisplayName("실패 : 존재하지 않는 좌석이면 UnavailableRequestException 이 발생한다.")
+        void shouldThrowUnavailableRequestException_WhenSeatNotFound() {
+                // given
+                when(seatRepository.updateStatusIfMatches(1L, SeatStatus.UNAVAILABLE, SeatStatus.AVAILABLE))
+                                .thenReturn(false);
+                when(seatRepository.findById(1L)).thenReturn(Optional.empty());
+
+                // when & then
+                assertThatThrownBy(() -> seatAssigner.unassign(1L, 1L))
+                                .isInstanceOf(UnavailableRequestException.class);
+        }
+}
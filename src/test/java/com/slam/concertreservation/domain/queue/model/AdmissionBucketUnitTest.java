@@ -0,0 +1,55 @@
+package com.slam.concertreservation.domain.queue.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class AdmissionBucketUnitTest {
+
+    private final AtomicLong nanoClock = new AtomicLong(0);
+
+    @Test
+    @DisplayName("성공 : 최초에는 최대 누적치만큼 허용하고, 이후에는 경과 시간에 비례하여 허용량이 채워진다.")
+    void shouldRefillByElapsedTime_AfterInitialBurst() {
+        // given : 초당 10명, 최대 누적 20명
+        AdmissionBucket bucket = new AdmissionBucket(10, 20, nanoClock::get);
+
+        // when & then
+        assertThat(bucket.acquire(100)).isEqualTo(20);
+        assertThat(bucket.acquire(100)).isZero();
+
+        nanoClock.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+        assertThat(bucket.acquire(100)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("성공 : 허용량은 최대 누적치를 넘어서 채워지지 않는다.")
+    void shouldNotExceedCapacity_WhenIdleForLongTime() {
+        // given
+        AdmissionBucket bucket = new AdmissionBucket(10, 20, nanoClock::get);
+        bucket.acquire(20);
+
+        // when
+        nanoClock.addAndGet(TimeUnit.MINUTES.toNanos(10));
+
+        // then
+        assertThat(bucket.acquire(100)).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("성공 : 사용하지 못한 허용량을 반환하면 다음 요청에서 다시 사용할 수 있다.")
+    void shouldReuseReleasedPermits_WhenReleased() {
+        // given
+        AdmissionBucket bucket = new AdmissionBucket(10, 20, nanoClock::get);
+        bucket.acquire(20);
+
+        // when
+        bucket.release(3);
+
+        // then
+        assertThat(bucket.acquire(10)).isEqualTo(3);
+    }
+}
@@ -0,0 +1,54 @@
+package com.slam.concertreservation.domain.queue.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class AdmissionThroughputUnitTest {
+
+    private static final long ONE_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    @DisplayName("성공 : 최초 기록은 해당 구간의 진입 속도를 그대로 처리량으로 사용한다.")
+    void shouldUseInstantRate_WhenFirstRecorded() {
+        // given
+        AdmissionThroughput throughput = new AdmissionThroughput(60, 0);
+
+        // when
+        double rate = throughput.record(20, 2 * ONE_SECOND);
+
+        // then
+        assertThat(rate).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("성공 : 이후 기록은 경과 시간에 비례한 가중치로 반영되어 평활 구간 동안 점진적으로 수렴한다.")
+    void shouldConvergeGradually_WhenRateChanges() {
+        // given : 초당 10명
+        AdmissionThroughput throughput = new AdmissionThroughput(60, 0);
+        throughput.record(10, ONE_SECOND);
+
+        // when : 1초간 진입 없음
+        double rate = throughput.record(0, 2 * ONE_SECOND);
+
+        // then : alpha = 1 - exp(-1/60)
+        assertThat(rate).isCloseTo(10 * Math.exp(-1.0 / 60), within(1e-9));
+    }
+
+    @Test
+    @DisplayName("성공 : 경과 시간이 없는 기록은 처리량에 반영하지 않는다.")
+    void shouldIgnore_WhenNoTimeElapsed() {
+        // given
+        AdmissionThroughput throughput = new AdmissionThroughput(60, 0);
+        throughput.record(10, ONE_SECOND);
+
+        // when
+        double rate = throughput.record(100, ONE_SECOND);
+
+        // then
+        assertThat(rate).isEqualTo(10);
+    }
+}
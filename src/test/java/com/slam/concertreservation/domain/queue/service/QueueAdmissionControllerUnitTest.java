@@ -0,0 +1,147 @@
+package com.slam.concertreservation.domain.queue.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.slam.concertreservation.domain.queue.model.QueuePolicy;
+import com.slam.concertreservation.domain.queue.model.Token;
+import com.slam.concertreservation.domain.queue.repository.TokenRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+class QueueAdmissionControllerUnitTest {
+
+        @Mock
+        private TokenRepository tokenRepository;
+
+        @Mock
+        private QueueWaitTimeEstimator queueWaitTimeEstimator;
+
+        private QueuePolicy queuePolicy;
+        private SimpleMeterRegistry meterRegistry;
+        private QueueAdmissionController queueAdmissionController;
+
+        private final Long concertScheduleId = 1L;
+
+        @BeforeEach
+        void setUp() {
+                MockitoAnnotations.openMocks(this);
+                queuePolicy = new QueuePolicy();
+                queuePolicy.setMaxConcurrentUser(10);
+                queuePolicy.setMaxConcurrentUserThreshold(1.0);
+                queuePolicy.setActiveTokenDuration(3);
+                queuePolicy.setWaitingTokenDuration(6);
+                queuePolicy.setAdmissionRatePerSecond(1);
+                queuePolicy.setAdmissionBurstSize(5);
+                meterRegistry = new SimpleMeterRegistry();
+                queueAdmissionController = new QueueAdmissionController(tokenRepository, queuePolicy,
+                                queueWaitTimeEstimator, meterRegistry);
+        }
+
+        @Test
+        @DisplayName("성공 : 빈 자리가 충분하더라도 진입 허용 속도(최대 누적치)를 넘어서 활성화하지 않는다.")
+        void shouldAdmitUpToBurstSize_WhenFreeSlotsExceedBurst() {
+                // given : 빈 자리 10, 대기 20, 최대 누적 5
+                when(tokenRepository.countCurrentlyWaitingTokens(concertScheduleId)).thenReturn(20);
+                when(tokenRepository.countCurrentlyActiveTokens(concertScheduleId)).thenReturn(0);
+                when(tokenRepository.findNextKTokensToBeActivated(concertScheduleId, 5)).thenReturn(waitingTokens(5));
+                when(tokenRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+                // when
+                List<Token> admitted = queueAdmissionController.admit(concertScheduleId);
+
+                // then
+                assertThat(admitted).hasSize(5).allMatch(Token::isActive);
+                assertThat(meterRegistry.get("queue.admission.admitted").counter().count()).isEqualTo(5);
+                assertThat(meterRegistry.get("queue.admission.time.in.queue").timer().count()).isEqualTo(5);
+                assertThat(meterRegistry.get("queue.waiting.depth").gauge().value()).isEqualTo(15);
+                verify(queueWaitTimeEstimator).recordAdmission(concertScheduleId, 5);
+        }
+
+        @Test
+        @DisplayName("성공 : 활성 토큰 만료 여부와 무관하게, 빈 자리만큼만 활성화한다.")
+        void shouldAdmitOnlyFreeSlots_WhenFewSlotsLeft() {
+                // given : 빈 자리 2
+                when(tokenRepository.countCurrentlyWaitingTokens(concertScheduleId)).thenReturn(20);
+                when(tokenRepository.countCurrentlyActiveTokens(concertScheduleId)).thenReturn(8);
+                when(tokenRepository.findNextKTokensToBeActivated(concertScheduleId, 2)).thenReturn(waitingTokens(2));
+                when(tokenRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+                // when
+                List<Token> admitted = queueAdmissionController.admit(concertScheduleId);
+
+                // then
+                assertThat(admitted).hasSize(2);
+                verify(tokenRepository).findNextKTokensToBeActivated(concertScheduleId, 2);
+        }
+
+        @Test
+        @DisplayName("성공 : 빈 자리가 없다면 대기열에서 토큰을 꺼내지 않는다.")
+        void shouldNotPopWaitingTokens_WhenNoFreeSlots() {
+                // given
+                when(tokenRepository.countCurrentlyWaitingTokens(concertScheduleId)).thenReturn(20);
+                when(tokenRepository.countCurrentlyActiveTokens(concertScheduleId)).thenReturn(10);
+
+                // when
+                List<Token> admitted = queueAdmissionController.admit(concertScheduleId);
+
+                // then
+                assertThat(admitted).isEmpty();
+                verify(tokenRepository, never()).findNextKTokensToBeActivated(eq(concertScheduleId), anyInt());
+                verify(tokenRepository, never()).saveAll(anyList());
+                verify(queueWaitTimeEstimator).recordAdmission(concertScheduleId, 0);
+        }
+
+        @Test
+        @DisplayName("성공 : 진입 허용 속도가 설정되지 않았다면 빈 자리만큼 모두 활성화한다.")
+        void shouldAdmitAllFreeSlots_WhenRateLimitDisabled() {
+                // given
+                queuePolicy.setAdmissionRatePerSecond(0);
+                when(tokenRepository.countCurrentlyWaitingTokens(concertScheduleId)).thenReturn(20);
+                when(tokenRepository.countCurrentlyActiveTokens(concertScheduleId)).thenReturn(0);
+                when(tokenRepository.findNextKTokensToBeActivated(concertScheduleId, 10)).thenReturn(waitingTokens(10));
+                when(tokenRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+                // when
+                List<Token> admitted = queueAdmissionController.admit(concertScheduleId);
+
+                // then
+                assertThat(admitted).hasSize(10);
+        }
+
+        @Test
+        @DisplayName("성공 : 대기 중인 토큰이 없다면 활성 토큰 수도 조회하지 않는다.")
+        void shouldSkip_WhenNoWaitingTokens() {
+                // given
+                when(tokenRepository.countCurrentlyWaitingTokens(concertScheduleId)).thenReturn(0);
+
+                // when
+                List<Token> admitted = queueAdmissionController.admit(concertScheduleId);
+
+                // then
+                assertThat(admitted).isEmpty();
+                verify(tokenRepository, never()).countCurrentlyActiveTokens(concertScheduleId);
+                verify(queueWaitTimeEstimator, never()).recordAdmission(eq(concertScheduleId), anyInt());
+                verify(tokenRepository, never()).findNextKTokensToBeActivated(eq(concertScheduleId), anyInt());
+        }
+
+        private List<Token> waitingTokens(int count) {
+                LocalDateTime createdAt = LocalDateTime.now().minusMinutes(1);
+                return IntStream.range(0, count)
+                                .mapToObj(i -> Token.create(String.valueOf(i), (long) i, concertScheduleId, createdAt,
+                                                createdAt.plusHours(6)))
+                                .toList();
+        }
+}
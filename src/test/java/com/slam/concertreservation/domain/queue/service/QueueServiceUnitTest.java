@@ -47,7 +47,7 @@ class QueueServiceUnitTest {
                 when(queuePolicy.calculateConcurrentUserThreshold()).thenReturn(5);
                 // 이후 정상적으로 생성될 토큰
                 Token expected = Token.create(userId, concertScheduleId, queuePolicy.getActiveTokenDuration());
-                when(tokenRepository.save(any(Token.class))).thenReturn(expected);
+                when(tokenRepository.issue(any(Token.class), eq(5), eq(1), anyLong())).thenReturn(expected);
 
                 // when
                 Token result = queueService.issueToken(userId, concertScheduleId);
@@ -57,7 +57,7 @@ class QueueServiceUnitTest {
                 assertThat(result.getUserId()).isEqualTo(userId);
                 assertThat(result.getConcertScheduleId()).isEqualTo(concertScheduleId);
                 assertThat(result.getStatus()).isEqualTo(TokenStatus.WAIT);
-                verify(tokenRepository, times(1)).save(any(Token.class));
+                verify(tokenRepository, times(1)).issue(any(Token.class), eq(5), eq(1), anyLong());
         }
 
         @Test
@@ -1,8 +1,12 @@
 package com.slam.concertreservation.domain.reservation.service;
 
+import com.slam.concertreservation.domain.reservation.event.ReservationBatchExpirationEvent;
+import com.slam.concertreservation.domain.reservation.event.ReservationCreationEvent;
 import com.slam.concertreservation.domain.reservation.model.Reservation;
+import com.slam.concertreservation.domain.reservation.model.ReservationExpiryCursor;
 import com.slam.concertreservation.domain.reservation.model.ReservationStatus;
 import com.slam.concertreservation.domain.reservation.repository.ReservationRepository;
+import com.slam.concertreservation.common.error.ErrorCode;
 import com.slam.concertreservation.common.exceptions.BusinessRuleViolationException;
 import com.slam.concertreservation.common.exceptions.UnavailableRequestException;
 import java.time.LocalDateTime;
@@ -15,7 +19,9 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.mockito.MockitoAnnotations;
 import org.springframework.boot.test.context.TestConfiguration;
@@ -73,17 +79,17 @@ public class ReservationServiceUnitTest {
                     ReservationStatus.PREEMPTED, price,
                     LocalDateTime.now().plusMinutes(6), LocalDateTime.now(), LocalDateTime.now());
 
-            when(reservationRepository.findByConcertScheduleIdAndSeatId(concertScheduleId, seatId))
-                    .thenReturn(Optional.empty());
-            when(reservationRepository.save(any(Reservation.class)))
+            when(reservationRepository.insert(any(Reservation.class)))
                     .thenReturn(reservation);
 
             // when
             Reservation result = reservationService.createReservation(userId, concertScheduleId, seatId, price);
 
-            // then
-            verify(reservationRepository, times(1)).findByConcertScheduleIdAndSeatId(concertScheduleId, seatId);
-            verify(reservationRepository, times(2)).save(any(Reservation.class));
+            // then : 중복 여부를 미리 조회하지 않고, 만료 시간이 정해진 가예약을 한 번에 저장한다.
+            verify(reservationRepository, never()).findByConcertScheduleIdAndSeatId(anyLong(), anyLong());
+            verify(reservationRepository, never()).save(any(Reservation.class));
+            verify(reservationRepository, times(1)).insert(argThat(toInsert -> toInsert.getExpiredAt() != null));
+            verify(applicationEventPublisher, times(1)).publishEvent(any(Object.class));
             assertEquals(reservation.getId(), result.getId());
             assertEquals(ReservationStatus.PREEMPTED, result.getStatus());
         }
@@ -97,11 +103,10 @@ public class ReservationServiceUnitTest {
             Long seatId = 2L;
             int price = 1000;
 
-            Reservation existingReservation = Reservation.create(1L, 2L, seatId, concertScheduleId, price);
-            existingReservation.confirm(); // Status PAID
-
-            when(reservationRepository.findByConcertScheduleIdAndSeatId(concertScheduleId, seatId))
-                    .thenReturn(Optional.of(existingReservation));
+            // 진행 중인 예약이 있는 좌석이라면 유니크 인덱스 위반으로 저장소가 예외를 던진다.
+            when(reservationRepository.insert(any(Reservation.class)))
+                    .thenThrow(new UnavailableRequestException(ErrorCode.RESERVATION_ALREADY_EXISTS,
+                            "해당 좌석에 대한 예약이 이미 존재하므로 예약이 불가합니다."));
 
             // when & then
             Assertions
@@ -109,8 +114,67 @@ public class ReservationServiceUnitTest {
                             () -> reservationService.createReservation(userId, concertScheduleId, seatId, price))
                     .isInstanceOf(UnavailableRequestException.class);
 
-            verify(reservationRepository, times(1)).findByConcertScheduleIdAndSeatId(concertScheduleId, seatId);
+            verify(reservationRepository, times(1)).insert(any(Reservation.class));
+            verify(applicationEventPublisher, never()).publishEvent(any(Object.class));
+        }
+    }
+
+    @Nested
+    class CreateReservationsTests {
+
+        @Test
+        @DisplayName("성공 : 여러 좌석의 가예약을 생성하면 좌석별로 만료 시간이 초기화된 가예약을 반환한다.")
+        void shouldReturnSavedReservations_WhenCreateReservations() {
+            // given
+            Long userId = 1L;
+            Long concertScheduleId = 1L;
+            Map<Long, Integer> pricesBySeatId = new LinkedHashMap<>();
+            pricesBySeatId.put(2L, 1000);
+            pricesBySeatId.put(3L, 2000);
+
+            // 저장 시 생성 시각이 기록된 예약을 반환.
+            when(reservationRepository.insertAll(anyList())).thenAnswer(invocation -> {
+                List<Reservation> toInsert = invocation.getArgument(0);
+                return toInsert.stream()
+                        .map(reservation -> Reservation.create(reservation.getId(), reservation.getUserId(),
+                                reservation.getSeatId(), reservation.getConcertScheduleId(), reservation.getStatus(),
+                                reservation.getPrice(), reservation.getExpiredAt(), LocalDateTime.now(), null))
+                        .toList();
+            });
+
+            // when
+            List<Reservation> result = reservationService.createReservations(userId, concertScheduleId, pricesBySeatId);
+
+            // then
+            verify(reservationRepository, never()).findAllByConcertScheduleIdAndSeatIds(anyLong(), anyList());
+            verify(reservationRepository, times(1)).insertAll(anyList());
             verify(reservationRepository, never()).save(any(Reservation.class));
+            verify(applicationEventPublisher, times(2)).publishEvent(any(Object.class));
+            assertEquals(List.of(2L, 3L), result.stream().map(Reservation::getSeatId).toList());
+            assertEquals(List.of(1000, 2000), result.stream().map(Reservation::getPrice).toList());
+            assertTrue(result.stream().allMatch(reservation -> reservation.getExpiredAt() != null));
+        }
+
+        @Test
+        @DisplayName("실패 : 요청한 좌석 중 하나라도 진행 중인 예약이 있으면 UnavailableRequestException 이 발생하며, 롤백 시 선점 좌석이 해제되도록 예약 생성 이벤트는 INSERT 이전에 발행된다.")
+        void shouldThrowUnavailableRequestException_WhenAnySeatAlreadyReserved() {
+            // given
+            Long concertScheduleId = 1L;
+            Map<Long, Integer> pricesBySeatId = new LinkedHashMap<>();
+            pricesBySeatId.put(2L, 1000);
+            pricesBySeatId.put(3L, 1000);
+
+            when(reservationRepository.insertAll(anyList()))
+                    .thenThrow(new UnavailableRequestException(ErrorCode.RESERVATION_ALREADY_EXISTS,
+                            "요청한 좌석 중 이미 예약이 존재하는 좌석이 있으므로 예약이 불가합니다."));
+
+            // when & then
+            Assertions
+                    .assertThatThrownBy(
+                            () -> reservationService.createReservations(1L, concertScheduleId, pricesBySeatId))
+                    .isInstanceOf(UnavailableRequestException.class);
+
+            verify(applicationEventPublisher, times(2)).publishEvent(any(ReservationCreationEvent.class));
         }
     }
 
@@ -328,4 +392,83 @@ public class ReservationServiceUnitTest {
             assertTrue(result.isEmpty());
         }
     }
+
+    @Nested
+    class ExpireReservationsTests {
+
+        private final LocalDateTime now = LocalDateTime.now();
+
+        @Test
+        @DisplayName("성공 : 만료 대상 가예약을 한 번의 UPDATE 로 만료하고, 일괄 만료 이벤트를 한 번 발행한다.")
+        void shouldExpireAllInSingleUpdate_WhenReservationsToBeExpiredExist() {
+            // given
+            Reservation reservation1 = Reservation.create(1L, 1L, 2L, 1L, 1000);
+            Reservation reservation2 = Reservation.create(2L, 2L, 3L, 1L, 1000);
+            when(reservationRepository.findAllByExpirationCriteria(now, null, 500))
+                    .thenReturn(List.of(reservation1, reservation2));
+            when(reservationRepository.expireAll(List.of(1L, 2L))).thenReturn(2);
+
+            // when
+            List<Reservation> expired = reservationService.expireReservations(now, null, 500);
+
+            // then
+            assertEquals(List.of(reservation1, reservation2), expired);
+            assertEquals(ReservationStatus.EXPIRED, reservation1.getStatus());
+            assertEquals(ReservationStatus.EXPIRED, reservation2.getStatus());
+            verify(reservationRepository, times(1)).expireAll(List.of(1L, 2L));
+            verify(reservationRepository, never()).save(any(Reservation.class));
+            verify(applicationEventPublisher, times(1)).publishEvent(any(ReservationBatchExpirationEvent.class));
+        }
+
+        @Test
+        @DisplayName("성공 : 만료 대상 가예약이 없으면 UPDATE 와 이벤트 발행 없이 0 을 반환한다.")
+        void shouldReturnZero_WhenNoReservationsToBeExpired() {
+            // given
+            when(reservationRepository.findAllByExpirationCriteria(now, null, 500)).thenReturn(Collections.emptyList());
+
+            // when
+            List<Reservation> expired = reservationService.expireReservations(now, null, 500);
+
+            // then
+            assertTrue(expired.isEmpty());
+            verify(reservationRepository, never()).expireAll(anyList());
+            verify(applicationEventPublisher, never()).publishEvent(any(Object.class));
+        }
+
+        @Test
+        @DisplayName("성공 : 조회 위치가 주어지면 해당 위치 다음부터 만료 대상을 조회한다.")
+        void shouldExpireFromCursor_WhenCursorGiven() {
+            // given
+            ReservationExpiryCursor cursor = new ReservationExpiryCursor(now.minusMinutes(1), 1L);
+            Reservation reservation2 = Reservation.create(2L, 2L, 3L, 1L, 1000);
+            when(reservationRepository.findAllByExpirationCriteria(now, cursor, 500)).thenReturn(List.of(reservation2));
+            when(reservationRepository.expireAll(List.of(2L))).thenReturn(1);
+
+            // when
+            List<Reservation> expired = reservationService.expireReservations(now, cursor, 500);
+
+            // then
+            assertEquals(List.of(reservation2), expired);
+            verify(reservationRepository, never()).findAllByExpirationCriteria(now, null, 500);
+        }
+
+        @Test
+        @DisplayName("성공 : 지연 큐에서 꺼낸 예약 중 만료 대상인 가예약만 조회하여 한 번의 UPDATE 로 만료한다.")
+        void shouldExpireOnlyExpirableReservations_WhenReservationIdsGiven() {
+            // given : 2번 예약은 이미 결제되어 만료 대상 조회에서 제외된다.
+            Reservation reservation1 = Reservation.create(1L, 1L, 2L, 1L, 1000);
+            when(reservationRepository.findAllByIdsAndExpirationCriteria(List.of(1L, 2L), now))
+                    .thenReturn(List.of(reservation1));
+            when(reservationRepository.expireAll(List.of(1L))).thenReturn(1);
+
+            // when
+            List<Reservation> expired = reservationService.expireReservations(List.of(1L, 2L), now);
+
+            // then
+            assertEquals(List.of(reservation1), expired);
+            assertEquals(ReservationStatus.EXPIRED, reservation1.getStatus());
+            verify(reservationRepository, times(1)).expireAll(List.of(1L));
+            verify(applicationEventPublisher, times(1)).publishEvent(any(ReservationBatchExpirationEvent.class));
+        }
+    }
 }
\ No newline at end of file
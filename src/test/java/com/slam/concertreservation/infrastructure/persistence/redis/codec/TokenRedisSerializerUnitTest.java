@@ -0,0 +1,84 @@
+package com.slam.concertreservation.infrastructure.persistence.redis.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.slam.concertreservation.domain.queue.model.Token;
+import com.slam.concertreservation.domain.queue.model.TokenStatus;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+class TokenRedisSerializerUnitTest {
+
+    private final GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer(tokenObjectMapper());
+
+    @Test
+    @DisplayName("성공 : 바이너리 형식으로 저장한 토큰은 모든 필드가 그대로 복원된다.")
+    void shouldRestoreAllFields_WhenEncodedAsBinary() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2026, 3, 1, 10, 0, 0, 123_456_789);
+        Token token = Token.create(UUID.randomUUID().toString(), 1L, 2L, TokenStatus.ACTIVE.name(), createdAt,
+                createdAt.plusMinutes(3));
+        TokenRedisSerializer serializer = new TokenRedisSerializer(jsonSerializer, TokenRedisSerializer.Format.BINARY);
+
+        // when
+        byte[] bytes = serializer.serialize(token);
+        Token restored = (Token) serializer.deserialize(bytes);
+
+        // then
+        assertThat(TokenBinaryCodec.isBinary(bytes)).isTrue();
+        assertThat(restored).usingRecursiveComparison().isEqualTo(token);
+    }
+
+    @Test
+    @DisplayName("성공 : UUID 형식이 아닌 ID 와 null 필드도 그대로 복원된다.")
+    void shouldRestoreNonUuidIdAndNullFields_WhenEncodedAsBinary() {
+        // given
+        Token token = Token.create("token-1", 1L, 2L, null, null);
+
+        // when
+        Token restored = TokenBinaryCodec.decode(TokenBinaryCodec.encode(token));
+
+        // then
+        assertThat(restored).usingRecursiveComparison().isEqualTo(token);
+    }
+
+    @Test
+    @DisplayName("성공 : 쓰기 형식과 무관하게 기존 JSON 형식 토큰과 바이너리 형식 토큰을 모두 읽을 수 있다.")
+    void shouldReadBothFormats_RegardlessOfWriteFormat() {
+        // given
+        Token token = Token.create(UUID.randomUUID().toString(), 1L, 2L, LocalDateTime.now(),
+                LocalDateTime.now().plusHours(6));
+        byte[] json = new TokenRedisSerializer(jsonSerializer, TokenRedisSerializer.Format.JSON).serialize(token);
+        byte[] binary = new TokenRedisSerializer(jsonSerializer, TokenRedisSerializer.Format.BINARY).serialize(token);
+
+        // when & then
+        for (TokenRedisSerializer.Format format : TokenRedisSerializer.Format.values()) {
+            TokenRedisSerializer serializer = new TokenRedisSerializer(jsonSerializer, format);
+            assertThat(serializer.deserialize(json)).usingRecursiveComparison().isEqualTo(token);
+            assertThat(serializer.deserialize(binary)).usingRecursiveComparison().isEqualTo(token);
+        }
+        assertThat(binary.length).isLessThan(json.length);
+    }
+
+    // RedisConfig.tokenRedisTemplate 과 동일한 설정.
+    private static ObjectMapper tokenObjectMapper() {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.registerModule(new JavaTimeModule());
+        mapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        mapper.activateDefaultTyping(
+                LaissezFaireSubTypeValidator.instance,
+                ObjectMapper.DefaultTyping.NON_FINAL,
+                JsonTypeInfo.As.PROPERTY);
+        return mapper;
+    }
+}
@@ -0,0 +1,146 @@
+package com.slam.concertreservation.infrastructure.persistence.redis.locking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+class QueueScheduleLeaseManagerUnitTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private RLock lease;
+
+    private final List<Long> concertScheduleIds = LongStream.rangeClosed(1, 20).boxed().toList();
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(redissonClient.getLock(anyString())).thenReturn(lease);
+    }
+
+    @Test
+    @DisplayName("성공 : 살아있는 노드들은 공연 일정을 겹치지 않게 나누어 담당하고, 모든 공연 일정은 어느 한 노드가 담당한다.")
+    void shouldPartitionConcertSchedules_WhenSeveralNodesAlive() {
+        // given
+        QueueScheduleLeaseManager first = new QueueScheduleLeaseManager(stringRedisTemplate, redissonClient);
+        QueueScheduleLeaseManager second = new QueueScheduleLeaseManager(stringRedisTemplate, redissonClient);
+        QueueScheduleLeaseManager third = new QueueScheduleLeaseManager(stringRedisTemplate, redissonClient);
+        Set<String> liveNodes = new LinkedHashSet<>(List.of(third.getNodeId(), first.getNodeId(), second.getNodeId()));
+        when(zSetOperations.range(anyString(), eq(0L), eq(-1L))).thenReturn(liveNodes);
+
+        // when
+        List<Long> ownedByFirst = first.filterOwnedConcertScheduleIds(concertScheduleIds);
+        List<Long> ownedBySecond = second.filterOwnedConcertScheduleIds(concertScheduleIds);
+        List<Long> ownedByThird = third.filterOwnedConcertScheduleIds(concertScheduleIds);
+
+        // then
+        List<Long> all = new ArrayList<>();
+        all.addAll(ownedByFirst);
+        all.addAll(ownedBySecond);
+        all.addAll(ownedByThird);
+        assertThat(all).containsExactlyInAnyOrderElementsOf(concertScheduleIds);
+        assertThat(ownedByFirst).isNotEmpty().doesNotContainAnyElementsOf(ownedBySecond);
+    }
+
+    @Test
+    @DisplayName("성공 : 노드 목록의 조회 순서와 무관하게 같은 공연 일정은 같은 노드가 담당한다.")
+    void shouldSelectSameOwner_RegardlessOfNodeListOrder() {
+        // given
+        QueueScheduleLeaseManager first = new QueueScheduleLeaseManager(stringRedisTemplate, redissonClient);
+        QueueScheduleLeaseManager second = new QueueScheduleLeaseManager(stringRedisTemplate, redissonClient);
+        when(zSetOperations.range(anyString(), eq(0L), eq(-1L)))
+                .thenReturn(new LinkedHashSet<>(List.of(first.getNodeId(), second.getNodeId())))
+                .thenReturn(new LinkedHashSet<>(List.of(second.getNodeId(), first.getNodeId())));
+
+        // when
+        List<Long> owned = first.filterOwnedConcertScheduleIds(concertScheduleIds);
+        List<Long> ownedAfterReorder = first.filterOwnedConcertScheduleIds(concertScheduleIds);
+
+        // then
+        assertThat(ownedAfterReorder).isEqualTo(owned);
+    }
+
+    @Test
+    @DisplayName("성공 : 노드 목록에 자신이 없다면(생존 신고 전, Redis 장애 등) 모든 공연 일정을 담당 대상으로 반환한다.")
+    void shouldReturnAll_WhenNodeNotRegistered() {
+        // given
+        QueueScheduleLeaseManager manager = new QueueScheduleLeaseManager(stringRedisTemplate, redissonClient);
+        when(zSetOperations.range(anyString(), eq(0L), eq(-1L))).thenReturn(Set.of("another-node"));
+
+        // when & then
+        assertThat(manager.filterOwnedConcertScheduleIds(concertScheduleIds)).isEqualTo(concertScheduleIds);
+    }
+
+    @Test
+    @DisplayName("성공 : 다른 노드가 임대 중인 공연 일정은 작업을 수행하지 않고 건너뛴다.")
+    void shouldSkipTask_WhenLeaseHeldByAnotherNode() throws InterruptedException {
+        // given
+        QueueScheduleLeaseManager manager = new QueueScheduleLeaseManager(stringRedisTemplate, redissonClient);
+        when(lease.tryLock(0, 10000, TimeUnit.MILLISECONDS)).thenReturn(false);
+        AtomicBoolean executed = new AtomicBoolean(false);
+
+        // when
+        boolean result = manager.runWithLease(1L, 10000, () -> executed.set(true));
+
+        // then
+        assertThat(result).isFalse();
+        assertThat(executed).isFalse();
+        verify(lease, never()).unlock();
+    }
+
+    @Test
+    @DisplayName("성공 : 임대를 획득하면 작업을 수행한 뒤, 작업 실패 여부와 무관하게 임대를 반납한다.")
+    void shouldReleaseLease_WhenTaskFinishedOrFailed() throws InterruptedException {
+        // given
+        QueueScheduleLeaseManager manager = new QueueScheduleLeaseManager(stringRedisTemplate, redissonClient);
+        when(lease.tryLock(0, 10000, TimeUnit.MILLISECONDS)).thenReturn(true);
+        when(lease.isHeldByCurrentThread()).thenReturn(true);
+
+        // when
+        boolean result = manager.runWithLease(1L, 10000, () -> {
+        });
+        Throwable failure = null;
+        try {
+            manager.runWithLease(2L, 10000, () -> {
+                throw new IllegalStateException("처리 실패");
+            });
+        } catch (IllegalStateException e) {
+            failure = e;
+        }
+
+        // then
+        assertThat(result).isTrue();
+        assertThat(failure).isNotNull();
+        verify(lease, times(2)).unlock();
+    }
+}
@@ -0,0 +1,136 @@
+package com.slam.concertreservation.infrastructure.persistence.redis.locking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.slam.concertreservation.common.exceptions.ConcurrencyException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+
+class RedissonDistributedLockAopUnitTest {
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private ProceedingJoinPoint pjp;
+
+    @Mock
+    private MethodSignature signature;
+
+    @Mock
+    private RLock multiLock;
+
+    @Mock
+    private RLock firstSeatLock;
+
+    @Mock
+    private RLock secondSeatLock;
+
+    private RedissonDistributedLockAop redissonDistributedLockAop;
+    private RedissonDistributedLock redissonDistributedLock;
+
+    static class LockedTarget {
+        @RedissonDistributedLock(key = "seatIds", lockName = "seatId", waitTime = 100L)
+        void assignAll(Long concertScheduleId, List<Long> seatIds) {
+        }
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        MockitoAnnotations.openMocks(this);
+        redissonDistributedLockAop = new RedissonDistributedLockAop(redissonClient);
+        redissonDistributedLock = LockedTarget.class.getDeclaredMethod("assignAll", Long.class, List.class)
+                .getAnnotation(RedissonDistributedLock.class);
+
+        when(pjp.getSignature()).thenReturn(signature);
+        when(signature.getParameterNames()).thenReturn(new String[] { "concertScheduleId", "seatIds" });
+        when(pjp.getArgs()).thenReturn(new Object[] { 1L, List.of(2L, 1L) });
+        when(redissonClient.getFairLock("LOCK::seatId-1")).thenReturn(firstSeatLock);
+        when(redissonClient.getFairLock("LOCK::seatId-2")).thenReturn(secondSeatLock);
+        when(redissonClient.getMultiLock(firstSeatLock, secondSeatLock)).thenReturn(multiLock);
+    }
+
+    @Test
+    @DisplayName("성공 : 컬렉션 키는 watchdog 임대로 모든 원소의 락을 획득한 뒤 메서드를 실행하고, 보유 중인 락을 모두 해제한다.")
+    void shouldAcquireWithWatchdogAndRelease_WhenCollectionKeyGiven() throws Throwable {
+        // given
+        when(multiLock.tryLock(100L, -1L, TimeUnit.MILLISECONDS)).thenReturn(true);
+        when(firstSeatLock.isHeldByCurrentThread()).thenReturn(true);
+        when(secondSeatLock.isHeldByCurrentThread()).thenReturn(true);
+        when(pjp.proceed()).thenReturn("assigned");
+
+        // when
+        Object result = redissonDistributedLockAop.lock(pjp, redissonDistributedLock);
+
+        // then
+        assertThat(result).isEqualTo("assigned");
+        verify(multiLock).tryLock(100L, -1L, TimeUnit.MILLISECONDS);
+        verify(firstSeatLock).unlock();
+        verify(secondSeatLock).unlock();
+    }
+
+    @Test
+    @DisplayName("성공 : 메서드 실행 중 예외가 발생해도 보유 중인 락을 해제한 뒤 예외를 그대로 던진다.")
+    void shouldReleaseLocks_WhenProceedFails() throws Throwable {
+        // given
+        when(multiLock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).thenReturn(true);
+        when(firstSeatLock.isHeldByCurrentThread()).thenReturn(true);
+        when(secondSeatLock.isHeldByCurrentThread()).thenReturn(true);
+        when(pjp.proceed()).thenThrow(new IllegalStateException("좌석 선점 실패"));
+
+        // when & then
+        assertThatThrownBy(() -> redissonDistributedLockAop.lock(pjp, redissonDistributedLock))
+                .isInstanceOf(IllegalStateException.class);
+        verify(firstSeatLock).unlock();
+        verify(secondSeatLock).unlock();
+    }
+
+    @Test
+    @DisplayName("성공 : 이미 만료되어 보유하지 않은 락은 해제하지 않으므로, 메서드 결과가 락 해제 예외로 바뀌지 않는다.")
+    void shouldSkipUnlock_WhenLockNoLongerHeld() throws Throwable {
+        // given
+        when(multiLock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).thenReturn(true);
+        when(firstSeatLock.isHeldByCurrentThread()).thenReturn(false);
+        when(secondSeatLock.isHeldByCurrentThread()).thenReturn(true);
+        when(pjp.proceed()).thenReturn("assigned");
+
+        // when
+        Object result = redissonDistributedLockAop.lock(pjp, redissonDistributedLock);
+
+        // then
+        assertThat(result).isEqualTo("assigned");
+        verify(firstSeatLock, never()).unlock();
+        verify(secondSeatLock).unlock();
+        verify(multiLock, never()).unlock();
+    }
+
+    @Test
+    @DisplayName("실패 : 락 획득에 실패하면 메서드를 실행하지 않고 ConcurrencyException 이 발생하며, 어떤 락도 해제하지 않는다.")
+    void shouldThrowConcurrencyException_WhenLockNotAcquired() throws Throwable {
+        // given
+        when(multiLock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).thenReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> redissonDistributedLockAop.lock(pjp, redissonDistributedLock))
+                .isInstanceOf(ConcurrencyException.class);
+        verify(pjp, never()).proceed();
+        verify(firstSeatLock, never()).unlock();
+        verify(secondSeatLock, never()).unlock();
+        verify(multiLock, never()).unlock();
+    }
+}
@@ -0,0 +1,167 @@
+package com.slam.concertreservation.interfaces;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.slam.concertreservation.application.facade.ConcertReservationApplication;
+import com.slam.concertreservation.domain.queue.model.Token;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+class QueueStatusBroadcasterUnitTest {
+
+    @Mock
+    private ConcertReservationApplication reservationApp;
+
+    private final Long concertScheduleId = 1L;
+    private final Deque<SseEmitter> emitters = new ArrayDeque<>();
+
+    private SseEmitter first;
+    private SseEmitter second;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(reservationApp.getRemaining(eq(concertScheduleId), any())).thenReturn(3);
+        first = mock(SseEmitter.class);
+        second = mock(SseEmitter.class);
+        emitters.add(first);
+        emitters.add(second);
+    }
+
+    @Test
+    @DisplayName("성공 : 주기마다 이 노드에 구독 중인 토큰의 순번만 한 번에 조회하여 각 구독자에게 전송한다.")
+    void shouldQueryOnlySubscribedTokens_WhenBroadcast() throws IOException {
+        // given
+        QueueStatusBroadcaster broadcaster = newBroadcaster(Runnable::run);
+        broadcaster.subscribe(concertScheduleId, "first");
+        broadcaster.subscribe(concertScheduleId, "second");
+        when(reservationApp.getWaitingPositions(concertScheduleId, List.of("first", "second")))
+                .thenReturn(Map.of("first", 0, "second", 1));
+
+        // when
+        broadcaster.broadcast();
+
+        // then : 구독 직후 1회 + 주기 전송 1회
+        verify(reservationApp).getWaitingPositions(concertScheduleId, List.of("first", "second"));
+        verify(first, times(2)).send(any(SseEventBuilder.class));
+        verify(second, times(2)).send(any(SseEventBuilder.class));
+    }
+
+    @Test
+    @DisplayName("성공 : 느린 구독자가 있어도 다른 구독자에게는 전송되고, 느린 구독자는 전송이 끝날 때까지 다음 주기에서 제외된다.")
+    void shouldNotStallOthers_WhenOneSubscriberIsSlow() throws Exception {
+        // given : first 는 구독 직후 전송 이후부터 전송이 끝나지 않는다.
+        CountDownLatch release = new CountDownLatch(1);
+        doNothing().doAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(first).send(any(SseEventBuilder.class));
+        ExecutorService senderExecutor = Executors.newFixedThreadPool(2);
+        QueueStatusBroadcaster broadcaster = newBroadcaster(senderExecutor);
+        broadcaster.subscribe(concertScheduleId, "first");
+        broadcaster.subscribe(concertScheduleId, "second");
+        when(reservationApp.getWaitingPositions(eq(concertScheduleId), anyList()))
+                .thenReturn(Map.of("first", 0, "second", 1));
+
+        try {
+            // when : second 의 이전 전송이 끝나는 시점과 무관하도록 second 가 한 번 더 전송받을 때까지 주기를 반복.
+            broadcaster.broadcast();
+            verify(second, timeout(1000).times(2)).send(any(SseEventBuilder.class));
+            for (int tick = 0; tick < 10 && sendCount(second) < 3; tick++) {
+                Thread.sleep(20);
+                broadcaster.broadcast();
+            }
+
+            // then : first 는 첫 주기 이후 조회/전송 대상에서 제외된다.
+            verify(second, timeout(1000).atLeast(3)).send(any(SseEventBuilder.class));
+            verify(reservationApp, times(1)).getWaitingPositions(eq(concertScheduleId),
+                    argThat(tokenIds -> tokenIds.contains("first")));
+            verify(first, times(2)).send(any(SseEventBuilder.class));
+        } finally {
+            release.countDown();
+            senderExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("성공 : 전송에 실패한(연결이 끊긴) 구독자는 구독 목록에서 제거되어 다음 주기부터 조회/전송 대상에서 빠진다.")
+    void shouldDropSubscriber_WhenSendFails() throws IOException {
+        // given
+        doNothing().doThrow(new IOException("Broken pipe")).when(first).send(any(SseEventBuilder.class));
+        QueueStatusBroadcaster broadcaster = newBroadcaster(Runnable::run);
+        broadcaster.subscribe(concertScheduleId, "first");
+        broadcaster.subscribe(concertScheduleId, "second");
+        when(reservationApp.getWaitingPositions(eq(concertScheduleId), anyList()))
+                .thenReturn(Map.of("first", 0, "second", 1));
+
+        // when
+        broadcaster.broadcast();
+        broadcaster.broadcast();
+
+        // then
+        verify(reservationApp).getWaitingPositions(concertScheduleId, List.of("second"));
+        verify(first, times(2)).send(any(SseEventBuilder.class));
+        verify(second, times(3)).send(any(SseEventBuilder.class));
+    }
+
+    @Test
+    @DisplayName("성공 : 대기열에서 빠진 토큰은 최종 상태를 한 번 전송한 뒤 연결을 종료하고 구독을 해제한다.")
+    void shouldSendFinalStatusAndComplete_WhenTokenLeftQueue() throws IOException {
+        // given
+        QueueStatusBroadcaster broadcaster = newBroadcaster(Runnable::run);
+        broadcaster.subscribe(concertScheduleId, "first");
+        Token activated = Token.create(1L, concertScheduleId, 6).activate(3);
+        when(reservationApp.getWaitingPositions(eq(concertScheduleId), anyList())).thenReturn(Map.of());
+        when(reservationApp.getToken(concertScheduleId, "first")).thenReturn(activated);
+
+        // when
+        broadcaster.broadcast();
+        broadcaster.broadcast();
+
+        // then
+        verify(first, times(2)).send(any(SseEventBuilder.class));
+        verify(first).complete();
+        verify(reservationApp, times(1)).getWaitingPositions(anyLong(), anyList());
+        // 예상 대기 시간은 구독 직후 전송에서만 산출된다.
+        verify(reservationApp, times(1)).estimateWaitSeconds(anyLong(), anyInt());
+    }
+
+    private long sendCount(SseEmitter emitter) {
+        return mockingDetails(emitter).getInvocations().stream()
+                .filter(invocation -> invocation.getMethod().getName().equals("send"))
+                .count();
+    }
+
+    private QueueStatusBroadcaster newBroadcaster(Executor senderExecutor) {
+        return new QueueStatusBroadcaster(reservationApp, senderExecutor, emitters::poll);
+    }
+}
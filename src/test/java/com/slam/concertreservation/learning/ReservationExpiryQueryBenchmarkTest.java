@@ -0,0 +1,247 @@
+package com.slam.concertreservation.learning;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 가예약 만료 대상 조회 성능 비교 테스트 : 인덱스 없는 전체 조회 vs (status, expiredAt) 인덱스 + 키셋 페이지 조회
+ *
+ * 테스트 목적:
+ * - 예약 10,000,000건 중 가예약(PREEMPTED) 1% 가 섞인 테이블에서 만료 대상을 조회하는 데 걸리는 시간 비교
+ * - 인덱스가 없다면 만료 대상 조회마다 테이블 전체를 읽고, 페이지 조회 시엔 정렬(filesort)까지 발생
+ * - (status, expiredAt) 인덱스가 있다면 만료 대상 범위만 읽으며, 키셋 페이지는 OFFSET 과 달리 몇 번째 페이지든 페이지 크기만큼만 읽음
+ *
+ * 예약 테이블과 같은 구조의 별도 테이블에 데이터를 생성하므로, 다른 테스트의 예약 데이터에 영향을 주지 않습니다.
+ * 생성하는 데이터가 많아 {@code test} 태스크에서는 제외되며, {@code ./gradlew benchmark} 로 실행합니다.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.datasource.hikari.auto-commit=true")
+@ActiveProfiles("test")
+public class ReservationExpiryQueryBenchmarkTest {
+
+    private static final int TOTAL_RESERVATIONS = 10_000_000;
+    private static final int ROWS_PER_INSERT = 1_000_000; // 숫자 테이블 6회 교차 조인으로 생성되는 행 수
+    private static final int PAGE_SIZE = 500;
+
+    private static final String EXPIRABLE_CRITERIA = "status = 'PREEMPTED' AND expired_at < ?";
+    private static final String UNBOUNDED_SQL = "SELECT * FROM benchmark_reservation WHERE " + EXPIRABLE_CRITERIA;
+    private static final String FIRST_PAGE_SQL = UNBOUNDED_SQL + " ORDER BY expired_at, reservation_id LIMIT ?";
+    private static final String NEXT_PAGE_SQL = "SELECT * FROM benchmark_reservation WHERE " + EXPIRABLE_CRITERIA
+            + " AND (expired_at > ? OR (expired_at = ? AND reservation_id > ?))"
+            + " ORDER BY expired_at, reservation_id LIMIT ?";
+    private static final String OFFSET_PAGE_SQL = UNBOUNDED_SQL
+            + " ORDER BY expired_at, reservation_id LIMIT ? OFFSET ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("만료 대상 조회 : 인덱스 없는 전체 조회 vs (status, expiredAt) 인덱스 + 키셋 페이지 조회 성능 비교")
+    void compareExpiryQueryPerformance() {
+        LocalDateTime now = LocalDateTime.now();
+        createTable();
+        long insertTime = insertReservations(now);
+
+        try {
+            // 인덱스 없음
+            String explainWithoutIndex = explain(FIRST_PAGE_SQL, now, PAGE_SIZE);
+            countUnbounded(now); // 워밍업 (버퍼 풀 적재)
+            long unboundedStart = System.nanoTime();
+            int unboundedRows = countUnbounded(now);
+            long unboundedWithoutIndexTime = System.nanoTime() - unboundedStart;
+
+            long firstPageStart = System.nanoTime();
+            jdbcTemplate.queryForList(FIRST_PAGE_SQL, now, PAGE_SIZE);
+            long firstPageWithoutIndexTime = System.nanoTime() - firstPageStart;
+
+            // (status, expiredAt) 인덱스 생성
+            long indexStart = System.nanoTime();
+            jdbcTemplate.execute(
+                    "ALTER TABLE benchmark_reservation ADD INDEX IDX_BENCHMARK_STATUS_EXPIRED_AT (status, expired_at)");
+            long indexTime = System.nanoTime() - indexStart;
+
+            // 인덱스 있음
+            String explainWithIndex = explain(FIRST_PAGE_SQL, now, PAGE_SIZE);
+            unboundedStart = System.nanoTime();
+            countUnbounded(now);
+            long unboundedWithIndexTime = System.nanoTime() - unboundedStart;
+
+            firstPageStart = System.nanoTime();
+            jdbcTemplate.queryForList(FIRST_PAGE_SQL, now, PAGE_SIZE);
+            long firstPageWithIndexTime = System.nanoTime() - firstPageStart;
+
+            long[] keysetResult = traverseByKeyset(now);
+            long[] offsetResult = traverseByOffset(now);
+
+            printResults(insertTime, indexTime, unboundedRows,
+                    unboundedWithoutIndexTime, unboundedWithIndexTime,
+                    firstPageWithoutIndexTime, firstPageWithIndexTime,
+                    keysetResult, offsetResult, explainWithoutIndex, explainWithIndex);
+
+            assertThat(keysetResult[1]).isEqualTo(unboundedRows);
+            assertThat(offsetResult[1]).isEqualTo(unboundedRows);
+            assertThat(explainWithIndex).contains("IDX_BENCHMARK_STATUS_EXPIRED_AT");
+        } finally {
+            dropTable();
+        }
+    }
+
+    private void createTable() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS benchmark_reservation");
+        jdbcTemplate.execute("""
+                    CREATE TABLE benchmark_reservation (
+                        reservation_id      BIGINT       NOT NULL,
+                        user_id             BIGINT       NOT NULL,
+                        concert_schedule_id BIGINT       NOT NULL,
+                        seat_id             BIGINT       NOT NULL,
+                        price               INT          NOT NULL,
+                        status              VARCHAR(255) NOT NULL,
+                        expired_at          DATETIME(6)  NULL,
+                        created_at          DATETIME(6)  NOT NULL,
+                        updated_at          DATETIME(6)  NOT NULL,
+                        PRIMARY KEY (reservation_id)
+                    )
+                """);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS benchmark_digit");
+        jdbcTemplate.execute("CREATE TABLE benchmark_digit (d INT NOT NULL PRIMARY KEY)");
+        jdbcTemplate.execute("INSERT INTO benchmark_digit VALUES (0),(1),(2),(3),(4),(5),(6),(7),(8),(9)");
+    }
+
+    /**
+     * 예약 생성. 100건 중 1건은 가예약이며, 가예약의 절반은 만료 시각이 지났다. 나머지는 결제/만료된 예약이다.
+     */
+    private long insertReservations(LocalDateTime now) {
+        Timestamp base = Timestamp.valueOf(now);
+        long start = System.nanoTime();
+        for (int offset = 0; offset < TOTAL_RESERVATIONS; offset += ROWS_PER_INSERT) {
+            jdbcTemplate.update("""
+                        INSERT INTO benchmark_reservation
+                            (reservation_id, user_id, concert_schedule_id, seat_id, price, status, expired_at,
+                             created_at, updated_at)
+                        SELECT n + 1, n % 100000, n % 1000, n, 1000,
+                               CASE WHEN n % 100 = 0 THEN 'PREEMPTED' WHEN n % 3 = 0 THEN 'EXPIRED' ELSE 'CONFIRMED' END,
+                               CASE WHEN n % 100 = 0 THEN ? - INTERVAL ((n DIV 100) % 600 - 300) SECOND
+                                    ELSE ? - INTERVAL (n % 86400) SECOND END,
+                               ?, ?
+                        FROM (SELECT ? + a.d + b.d * 10 + c.d * 100 + e.d * 1000 + f.d * 10000 + g.d * 100000 AS n
+                              FROM benchmark_digit a, benchmark_digit b, benchmark_digit c,
+                                   benchmark_digit e, benchmark_digit f, benchmark_digit g) seq
+                    """, base, base, base, base, offset);
+        }
+        return System.nanoTime() - start;
+    }
+
+    private int countUnbounded(LocalDateTime now) {
+        int[] count = { 0 };
+        jdbcTemplate.query(UNBOUNDED_SQL, rs -> {
+            count[0]++;
+        }, now);
+        return count[0];
+    }
+
+    // 키셋 페이지 순회. 반환값 : { 총 소요 시간(ns), 조회 건수, 최대 페이지 소요 시간(ns) }
+    private long[] traverseByKeyset(LocalDateTime now) {
+        long total = 0;
+        long maxPage = 0;
+        long rows = 0;
+        List<Map<String, Object>> page = null;
+        do {
+            long pageStart = System.nanoTime();
+            if (page == null) {
+                page = jdbcTemplate.queryForList(FIRST_PAGE_SQL, now, PAGE_SIZE);
+            } else {
+                Map<String, Object> last = page.get(page.size() - 1);
+                page = jdbcTemplate.queryForList(NEXT_PAGE_SQL, now, last.get("expired_at"), last.get("expired_at"),
+                        last.get("reservation_id"), PAGE_SIZE);
+            }
+            long pageTime = System.nanoTime() - pageStart;
+            total += pageTime;
+            maxPage = Math.max(maxPage, pageTime);
+            rows += page.size();
+        } while (page.size() == PAGE_SIZE);
+        return new long[] { total, rows, maxPage };
+    }
+
+    // OFFSET 페이지 순회. 반환값 : { 총 소요 시간(ns), 조회 건수, 최대 페이지 소요 시간(ns) }
+    private long[] traverseByOffset(LocalDateTime now) {
+        long total = 0;
+        long maxPage = 0;
+        long rows = 0;
+        List<Map<String, Object>> page;
+        do {
+            long pageStart = System.nanoTime();
+            page = jdbcTemplate.queryForList(OFFSET_PAGE_SQL, now, PAGE_SIZE, rows);
+            long pageTime = System.nanoTime() - pageStart;
+            total += pageTime;
+            maxPage = Math.max(maxPage, pageTime);
+            rows += page.size();
+        } while (page.size() == PAGE_SIZE);
+        return new long[] { total, rows, maxPage };
+    }
+
+    // 실행 계획의 접근 방식, 사용 인덱스, 예상 조회 행 수, 부가 정보
+    private String explain(String sql, Object... args) {
+        Map<String, Object> plan = jdbcTemplate.queryForList("EXPLAIN " + sql, args).get(0);
+        return "type=" + plan.get("type") + ", key=" + plan.get("key") + ", rows=" + plan.get("rows")
+                + ", extra=" + plan.get("Extra");
+    }
+
+    private void dropTable() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS benchmark_reservation");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS benchmark_digit");
+    }
+
+    private void printResults(long insertTime, long indexTime, int expirableRows,
+            long unboundedWithoutIndexTime, long unboundedWithIndexTime,
+            long firstPageWithoutIndexTime, long firstPageWithIndexTime,
+            long[] keysetResult, long[] offsetResult, String explainWithoutIndex, String explainWithIndex) {
+        System.out.println("\n");
+        System.out.println("╔══════════════════════════════════════════════════════════════════╗");
+        System.out.println("║      가예약 만료 대상 조회 : 인덱스 없음 vs (status, expiredAt)     ║");
+        System.out.println("╠══════════════════════════════════════════════════════════════════╣");
+        System.out.printf("║  전체 예약 수        │  %,13d                                  ║%n", TOTAL_RESERVATIONS);
+        System.out.printf("║  만료 대상 수        │  %,13d                                  ║%n", expirableRows);
+        System.out.printf("║  데이터 생성 (ms)    │  %,13d                                  ║%n", insertTime / 1_000_000);
+        System.out.printf("║  인덱스 생성 (ms)    │  %,13d                                  ║%n", indexTime / 1_000_000);
+        System.out.println("╠══════════════════════════════════════════════════════════════════╣");
+        System.out.println("║  메트릭 (ms)         │   인덱스 없음   │  인덱스 있음  │ 비율    ║");
+        System.out.println("╠══════════════════════════════════════════════════════════════════╣");
+        System.out.printf("║  전체 조회           │  %,13d  │  %,11d  │ %5.2fx  ║%n",
+                unboundedWithoutIndexTime / 1_000_000, unboundedWithIndexTime / 1_000_000,
+                ratio(unboundedWithoutIndexTime, unboundedWithIndexTime));
+        System.out.printf("║  첫 페이지 (%d건)   │  %,13d  │  %,11d  │ %5.2fx  ║%n", PAGE_SIZE,
+                firstPageWithoutIndexTime / 1_000_000, firstPageWithIndexTime / 1_000_000,
+                ratio(firstPageWithoutIndexTime, firstPageWithIndexTime));
+        System.out.println("╠══════════════════════════════════════════════════════════════════╣");
+        System.out.println("║  인덱스 있음 순회 (ms)│      키셋       │    OFFSET     │ 비율    ║");
+        System.out.println("╠══════════════════════════════════════════════════════════════════╣");
+        System.out.printf("║  전체 페이지 합계    │  %,13d  │  %,11d  │ %5.2fx  ║%n",
+                keysetResult[0] / 1_000_000, offsetResult[0] / 1_000_000, ratio(offsetResult[0], keysetResult[0]));
+        System.out.printf("║  최대 페이지         │  %,13d  │  %,11d  │ %5.2fx  ║%n",
+                keysetResult[2] / 1_000_000, offsetResult[2] / 1_000_000, ratio(offsetResult[2], keysetResult[2]));
+        System.out.println("╠══════════════════════════════════════════════════════════════════╣");
+        System.out.println("║  실행 계획 (첫 페이지)");
+        System.out.println("║    인덱스 없음 : " + explainWithoutIndex);
+        System.out.println("║    인덱스 있음 : " + explainWithIndex);
+        System.out.println("╠══════════════════════════════════════════════════════════════════╣");
+        System.out.println("║  * 비율 = 인덱스 없음 / 인덱스 있음, OFFSET / 키셋.               ║");
+        System.out.println("║    1 보다 클수록 인덱스, 키셋이 유리.                              ║");
+        System.out.println("╚══════════════════════════════════════════════════════════════════╝");
+        System.out.println("\n");
+    }
+
+    private double ratio(long numerator, long denominator) {
+        return denominator == 0 ? 0 : (double) numerator / denominator;
+    }
+}
@@ -0,0 +1,85 @@
+package com.slam.concertreservation.learning;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.slam.concertreservation.domain.concert.model.Seat;
+import com.slam.concertreservation.domain.concert.repository.SeatRepository;
+import io.hypersistence.tsid.TSID;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 좌석 대량 저장 방식 비교 테스트 : JpaRepository.saveAll vs JDBC 배치 INSERT
+ *
+ * 테스트 목적:
+ * - 공연 일정 하나에 좌석 50,000개를 저장하는 데 걸리는 시간 비교
+ * - saveAll 은 TSID 로 ID 가 할당된 엔티티마다 SELECT 후 INSERT, JDBC 배치는 rewriteBatchedStatements 로 다중 행 INSERT
+ *
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class SeatBulkInsertBenchmarkTest {
+
+    private static final int TOTAL_SEATS = 50000;
+    private static final int SEAT_PRICE = 1000;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Test
+    @DisplayName("saveAll vs JDBC 배치 INSERT 좌석 50,000개 저장 성능 비교")
+    void compareSeatBulkInsertPerformance() {
+        // 워밍업
+        seatRepository.insertAll(createSeats(TSID.fast().toLong(), 1000));
+        seatRepository.saveAll(createSeats(TSID.fast().toLong(), 1000));
+
+        // 측정
+        Long jpaConcertScheduleId = TSID.fast().toLong();
+        List<Seat> jpaSeats = createSeats(jpaConcertScheduleId, TOTAL_SEATS);
+        long jpaStart = System.nanoTime();
+        seatRepository.saveAll(jpaSeats);
+        long jpaTime = System.nanoTime() - jpaStart;
+
+        Long jdbcConcertScheduleId = TSID.fast().toLong();
+        List<Seat> jdbcSeats = createSeats(jdbcConcertScheduleId, TOTAL_SEATS);
+        long jdbcStart = System.nanoTime();
+        seatRepository.insertAll(jdbcSeats);
+        long jdbcTime = System.nanoTime() - jdbcStart;
+
+        printResults(jpaTime, jdbcTime);
+
+        assertThat(seatRepository.findAllByConcertScheduleId(jpaConcertScheduleId)).hasSize(TOTAL_SEATS);
+        assertThat(seatRepository.findAllByConcertScheduleId(jdbcConcertScheduleId)).hasSize(TOTAL_SEATS);
+    }
+
+    private List<Seat> createSeats(Long concertScheduleId, int numOfSeats) {
+        return Seat.createSeatsForNewConcertSchedule(concertScheduleId, SEAT_PRICE, numOfSeats);
+    }
+
+    private void printResults(long jpaTime, long jdbcTime) {
+        System.out.println("\n");
+        System.out.println("╔══════════════════════════════════════════════════════════════════╗");
+        System.out.println("║        saveAll vs JDBC 배치 INSERT 좌석 대량 저장 성능 비교       ║");
+        System.out.println("╠══════════════════════════════════════════════════════════════════╣");
+        System.out.printf("║  좌석 수             │  %,13d                                  ║%n", TOTAL_SEATS);
+        System.out.println("╠══════════════════════════════════════════════════════════════════╣");
+        System.out.println("║  메트릭              │     saveAll     │  JDBC 배치    │ 비율    ║");
+        System.out.println("╠══════════════════════════════════════════════════════════════════╣");
+        System.out.printf("║  총 소요 시간 (ms)   │  %,13d  │  %,11d  │ %5.2fx  ║%n",
+                jpaTime / 1_000_000, jdbcTime / 1_000_000, ratio(jpaTime, jdbcTime));
+        System.out.printf("║  좌석당 (μs)         │  %,13d  │  %,11d  │         ║%n",
+                jpaTime / 1_000 / TOTAL_SEATS, jdbcTime / 1_000 / TOTAL_SEATS);
+        System.out.println("╠══════════════════════════════════════════════════════════════════╣");
+        System.out.println("║  * 비율 = saveAll / JDBC 배치. 1 보다 클수록 JDBC 배치가 유리.   ║");
+        System.out.println("╚══════════════════════════════════════════════════════════════════╝");
+        System.out.println("\n");
+    }
+
+    private double ratio(long jpa, long jdbc) {
+        return jdbc == 0 ? 0 : (double) jpa / jdbc;
+    }
+}
@@ -0,0 +1,148 @@
+package com.slam.concertreservation.learning;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.slam.concertreservation.common.exceptions.BusinessRuleViolationException;
+import com.slam.concertreservation.domain.concert.model.ConcertSchedule;
+import com.slam.concertreservation.domain.concert.model.Seat;
+import com.slam.concertreservation.domain.concert.repository.SeatRepository;
+import com.slam.concertreservation.domain.concert.service.ConcertService;
+import com.slam.concertreservation.domain.concert.service.ConditionalUpdateSeatAssigner;
+import com.slam.concertreservation.domain.concert.service.LockingSeatAssigner;
+import com.slam.concertreservation.domain.concert.service.SeatAssigner;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 좌석 선점 방식 비교 테스트 : 분산 락(조회 후 변경) vs 조건부 UPDATE
+ *
+ * 테스트 목적:
+ * - 좌석 하나에 다수의 요청이 몰리는 상황에서 선점 처리량과 요청당 지연 시간 비교
+ * - 두 방식 모두 좌석당 선점 성공이 정확히 1건인지 확인
+ *
+ * 분산 락 방식은 AOP 가 적용된 Bean 을, 조건부 UPDATE 방식은 락이 필요 없으므로 직접 생성한 인스턴스를 사용합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class SeatClaimBenchmarkTest {
+
+    private static final int CONTENDED_SEATS = 20;
+    private static final int THREADS_PER_SEAT = 20;
+
+    @Autowired
+    private ConcertService concertService;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private SeatAssigner seatAssigner;
+
+    @Test
+    @DisplayName("분산 락 vs 조건부 UPDATE 좌석 선점 성능 비교")
+    void compareSeatClaimPerformance() throws Exception {
+        assertThat(seatAssigner).isInstanceOf(LockingSeatAssigner.class);
+        SeatAssigner conditionalUpdateSeatAssigner = new ConditionalUpdateSeatAssigner(seatRepository);
+
+        // 워밍업
+        measure(seatAssigner);
+        measure(conditionalUpdateSeatAssigner);
+
+        // 측정
+        long[] lock = measure(seatAssigner);
+        long[] conditionalUpdate = measure(conditionalUpdateSeatAssigner);
+
+        printResults(lock, conditionalUpdate);
+
+        assertThat(lock[1]).isEqualTo(CONTENDED_SEATS);
+        assertThat(conditionalUpdate[1]).isEqualTo(CONTENDED_SEATS);
+    }
+
+    // {총 소요 ns, 성공 수, 충돌 수, 기타 실패 수, 요청당 평균 ns}
+    private long[] measure(SeatAssigner assigner) throws Exception {
+        ConcertSchedule concertSchedule = registerConcertSchedule();
+        List<Seat> seats = seatRepository.findAllByConcertScheduleId(concertSchedule.getId())
+                .subList(0, CONTENDED_SEATS);
+
+        List<Callable<long[]>> tasks = new ArrayList<>(CONTENDED_SEATS * THREADS_PER_SEAT);
+        for (int i = 0; i < THREADS_PER_SEAT; i++) {
+            for (Seat seat : seats) {
+                tasks.add(() -> {
+                    long start = System.nanoTime();
+                    long outcome;
+                    try {
+                        assigner.assign(concertSchedule.getId(), seat.getId());
+                        outcome = 0;
+                    } catch (BusinessRuleViolationException e) {
+                        outcome = 1;
+                    } catch (RuntimeException e) {
+                        outcome = 2;
+                    }
+                    return new long[] { outcome, System.nanoTime() - start };
+                });
+            }
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(CONTENDED_SEATS * THREADS_PER_SEAT / 4);
+        long start = System.nanoTime();
+        List<Future<long[]>> futures = executor.invokeAll(tasks);
+        long elapsed = System.nanoTime() - start;
+        executor.shutdown();
+
+        long[] result = new long[5];
+        result[0] = elapsed;
+        long totalLatency = 0;
+        for (Future<long[]> future : futures) {
+            long[] outcome = future.get();
+            result[(int) outcome[0] + 1]++;
+            totalLatency += outcome[1];
+        }
+        result[4] = totalLatency / tasks.size();
+        return result;
+    }
+
+    private void printResults(long[] lock, long[] conditionalUpdate) {
+        System.out.println("\n");
+        System.out.println("╔══════════════════════════════════════════════════════════════════╗");
+        System.out.println("║          분산 락 vs 조건부 UPDATE 좌석 선점 성능 비교 결과       ║");
+        System.out.println("╠══════════════════════════════════════════════════════════════════╣");
+        System.out.printf("║  좌석 수 x 좌석당 요청 │  %,6d x %,6d                           ║%n", CONTENDED_SEATS,
+                THREADS_PER_SEAT);
+        System.out.println("╠══════════════════════════════════════════════════════════════════╣");
+        System.out.println("║  메트릭                │     분산 락     │ 조건부 UPDATE │ 비율  ║");
+        System.out.println("╠══════════════════════════════════════════════════════════════════╣");
+        System.out.printf("║  총 소요 시간 (ms)     │  %,13d  │  %,11d  │ %5.2fx ║%n",
+                lock[0] / 1_000_000, conditionalUpdate[0] / 1_000_000, ratio(lock[0], conditionalUpdate[0]));
+        System.out.printf("║  요청당 평균 (μs)      │  %,13d  │  %,11d  │ %5.2fx ║%n",
+                lock[4] / 1_000, conditionalUpdate[4] / 1_000, ratio(lock[4], conditionalUpdate[4]));
+        System.out.printf("║  선점 성공 (건)        │  %,13d  │  %,11d  │        ║%n", lock[1], conditionalUpdate[1]);
+        System.out.printf("║  선점 충돌 (건)        │  %,13d  │  %,11d  │        ║%n", lock[2], conditionalUpdate[2]);
+        System.out.printf("║  기타 실패 (건)        │  %,13d  │  %,11d  │        ║%n", lock[3], conditionalUpdate[3]);
+        System.out.println("╠══════════════════════════════════════════════════════════════════╣");
+        System.out.println("║  * 비율 = 분산 락 / 조건부 UPDATE. 1 보다 클수록 조건부 UPDATE 가 유리.║");
+        System.out.println("╚══════════════════════════════════════════════════════════════════╝");
+        System.out.println("\n");
+    }
+
+    private double ratio(long lock, long conditionalUpdate) {
+        return conditionalUpdate == 0 ? 0 : (double) lock / conditionalUpdate;
+    }
+
+    private ConcertSchedule registerConcertSchedule() {
+        return concertService.registerConcertSchedule(
+                ConcertSchedule.create(1L, LocalDateTime.now().plusDays(2),
+                        LocalDateTime.now().plusDays(1).minusHours(3),
+                        LocalDateTime.now().plusDays(1).minusHours(1)),
+                1000);
+    }
+}
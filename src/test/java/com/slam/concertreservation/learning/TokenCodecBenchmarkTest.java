@@ -0,0 +1,144 @@
+package com.slam.concertreservation.learning;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.slam.concertreservation.domain.queue.model.Token;
+import com.slam.concertreservation.infrastructure.persistence.redis.codec.TokenBinaryCodec;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+/**
+ * 토큰 직렬화 형식 비교 테스트 : JSON(Default Typing) vs 고정 레이아웃 바이너리
+ *
+ * 테스트 목적:
+ * - 토큰 1건당 저장 크기(Bytes) 비교
+ * - 100,000건 직렬화 / 역직렬화 소요 시간 비교 (JIT 워밍업 이후 측정)
+ *
+ */
+public class TokenCodecBenchmarkTest {
+
+    private static final int TOTAL_TOKENS = 100000;
+    private static final int WARMUP_ROUNDS = 3;
+
+    @Test
+    @DisplayName("JSON vs Binary 토큰 직렬화 성능 비교")
+    void compareTokenCodecPerformance() {
+        GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer(tokenObjectMapper());
+        List<Token> tokens = createTokens();
+
+        // 워밍업
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            measureJson(jsonSerializer, tokens);
+            measureBinary(tokens);
+        }
+
+        // 측정
+        long[] json = measureJson(jsonSerializer, tokens);
+        long[] binary = measureBinary(tokens);
+
+        printResults(json, binary);
+    }
+
+    // {총 바이트, 직렬화 ns, 역직렬화 ns}
+    private long[] measureJson(GenericJackson2JsonRedisSerializer serializer, List<Token> tokens) {
+        List<byte[]> encoded = new ArrayList<>(tokens.size());
+        long totalBytes = 0;
+
+        long serializeStart = System.nanoTime();
+        for (Token token : tokens) {
+            byte[] bytes = serializer.serialize(token);
+            encoded.add(bytes);
+            totalBytes += bytes.length;
+        }
+        long serializeTime = System.nanoTime() - serializeStart;
+
+        long deserializeStart = System.nanoTime();
+        for (byte[] bytes : encoded) {
+            serializer.deserialize(bytes);
+        }
+        long deserializeTime = System.nanoTime() - deserializeStart;
+
+        return new long[] { totalBytes, serializeTime, deserializeTime };
+    }
+
+    private long[] measureBinary(List<Token> tokens) {
+        List<byte[]> encoded = new ArrayList<>(tokens.size());
+        long totalBytes = 0;
+
+        long serializeStart = System.nanoTime();
+        for (Token token : tokens) {
+            byte[] bytes = TokenBinaryCodec.encode(token);
+            encoded.add(bytes);
+            totalBytes += bytes.length;
+        }
+        long serializeTime = System.nanoTime() - serializeStart;
+
+        long deserializeStart = System.nanoTime();
+        for (byte[] bytes : encoded) {
+            TokenBinaryCodec.decode(bytes);
+        }
+        long deserializeTime = System.nanoTime() - deserializeStart;
+
+        return new long[] { totalBytes, serializeTime, deserializeTime };
+    }
+
+    private List<Token> createTokens() {
+        List<Token> tokens = new ArrayList<>(TOTAL_TOKENS);
+        for (int i = 0; i < TOTAL_TOKENS; i++) {
+            Token token = Token.create((long) i, 1L, 6);
+            token.assignId(UUID.randomUUID().toString());
+            if (i % 2 == 0) {
+                token.activate(3);
+            }
+            tokens.add(token);
+        }
+        return tokens;
+    }
+
+    private void printResults(long[] json, long[] binary) {
+        System.out.println("\n");
+        System.out.println("╔══════════════════════════════════════════════════════════════════╗");
+        System.out.println("║           JSON vs Binary 토큰 직렬화 성능 비교 결과              ║");
+        System.out.println("╠══════════════════════════════════════════════════════════════════╣");
+        System.out.printf("║  토큰 수             │  %,13d                                  ║%n", TOTAL_TOKENS);
+        System.out.println("╠══════════════════════════════════════════════════════════════════╣");
+        System.out.println("║  메트릭              │      JSON       │    Binary     │ 비율    ║");
+        System.out.println("╠══════════════════════════════════════════════════════════════════╣");
+        System.out.printf("║  토큰당 크기 (Bytes) │  %,13d  │  %,11d  │ %5.2fx  ║%n",
+                json[0] / TOTAL_TOKENS, binary[0] / TOTAL_TOKENS, ratio(json[0], binary[0]));
+        System.out.printf("║  직렬화 (ns/건)      │  %,13d  │  %,11d  │ %5.2fx  ║%n",
+                json[1] / TOTAL_TOKENS, binary[1] / TOTAL_TOKENS, ratio(json[1], binary[1]));
+        System.out.printf("║  역직렬화 (ns/건)    │  %,13d  │  %,11d  │ %5.2fx  ║%n",
+                json[2] / TOTAL_TOKENS, binary[2] / TOTAL_TOKENS, ratio(json[2], binary[2]));
+        System.out.println("╠══════════════════════════════════════════════════════════════════╣");
+        System.out.println("║  * 비율 = JSON / Binary. 1 보다 클수록 Binary 가 유리.           ║");
+        System.out.println("╚══════════════════════════════════════════════════════════════════╝");
+        System.out.println("\n");
+    }
+
+    private double ratio(long json, long binary) {
+        return binary == 0 ? 0 : (double) json / binary;
+    }
+
+    // RedisConfig.tokenRedisTemplate 과 동일한 설정.
+    private ObjectMapper tokenObjectMapper() {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.registerModule(new JavaTimeModule());
+        mapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        mapper.activateDefaultTyping(
+                LaissezFaireSubTypeValidator.instance,
+                ObjectMapper.DefaultTyping.NON_FINAL,
+                JsonTypeInfo.As.PROPERTY);
+        return mapper;
+    }
+}